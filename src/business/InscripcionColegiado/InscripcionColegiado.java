@@ -5,7 +5,7 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import javax.swing.JOptionPane;
 
@@ -16,7 +16,10 @@ import persistence.InscripcionColegiado.InscripcionColegiadoDto;
 import persistence.colegiado.ColegiadoCrud;
 import persistence.colegiado.ColegiadoDto;
 import persistence.curso.CursoDto;
-import persistence.curso.Precio_Colectivos;
+import persistence.curso.PrecioCursoCRUD;
+import persistence.jdbc.BatchResult;
+import persistence.jdbc.UnitOfWork;
+import persistence.util.Page;
 import ui.util.Ficheros;
 
 public class InscripcionColegiado {
@@ -34,8 +37,7 @@ public class InscripcionColegiado {
 	public static void EmitirJustificante(ColegiadoDto colegiado, CursoDto curso) throws BusinessException {
 		String contenido = "Nombre: " + colegiado.nombre + " " + colegiado.apellidos + "  Número Colegiado: "
 				+ colegiado.numeroColegiado + "  Fecha Solicitud: " + LocalDate.now().toString()
-				+ "  Cantidad a Abonar: " + Precio_Colectivos.StringToPrecio_Colectivos(curso.CantidadPagarColectivo)
-						.getPrecio(colegiado.TipoColectivo);
+				+ "  Cantidad a Abonar: " + PrecioCursoCRUD.findPrecios(curso.codigoCurso).getPrecio(colegiado.TipoColectivo);
 
 		JOptionPane.showMessageDialog(null,
 				"<html><p align='center'>Justificante de Inscripcion:</p><p>" + contenido + "</p></html>");
@@ -89,28 +91,38 @@ public class InscripcionColegiado {
 		return Ficheros.leerFichero(cursoSeleccionado);
 	}
 
+	/**
+	 * Simula la respuesta del banco a los pagos por transferencia de las
+	 * inscripciones del curso indicado y la registra.
+	 * <p>
+	 * La respuesta simulada no espera a ningún recurso externo, así que las
+	 * inscripciones se recorren en orden y todos los pagos se registran en una
+	 * única {@link UnitOfWork} con el perfil de SQLite para lotes.
+	 * 
+	 * @param curso
+	 */
 	public static void pagarBancoTransferencia(int curso) {
-		Random r = new Random();
 		List<InscripcionColegiadoDto> lista = InscripcionColegiadoCRUD.findInscripcionesPorCursoId(curso);
-		for (int i = 0; i < lista.size(); i++) {
-			int numeroAleatorio = r.nextInt(5);
-			double precioPagar = lista.get(i).precio;
+		UnitOfWork.runBulk(() -> {
+			for (InscripcionColegiadoDto inscripcion : lista) {
+				int numeroAleatorio = ThreadLocalRandom.current().nextInt(5);
+				double precioPagar = inscripcion.precio;
 
-			if (numeroAleatorio == 0) {
-				precioPagar = 0;
-				InscripcionColegiadoCRUD.pagarBanco(lista.get(i).colegiado.DNI, curso, precioPagar);
-			} else if (numeroAleatorio == 2) {
-				precioPagar -= 1;
-				InscripcionColegiadoCRUD.pagarBanco(lista.get(i).colegiado.DNI, curso, precioPagar);
-			} else if (numeroAleatorio == 3) {
-				InscripcionColegiadoCRUD.pagarBanco(lista.get(i).colegiado.DNI, curso, precioPagar);
-			} else if (numeroAleatorio == 4) {
-				precioPagar += 1;
-				InscripcionColegiadoCRUD.pagarBanco(lista.get(i).colegiado.DNI, curso, precioPagar);
-			} else {
-				InscripcionColegiadoCRUD.pagarBancoFechaIncorrecta(lista.get(i).colegiado.DNI, curso, precioPagar);
+				if (numeroAleatorio == 0) {
+					precioPagar = 0;
+				} else if (numeroAleatorio == 2) {
+					precioPagar -= 1;
+				} else if (numeroAleatorio == 4) {
+					precioPagar += 1;
+				}
+
+				if (numeroAleatorio == 1) {
+					InscripcionColegiadoCRUD.pagarBancoFechaIncorrecta(inscripcion.colegiado.DNI, curso, precioPagar);
+				} else {
+					InscripcionColegiadoCRUD.pagarBanco(inscripcion.colegiado.DNI, curso, precioPagar);
+				}
 			}
-		}
+		});
 	}
 
 	public static List<InscripcionColegiadoDto> obtenerTransferenciasProcesadas(int curso) {
@@ -125,40 +137,41 @@ public class InscripcionColegiado {
 	 * @since hu 19059
 	 * @param codigoCurso
 	 */
-	public static void procesarTransferencias(int codigoCurso) {
+	public static BatchResult<InscripcionColegiadoDto> procesarTransferencias(int codigoCurso) {
 		List<InscripcionColegiadoDto> lista = InscripcionColegiadoCRUD.findInscripcionesPorCursoId(codigoCurso);
-		int i = 0;
-		while (i < lista.size()) {
-			InscripcionColegiadoDto elemento = lista.get(i);
+		for (InscripcionColegiadoDto elemento : lista) {
+			elemento.curso = new CursoDto();
+			elemento.curso.codigoCurso = codigoCurso;
 			if (elemento.fechaTransferencia == null || elemento.cantidadPagada == 0) {
-				InscripcionColegiadoCRUD.procesarTransferencia("CANCELADO", "CUOTA NO PAGADA", codigoCurso,
-						elemento.colegiado.DNI, "NADA");
-				i++;
+				resolverTransferencia(elemento, "CANCELADO", "CUOTA NO PAGADA", "NADA");
 			} else {
 				LocalDate fechaPreinscripcion = elemento.fechaPreinscripcion;
 				LocalDate fechaTransferencia = elemento.fechaTransferencia;
 				if (Duration.between(fechaPreinscripcion.atStartOfDay(), fechaTransferencia.atStartOfDay()).toDays() > 2
 						|| fechaTransferencia.isBefore(fechaPreinscripcion)) {
-					InscripcionColegiadoCRUD.procesarTransferencia("CANCELADO", "PLAZO INVÁLIDO", codigoCurso,
-							elemento.colegiado.DNI, elemento.cantidadPagada + "€");
-					i++;
+					resolverTransferencia(elemento, "CANCELADO", "PLAZO INVÁLIDO", elemento.cantidadPagada + "€");
 				} else {
 					if (elemento.cantidadPagada < elemento.precio) {
-						InscripcionColegiadoCRUD.procesarTransferencia("CANCELADO", "CUOTA INFERIOR", codigoCurso,
-								elemento.colegiado.DNI, elemento.cantidadPagada + "€");
-						i++;
+						resolverTransferencia(elemento, "CANCELADO", "CUOTA INFERIOR", elemento.cantidadPagada + "€");
 					} else if (elemento.cantidadPagada == elemento.precio) {
-						InscripcionColegiadoCRUD.procesarTransferencia("INSCRITO", "CUOTA CORRECTA", codigoCurso,
-								elemento.colegiado.DNI, "NADA");
-						i++;
+						resolverTransferencia(elemento, "INSCRITO", "CUOTA CORRECTA", "NADA");
 					} else {
-						InscripcionColegiadoCRUD.procesarTransferencia("INSCRITO", "CUOTA CORRECTA", codigoCurso,
-								elemento.colegiado.DNI, (elemento.cantidadPagada - elemento.precio) + "€");
-						i++;
+						resolverTransferencia(elemento, "INSCRITO", "CUOTA CORRECTA",
+								(elemento.cantidadPagada - elemento.precio) + "€");
 					}
 				}
 			}
 		}
+		// Todas las inscripciones se actualizan en un único lote y transacción, con el
+		// perfil de SQLite para lotes
+		return UnitOfWork.executeBulk(() -> InscripcionColegiadoCRUD.procesarTransferencias(lista));
+	}
+
+	private static void resolverTransferencia(InscripcionColegiadoDto elemento, String estado, String incidencias,
+			String devolver) {
+		elemento.estado = estado;
+		elemento.incidencias = incidencias;
+		elemento.devolver = devolver;
 	}
 	
 	public static int getTotalInscrito(CursoDto cursoSeleccionado) throws BusinessException {
@@ -171,44 +184,50 @@ public class InscripcionColegiado {
 	}
 
 	public static void cancelarInscripciones(CursoDto cursoSeleccionado) {
-		// cancela todas las inscripciones de ese curso
-		List<InscripcionColegiadoDto> lista = InscripcionColegiadoCRUD.findInscripciones(cursoSeleccionado.codigoCurso);
-		int i = 0;
-		while (i < lista.size()) {
-			InscripcionColegiadoDto elemento = lista.get(i);
-			if (elemento.estado.equals("PREINSCRITO") || elemento.estado.equals("PENDIENTE")) {
-				InscripcionColegiadoCRUD.actualizarPreinscritoPendiente(elemento.curso.codigoCurso, 
-						elemento.colegiado.DNI,
-						"0€",
+		// cancela todas las inscripciones de ese curso, página a página
+		UnitOfWork.run(() -> {
+			Page<InscripcionColegiadoDto> pagina = InscripcionColegiadoCRUD
+					.findInscripcionesPage(cursoSeleccionado.codigoCurso, null, Page.getDefaultSize());
+			while (true) {
+				for (InscripcionColegiadoDto elemento : pagina.getItems()) {
+					cancelar(elemento);
+				}
+				if (!pagina.hasNext()) {
+					break;
+				}
+				pagina = InscripcionColegiadoCRUD.findInscripcionesPage(cursoSeleccionado.codigoCurso,
+						pagina.getContinuationToken(), Page.getDefaultSize());
+			}
+		});
+	}
+
+	private static void cancelar(InscripcionColegiadoDto elemento) {
+		if (elemento.estado.equals("PREINSCRITO") || elemento.estado.equals("PENDIENTE")) {
+			InscripcionColegiadoCRUD.actualizarPreinscritoPendiente(elemento.curso.codigoCurso, 
+					elemento.colegiado.DNI,
+					"0€",
+					elemento.fechaCancelacion,
+					"CANCELADO", "CURSO CANCELADO");
+		} else {
+			if (elemento.formaDePago.equals("TARJETA")) {
+				InscripcionColegiadoCRUD.actualizarTarjeta(elemento.curso.codigoCurso,
+						elemento.colegiado.DNI, elemento.precio, elemento.precio + "€",
 						elemento.fechaCancelacion,
 						"CANCELADO", "CURSO CANCELADO");
-				i++;
 			} else {
-				if (elemento.formaDePago.equals("TARJETA")) {
-					InscripcionColegiadoCRUD.actualizarTarjeta(elemento.curso.codigoCurso,
-							elemento.colegiado.DNI, elemento.precio, elemento.precio + "€",
+				if (elemento.precio==elemento.cantidadPagada) {
+					InscripcionColegiadoCRUD.actualizarTransf(elemento.curso.codigoCurso,
+							elemento.colegiado.DNI, elemento.precio + "€",
 							elemento.fechaCancelacion,
 							"CANCELADO", "CURSO CANCELADO");
-					i++;
 				} else {
-					if (elemento.precio==elemento.cantidadPagada) {
-						InscripcionColegiadoCRUD.actualizarTransf(elemento.curso.codigoCurso,
-								elemento.colegiado.DNI, elemento.precio + "€",
-								elemento.fechaCancelacion,
-								"CANCELADO", "CURSO CANCELADO");
-						i++;
-					} else {
-						InscripcionColegiadoCRUD.actualizarTransf(elemento.curso.codigoCurso,
-								elemento.colegiado.DNI, String.valueOf(elemento.precio+Double.parseDouble(elemento.devolver.substring(0, elemento.devolver.length()-1)) + "€"),
-								elemento.fechaCancelacion,
-								"CANCELADO", elemento.incidencias += ", CURSO CANCELADO");
-						i++;
-					}
+					InscripcionColegiadoCRUD.actualizarTransf(elemento.curso.codigoCurso,
+							elemento.colegiado.DNI, String.valueOf(elemento.precio+Double.parseDouble(elemento.devolver.substring(0, elemento.devolver.length()-1)) + "€"),
+							elemento.fechaCancelacion,
+							"CANCELADO", elemento.incidencias += ", CURSO CANCELADO");
 				}
-				
 			}
-			
-			
+		
 		}
 	}
 	
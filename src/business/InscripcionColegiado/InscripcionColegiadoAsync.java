@@ -0,0 +1,100 @@
+package business.InscripcionColegiado;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import business.util.AsyncExecutor;
+import persistence.Colegiado_Inscripcion.Colegiado_Inscripcion;
+import persistence.InscripcionColegiado.InscripcionColegiadoDto;
+import persistence.colegiado.ColegiadoDto;
+import persistence.curso.CursoDto;
+import persistence.jdbc.BatchResult;
+
+/**
+ * Versión asíncrona de las operaciones de {@link InscripcionColegiado}.
+ * <p>
+ * {@link InscripcionColegiado#EmitirJustificante} no se incluye, ya que muestra
+ * un diálogo y ha de llamarse desde el hilo de eventos de Swing.
+ * 
+ * @see AsyncExecutor
+ * @version v1.0.0
+ *
+ */
+public class InscripcionColegiadoAsync {
+
+	public static CompletableFuture<Void> InscribirColegiado(CursoDto curso, ColegiadoDto colegiado) {
+		return AsyncExecutor.write(() -> InscripcionColegiado.InscribirColegiado(curso, colegiado));
+	}
+
+	public static CompletableFuture<Boolean> isInscrito(ColegiadoDto colegiado, CursoDto cursoSeleccionado) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.isInscrito(colegiado, cursoSeleccionado));
+	}
+
+	public static CompletableFuture<ColegiadoDto> InicioSesion(String Num) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.InicioSesion(Num));
+	}
+
+	public static CompletableFuture<List<Colegiado_Inscripcion>> Lista_Inscritos_Curso(CursoDto c) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.Lista_Inscritos_Curso(c));
+	}
+
+	public static CompletableFuture<String> findFechaPreinscripcion(String dni, int cursoSeleccionado) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.findFechaPreinscripcion(dni, cursoSeleccionado));
+	}
+
+	public static CompletableFuture<Void> pagarCursoColegiado(String dni, int curso, String estado,
+			String formaDePago) {
+		return AsyncExecutor.write(() -> InscripcionColegiado.pagarCursoColegiado(dni, curso, estado, formaDePago));
+	}
+
+	public static CompletableFuture<Void> emitirFicheroTransferenciaPorCurso(int cursoSeleccionado) {
+		return AsyncExecutor.write(() -> InscripcionColegiado.emitirFicheroTransferenciaPorCurso(cursoSeleccionado));
+	}
+
+	public static CompletableFuture<List<InscripcionColegiadoDto>> leerFicheroTransferenciasPorCurso(
+			int cursoSeleccionado) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.leerFicheroTransferenciasPorCurso(cursoSeleccionado));
+	}
+
+	public static CompletableFuture<Void> pagarBancoTransferencia(int curso) {
+		return AsyncExecutor.write(() -> InscripcionColegiado.pagarBancoTransferencia(curso));
+	}
+
+	public static CompletableFuture<List<InscripcionColegiadoDto>> obtenerTransferenciasProcesadas(int curso) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.obtenerTransferenciasProcesadas(curso));
+	}
+
+	public static CompletableFuture<List<InscripcionColegiadoDto>> obtenerTransferencias(int curso) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.obtenerTransferencias(curso));
+	}
+
+	public static CompletableFuture<BatchResult<InscripcionColegiadoDto>> procesarTransferencias(int codigoCurso) {
+		return AsyncExecutor.write(() -> InscripcionColegiado.procesarTransferencias(codigoCurso));
+	}
+
+	public static CompletableFuture<Integer> getTotalInscrito(CursoDto cursoSeleccionado) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.getTotalInscrito(cursoSeleccionado));
+	}
+
+	public static CompletableFuture<List<InscripcionColegiadoDto>> findInscripciones(CursoDto cursoSeleccionado) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.findInscripciones(cursoSeleccionado));
+	}
+
+	public static CompletableFuture<Void> cancelarInscripciones(CursoDto cursoSeleccionado) {
+		return AsyncExecutor.write(() -> InscripcionColegiado.cancelarInscripciones(cursoSeleccionado));
+	}
+
+	public static CompletableFuture<Void> cancelarInscripcion(CursoDto cursoSeleccionado, String dni) {
+		return AsyncExecutor.write(() -> InscripcionColegiado.cancelarInscripcion(cursoSeleccionado, dni));
+	}
+
+	public static CompletableFuture<List<InscripcionColegiadoDto>> findInscripcion(CursoDto cursoSeleccionado,
+			String colegiadoDni) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.findInscripcion(cursoSeleccionado, colegiadoDni));
+	}
+
+	public static CompletableFuture<List<InscripcionColegiadoDto>> findInscripcion(String colegiadoDni) {
+		return AsyncExecutor.read(() -> InscripcionColegiado.findInscripcion(colegiadoDni));
+	}
+
+}
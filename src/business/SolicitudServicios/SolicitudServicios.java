@@ -2,10 +2,12 @@ package business.SolicitudServicios;
 
 import java.util.ArrayList;
 
+import business.BusinessException;
 import persistence.SolicitudServicios.SolicitudServiciosCrud;
 import persistence.SolicitudServicios.SolicitudServiciosDto;
 import persistence.colegiado.ColegiadoDto;
 import persistence.colegiado.PeritoCrud;
+import persistence.util.Page;
 import business.colegiado.Perito;
 
 public class SolicitudServicios {
@@ -33,6 +35,27 @@ public class SolicitudServicios {
 		return SolicitudServiciosCrud.listarSolicitudesServiciosConFiltros(Query+queryEstado+queryAge+queryDni);
 	}
 	
+	/**
+	 * Obtiene una página de las solicitudes que cumplen los filtros indicados.
+	 * 
+	 * @param estado    Estado de la solicitud o "Todos".
+	 * @param ano       Año de la solicitud o -1 para todos.
+	 * @param dniPerito DNI del perito asignado o cadena vacía para todos.
+	 * @param token     Token de continuación devuelto por la página anterior, o
+	 *                  null para la primera página.
+	 * @return
+	 * @throws BusinessException Si el token no es válido.
+	 */
+	public static Page<SolicitudServiciosDto> listarSolicitudesServiciosConFiltrosPage(String estado, int ano,
+			String dniPerito, String token) throws BusinessException {
+		try {
+			return SolicitudServiciosCrud.listarSolicitudesServiciosPage(estado, ano, dniPerito.trim(), token,
+					Page.getDefaultSize());
+		} catch (IllegalArgumentException e) {
+			throw new BusinessException(e.getMessage());
+		}
+	}
+	
 	public static void CancelaPericial(SolicitudServiciosDto s) {
 		SolicitudServiciosCrud.CancelaPericial(s);
 		PeritoCrud.RecuperaPosicion(s.peritoDNI);
@@ -0,0 +1,48 @@
+package business.SolicitudServicios;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+import business.util.AsyncExecutor;
+import persistence.SolicitudServicios.SolicitudServiciosDto;
+import persistence.colegiado.ColegiadoDto;
+import persistence.util.Page;
+
+/**
+ * Versión asíncrona de las operaciones de {@link SolicitudServicios}.
+ * 
+ * @see AsyncExecutor
+ * @version v1.0.0
+ *
+ */
+public class SolicitudServiciosAsync {
+
+	public static CompletableFuture<ArrayList<SolicitudServiciosDto>> listarSolicitudesServicios() {
+		return AsyncExecutor.read(SolicitudServicios::listarSolicitudesServicios);
+	}
+
+	public static CompletableFuture<Void> insertSolicitudServicios(SolicitudServiciosDto s) {
+		return AsyncExecutor.write(() -> SolicitudServicios.insertSolicitudServicios(s));
+	}
+
+	public static CompletableFuture<Void> AsociaSolicitudServicio(SolicitudServiciosDto s, ColegiadoDto c) {
+		return AsyncExecutor.write(() -> SolicitudServicios.AsociaSolicitudServicio(s, c));
+	}
+
+	public static CompletableFuture<ArrayList<SolicitudServiciosDto>> listarSolicitudesServiciosConFiltros(
+			String estado, int ano, String dniPerito) {
+		return AsyncExecutor
+				.read(() -> SolicitudServicios.listarSolicitudesServiciosConFiltros(estado, ano, dniPerito));
+	}
+
+	public static CompletableFuture<Page<SolicitudServiciosDto>> listarSolicitudesServiciosConFiltrosPage(
+			String estado, int ano, String dniPerito, String token) {
+		return AsyncExecutor.read(
+				() -> SolicitudServicios.listarSolicitudesServiciosConFiltrosPage(estado, ano, dniPerito, token));
+	}
+
+	public static CompletableFuture<Void> CancelaPericial(SolicitudServiciosDto s) {
+		return AsyncExecutor.write(() -> SolicitudServicios.CancelaPericial(s));
+	}
+
+}
@@ -12,6 +12,8 @@ import business.util.MathUtils;
 import business.util.StringUtils;
 import persistence.colegiado.ColegiadoCrud;
 import persistence.colegiado.ColegiadoDto;
+import persistence.jdbc.UnitOfWork;
+import persistence.util.Page;
 
 public class Colegiado {
 
@@ -68,6 +70,23 @@ public class Colegiado {
 				.sorted((c1, c2) -> c2.fechaSolicitud.compareTo(c1.fechaSolicitud)).collect(Collectors.toList());
 	}
 
+	/**
+	 * Obtiene una página de las solicitudes de alta pendientes, de la más reciente
+	 * a la más antigua.
+	 * 
+	 * @param token Token de continuación devuelto por la página anterior, o null
+	 *              para la primera página.
+	 * @return
+	 * @throws BusinessException Si el token no es válido.
+	 */
+	public static Page<ColegiadoDto> findSolicitudesAltaColegiadosPage(String token) throws BusinessException {
+		try {
+			return ColegiadoCrud.findSolicitudesAltaColegiadosPage(token, Page.getDefaultSize());
+		} catch (IllegalArgumentException e) {
+			throw new BusinessException(e.getMessage());
+		}
+	}
+
 	/**
 	 * Obtiene la titulación del colegiado con el DNI indicado.
 	 * 
@@ -179,39 +198,43 @@ public class Colegiado {
 			throw new BusinessException("No hay lotes de colegiación para recepcionar");
 		}
 
-		for (ColegiadoDto col : loteColegiados) {
+		// Las actualizaciones de todo el lote se confirman en una única transacción,
+		// con el perfil de SQLite para lotes
+		UnitOfWork.runBulk(() -> {
+			for (ColegiadoDto col : loteColegiados) {
 
-			boolean titulacionAdmitida = false;
+				boolean titulacionAdmitida = false;
 
-			if (col.titulacion != null) {
-				for (String t : col.titulacion) {
+				if (col.titulacion != null) {
+					for (String t : col.titulacion) {
 
-					if (LISTADO_TITULACIONES_ADMITIDAS.contains(StringUtils.normalizarCadenaTexto(t))
-							&& titulacionAdmitida == false) {
-						// Caso 1: El colegiado es apto: Posee al menos una de las titulaciones
-						// admitidas
+						if (LISTADO_TITULACIONES_ADMITIDAS.contains(StringUtils.normalizarCadenaTexto(t))
+								&& titulacionAdmitida == false) {
+							// Caso 1: El colegiado es apto: Posee al menos una de las titulaciones
+							// admitidas
 
-						ColegiadoDto colegiadoAllData = ColegiadoCrud.findColegiadoDni(col.DNI);
-						String num = updateNumColegiado(col.DNI);
-						colegiadoAllData.numeroColegiado = num;
+							ColegiadoDto colegiadoAllData = ColegiadoCrud.findColegiadoDni(col.DNI);
+							String num = updateNumColegiado(col.DNI);
+							colegiadoAllData.numeroColegiado = num;
 
-						colegiadosAdmitidos.add(colegiadoAllData);
-						titulacionAdmitida = true;
+							colegiadosAdmitidos.add(colegiadoAllData);
+							titulacionAdmitida = true;
 
+						}
+					}
+
+					// Caso 2: El solicitante no está es posesión de ninguna de las titulaciones
+					// adminitidas.
+					if (titulacionAdmitida == false) {
+						ColegiadoCrud.updateEstadoColegiado(col, "CANCELADO");
 					}
-				}
 
-				// Caso 2: El solicitante no está es posesión de ninguna de las titulaciones
-				// adminitidas.
-				if (titulacionAdmitida == false) {
+				} else {
+					// Caso 3: El solicitante no está en posesión de ninguna titulacion
 					ColegiadoCrud.updateEstadoColegiado(col, "CANCELADO");
 				}
-
-			} else {
-				// Caso 3: El solicitante no está en posesión de ninguna titulacion
-				ColegiadoCrud.updateEstadoColegiado(col, "CANCELADO");
 			}
-		}
+		});
 
 		return colegiadosAdmitidos;
 	}
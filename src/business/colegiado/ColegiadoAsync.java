@@ -0,0 +1,51 @@
+package business.colegiado;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import business.util.AsyncExecutor;
+import persistence.colegiado.ColegiadoDto;
+import persistence.util.Page;
+
+/**
+ * Versión asíncrona de las operaciones de {@link Colegiado}.
+ * 
+ * @see AsyncExecutor
+ * @version v1.0.0
+ *
+ */
+public class ColegiadoAsync {
+
+	public static CompletableFuture<ColegiadoDto> addColegiado(ColegiadoDto colegiado) {
+		return AsyncExecutor.write(() -> Colegiado.addColegiado(colegiado));
+	}
+
+	public static CompletableFuture<ColegiadoDto> findColegiadoPorDni(String dni) {
+		return AsyncExecutor.read(() -> Colegiado.findColegiadoPorDni(dni));
+	}
+
+	public static CompletableFuture<List<ColegiadoDto>> findAllSolicitudesAltaColegiados() {
+		return AsyncExecutor.read(Colegiado::findAllSolicitudesAltaColegiados);
+	}
+
+	public static CompletableFuture<Page<ColegiadoDto>> findSolicitudesAltaColegiadosPage(String token) {
+		return AsyncExecutor.read(() -> Colegiado.findSolicitudesAltaColegiadosPage(token));
+	}
+
+	public static CompletableFuture<String> findTitulacionColegiadoByDni(String dni) {
+		return AsyncExecutor.read(() -> Colegiado.findTitulacionColegiadoByDni(dni));
+	}
+
+	public static CompletableFuture<String> enviarLoteSolicitudesColegiacion() {
+		return AsyncExecutor.write(Colegiado::enviarLoteSolicitudesColegiacion);
+	}
+
+	public static CompletableFuture<List<ColegiadoDto>> recepcionarLoteSolicitudesColegiacion() {
+		return AsyncExecutor.write(Colegiado::recepcionarLoteSolicitudesColegiacion);
+	}
+
+	public static CompletableFuture<String> updateNumColegiado(String dni) {
+		return AsyncExecutor.write(() -> Colegiado.updateNumColegiado(dni));
+	}
+
+}
@@ -0,0 +1,85 @@
+package business.curso;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import business.curso.listaEspera.ListaEsperaCurso;
+import business.util.AsyncExecutor;
+import persistence.InscripcionColegiado.listaEsperaInscripcionCurso.ListaEsperaInscripcionCursoDto;
+import persistence.curso.CursoDto;
+import persistence.curso.PrecioCursoCRUD;
+import persistence.curso.PreciosCurso;
+
+/**
+ * Versión asíncrona de las operaciones de {@link Curso}, junto con la lista de
+ * espera y los precios de un curso, para poder consultarlos en paralelo:
+ * 
+ * <pre>
+ * CompletableFuture&lt;List&lt;CursoDto&gt;&gt; cursos = CursoAsync.listarTodosLosCursos();
+ * CompletableFuture&lt;PreciosCurso&gt; precios = CursoAsync.findPrecios(id);
+ * AsyncExecutor.onEdt(CompletableFuture.allOf(cursos, precios), (r, e) -&gt; ...);
+ * </pre>
+ * 
+ * @see AsyncExecutor
+ * @version v1.0.0
+ *
+ */
+public class CursoAsync {
+
+	public static CompletableFuture<List<CursoDto>> listarCursosPlanificados() {
+		return AsyncExecutor.read(Curso::listarCursosPlanificados);
+	}
+
+	public static CompletableFuture<List<CursoDto>> listarTodosLosCursos() {
+		return AsyncExecutor.read(Curso::listarTodosLosCursos);
+	}
+
+	public static CompletableFuture<Boolean> isCourseOpened(final CursoDto courseToCheck) {
+		return AsyncExecutor.read(() -> Curso.isCourseOpened(courseToCheck));
+	}
+
+	public static CompletableFuture<List<CursoDto>> listaCursosAbiertosYCerrados() {
+		return AsyncExecutor.read(Curso::listaCursosAbiertosYCerrados);
+	}
+
+	public static CompletableFuture<Void> add(CursoDto curso) {
+		return AsyncExecutor.write(() -> Curso.add(curso));
+	}
+
+	public static CompletableFuture<List<CursoDto>> listarCursosAbiertos() {
+		return AsyncExecutor.read(Curso::listarCursosAbiertos);
+	}
+
+	public static CompletableFuture<Void> cancelarCursoCOIIPA(CursoDto cursoSeleccionado) {
+		return AsyncExecutor.write(() -> Curso.cancelarCursoCOIIPA(cursoSeleccionado));
+	}
+
+	public static CompletableFuture<List<CursoDto>> listarCursosAbiertosPlanificados() {
+		return AsyncExecutor.read(Curso::listarCursosAbiertosPlanificados);
+	}
+
+	public static CompletableFuture<List<CursoDto>> listarCursosIsInscrito(String dni) {
+		return AsyncExecutor.read(() -> Curso.listarCursosIsInscrito(dni));
+	}
+
+	/**
+	 * Lista de espera del curso indicado.
+	 * 
+	 * @param idCurso
+	 * @return
+	 */
+	public static CompletableFuture<List<ListaEsperaInscripcionCursoDto>> findListaEspera(Integer idCurso) {
+		return AsyncExecutor.read(() -> ListaEsperaCurso.findByCursoId(idCurso));
+	}
+
+	/**
+	 * Precios por colectivo del curso indicado.
+	 * 
+	 * @param idCurso
+	 * @return
+	 */
+	public static CompletableFuture<PreciosCurso> findPrecios(int idCurso) {
+		return AsyncExecutor.read(() -> PrecioCursoCRUD.findPrecios(idCurso));
+	}
+
+}
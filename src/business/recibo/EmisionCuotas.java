@@ -1,44 +1,77 @@
 package business.recibo;
 
 import java.io.BufferedWriter;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDate;
-import java.util.List;
 
 import persistence.colegiado.ColegiadoDto;
 
 public class EmisionCuotas {
 
-	public static void emitirCuotas(List<ColegiadoDto> colegiados, List<Integer> numerosRecibo, List<Double> cantidades) {
-		LocalDate fechaEmision = LocalDate.now();
-		int year = LocalDate.now().getYear();
-		
-		BufferedWriter bw = null;
-		try {
-			File fichero = new File("recibos/fichero" + year + ".txt");
+	/**
+	 * Fichero de recibos del año en curso, escrito a medida que se emiten los
+	 * recibos. Las líneas se escriben en un fichero temporal que solo sustituye al
+	 * definitivo al invocar {@link #publicar()}; si se cierra sin publicar, el
+	 * temporal se descarta.
+	 *
+	 * @version v1.0.0
+	 *
+	 */
+	public static class FicheroRecibos implements Closeable {
 
-			bw = new BufferedWriter(new FileWriter(fichero));
+		private final File fichero;
+		private final File temporal;
+		private final BufferedWriter bw;
+		private final LocalDate fechaEmision = LocalDate.now();
+		private int recibos;
 
+		public FicheroRecibos() throws IOException {
+			fichero = new File("recibos/fichero" + fechaEmision.getYear() + ".txt");
+			temporal = new File(fichero.getPath() + ".tmp");
+
+			bw = new BufferedWriter(new FileWriter(temporal));
 			bw.write("Fichero de recibos \n");
 			bw.write("Numero de recibo\tFecha de emision\tDNI\t\t\t\tNumero cuenta\tCantidad\n");
-			
-			for(int i = 0; i < colegiados.size(); i++) {
-				bw.write(numerosRecibo.get(i) +"\t\t\t\t\t"+
-						fechaEmision + "\t\t\t" + colegiados.get(i).DNI+ 
-						"\t\t" + colegiados.get(i).numeroCuenta + "\t\t\t" + cantidades.get(i) + "\n");
-			}
-			
-			bw.write("");
-		} catch (IOException e) {
-			e.printStackTrace();
-		} finally {
+		}
+
+		public void write(int numeroRecibo, ColegiadoDto colegiado, double cantidad) throws IOException {
+			bw.write(numeroRecibo +"\t\t\t\t\t"+
+					fechaEmision + "\t\t\t" + colegiado.DNI+ 
+					"\t\t" + colegiado.numeroCuenta + "\t\t\t" + cantidad + "\n");
+			recibos++;
+		}
+
+		/**
+		 * Número de recibos escritos.
+		 * 
+		 * @return
+		 */
+		public int getRecibos() {
+			return recibos;
+		}
+
+		/**
+		 * Sustituye el fichero de recibos del año por el que se ha escrito.
+		 * 
+		 * @throws IOException
+		 */
+		public void publicar() throws IOException {
+			bw.close();
+			Files.move(temporal.toPath(), fichero.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		@Override
+		public void close() throws IOException {
 			try {
-				bw.close(); // Cerramos el buffer
-			} catch (Exception e) {
-				
+				bw.close();
+			} finally {
+				Files.deleteIfExists(temporal.toPath());
 			}
 		}
 	}
-}
\ No newline at end of file
+}
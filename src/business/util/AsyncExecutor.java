@@ -0,0 +1,217 @@
+package business.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import javax.swing.SwingUtilities;
+
+import persistence.util.Conf;
+
+/**
+ * Ejecución asíncrona de las operaciones de negocio, para no bloquear la
+ * interfaz mientras se consulta la base de datos.
+ * <p>
+ * Las lecturas se reparten entre <code>ASYNC_READ_THREADS</code> hilos (por
+ * defecto, una conexión menos que el pool, que queda libre para el hilo de
+ * escrituras y para las llamadas síncronas). Las escrituras se ejecutan de una
+ * en una en un único hilo, ya que SQLite solo admite un escritor a la vez y
+ * varias escrituras en paralelo solo conseguirían esperar al bloqueo de la
+ * base de datos. Ambas colas están acotadas (<code>ASYNC_QUEUE_SIZE</code>): si
+ * se llenan, la operación termina con {@link RejectedExecutionException}.
+ * <p>
+ * Cancelar el {@link CompletableFuture} devuelto, o que venza su plazo
+ * ({@link #withTimeout}), descarta la operación si aún no ha empezado e
+ * interrumpe el hilo si está en curso. Las operaciones se ejecutan fuera de la
+ * {@link persistence.jdbc.UnitOfWork} del hilo que las lanza.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class AsyncExecutor {
+
+	/**
+	 * Operación sin resultado.
+	 */
+	@FunctionalInterface
+	public interface Accion {
+		void run() throws Exception;
+	}
+
+	/**
+	 * Ejecuta las tareas en el hilo de eventos de Swing, directamente si ya se
+	 * está en él.
+	 */
+	public static final Executor EDT = r -> {
+		if (SwingUtilities.isEventDispatchThread()) {
+			r.run();
+		} else {
+			SwingUtilities.invokeLater(r);
+		}
+	};
+
+	private static final int QUEUE_SIZE = Math.max(1, Conf.getInstance().getIntProperty("ASYNC_QUEUE_SIZE", 100));
+
+	private static final ThreadPoolExecutor READS = newExecutor("negocio-lectura",
+			Math.max(1, Conf.getInstance().getIntProperty("ASYNC_READ_THREADS",
+					Conf.getInstance().getIntProperty("JDBC_POOL_SIZE", 4) - 1)));
+
+	private static final ThreadPoolExecutor WRITES = newExecutor("negocio-escritura", 1);
+
+	private AsyncExecutor() {
+	}
+
+	private static ThreadPoolExecutor newExecutor(final String name, final int threads) {
+		AtomicInteger count = new AtomicInteger();
+		return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(QUEUE_SIZE),
+				r -> {
+					Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				});
+	}
+
+	/**
+	 * Ejecuta una consulta en los hilos de lectura.
+	 *
+	 * @param <T>
+	 * @param tarea
+	 * @return
+	 */
+	public static <T> CompletableFuture<T> read(final Callable<T> tarea) {
+		return submit(READS, tarea);
+	}
+
+	/**
+	 * Ejecuta una modificación en el hilo de escrituras.
+	 *
+	 * @param <T>
+	 * @param tarea
+	 * @return
+	 */
+	public static <T> CompletableFuture<T> write(final Callable<T> tarea) {
+		return submit(WRITES, tarea);
+	}
+
+	/**
+	 * Ejecuta una modificación sin resultado en el hilo de escrituras.
+	 *
+	 * @param accion
+	 * @return
+	 */
+	public static CompletableFuture<Void> write(final Accion accion) {
+		return submit(WRITES, () -> {
+			accion.run();
+			return null;
+		});
+	}
+
+	private static <T> CompletableFuture<T> submit(final ExecutorService executor, final Callable<T> tarea) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		// Distingue la terminación de la tarea de una cancelación o un plazo vencido
+		AtomicBoolean terminada = new AtomicBoolean();
+
+		Future<?> task;
+		try {
+			task = executor.submit(() -> {
+				if (future.isDone()) {
+					return;
+				}
+				try {
+					T res = tarea.call();
+					terminada.set(true);
+					future.complete(res);
+				} catch (Throwable t) {
+					terminada.set(true);
+					future.completeExceptionally(t);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+			return future;
+		}
+
+		future.whenComplete((res, t) -> {
+			if (!terminada.get()) {
+				task.cancel(true);
+			}
+		});
+		return future;
+	}
+
+	/**
+	 * Hace terminar la operación con {@link java.util.concurrent.TimeoutException}
+	 * si no ha terminado en el plazo indicado, cancelándola.
+	 *
+	 * @param <T>
+	 * @param future
+	 * @param millis
+	 * @return El mismo future.
+	 */
+	public static <T> CompletableFuture<T> withTimeout(final CompletableFuture<T> future, final long millis) {
+		return future.orTimeout(millis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Recibe el resultado o el error de la operación en el hilo de eventos de
+	 * Swing. El error se entrega sin el {@link CompletionException} que lo
+	 * envuelve.
+	 *
+	 * @param <T>
+	 * @param future
+	 * @param accion
+	 * @return
+	 */
+	public static <T> CompletableFuture<T> onEdt(final CompletableFuture<T> future,
+			final BiConsumer<? super T, ? super Throwable> accion) {
+		return future.whenCompleteAsync((res, t) -> accion.accept(res, t == null ? null : getCause(t)), EDT);
+	}
+
+	/**
+	 * Error original de una operación, sin los {@link CompletionException} o
+	 * {@link ExecutionException} que lo envuelven.
+	 *
+	 * @param t
+	 * @return
+	 */
+	public static Throwable getCause(final Throwable t) {
+		Throwable res = t;
+		while ((res instanceof CompletionException || res instanceof ExecutionException) && res.getCause() != null) {
+			res = res.getCause();
+		}
+		return res;
+	}
+
+	/**
+	 * Indica si el error se debe a que la operación se ha cancelado.
+	 *
+	 * @param t
+	 * @return
+	 */
+	public static boolean isCancelled(final Throwable t) {
+		return getCause(t) instanceof CancellationException;
+	}
+
+	/**
+	 * Operaciones pendientes o en curso.
+	 *
+	 * @return
+	 */
+	public static int getPending() {
+		return READS.getQueue().size() + READS.getActiveCount() + WRITES.getQueue().size()
+				+ WRITES.getActiveCount();
+	}
+
+}
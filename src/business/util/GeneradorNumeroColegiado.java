@@ -4,7 +4,8 @@ import java.text.DecimalFormat;
 import java.time.LocalDate;
 
 import business.BusinessException;
-import business.colegiado.Colegiado;
+import persistence.jdbc.PersistenceException;
+import persistence.secuencia.Secuencia;
 
 public class GeneradorNumeroColegiado {
 
@@ -12,8 +13,9 @@ public class GeneradorNumeroColegiado {
 	private static final String NUMBER_SIZE_DEFAULT_v1 = "00000";
 
 	/**
-	 * Genera un número de colegiado en formato aaaa_nnnn, siendo aaaa el año actual
-	 * y nnnn el número siguiente al último número de colegiado.
+	 * Genera un número de colegiado en formato aaaa-nnnn, siendo aaaa el año actual
+	 * y nnnn el siguiente número de la secuencia de colegiados, que continúa tras
+	 * el último número de colegiado.
 	 * 
 	 * @return Número de colegiado en formato aaaa_nnnn
 	 * @throws BusinessException
@@ -26,10 +28,11 @@ public class GeneradorNumeroColegiado {
 		sB.append(currentYear);
 		sB.append("-");
 
-		int lastNumber = 0;
-
-		if (Colegiado.getMaxNumberColegiado() != null && Colegiado.getMaxNumberColegiado() != "") {
-			lastNumber = Integer.parseInt(Colegiado.getMaxNumberColegiado().split("-")[1]) + 1;
+		int lastNumber;
+		try {
+			lastNumber = Secuencia.colegiado().next();
+		} catch (PersistenceException e) {
+			throw new BusinessException(e);
 		}
 
 		DecimalFormat df = new DecimalFormat(lastNumber < 10000 ? NUMBER_SIZE_DEFAULT : NUMBER_SIZE_DEFAULT_v1);
@@ -7,18 +7,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
-import business.BusinessException;
-import business.InscripcionColegiado.InscripcionColegiado;
-import business.util.StringUtils;
 import persistence.Colegiado_Inscripcion.Colegiado_Inscripcion;
 import persistence.InscripcionColegiado.InscripcionColegiadoDto;
+import persistence.InscripcionColegiado.InscripcionColegiadoRowMapper;
 import persistence.InscripcionColegiado.listaEsperaInscripcionCurso.ListaEsperaInscripcionCursoDto;
+import persistence.InscripcionColegiado.listaEsperaInscripcionCurso.ListaEsperaInscripcionCursoRowMapper;
 import persistence.colegiado.ColegiadoDto;
-import persistence.curso.CursoCRUD;
+import persistence.colegiado.ColegiadoRowMapper;
 import persistence.curso.CursoDto;
-import persistence.curso.Precio_Colectivos;
+import persistence.curso.CursoRowMapper;
 import persistence.curso.profesorado.ProfesorDto;
 import persistence.solicitudVisados.SolicitudVisadoDto;
+import persistence.solicitudVisados.SolicitudVisadoRowMapper;
 
 public class DtoAssembler {
 
@@ -26,21 +26,11 @@ public class DtoAssembler {
 	public static final String SPECIAL_CHARACTERS_REGEX = "[!@#$%&*()^:[-].;_+=|<>?{}/]";
 
 	public static List<ColegiadoDto> toColegiadoList(ResultSet rs) throws SQLException {
-		List<ColegiadoDto> colegiados = new ArrayList<>();
-
-		while (rs.next()) {
-			colegiados.add(resultSetToColegiadoDto(rs));
-		}
-
-		return colegiados;
+		return new ColegiadoRowMapper(rs).toList(rs);
 	}
 
 	public static List<CursoDto> toInscripcionList(ResultSet rs) throws SQLException {
-		List<CursoDto> inscripciones = new ArrayList<CursoDto>();
-		while (rs.next()) {
-			inscripciones.add(resultSetToInscripcionDto(rs));
-		}
-		return inscripciones;
+		return new CursoRowMapper(rs).toList(rs);
 	}
 
 	/**
@@ -51,28 +41,7 @@ public class DtoAssembler {
 	 * @throws SQLException
 	 */
 	public static ColegiadoDto resultSetToColegiadoDto(ResultSet rs) throws SQLException {
-		ColegiadoDto c = new ColegiadoDto();
-
-		c.DNI = rs.getString("DNI");
-		c.nombre = rs.getString("nombre");
-		c.apellidos = rs.getString("apellidos");
-		c.poblacion = rs.getString("poblacion");
-		c.titulacion = parseTitulacionesColegiado(rs.getString("titulacion"));
-		c.telefono = rs.getInt("telefono");
-		c.centro = rs.getString("centro");
-		c.annio = rs.getInt("ano");
-		c.numeroCuenta = rs.getString("numeroCuenta");
-		c.fechaSolicitud = LocalDate.parse(rs.getString("fechaSolicitud"));
-		c.numeroColegiado = rs.getString("numero");
-
-		c.TipoColectivo = rs.getString("TipoColectivo");
-
-		c.perito = rs.getString("perito");
-		c.posicionPerito = rs.getInt("posicionPerito");
-		c.visado = rs.getBoolean("visado");
-		
-		return c;
-
+		return new ColegiadoRowMapper(rs).map(rs);
 	}
 
 	/**
@@ -114,97 +83,40 @@ public class DtoAssembler {
 		return String.join(SEPARADOR_TITULACIONES, titulaciones).replace("[", "").replace("]", "");
 	}
 
+	/**
+	 * Devuelve la lista de titulaciones de un colegiado con una titulación por
+	 * línea, para mostrarla en una celda de tabla de varias líneas.
+	 * 
+	 * @param titulaciones Lista de titulaciones de un colegiado.
+	 * 
+	 * @return Cadena con las titulaciones separadas por saltos de línea.
+	 */
 	public static String listaTitulacionesColegiadoToStringForTable(List<String> titulaciones) {
-		return "<html>".concat(String.join("<br />", titulaciones).replace("[", "").replace("]", "")).concat("</html>");
+		return String.join("\n", titulaciones).replace("[", "").replace("]", "");
 	}
 
+	/**
+	 * Convierte las filas de la vista CURSO_RESUMEN, que ya incluyen el número de
+	 * inscritos y el estado de cada curso.
+	 */
 	public static List<CursoDto> toCursoList(ResultSet rs) throws SQLException {
-		List<CursoDto> cursos = new ArrayList<>();
-
-		while (rs.next()) {
-			cursos.add(resultSetToCursoDto(rs));
-		}
-
-		return cursos;
+		return new CursoRowMapper(rs).toList(rs);
 	}
 
 	public static CursoDto resultSetToCursoDto(ResultSet rs) throws SQLException {
-		CursoDto newCursoDto = new CursoDto();
-
-		newCursoDto.codigoCurso = rs.getInt("IdCurso");
-		newCursoDto.titulo = rs.getString("Titulo");
-		newCursoDto.isCancelable= rs.getBoolean("Is_Cancelable");
-		try {
-			newCursoDto.numeroInscritos = InscripcionColegiado.getTotalInscrito(newCursoDto);
-		} catch (BusinessException e) {
-			e.printStackTrace();
-		}
-		
-		if (rs.getString("FechaApertura") != null && !rs.getString("FechaApertura").isEmpty()) {
-			newCursoDto.fechaApertura = LocalDate.parse(rs.getString("FechaApertura"));
-		}
-
-		if (rs.getString("FechaCierre") != null && !rs.getString("FechaCierre").isEmpty()) {
-			newCursoDto.fechaCierre = LocalDate.parse(rs.getString("FechaCierre"));
-		}
-
-		if (rs.getString("FechaImpartir") != null && !rs.getString("FechaImpartir").isEmpty()) {
-			newCursoDto.fechaInicio = LocalDate.parse(rs.getString("FechaImpartir"));
-		}
-
-		newCursoDto.plazasDisponibles = rs.getInt("Plazas");
-
-		// TODO: Cantidad a pagar colegiado
-		if (rs.getString("CantidadPagarColectivo") != null) {
-			newCursoDto.precio = Precio_Colectivos.StringToPrecio_Colectivos(rs.getString("CantidadPagarColectivo"))
-					.getPrecio("Colegiado");
-		}
-
-		boolean isCursoAbierto = CursoCRUD.isCursoAbierto(newCursoDto);
-		
-		newCursoDto.estado = isCursoAbierto ? CursoDto.CURSO_ABIERTO : CursoDto.CURSO_PLANIFICADO;
-
-		return newCursoDto;
-
-	}
-
-	private static CursoDto resultSetToInscripcionDto(ResultSet rs) throws SQLException {
-		CursoDto c = new CursoDto();
-
-		c.codigoCurso = rs.getInt("IDCURSO");
-		c.titulo = rs.getString("TITULO");
-		c.fechaInicio = LocalDate.parse(rs.getString("FECHAIMPARTIR"));
-		c.plazasDisponibles = rs.getInt("PLAZAS");
-		c.fechaApertura = LocalDate.parse(rs.getString("FECHAAPERTURA"));
-		c.fechaCierre = LocalDate.parse(rs.getString("FECHACIERRE"));
-		c.CantidadPagarColectivo = rs.getString("CantidadPagarColectivo");
-
-		return c;
+		return new CursoRowMapper(rs).map(rs);
 	}
 
 	public static ArrayList<Colegiado_Inscripcion> toInscripcionColegiadosList(ResultSet rs) throws SQLException {
+		InscripcionColegiadoRowMapper mapper = new InscripcionColegiadoRowMapper(rs);
 		ArrayList<Colegiado_Inscripcion> inscripciones = new ArrayList<Colegiado_Inscripcion>();
 		while (rs.next()) {
-			inscripciones.add(resultSetToInscripcionColegiadosDto(rs));
+			InscripcionColegiadoDto I = mapper.map(rs);
+			inscripciones.add(new Colegiado_Inscripcion(I.colegiado, I));
 		}
 		return inscripciones;
 	}
 
-	private static Colegiado_Inscripcion resultSetToInscripcionColegiadosDto(ResultSet rs) throws SQLException {
-		InscripcionColegiadoDto I = new InscripcionColegiadoDto();
-		ColegiadoDto c = new ColegiadoDto();
-
-		c.nombre = rs.getString("nombre");
-		c.apellidos = rs.getString("apellidos");
-		I.precio = rs.getDouble("CantidadPagar");
-		I.estado = rs.getString("ESTADO");
-		I.fechaSolicitud = LocalDate.parse(rs.getString("FechaPreInscripcion"));
-		I.cantidadPagada = rs.getDouble("CantidadAbonada");
-
-		return new Colegiado_Inscripcion(c, I);
-
-	}
-
 	public static List<ProfesorDto> toProfesorDtoList(ResultSet rs) throws SQLException {
 		List<ProfesorDto> profesores = new ArrayList<>();
 
@@ -267,39 +179,30 @@ public class DtoAssembler {
 
 
 	public static InscripcionColegiadoDto resultsetToIncripcion(ResultSet rs) throws SQLException {
-		InscripcionColegiadoDto d = new InscripcionColegiadoDto();
-		d.colegiado = new ColegiadoDto();
-		d.colegiado.DNI = rs.getString("ColegiadoDNI");
-		d.colegiado.nombre = rs.getString("nombre");
-		d.colegiado.apellidos = rs.getString("apellidos");
-		d.curso = new CursoDto();
-		d.curso.codigoCurso = rs.getInt("CursoId");
-		d.curso.titulo = rs.getString("Titulo");
-		d.cantidadPagada = rs.getDouble("CantidadAbonada");
-		d.precio = rs.getDouble("cantidadPagar");
+		InscripcionColegiadoDto d = new InscripcionColegiadoRowMapper(rs).map(rs);
 		d.fechaCancelacion = LocalDate.now();
-		d.estado = rs.getString("Estado");
-		d.incidencias = rs.getString("incidencias");
-		d.devolver = rs.getString("Devolver");
-		d.curso.porcentaje_devolucion = rs.getDouble("Porcentaje_devolucion");
-		d.formaDePago = rs.getString("formaDePago");
 		return d;
 	}
 
+	/**
+	 * Convierte todas las filas restantes del ResultSet, igual que
+	 * {@link #resultsetToIncripcion(ResultSet)}.
+	 * 
+	 * @param rs
+	 * @return
+	 * @throws SQLException
+	 */
+	public static List<InscripcionColegiadoDto> toInscripcionColegiadoList(ResultSet rs) throws SQLException {
+		LocalDate hoy = LocalDate.now();
+		List<InscripcionColegiadoDto> res = new InscripcionColegiadoRowMapper(rs).toList(rs);
+		for (InscripcionColegiadoDto d : res) {
+			d.fechaCancelacion = hoy;
+		}
+		return res;
+	}
+
 	public static InscripcionColegiadoDto resultsetToIncripcionDni(ResultSet rs) throws SQLException {
-		InscripcionColegiadoDto d = new InscripcionColegiadoDto();
-		d.colegiado = new ColegiadoDto();
-		d.colegiado.DNI = rs.getString("ColegiadoDNI");
-		d.curso = new CursoDto();
-		d.curso.codigoCurso = rs.getInt("CursoId");
-		d.cantidadPagada = rs.getDouble("CantidadAbonada");
-		d.precio = rs.getDouble("cantidadPagar");
-		d.estado = rs.getString("Estado");
-		d.incidencias = rs.getString("incidencias");
-		d.devolver = rs.getString("Devolver");
-		d.formaDePago = rs.getString("formaDePago");
-		
-		return d;
+		return new InscripcionColegiadoRowMapper(rs).map(rs);
 	}
 	
 	/**
@@ -312,17 +215,7 @@ public class DtoAssembler {
 	 */
 	public static ListaEsperaInscripcionCursoDto toListaEsperaInscripcionCursoDto(ResultSet rs, boolean anonimizeDni)
 			throws SQLException {
-		ListaEsperaInscripcionCursoDto res = new ListaEsperaInscripcionCursoDto();
-
-		String dniOriginal = rs.getString(ListaEsperaInscripcionCursoDto.DNI_USUARIO);
-		res.dniUsuario = anonimizeDni ? StringUtils.anonimizeDni(dniOriginal) : dniOriginal;
-
-		res.nombreUsuario = rs.getString(ListaEsperaInscripcionCursoDto.NOMBRE_USUARIO);
-		res.idCurso = rs.getInt(ListaEsperaInscripcionCursoDto.ID_CURSO);
-		res.posicionUsuarioLista = rs.getInt(ListaEsperaInscripcionCursoDto.POS_USUARIO);
-
-		return res;
-
+		return new ListaEsperaInscripcionCursoRowMapper(rs, anonimizeDni).map(rs);
 	}
 
 	/**
@@ -334,34 +227,11 @@ public class DtoAssembler {
 	 */
 	public static List<ListaEsperaInscripcionCursoDto> toListaEsperaInscripcionCursoDtoList(ResultSet rs)
 			throws SQLException {
-		List<ListaEsperaInscripcionCursoDto> res = new ArrayList<>();
-
-		while (rs.next()) {
-			res.add(toListaEsperaInscripcionCursoDto(rs, true));
-		}
-
-		return res;
+		return new ListaEsperaInscripcionCursoRowMapper(rs, true).toList(rs);
 	}
 
 	public static List<SolicitudVisadoDto> toSolicitudVisadosList(ResultSet rs) throws SQLException {
-		List<SolicitudVisadoDto> res = new ArrayList<>();
-
-		while (rs.next()) {
-			res.add(toSolicitudVisadoDto(rs));
-		}
-
-		return res;
-	}
-
-	private static SolicitudVisadoDto toSolicitudVisadoDto(ResultSet rs) throws SQLException {
-		SolicitudVisadoDto s = new SolicitudVisadoDto();
-		
-		s.dniPerito = rs.getString("dniPerito");
-		s.descripcion = rs.getString("descripcion");
-		s.estado = rs.getString("estado");
-		s.dniVisado = rs.getString("dniVisado");
-		
-		return s;
+		return new SolicitudVisadoRowMapper(rs).toList(rs);
 	}
 
 }
\ No newline at end of file
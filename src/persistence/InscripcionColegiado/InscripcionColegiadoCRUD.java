@@ -7,15 +7,22 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import persistence.DtoAssembler;
 import persistence.Colegiado_Inscripcion.Colegiado_Inscripcion;
 import persistence.colegiado.ColegiadoDto;
+import persistence.curso.CatalogoCursos;
 import persistence.curso.CursoDto;
-import persistence.curso.Precio_Colectivos;
+import persistence.curso.PrecioCursoCRUD;
+import persistence.jdbc.BatchResult;
+import persistence.jdbc.BatchUpdate;
 import persistence.jdbc.Jdbc;
+import persistence.jdbc.PageQuery;
 import persistence.jdbc.PersistenceException;
 import persistence.util.Conf;
+import persistence.util.Page;
+import persistence.util.PageToken;
 import ui.util.Ficheros;
 
 
@@ -34,6 +41,8 @@ public class InscripcionColegiadoCRUD {
 
 	private static final String SQL_TOTAL_INSCRITOS_CURSO = Conf.getInstance().getProperty("TINSCRIPCION_FIND_ALL_COURSE");
 	private static final String SQL_INSCRIPCION_FIND_ID = Conf.getInstance().getProperty("TINSCRIPCION_FIND_ALL");
+	private static final String SQL_INSCRIPCION_FIND_ID_PAGE_FIRST = Conf.getInstance().getProperty("TINSCRIPCION_FIND_ALL_PAGE_FIRST");
+	private static final String SQL_INSCRIPCION_FIND_ID_PAGE_NEXT = Conf.getInstance().getProperty("TINSCRIPCION_FIND_ALL_PAGE_NEXT");
 	private static final String SQL_INSCRIPCION_CANCELAR_PREINSCRITO_PENDIENTE = Conf.getInstance().getProperty("TINSCRIPCION_CANCELAR_PREINSCRITO_PENDIENTE");
 	private static final String SQL_INSCRIPCION_CANCELAR_TARJETA = Conf.getInstance().getProperty("TINSCRIPCION_CANCELAR_TARJETA");
 	private static final String SQL_INSCRIPCION_CANCELAR_TRANSF = Conf.getInstance().getProperty("TINSCRIPCION_CANCELAR_TRANSF");
@@ -45,18 +54,20 @@ public class InscripcionColegiadoCRUD {
 	
 	public static void InscribirColegiado(CursoDto curso, ColegiadoDto colegiado) throws PersistenceException {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_COLEGIADO);
 			
 			int i = 1;
 			stmt.setString(i++, colegiado.DNI);
 			stmt.setInt(i++, curso.codigoCurso);
 			stmt.setString(i++, LocalDate.now().toString());
-			double precio = Precio_Colectivos.StringToPrecio_Colectivos(curso.CantidadPagarColectivo).getPrecio(colegiado.TipoColectivo);
+			double precio = PrecioCursoCRUD.findPrecios(curso.codigoCurso).getPrecio(colegiado.TipoColectivo);
 			stmt.setDouble(i++, precio);
 			stmt.setString(i++, "PREINSCRITO");
 			stmt.execute();
+			CatalogoCursos.invalidate();
 			
 			
 		}
@@ -65,6 +76,7 @@ public class InscripcionColegiadoCRUD {
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 		
 	}
@@ -73,9 +85,10 @@ public class InscripcionColegiadoCRUD {
 	public static boolean isInscrito(ColegiadoDto colegiado, CursoDto cursoSeleccionado) throws PersistenceException {
 		// TODO Auto-generated method stub
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		boolean inscrito = false;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_IS_INSCRITO);
 			stmt.setString(1, colegiado.DNI);
 			stmt.setInt(2, cursoSeleccionado.codigoCurso);
@@ -93,15 +106,17 @@ public class InscripcionColegiadoCRUD {
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 		return inscrito;
 	}
 	
 	public static List<Colegiado_Inscripcion> Lista_Inscritos_Curso(CursoDto c){
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		ArrayList<Colegiado_Inscripcion> inscritos;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_LISTA_INSCRIPCIONES_COLEGIADO);
 			stmt.setInt(1, c.codigoCurso);
 			
@@ -114,6 +129,7 @@ public class InscripcionColegiadoCRUD {
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 		return inscritos;
 	}
@@ -122,9 +138,10 @@ public class InscripcionColegiadoCRUD {
 	
 	public static String findFechaPreinscripcion(String dni, int cursoSeleccionado) throws PersistenceException {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		String fecha = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_FIND_FECHA);
 			stmt.setString(1, dni);
 			stmt.setInt(2, cursoSeleccionado);
@@ -145,14 +162,16 @@ public class InscripcionColegiadoCRUD {
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 		return fecha;
 	}
 	
 	public static void pagarCursoColegiado(String dni, int curso, String estado, String formaDePago) throws PersistenceException {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_PAGAR);
 			stmt.setString(1, estado);
 			stmt.setString(2, formaDePago);
@@ -160,21 +179,24 @@ public class InscripcionColegiadoCRUD {
 			stmt.setInt(4, curso);
 			
 			stmt.executeUpdate();
+			CatalogoCursos.invalidate();
 		}
 		catch(SQLException e){
 			throw new PersistenceException(e);
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 	
 	public static List<InscripcionColegiadoDto> findInscripcionesPorCursoId(int cursoSeleccionado) {
         PreparedStatement stmt = null;
+        Connection cn = null;
         ResultSet rs = null;
         List<InscripcionColegiadoDto> res = new ArrayList<>();
         try {
-            Connection cn = Jdbc.getConnection();
+            cn = Jdbc.getConnection();
             stmt = cn.prepareStatement(SQL_INSCRIPCION_TRANSFERENCIA_BANCO);
             stmt.setInt(1, cursoSeleccionado);
             
@@ -190,15 +212,17 @@ public class InscripcionColegiadoCRUD {
         }
         finally {
             Jdbc.close(stmt);
+            Jdbc.close(cn);
         }
     }
 	
 	public static List<InscripcionColegiadoDto> findInscripcionesPorCursoIdProcesadas(int cursoSeleccionado) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		ResultSet rs = null;
 		List<InscripcionColegiadoDto> res = new ArrayList<>();
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_TRANSFERENCIA_BANCO_PROCESADAS);
 			stmt.setInt(1, cursoSeleccionado);
 			
@@ -214,13 +238,15 @@ public class InscripcionColegiadoCRUD {
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 	
 	public static void pagarBanco(String dni, int curso, double precio) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_BANCO_TRANSFERENCIA);
 			stmt.setString(1, LocalDate.now().toString());
 			stmt.setString(2, Ficheros.generarCodigoTransferencia(12));
@@ -228,19 +254,22 @@ public class InscripcionColegiadoCRUD {
 			stmt.setInt(4, curso);
 			stmt.setString(5, dni);
 			stmt.executeUpdate();
+			CatalogoCursos.invalidate();
 		}
 		catch(SQLException e){
 			throw new PersistenceException(e);
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 	
 	public static void pagarBancoFechaIncorrecta(String dni, int curso, double precioPagar) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_BANCO_TRANSFERENCIA);
 			stmt.setString(1, LocalDate.now()
 								.plusMonths(7)
@@ -250,20 +279,23 @@ public class InscripcionColegiadoCRUD {
 			stmt.setInt(4, curso);
 			stmt.setString(5, dni);
 			stmt.executeUpdate();
+			CatalogoCursos.invalidate();
 		}
 		catch(SQLException e){
 			throw new PersistenceException(e);
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 
 
 	public static void procesarTransferencia(String estado, String incidencias, int codigoCurso, String dni, String devolver) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_BANCO_PROCESAR_TRANSFERENCIA);
 			stmt.setString(1, estado);
 			stmt.setString(2, incidencias);
@@ -271,21 +303,46 @@ public class InscripcionColegiadoCRUD {
 			stmt.setInt(4, codigoCurso);
 			stmt.setString(5, dni);
 			stmt.executeUpdate();
+			CatalogoCursos.invalidate();
 		}
 		catch(SQLException e){
 			throw new PersistenceException(e);
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 
+	/**
+	 * Actualiza el estado, las incidencias y la cantidad a devolver de las
+	 * inscripciones indicadas en una única transacción, mediante escritura por
+	 * lotes.
+	 * 
+	 * @param inscripciones Inscripciones con el curso, el colegiado y los nuevos
+	 *                      valores de estado, incidencias y devolver.
+	 * @return Inscripciones actualizadas y rechazadas.
+	 */
+	public static BatchResult<InscripcionColegiadoDto> procesarTransferencias(List<InscripcionColegiadoDto> inscripciones) {
+		BatchResult<InscripcionColegiadoDto> res = BatchUpdate.execute(SQL_INSCRIPCION_BANCO_PROCESAR_TRANSFERENCIA,
+				inscripciones, (stmt, i) -> {
+					stmt.setString(1, i.estado);
+					stmt.setString(2, i.incidencias);
+					stmt.setString(3, i.devolver);
+					stmt.setInt(4, i.curso.codigoCurso);
+					stmt.setString(5, i.colegiado.DNI);
+				});
+		CatalogoCursos.invalidate();
+		return res;
+	}
+
 
 	public static int getTotalInscrito(CursoDto cursoSeleccionado) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		ResultSet rs = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_TOTAL_INSCRITOS_CURSO);
 			stmt.setInt(1, cursoSeleccionado.codigoCurso);
 			rs = stmt.executeQuery();
@@ -297,22 +354,22 @@ public class InscripcionColegiadoCRUD {
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 
 	public static List<InscripcionColegiadoDto> findInscripciones(int codigoCurso) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		ResultSet rs = null;
 		List<InscripcionColegiadoDto> res = new ArrayList<>();
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_FIND_ID);
 			stmt.setInt(1, codigoCurso);
 			
 			rs = stmt.executeQuery();
-			while (rs.next()) {
-				res.add(DtoAssembler.resultsetToIncripcion(rs));
-			}
+			res = DtoAssembler.toInscripcionColegiadoList(rs);
 			
 			return res;
 		}
@@ -321,15 +378,47 @@ public class InscripcionColegiadoCRUD {
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
+		}
+	}
+
+	/**
+	 * Página de las inscripciones no canceladas del curso, ordenadas por
+	 * (CursoId, ColegiadoDNI, IdInscripcion). El identificador de la inscripción
+	 * desempata las inscripciones repetidas de un mismo colegiado.
+	 * 
+	 * @param codigoCurso
+	 * @param token       Token de continuación de la página anterior, o null para
+	 *                    la primera página.
+	 * @param pageSize    Número de inscripciones por página.
+	 * @return
+	 * @throws IllegalArgumentException Si el token no es válido o es de otro
+	 *                                  curso.
+	 */
+	public static Page<InscripcionColegiadoDto> findInscripcionesPage(int codigoCurso, String token, int pageSize) {
+		Function<InscripcionColegiadoDto, String[]> keyOf = d -> new String[] { String.valueOf(d.curso.codigoCurso),
+				d.colegiado.DNI, String.valueOf(d.idInscripcion) };
+
+		if (token == null) {
+			return PageQuery.fetch(SQL_INSCRIPCION_FIND_ID_PAGE_FIRST, InscripcionColegiadoRowMapper::new, keyOf,
+					pageSize, codigoCurso);
+		}
+
+		String[] key = PageToken.decode(token, 3);
+		if (!key[0].equals(String.valueOf(codigoCurso))) {
+			throw new IllegalArgumentException("El token de paginación corresponde a otro curso");
 		}
+		return PageQuery.fetch(SQL_INSCRIPCION_FIND_ID_PAGE_NEXT, InscripcionColegiadoRowMapper::new, keyOf,
+				pageSize, codigoCurso, key[1], key[1], Integer.parseInt(key[2]));
 	}
 
 
 	public static void actualizarPreinscritoPendiente(int codigoCurso, String dNI, String devolver, LocalDate fechaCancelacion, String estado,
 			String incidencias) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_CANCELAR_PREINSCRITO_PENDIENTE);
 			stmt.setString(1, incidencias);
 			stmt.setString(2, fechaCancelacion.toString());
@@ -339,12 +428,14 @@ public class InscripcionColegiadoCRUD {
 			stmt.setString(6, dNI);
 
 			stmt.executeUpdate();
+			CatalogoCursos.invalidate();
 		}
 		catch(SQLException e){
 			throw new PersistenceException(e);
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 
@@ -352,8 +443,9 @@ public class InscripcionColegiadoCRUD {
 	public static void actualizarTarjeta(int codigoCurso, String dNI, double precio, String devolver,
 			LocalDate fechaCancelacion, String estado, String incidencias) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_CANCELAR_TARJETA);
 			stmt.setString(1, incidencias);
 			stmt.setString(2, fechaCancelacion.toString());
@@ -364,12 +456,14 @@ public class InscripcionColegiadoCRUD {
 			stmt.setString(7, dNI);
 
 			stmt.executeUpdate();
+			CatalogoCursos.invalidate();
 		}
 		catch(SQLException e){
 			throw new PersistenceException(e);
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 		
 	}
@@ -378,8 +472,9 @@ public class InscripcionColegiadoCRUD {
 	public static void actualizarTransf(int codigoCurso, String dNI, String devolver, LocalDate fechaCancelacion,
 			String estado, String incidencias) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_CANCELAR_TRANSF);
 			stmt.setString(1, incidencias);
 			stmt.setString(2, fechaCancelacion.toString());
@@ -389,29 +484,30 @@ public class InscripcionColegiadoCRUD {
 			stmt.setString(6, dNI);
 
 			stmt.executeUpdate();
+			CatalogoCursos.invalidate();
 		}
 		catch(SQLException e){
 			throw new PersistenceException(e);
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 
 
 	public static List<InscripcionColegiadoDto> findInscripcionesCanceladas(int codigoCurso) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		ResultSet rs = null;
 		List<InscripcionColegiadoDto> res = new ArrayList<>();
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_FIND_CANCELADAS);
 			stmt.setInt(1, codigoCurso);
 			
 			rs = stmt.executeQuery();
-			while (rs.next()) {
-				res.add(DtoAssembler.resultsetToIncripcion(rs));
-			}
+			res = DtoAssembler.toInscripcionColegiadoList(rs);
 			
 			return res;
 		}
@@ -420,15 +516,17 @@ public class InscripcionColegiadoCRUD {
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 
 
 	public static InscripcionColegiadoDto findInscripcion(int codigoCurso, String dni, boolean elem) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		ResultSet rs = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			if (elem) {
 				stmt = cn.prepareStatement(SQL_INSCRIPCION_FIND_CANCELAR);
 			} else {
@@ -449,15 +547,17 @@ public class InscripcionColegiadoCRUD {
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 
 
 	public static InscripcionColegiadoDto findInscripcion(String colegiadoDni) {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		ResultSet rs = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_INSCRIPCION_FIND_BY_DNI);
 			stmt.setString(1, colegiadoDni);
 			
@@ -473,6 +573,7 @@ public class InscripcionColegiadoCRUD {
 		}
 		finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 	
@@ -487,6 +588,7 @@ public class InscripcionColegiadoCRUD {
 			
 			pst.setString(1, dni);
 			pst.execute();
+			CatalogoCursos.invalidate();
 			
 		} catch(SQLException e) {
 			throw new PersistenceException(e);
@@ -20,6 +20,7 @@ public class InscripcionColegiadoDto {
 	public String devolver;
 
 	public LocalDate fechaCancelacion;
+	public int idInscripcion;
 	
 	@Override
 	public String toString() {
@@ -0,0 +1,86 @@
+package persistence.InscripcionColegiado;
+
+import static persistence.util.ResultSetColumns.getDouble;
+import static persistence.util.ResultSetColumns.getInt;
+import static persistence.util.ResultSetColumns.getLocalDate;
+import static persistence.util.ResultSetColumns.getString;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import persistence.colegiado.ColegiadoDto;
+import persistence.curso.CursoDto;
+import persistence.util.ResultSetColumns;
+import persistence.util.RowMapper;
+
+/**
+ * Conversión de las filas de la tabla Inscripcion, sola o combinada con
+ * Colegiado y Curso, en {@link InscripcionColegiadoDto}. Las columnas que no
+ * aparecen en la consulta se dejan con su valor por defecto.
+ *
+ * @version v1.0.0
+ *
+ */
+public class InscripcionColegiadoRowMapper implements RowMapper<InscripcionColegiadoDto> {
+
+	private final int colegiadoDni;
+	private final int nombre;
+	private final int apellidos;
+	private final int cursoId;
+	private final int titulo;
+	private final int porcentajeDevolucion;
+	private final int fechaPreinscripcion;
+	private final int cantidadAbonada;
+	private final int cantidadPagar;
+	private final int estado;
+	private final int incidencias;
+	private final int devolver;
+	private final int formaDePago;
+	private final int idInscripcion;
+
+	public InscripcionColegiadoRowMapper(final ResultSet rs) throws SQLException {
+		ResultSetColumns columns = ResultSetColumns.of(rs);
+
+		colegiadoDni = columns.optional("ColegiadoDNI");
+		nombre = columns.optional("nombre");
+		apellidos = columns.optional("apellidos");
+		cursoId = columns.optional("CursoId");
+		titulo = columns.optional("Titulo");
+		porcentajeDevolucion = columns.optional("Porcentaje_devolucion");
+		fechaPreinscripcion = columns.optional("FechaPreInscripcion");
+		cantidadAbonada = columns.optional("CantidadAbonada");
+		cantidadPagar = columns.optional("CantidadPagar");
+		estado = columns.optional("Estado");
+		incidencias = columns.optional("Incidencias");
+		devolver = columns.optional("Devolver");
+		formaDePago = columns.optional("FormaDePago");
+		idInscripcion = columns.optional("IdInscripcion");
+	}
+
+	@Override
+	public InscripcionColegiadoDto map(final ResultSet rs) throws SQLException {
+		InscripcionColegiadoDto d = new InscripcionColegiadoDto();
+
+		d.colegiado = new ColegiadoDto();
+		d.colegiado.DNI = getString(rs, colegiadoDni);
+		d.colegiado.nombre = getString(rs, nombre);
+		d.colegiado.apellidos = getString(rs, apellidos);
+
+		d.curso = new CursoDto();
+		d.curso.codigoCurso = getInt(rs, cursoId);
+		d.curso.titulo = getString(rs, titulo);
+		d.curso.porcentaje_devolucion = getDouble(rs, porcentajeDevolucion);
+
+		d.fechaSolicitud = getLocalDate(rs, fechaPreinscripcion);
+		d.cantidadPagada = getDouble(rs, cantidadAbonada);
+		d.precio = getDouble(rs, cantidadPagar);
+		d.estado = getString(rs, estado);
+		d.incidencias = getString(rs, incidencias);
+		d.devolver = getString(rs, devolver);
+		d.formaDePago = getString(rs, formaDePago);
+		d.idInscripcion = getInt(rs, idInscripcion);
+
+		return d;
+	}
+
+}
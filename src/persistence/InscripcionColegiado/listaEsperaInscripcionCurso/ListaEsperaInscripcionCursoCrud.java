@@ -162,6 +162,7 @@ public class ListaEsperaInscripcionCursoCrud {
 
 		} finally {
 			Jdbc.close(rs, pst);
+			Jdbc.close(con);
 		}
 
 		return Optional.ofNullable(res);
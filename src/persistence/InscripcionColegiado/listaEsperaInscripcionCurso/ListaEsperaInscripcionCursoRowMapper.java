@@ -0,0 +1,59 @@
+package persistence.InscripcionColegiado.listaEsperaInscripcionCurso;
+
+import static persistence.util.ResultSetColumns.getInt;
+import static persistence.util.ResultSetColumns.getString;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import business.util.StringUtils;
+import persistence.util.ResultSetColumns;
+import persistence.util.RowMapper;
+
+/**
+ * Conversión de las filas de la lista de espera de un curso en
+ * {@link ListaEsperaInscripcionCursoDto}.
+ *
+ * @version v1.0.0
+ *
+ */
+public class ListaEsperaInscripcionCursoRowMapper implements RowMapper<ListaEsperaInscripcionCursoDto> {
+
+	private final boolean anonimizeDni;
+
+	private final int dniUsuario;
+	private final int nombreUsuario;
+	private final int idCurso;
+	private final int posicionUsuario;
+
+	/**
+	 * 
+	 * @param rs
+	 * @param anonimizeDni true si se requiere anonimizar el DNI del usuario.
+	 * @throws SQLException
+	 */
+	public ListaEsperaInscripcionCursoRowMapper(final ResultSet rs, final boolean anonimizeDni)
+			throws SQLException {
+		this.anonimizeDni = anonimizeDni;
+
+		ResultSetColumns columns = ResultSetColumns.of(rs);
+		dniUsuario = columns.required(ListaEsperaInscripcionCursoDto.DNI_USUARIO);
+		nombreUsuario = columns.required(ListaEsperaInscripcionCursoDto.NOMBRE_USUARIO);
+		idCurso = columns.required(ListaEsperaInscripcionCursoDto.ID_CURSO);
+		posicionUsuario = columns.required(ListaEsperaInscripcionCursoDto.POS_USUARIO);
+	}
+
+	@Override
+	public ListaEsperaInscripcionCursoDto map(final ResultSet rs) throws SQLException {
+		ListaEsperaInscripcionCursoDto res = new ListaEsperaInscripcionCursoDto();
+
+		String dniOriginal = getString(rs, dniUsuario);
+		res.dniUsuario = anonimizeDni ? StringUtils.anonimizeDni(dniOriginal) : dniOriginal;
+		res.nombreUsuario = getString(rs, nombreUsuario);
+		res.idCurso = getInt(rs, idCurso);
+		res.posicionUsuarioLista = getInt(rs, posicionUsuario);
+
+		return res;
+	}
+
+}
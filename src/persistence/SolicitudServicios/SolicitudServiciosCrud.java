@@ -8,9 +8,13 @@ import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.ArrayList;
 
+import persistence.colegiado.ColegiadoCache;
 import persistence.colegiado.ColegiadoDto;
 import persistence.jdbc.Jdbc;
+import persistence.jdbc.PageQuery;
 import persistence.util.Conf;
+import persistence.util.Page;
+import persistence.util.PageToken;
 
 public class SolicitudServiciosCrud {
 
@@ -28,6 +32,8 @@ public class SolicitudServiciosCrud {
 			.getProperty("ACTUALIZA_POSICIONES_LISTA_ADD");
 	private static final String SQL_CANCELA_PERICIAL = Conf.getInstance()
 			.getProperty("CANCELA_PERICIAL");
+	private static final String SQL_LISTAR_SOLICITUDES_FILTROS_PAGE = Conf.getInstance()
+			.getProperty("LISTAR_SOLICITUDES_SERVICIOS_FILTROS_PAGE");
 
 	public static ArrayList<SolicitudServiciosDto> listarSolicitudesServicios() {
 		Connection c = null;
@@ -41,14 +47,10 @@ public class SolicitudServiciosCrud {
 			st = c.createStatement();
 			rs = st.executeQuery(SQL_ListarSolicitudesServicios);
 
+			SolicitudServiciosRowMapper mapper = new SolicitudServiciosRowMapper(rs);
 			while (rs.next()) {
 				try {
-					SolicitudServiciosDto sol = new SolicitudServiciosDto();
-					sol.CorreoElectronico = rs.getString("CorreoElectronico");
-					sol.DNI = rs.getString("DNI");
-					sol.Descripcion = rs.getString("Descripcion");
-					sol.id = rs.getInt("id");
-					solList.add(sol);
+					solList.add(mapper.map(rs));
 				} catch (Exception e) {
 				}
 			}
@@ -129,6 +131,7 @@ public class SolicitudServiciosCrud {
 			pst.setString(1, colegiado.DNI);
 
 			pst.execute();
+			ColegiadoCache.invalidate(colegiado.DNI);
 
 		} catch (SQLException e) {
 			System.out.print("");
@@ -148,6 +151,7 @@ public class SolicitudServiciosCrud {
 			pst.setInt(1, colegiado.posicionPerito);
 
 			pst.execute();
+			ColegiadoCache.invalidateAll();
 
 		} catch (SQLException e) {
 			System.out.print("");
@@ -167,6 +171,7 @@ public class SolicitudServiciosCrud {
 			pst.setInt(1, colegiado.posicionPerito);
 
 			pst.execute();
+			ColegiadoCache.invalidateAll();
 
 		} catch (SQLException e) {
 			System.out.print("");
@@ -189,28 +194,10 @@ public class SolicitudServiciosCrud {
 
 			st = c.createStatement();
 			rs = st.executeQuery(Query);
+			SolicitudServiciosRowMapper mapper = new SolicitudServiciosRowMapper(rs);
 			while (rs.next()) {
 				try {
-					SolicitudServiciosDto sol = new SolicitudServiciosDto();
-					sol.Descripcion = rs.getString("Descripcion");
-					sol.AgeSolicitud = rs.getInt("AgeSolicitud");
-					sol.estado = rs.getString("Estado");
-					sol.id = rs.getInt("id");
-					String fCancelacion = rs.getString("FechaCancelacion");
-					if(fCancelacion==null || fCancelacion == "") {
-						sol.fechaCancelacion = null;
-					}
-					else {
-						sol.fechaCancelacion = LocalDate.parse(rs.getString("FechaCancelacion"));
-					}
-					String dniPerito = rs.getString("dniPerito");
-					if(dniPerito == null || dniPerito == "") {
-						sol.peritoDNI = "";
-					}
-					else {
-						sol.peritoDNI = dniPerito;
-					}
-					solList.add(sol);
+					solList.add(mapper.map(rs));
 				} catch (Exception e) {
 				}
 			}
@@ -224,6 +211,28 @@ public class SolicitudServiciosCrud {
 		return solList;
 	}
 
+	/**
+	 * Página de las solicitudes que cumplen los filtros indicados, ordenadas por
+	 * identificador.
+	 * 
+	 * @param estado    Estado de la solicitud o "Todos".
+	 * @param ano       Año de la solicitud o -1 para todos.
+	 * @param dniPerito DNI del perito asignado o cadena vacía para todos.
+	 * @param token     Token de continuación de la página anterior, o null para la
+	 *                  primera página.
+	 * @param pageSize  Número de solicitudes por página.
+	 * @return
+	 * @throws IllegalArgumentException Si el token no es válido.
+	 */
+	public static Page<SolicitudServiciosDto> listarSolicitudesServiciosPage(String estado, int ano, String dniPerito,
+			String token, int pageSize) {
+		long lastId = token == null ? Long.MIN_VALUE : Long.parseLong(PageToken.decode(token, 1)[0]);
+
+		return PageQuery.fetch(SQL_LISTAR_SOLICITUDES_FILTROS_PAGE, SolicitudServiciosRowMapper::new,
+				s -> new String[] { String.valueOf(s.id) }, pageSize, estado, estado, ano, ano, dniPerito, dniPerito,
+				lastId);
+	}
+
 	public static void CancelaPericial(SolicitudServiciosDto s) {
 		// TODO Auto-generated method stub
 		Connection c = null;
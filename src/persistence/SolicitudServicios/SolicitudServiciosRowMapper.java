@@ -0,0 +1,68 @@
+package persistence.SolicitudServicios;
+
+import static persistence.util.ResultSetColumns.getInt;
+import static persistence.util.ResultSetColumns.getLocalDate;
+import static persistence.util.ResultSetColumns.getString;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import persistence.util.ResultSetColumns;
+import persistence.util.RowMapper;
+
+/**
+ * Conversión de las filas de la tabla SolicitudPeritos en
+ * {@link SolicitudServiciosDto}. Las columnas que no aparecen en la consulta se
+ * dejan con su valor por defecto.
+ *
+ * @version v1.0.0
+ *
+ */
+public class SolicitudServiciosRowMapper implements RowMapper<SolicitudServiciosDto> {
+
+	private final int id;
+	private final int dni;
+	private final int correoElectronico;
+	private final int descripcion;
+	private final int urgente;
+	private final int estado;
+	private final int ageSolicitud;
+	private final int fechaCancelacion;
+	private final int dniPerito;
+
+	public SolicitudServiciosRowMapper(final ResultSet rs) throws SQLException {
+		ResultSetColumns columns = ResultSetColumns.of(rs);
+
+		id = columns.required("id");
+		dni = columns.optional("DNI");
+		correoElectronico = columns.optional("CorreoElectronico");
+		descripcion = columns.optional("Descripcion");
+		urgente = columns.optional("Urgente");
+		estado = columns.optional("Estado");
+		ageSolicitud = columns.optional("AgeSolicitud");
+		fechaCancelacion = columns.optional("FechaCancelacion");
+		dniPerito = columns.optional("dniPerito");
+	}
+
+	@Override
+	public SolicitudServiciosDto map(final ResultSet rs) throws SQLException {
+		SolicitudServiciosDto sol = new SolicitudServiciosDto();
+
+		sol.id = getInt(rs, id);
+		sol.DNI = getString(rs, dni);
+		sol.CorreoElectronico = getString(rs, correoElectronico);
+		sol.Descripcion = getString(rs, descripcion);
+		sol.Urgente = getInt(rs, urgente);
+		sol.estado = getString(rs, estado);
+		sol.AgeSolicitud = getInt(rs, ageSolicitud);
+		sol.fechaCancelacion = getLocalDate(rs, fechaCancelacion);
+
+		if (dniPerito != 0) {
+			String perito = getString(rs, dniPerito);
+			sol.peritoDNI = perito == null ? "" : perito;
+		}
+
+		return sol;
+	}
+
+}
@@ -0,0 +1,256 @@
+package persistence.colegiado;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import persistence.jdbc.UnitOfWork;
+import persistence.util.CacheStats;
+import persistence.util.Conf;
+
+/**
+ * Caché de colegiados por DNI y por número de colegiado, de lectura a través
+ * (read-through) para {@link ColegiadoCrud#findColegiadoDni(String)} y
+ * {@link ColegiadoCrud#findColegiadoNumColegiado(String)}.
+ * <p>
+ * La caché está acotada por el tamaño estimado de las entradas
+ * (<code>COLEGIADO_CACHE_MAX_KB</code>) y descarta el colegiado consultado hace
+ * más tiempo (LRU). Se entregan copias de las entradas, de modo que modificar
+ * el objeto devuelto no altera la caché.
+ * <p>
+ * Las operaciones que modifican la tabla Colegiado invalidan las entradas
+ * afectadas al ejecutarse y de nuevo al terminar la {@link UnitOfWork} en
+ * curso, para descartar lo que otro hilo haya leído antes de la confirmación.
+ * Las lecturas hechas dentro de una unidad de trabajo no se guardan, ya que
+ * podrían incluir cambios que luego se deshagan.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class ColegiadoCache {
+
+	public static final int DEFAULT_MAX_KB = 256;
+
+	// Tamaño aproximado de un ColegiadoDto sin contar el texto de sus campos
+	private static final int BASE_WEIGHT = 160;
+
+	private static final Map<String, Entry> BY_DNI = new LinkedHashMap<>(16, 0.75f, true);
+	private static final Map<String, String> DNI_BY_NUMERO = new HashMap<>();
+
+	private static final long MAX_WEIGHT = Math.max(0,
+			Conf.getInstance().getIntProperty("COLEGIADO_CACHE_MAX_KB", DEFAULT_MAX_KB)) * 1024L;
+
+	private static long weight;
+	// Se incrementa en cada invalidación: una lectura iniciada antes no se guarda
+	private static long generation;
+	private static long hits;
+	private static long misses;
+	private static long evictions;
+	private static long invalidations;
+
+	private static class Entry {
+		private final ColegiadoDto colegiado;
+		private final int weight;
+
+		Entry(final ColegiadoDto colegiado) {
+			this.colegiado = colegiado;
+			this.weight = weigh(colegiado);
+		}
+	}
+
+	private ColegiadoCache() {
+	}
+
+	/**
+	 * Colegiado con el DNI indicado, desde la caché o con la consulta indicada.
+	 *
+	 * @param dni
+	 * @param loader Consulta a la base de datos si no está en la caché.
+	 * @return Copia del colegiado, o null si no existe.
+	 */
+	static ColegiadoDto findByDni(final String dni, final Function<String, ColegiadoDto> loader) {
+		long gen;
+		synchronized (ColegiadoCache.class) {
+			Entry e = BY_DNI.get(dni);
+			if (e != null) {
+				hits++;
+				return copy(e.colegiado);
+			}
+			misses++;
+			gen = generation;
+		}
+		return load(loader.apply(dni), gen);
+	}
+
+	/**
+	 * Colegiado con el número indicado, desde la caché o con la consulta indicada.
+	 *
+	 * @param numero
+	 * @param loader Consulta a la base de datos si no está en la caché.
+	 * @return Copia del colegiado, o null si no existe.
+	 */
+	static ColegiadoDto findByNumero(final String numero, final Function<String, ColegiadoDto> loader) {
+		long gen;
+		synchronized (ColegiadoCache.class) {
+			String dni = DNI_BY_NUMERO.get(numero);
+			Entry e = dni == null ? null : BY_DNI.get(dni);
+			if (e != null) {
+				hits++;
+				return copy(e.colegiado);
+			}
+			misses++;
+			gen = generation;
+		}
+		return load(loader.apply(numero), gen);
+	}
+
+	private static ColegiadoDto load(final ColegiadoDto colegiado, final long gen) {
+		if (colegiado != null && colegiado.DNI != null && !UnitOfWork.isActive()) {
+			put(copy(colegiado), gen);
+		}
+		return colegiado;
+	}
+
+	private static synchronized void put(final ColegiadoDto colegiado, final long gen) {
+		if (gen != generation) {
+			return;
+		}
+		remove(colegiado.DNI);
+		Entry e = new Entry(colegiado);
+		if (e.weight > MAX_WEIGHT) {
+			return;
+		}
+		BY_DNI.put(colegiado.DNI, e);
+		if (colegiado.numeroColegiado != null && !colegiado.numeroColegiado.isEmpty()) {
+			DNI_BY_NUMERO.put(colegiado.numeroColegiado, colegiado.DNI);
+		}
+		weight += e.weight;
+
+		Iterator<Map.Entry<String, Entry>> it = BY_DNI.entrySet().iterator();
+		while (weight > MAX_WEIGHT && it.hasNext()) {
+			Entry eldest = it.next().getValue();
+			it.remove();
+			unindex(eldest);
+			evictions++;
+		}
+	}
+
+	private static boolean remove(final String dni) {
+		Entry e = BY_DNI.remove(dni);
+		if (e == null) {
+			return false;
+		}
+		unindex(e);
+		return true;
+	}
+
+	private static void unindex(final Entry e) {
+		weight -= e.weight;
+		String numero = e.colegiado.numeroColegiado;
+		if (numero != null && e.colegiado.DNI.equals(DNI_BY_NUMERO.get(numero))) {
+			DNI_BY_NUMERO.remove(numero);
+		}
+	}
+
+	/**
+	 * Descarta el colegiado con el DNI indicado.
+	 *
+	 * @param dni
+	 */
+	public static void invalidate(final String dni) {
+		invalidateNow(dni);
+		UnitOfWork.afterCompletion(committed -> invalidateNow(dni));
+	}
+
+	/**
+	 * Descarta el colegiado con el número indicado.
+	 *
+	 * @param numero
+	 */
+	public static void invalidateNumero(final String numero) {
+		invalidateNumeroNow(numero);
+		UnitOfWork.afterCompletion(committed -> invalidateNumeroNow(numero));
+	}
+
+	/**
+	 * Descarta todos los colegiados, para las modificaciones que afectan a varias
+	 * filas.
+	 */
+	public static void invalidateAll() {
+		invalidateAllNow();
+		UnitOfWork.afterCompletion(committed -> invalidateAllNow());
+	}
+
+	private static synchronized void invalidateNow(final String dni) {
+		generation++;
+		if (remove(dni)) {
+			invalidations++;
+		}
+	}
+
+	private static synchronized void invalidateNumeroNow(final String numero) {
+		generation++;
+		String dni = DNI_BY_NUMERO.get(numero);
+		if (dni != null) {
+			invalidateNow(dni);
+		}
+	}
+
+	private static synchronized void invalidateAllNow() {
+		generation++;
+		invalidations += BY_DNI.size();
+		BY_DNI.clear();
+		DNI_BY_NUMERO.clear();
+		weight = 0;
+	}
+
+	/**
+	 * Estadísticas de uso de la caché.
+	 *
+	 * @return
+	 */
+	public static synchronized CacheStats getStats() {
+		return new CacheStats(hits, misses, evictions, invalidations, BY_DNI.size(), weight);
+	}
+
+	private static ColegiadoDto copy(final ColegiadoDto c) {
+		ColegiadoDto res = new ColegiadoDto();
+		res.DNI = c.DNI;
+		res.nombre = c.nombre;
+		res.apellidos = c.apellidos;
+		res.poblacion = c.poblacion;
+		res.telefono = c.telefono;
+		res.titulacion = c.titulacion == null ? null : new ArrayList<>(c.titulacion);
+		res.centro = c.centro;
+		res.annio = c.annio;
+		res.numeroCuenta = c.numeroCuenta;
+		res.fechaSolicitud = c.fechaSolicitud;
+		res.estado = c.estado;
+		res.numeroColegiado = c.numeroColegiado;
+		res.TipoColectivo = c.TipoColectivo;
+		res.perito = c.perito;
+		res.posicionPerito = c.posicionPerito;
+		res.visado = c.visado;
+		return res;
+	}
+
+	private static int weigh(final ColegiadoDto c) {
+		int chars = length(c.DNI) + length(c.nombre) + length(c.apellidos) + length(c.poblacion)
+				+ length(c.centro) + length(c.numeroCuenta) + length(c.estado) + length(c.numeroColegiado)
+				+ length(c.TipoColectivo) + length(c.perito);
+		if (c.titulacion != null) {
+			for (String t : c.titulacion) {
+				chars += length(t);
+			}
+		}
+		return BASE_WEIGHT + chars * 2;
+	}
+
+	private static int length(final String s) {
+		return s == null ? 0 : s.length();
+	}
+
+}
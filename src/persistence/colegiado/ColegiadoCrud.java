@@ -7,11 +7,17 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import persistence.DtoAssembler;
 import persistence.jdbc.Jdbc;
+import persistence.jdbc.PageQuery;
 import persistence.jdbc.PersistenceException;
+import persistence.jdbc.ResultSetCursor;
 import persistence.util.Conf;
+import persistence.util.Page;
+import persistence.util.PageToken;
 
 public class ColegiadoCrud {
 	private static final String SQL_BUSCAR_COLEGIADO_DNI = Conf.getInstance().getProperty("TCOLEGIADO_FIND_BY_DNI");
@@ -20,10 +26,16 @@ public class ColegiadoCrud {
 	private static final String ESTADO_PENDIENTE = "PENDIENTE"; // se le asigna como PENDIENTE de momento
 
 	private static final String SQL_FIND_ALL_COLEGIADOS = Conf.getInstance().getProperty("TCOLEGIADO_ALL");
+	private static final String SQL_FIND_COLEGIADOS_SIN_RECIBO = Conf.getInstance()
+			.getProperty("TCOLEGIADO_FIND_SIN_RECIBO");
 	private static final String SQL_BUSCAR_COLEGIADO_NUM_COLEGIADO = Conf.getInstance()
 			.getProperty("BUSCAR_COLEGIADO_NUM_COLEGIADO");
 	private static final String SQL_LISTAR_SOLICITUDES_ALTA_COLEGIADOS = Conf.getInstance()
 			.getProperty("TCOLEGIADO_FIND_ALL_CANDIDATES");
+	private static final String SQL_SOLICITUDES_ALTA_PAGE_FIRST = Conf.getInstance()
+			.getProperty("TCOLEGIADO_CANDIDATES_PAGE_FIRST");
+	private static final String SQL_SOLICITUDES_ALTA_PAGE_NEXT = Conf.getInstance()
+			.getProperty("TCOLEGIADO_CANDIDATES_PAGE_NEXT");
 
 	private static final String SQL_OBTENER_TITULACION_COLEGIADO = Conf.getInstance()
 			.getProperty("TCOLEGIADO_FIND_TITULACION_BY_DNI");
@@ -70,17 +82,32 @@ public class ColegiadoCrud {
 			throw new PersistenceException(e);
 		} finally {
 			Jdbc.close(pst);
+			Jdbc.close(c);
 		}
 
 		return colegiado;
 	}
 
+	/**
+	 * Colegiado con el DNI indicado. Se consulta primero en {@link ColegiadoCache}.
+	 *
+	 * @param Dni
+	 * @return Copia del colegiado, o null si no existe.
+	 */
 	public static ColegiadoDto findColegiadoDni(String Dni) {
-		return findColegiadoGeneral(Dni, SQL_BUSCAR_COLEGIADO_DNI, "DNI");
+		return ColegiadoCache.findByDni(Dni, dni -> findColegiadoGeneral(dni, SQL_BUSCAR_COLEGIADO_DNI, "DNI"));
 	}
 
+	/**
+	 * Colegiado con el número indicado. Se consulta primero en
+	 * {@link ColegiadoCache}.
+	 *
+	 * @param Num
+	 * @return Copia del colegiado, o null si no existe.
+	 */
 	public static ColegiadoDto findColegiadoNumColegiado(String Num) {
-		return findColegiadoGeneral(Num, SQL_BUSCAR_COLEGIADO_NUM_COLEGIADO, "NUMERO");
+		return ColegiadoCache.findByNumero(Num,
+				num -> findColegiadoGeneral(num, SQL_BUSCAR_COLEGIADO_NUM_COLEGIADO, "NUMERO"));
 	}
 
 	public static ColegiadoDto addColegiado(ColegiadoDto colegiado) {
@@ -109,11 +136,14 @@ public class ColegiadoCrud {
 			pst.setString(12, "");
 
 			pst.executeUpdate();
+			ColegiadoCache.invalidate(colegiado.DNI);
+			IndiceColegiados.actualizar(colegiado.DNI);
 
 		} catch (SQLException e) {
 			throw new PersistenceException(e);
 		} finally {
 			Jdbc.close(pst);
+			Jdbc.close(con);
 		}
 		return colegiado;
 	}
@@ -138,6 +168,44 @@ public class ColegiadoCrud {
 		}
 	}
 
+	/**
+	 * Recorre todos los colegiados sin cargarlos en memoria. El Stream retiene una
+	 * conexión hasta que se cierra, por lo que ha de usarse con
+	 * try-with-resources.
+	 * 
+	 * @see ResultSetCursor#stream(String, ResultSetCursor.MapperFactory, Object...)
+	 * @return
+	 */
+	public static Stream<ColegiadoDto> streamAllColegiados() {
+		return ResultSetCursor.stream(SQL_FIND_ALL_COLEGIADOS, ColegiadoRowMapper::new);
+	}
+
+	/**
+	 * Invoca el callback con cada colegiado, sin cargarlos todos en memoria.
+	 * 
+	 * @param callback
+	 * @return Número de colegiados recorridos.
+	 * @throws X La excepción lanzada por el callback.
+	 */
+	public static <X extends Exception> int forEachColegiado(ResultSetCursor.RowCallback<ColegiadoDto, X> callback)
+			throws X {
+		return ResultSetCursor.forEach(SQL_FIND_ALL_COLEGIADOS, ColegiadoRowMapper::new, callback);
+	}
+
+	/**
+	 * Invoca el callback con cada colegiado que no tiene recibo del año indicado,
+	 * sin cargarlos todos en memoria.
+	 * 
+	 * @param year
+	 * @param callback
+	 * @return Número de colegiados recorridos.
+	 * @throws X La excepción lanzada por el callback.
+	 */
+	public static <X extends Exception> int forEachColegiadoSinRecibo(final int year,
+			ResultSetCursor.RowCallback<ColegiadoDto, X> callback) throws X {
+		return ResultSetCursor.forEach(SQL_FIND_COLEGIADOS_SIN_RECIBO, ColegiadoRowMapper::new, callback, year);
+	}
+
 	/**
 	 * Obtiene la titulación del colegiado
 	 * 
@@ -186,12 +254,15 @@ public class ColegiadoCrud {
 			pst.setString(2, colegiado.DNI);
 
 			pst.executeUpdate();
+			ColegiadoCache.invalidate(colegiado.DNI);
+			IndiceColegiados.actualizar(colegiado.DNI);
 
 		} catch (SQLException sqle) {
 			throw new PersistenceException(sqle);
 
 		} finally {
 			Jdbc.close(pst);
+			Jdbc.close(con);
 		}
 
 	}
@@ -215,6 +286,7 @@ public class ColegiadoCrud {
 			pst.setString(2, colegiado.numeroColegiado);
 
 			pst.executeUpdate();
+			ColegiadoCache.invalidateNumero(colegiado.numeroColegiado);
 
 		} catch (SQLException sqle) {
 			throw new PersistenceException(sqle);
@@ -245,6 +317,7 @@ public class ColegiadoCrud {
 			pst.setString(2, dni);
 
 			pst.executeUpdate();
+			ColegiadoCache.invalidate(dni);
 
 		} catch (SQLException sqle) {
 			throw new PersistenceException(sqle);
@@ -281,6 +354,32 @@ public class ColegiadoCrud {
 		}
 	}
 
+	/**
+	 * Página de las solicitudes de alta pendientes, de la más reciente a la más
+	 * antigua y, a igualdad de fecha, por DNI. Las solicitudes sin fecha van al
+	 * final.
+	 * 
+	 * @param token    Token de continuación de la página anterior, o null para la
+	 *                 primera página.
+	 * @param pageSize Número de solicitudes por página.
+	 * @return
+	 * @throws IllegalArgumentException Si el token no es válido.
+	 */
+	public static Page<ColegiadoDto> findSolicitudesAltaColegiadosPage(String token, int pageSize) {
+		// Las solicitudes sin fecha tienen como clave la cadena vacía, igual que en la
+		// consulta
+		Function<ColegiadoDto, String[]> keyOf = c -> new String[] {
+				c.fechaSolicitud == null ? "" : c.fechaSolicitud.toString(), c.DNI };
+
+		if (token == null) {
+			return PageQuery.fetch(SQL_SOLICITUDES_ALTA_PAGE_FIRST, ColegiadoRowMapper::new, keyOf, pageSize);
+		}
+
+		String[] key = PageToken.decode(token, 2);
+		return PageQuery.fetch(SQL_SOLICITUDES_ALTA_PAGE_NEXT, ColegiadoRowMapper::new, keyOf, pageSize, key[0],
+				key[0], key[1]);
+	}
+
 	public static String getMaxNumber() {
 		String maxNumber = "";
 
@@ -303,6 +402,7 @@ public class ColegiadoCrud {
 
 		} finally {
 			Jdbc.close(pst);
+			Jdbc.close(c);
 		}
 
 		return maxNumber;
@@ -346,6 +446,8 @@ public class ColegiadoCrud {
 			pst.setString(1, dni);
 			
 			pst.execute();
+			ColegiadoCache.invalidate(dni);
+			IndiceColegiados.actualizar(dni);
 		} catch(SQLException e) {
 			throw new PersistenceException(e);
 			
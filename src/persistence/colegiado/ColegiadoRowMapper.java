@@ -0,0 +1,88 @@
+package persistence.colegiado;
+
+import static persistence.util.ResultSetColumns.getBoolean;
+import static persistence.util.ResultSetColumns.getInt;
+import static persistence.util.ResultSetColumns.getLocalDate;
+import static persistence.util.ResultSetColumns.getString;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import persistence.DtoAssembler;
+import persistence.util.ResultSetColumns;
+import persistence.util.RowMapper;
+
+/**
+ * Conversión de las filas de la tabla Colegiado en {@link ColegiadoDto}.
+ *
+ * @version v1.0.0
+ *
+ */
+public class ColegiadoRowMapper implements RowMapper<ColegiadoDto> {
+
+	private final int dni;
+	private final int nombre;
+	private final int apellidos;
+	private final int poblacion;
+	private final int titulacion;
+	private final int telefono;
+	private final int centro;
+	private final int annio;
+	private final int numeroCuenta;
+	private final int fechaSolicitud;
+	private final int numero;
+	private final int tipoColectivo;
+	private final int perito;
+	private final int posicionPerito;
+	private final int visado;
+
+	/**
+	 * Resuelve las columnas del ResultSet indicado.
+	 *
+	 * @param rs
+	 * @throws SQLException Si falta alguna de las columnas de la tabla.
+	 */
+	public ColegiadoRowMapper(final ResultSet rs) throws SQLException {
+		ResultSetColumns columns = ResultSetColumns.of(rs);
+
+		dni = columns.required("DNI");
+		nombre = columns.required("nombre");
+		apellidos = columns.required("apellidos");
+		poblacion = columns.required("poblacion");
+		titulacion = columns.required("titulacion");
+		telefono = columns.required("telefono");
+		centro = columns.required("centro");
+		annio = columns.required("ano");
+		numeroCuenta = columns.required("numeroCuenta");
+		fechaSolicitud = columns.required("fechaSolicitud");
+		numero = columns.required("numero");
+		tipoColectivo = columns.required("TipoColectivo");
+		perito = columns.required("perito");
+		posicionPerito = columns.required("posicionPerito");
+		visado = columns.required("visado");
+	}
+
+	@Override
+	public ColegiadoDto map(final ResultSet rs) throws SQLException {
+		ColegiadoDto c = new ColegiadoDto();
+
+		c.DNI = getString(rs, dni);
+		c.nombre = getString(rs, nombre);
+		c.apellidos = getString(rs, apellidos);
+		c.poblacion = getString(rs, poblacion);
+		c.titulacion = DtoAssembler.parseTitulacionesColegiado(getString(rs, titulacion));
+		c.telefono = getInt(rs, telefono);
+		c.centro = getString(rs, centro);
+		c.annio = getInt(rs, annio);
+		c.numeroCuenta = getString(rs, numeroCuenta);
+		c.fechaSolicitud = getLocalDate(rs, fechaSolicitud);
+		c.numeroColegiado = getString(rs, numero);
+		c.TipoColectivo = getString(rs, tipoColectivo);
+		c.perito = getString(rs, perito);
+		c.posicionPerito = getInt(rs, posicionPerito);
+		c.visado = getBoolean(rs, visado);
+
+		return c;
+	}
+
+}
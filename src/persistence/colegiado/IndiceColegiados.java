@@ -0,0 +1,264 @@
+package persistence.colegiado;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+import persistence.jdbc.PersistenceException;
+import persistence.jdbc.UnitOfWork;
+
+/**
+ * Índice en memoria de los colegiados para la búsqueda por prefijo del DNI, del
+ * número de colegiado o del nombre (en orden "nombre apellidos" o "apellidos
+ * nombre"), sin distinguir mayúsculas ni acentos.
+ * <p>
+ * El índice se construye recorriendo la tabla Colegiado en streaming, en un
+ * hilo en segundo plano ({@link #iniciarConstruccion()}); hasta que termina, las
+ * búsquedas no devuelven resultados. Las escrituras que cambian el DNI, el
+ * número o el nombre de un colegiado lo actualizan con {@link #actualizar}
+ * cuando se confirma la transacción.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class IndiceColegiados {
+
+	private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+	private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+	private static final char SEPARADOR_CLAVE = '\u0000';
+
+	/**
+	 * Colegiado sugerido en una búsqueda.
+	 */
+	public static final class Sugerencia {
+		private final String dni;
+		private final String numero;
+		private final String nombre;
+		private final List<String> claves = new ArrayList<>();
+
+		Sugerencia(final ColegiadoDto c) {
+			this.dni = c.DNI;
+			this.numero = c.numeroColegiado == null ? "" : c.numeroColegiado;
+			this.nombre = (nullToEmpty(c.nombre) + " " + nullToEmpty(c.apellidos)).trim();
+		}
+
+		public String getDni() {
+			return dni;
+		}
+
+		public String getNumero() {
+			return numero;
+		}
+
+		public String getNombre() {
+			return nombre;
+		}
+
+		@Override
+		public String toString() {
+			return numero.isEmpty() ? dni + " - " + nombre : dni + " - " + numero + " - " + nombre;
+		}
+	}
+
+	private static final Object LOCK = new Object();
+
+	private static final NavigableMap<String, Sugerencia> POR_DNI = new ConcurrentSkipListMap<>();
+	private static final NavigableMap<String, Sugerencia> POR_NUMERO = new ConcurrentSkipListMap<>();
+	private static final NavigableMap<String, Sugerencia> POR_NOMBRE = new ConcurrentSkipListMap<>();
+	private static final Map<String, Sugerencia> SUGERENCIAS = new ConcurrentHashMap<>();
+
+	private static volatile boolean listo;
+	private static boolean construyendo;
+	// DNI modificados mientras se construye el índice, a revisar al terminar
+	private static final Set<String> PENDIENTES = new HashSet<>();
+
+	private IndiceColegiados() {
+	}
+
+	/**
+	 * Construye el índice en un hilo en segundo plano, si no se ha hecho ya.
+	 */
+	public static void iniciarConstruccion() {
+		synchronized (LOCK) {
+			if (listo || construyendo) {
+				return;
+			}
+			construyendo = true;
+		}
+		Thread t = new Thread(IndiceColegiados::construir, "indice-colegiados");
+		t.setDaemon(true);
+		t.setPriority(Thread.MIN_PRIORITY);
+		t.start();
+	}
+
+	/**
+	 * Indica si el índice está construido.
+	 *
+	 * @return
+	 */
+	public static boolean isListo() {
+		return listo;
+	}
+
+	/**
+	 * Número de colegiados en el índice.
+	 *
+	 * @return
+	 */
+	public static int size() {
+		return SUGERENCIAS.size();
+	}
+
+	/**
+	 * Colegiados cuyo DNI, número o nombre empiezan por el texto indicado: primero
+	 * las coincidencias por DNI, después por número y por último por nombre.
+	 *
+	 * @param prefijo Texto tecleado.
+	 * @param maximo  Número máximo de sugerencias.
+	 * @return Sugerencias; vacía si el índice aún no está construido.
+	 */
+	public static List<Sugerencia> buscar(final String prefijo, final int maximo) {
+		String clave = normalizar(prefijo);
+		if (!listo || clave.isEmpty() || maximo <= 0) {
+			return Collections.emptyList();
+		}
+
+		Map<String, Sugerencia> res = new LinkedHashMap<>();
+		buscar(POR_DNI, clave, maximo, res);
+		buscar(POR_NUMERO, clave, maximo, res);
+		buscar(POR_NOMBRE, clave, maximo, res);
+		return new ArrayList<>(res.values());
+	}
+
+	private static void buscar(final NavigableMap<String, Sugerencia> indice, final String clave, final int maximo,
+			final Map<String, Sugerencia> res) {
+		for (Sugerencia s : indice.subMap(clave, true, clave + Character.MAX_VALUE, true).values()) {
+			if (res.size() >= maximo) {
+				return;
+			}
+			res.putIfAbsent(s.dni, s);
+		}
+	}
+
+	/**
+	 * Vuelve a leer el colegiado indicado y actualiza el índice cuando termine la
+	 * {@link UnitOfWork} en curso, si se confirma. Si el colegiado ya no existe se
+	 * elimina del índice.
+	 *
+	 * @param dni
+	 */
+	public static void actualizar(final String dni) {
+		UnitOfWork.afterCompletion(committed -> {
+			if (committed) {
+				refrescar(dni);
+			}
+		});
+	}
+
+	private static void refrescar(final String dni) {
+		synchronized (LOCK) {
+			if (construyendo) {
+				PENDIENTES.add(dni);
+				return;
+			}
+			if (!listo) {
+				return;
+			}
+			try {
+				eliminar(dni);
+				ColegiadoDto c = ColegiadoCrud.findColegiadoDni(dni);
+				if (c != null) {
+					indexar(c);
+				}
+			} catch (PersistenceException e) {
+				System.err.println("No se ha podido actualizar el índice de colegiados (" + dni + "): " + e.getMessage());
+			}
+		}
+	}
+
+	private static void construir() {
+		try {
+			ColegiadoCrud.forEachColegiado(c -> {
+				synchronized (LOCK) {
+					indexar(c);
+				}
+			});
+		} catch (PersistenceException e) {
+			System.err.println("No se ha podido construir el índice de colegiados: " + e.getMessage());
+		}
+
+		List<String> pendientes;
+		synchronized (LOCK) {
+			construyendo = false;
+			listo = true;
+			pendientes = new ArrayList<>(PENDIENTES);
+			PENDIENTES.clear();
+		}
+		for (String dni : pendientes) {
+			refrescar(dni);
+		}
+	}
+
+	private static void indexar(final ColegiadoDto c) {
+		if (c.DNI == null) {
+			return;
+		}
+		Sugerencia s = new Sugerencia(c);
+		SUGERENCIAS.put(s.dni, s);
+		indexar(POR_DNI, s.dni, s);
+		if (!s.numero.isEmpty()) {
+			indexar(POR_NUMERO, s.numero, s);
+		}
+		indexar(POR_NOMBRE, nullToEmpty(c.nombre) + " " + nullToEmpty(c.apellidos), s);
+		indexar(POR_NOMBRE, nullToEmpty(c.apellidos) + " " + nullToEmpty(c.nombre), s);
+	}
+
+	private static void indexar(final NavigableMap<String, Sugerencia> indice, final String texto,
+			final Sugerencia s) {
+		// El DNI al final de la clave permite repetir el texto en varios colegiados
+		String clave = normalizar(texto) + SEPARADOR_CLAVE + s.dni;
+		indice.put(clave, s);
+		s.claves.add(clave);
+	}
+
+	private static void eliminar(final String dni) {
+		Sugerencia s = SUGERENCIAS.remove(dni);
+		if (s == null) {
+			return;
+		}
+		for (String clave : s.claves) {
+			POR_DNI.remove(clave, s);
+			POR_NUMERO.remove(clave, s);
+			POR_NOMBRE.remove(clave, s);
+		}
+	}
+
+	/**
+	 * Texto en minúsculas, sin acentos y con los espacios simplificados.
+	 *
+	 * @param texto
+	 * @return
+	 */
+	static String normalizar(final String texto) {
+		if (texto == null) {
+			return "";
+		}
+		String s = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+		return ESPACIOS.matcher(s.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+	}
+
+	private static String nullToEmpty(final String s) {
+		return s == null ? "" : s;
+	}
+
+}
@@ -107,6 +107,7 @@ public class PeritoCrud {
 			pst.setString(1, DNI);
 
 			pst.execute();
+			ColegiadoCache.invalidate(DNI);
 
 		} catch (SQLException e) {
 			System.out.print("");
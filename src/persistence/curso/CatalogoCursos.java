@@ -0,0 +1,252 @@
+package persistence.curso;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import persistence.jdbc.Jdbc;
+import persistence.jdbc.PersistenceException;
+import persistence.jdbc.UnitOfWork;
+import persistence.util.Conf;
+
+/**
+ * Instantánea en memoria de todos los cursos, con su número de inscritos, sus
+ * precios y su estado, de la que se sirven los listados de cursos.
+ * <p>
+ * La instantánea se carga con una única consulta a la vista
+ * <code>CURSO_RESUMEN</code> y se descarta al cambiar de día, ya que el estado
+ * de los cursos depende de la fecha actual (periodo de inscripción, fecha de
+ * impartición), y tras cualquier escritura sobre cursos, precios o
+ * inscripciones. La invalidación se repite al terminar la {@link UnitOfWork} en
+ * curso, y las cargas hechas dentro de una unidad de trabajo no se conservan.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class CatalogoCursos {
+
+	private static final String SQL_LIST_ALL_COURSES = Conf.getInstance().getProperty("TCURSO_LIST_ALL_COURSES");
+	private static final String COLUMNA_ESTADO = "EstadoCurso";
+
+	/**
+	 * Curso de la instantánea con su estado calculado a la fecha de carga.
+	 */
+	public static final class Entrada {
+		private final CursoDto curso;
+		private final String estadoCurso;
+		private final boolean enPlazoInscripcion;
+		private final boolean pendienteInicio;
+
+		Entrada(final CursoDto curso, final String estadoCurso, final LocalDate hoy) {
+			this.curso = curso;
+			this.estadoCurso = estadoCurso;
+			this.enPlazoInscripcion = curso.fechaApertura != null && curso.fechaCierre != null
+					&& !hoy.isBefore(curso.fechaApertura) && !hoy.isAfter(curso.fechaCierre);
+			this.pendienteInicio = curso.fechaInicio != null && curso.fechaInicio.isAfter(hoy);
+		}
+
+		/**
+		 * Copia del curso.
+		 *
+		 * @return
+		 */
+		public CursoDto getCurso() {
+			return copy(curso);
+		}
+
+		/**
+		 * Valor de la columna <code>EstadoCurso</code> (ABIERTO, PLANIFICADO,
+		 * CERRADO, CANCELADO).
+		 *
+		 * @return
+		 */
+		public String getEstadoCurso() {
+			return estadoCurso;
+		}
+
+		public boolean isEstado(final String estado) {
+			return estado.equals(estadoCurso);
+		}
+
+		/**
+		 * Indica si el curso está abierto con periodo de inscripción y plazas
+		 * definidos.
+		 *
+		 * @return
+		 */
+		public boolean isAbierto() {
+			return isEstado(CursoDto.CURSO_ABIERTO) && curso.fechaApertura != null && curso.fechaCierre != null
+					&& curso.plazasDisponibles > 0;
+		}
+
+		/**
+		 * Indica si la fecha de carga está dentro del periodo de inscripción.
+		 *
+		 * @return
+		 */
+		public boolean isEnPlazoInscripcion() {
+			return enPlazoInscripcion;
+		}
+
+		/**
+		 * Indica si el curso se imparte después de la fecha de carga.
+		 *
+		 * @return
+		 */
+		public boolean isPendienteInicio() {
+			return pendienteInicio;
+		}
+
+		public int getCodigoCurso() {
+			return curso.codigoCurso;
+		}
+	}
+
+	private static final class Instantanea {
+		private final LocalDate fecha;
+		private final List<Entrada> entradas;
+
+		Instantanea(final LocalDate fecha, final List<Entrada> entradas) {
+			this.fecha = fecha;
+			this.entradas = entradas;
+		}
+	}
+
+	private static volatile Instantanea actual;
+	// Se incrementa en cada invalidación: una carga iniciada antes no se conserva
+	private static long generation;
+	private static long cargas;
+
+	private CatalogoCursos() {
+	}
+
+	/**
+	 * Copias de los cursos que cumplen el filtro indicado, en el orden de la
+	 * tabla.
+	 *
+	 * @param filtro
+	 * @return
+	 */
+	public static List<CursoDto> listar(final Predicate<Entrada> filtro) {
+		List<CursoDto> res = new ArrayList<>();
+		for (Entrada e : getEntradas()) {
+			if (filtro.test(e)) {
+				res.add(e.getCurso());
+			}
+		}
+		return res;
+	}
+
+	/**
+	 * Curso con el código indicado, o null si no existe.
+	 *
+	 * @param codigoCurso
+	 * @return
+	 */
+	public static Entrada find(final int codigoCurso) {
+		for (Entrada e : getEntradas()) {
+			if (e.getCodigoCurso() == codigoCurso) {
+				return e;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Cursos de la instantánea vigente, cargándola si no existe o es de otro día.
+	 *
+	 * @return
+	 */
+	public static List<Entrada> getEntradas() {
+		Instantanea snapshot = actual;
+		LocalDate hoy = LocalDate.now();
+		if (snapshot != null && snapshot.fecha.equals(hoy)) {
+			return snapshot.entradas;
+		}
+
+		long gen;
+		synchronized (CatalogoCursos.class) {
+			gen = generation;
+		}
+		snapshot = new Instantanea(hoy, load(hoy));
+
+		synchronized (CatalogoCursos.class) {
+			cargas++;
+			if (gen == generation && !UnitOfWork.isActive()) {
+				actual = snapshot;
+			}
+		}
+		return snapshot.entradas;
+	}
+
+	/**
+	 * Descarta la instantánea tras una escritura sobre cursos, precios o
+	 * inscripciones.
+	 */
+	public static void invalidate() {
+		invalidateNow();
+		UnitOfWork.afterCompletion(committed -> invalidateNow());
+	}
+
+	private static synchronized void invalidateNow() {
+		generation++;
+		actual = null;
+	}
+
+	/**
+	 * Número de veces que se ha cargado la instantánea.
+	 *
+	 * @return
+	 */
+	public static synchronized long getCargas() {
+		return cargas;
+	}
+
+	private static List<Entrada> load(final LocalDate hoy) {
+		Connection c = null;
+		PreparedStatement pst = null;
+		ResultSet rs = null;
+		List<Entrada> entradas = new ArrayList<>();
+
+		try {
+			c = Jdbc.getConnection();
+			pst = c.prepareStatement(SQL_LIST_ALL_COURSES);
+			rs = pst.executeQuery();
+
+			CursoRowMapper mapper = new CursoRowMapper(rs);
+			while (rs.next()) {
+				entradas.add(new Entrada(mapper.map(rs), rs.getString(COLUMNA_ESTADO), hoy));
+			}
+
+		} catch (SQLException e) {
+			throw new PersistenceException(e);
+		} finally {
+			Jdbc.close(rs, pst, c);
+		}
+		return Collections.unmodifiableList(entradas);
+	}
+
+	private static CursoDto copy(final CursoDto c) {
+		CursoDto res = new CursoDto();
+		res.codigoCurso = c.codigoCurso;
+		res.titulo = c.titulo;
+		res.fechaInicio = c.fechaInicio;
+		res.plazasDisponibles = c.plazasDisponibles;
+		res.precio = c.precio;
+		res.estado = c.estado;
+		res.fechaCierre = c.fechaCierre;
+		res.fechaApertura = c.fechaApertura;
+		res.CantidadPagarColectivo = c.CantidadPagarColectivo;
+		res.isCancelable = c.isCancelable;
+		res.porcentaje_devolucion = c.porcentaje_devolucion;
+		res.numeroInscritos = c.numeroInscritos;
+		return res;
+	}
+
+}
@@ -0,0 +1,81 @@
+package persistence.curso;
+
+import static persistence.util.ResultSetColumns.getBoolean;
+import static persistence.util.ResultSetColumns.getDouble;
+import static persistence.util.ResultSetColumns.getInt;
+import static persistence.util.ResultSetColumns.getLocalDate;
+import static persistence.util.ResultSetColumns.getString;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import persistence.util.ResultSetColumns;
+import persistence.util.RowMapper;
+
+/**
+ * Conversión de las filas de la tabla Curso en {@link CursoDto}.
+ * <p>
+ * Si la consulta procede de la vista <code>CURSO_RESUMEN</code>, el número de
+ * inscritos, el estado y el precio se leen de sus columnas
+ * <code>NumeroInscritos</code>, <code>CursoAbierto</code> y
+ * <code>PrecioColegiado</code>, sin consultas adicionales por fila.
+ *
+ * @version v1.0.0
+ *
+ */
+public class CursoRowMapper implements RowMapper<CursoDto> {
+
+	private final int idCurso;
+	private final int titulo;
+	private final int isCancelable;
+	private final int porcentajeDevolucion;
+	private final int fechaApertura;
+	private final int fechaCierre;
+	private final int fechaImpartir;
+	private final int plazas;
+	private final int cantidadPagarColectivo;
+	private final int numeroInscritos;
+	private final int cursoAbierto;
+	private final int precioColegiado;
+
+	public CursoRowMapper(final ResultSet rs) throws SQLException {
+		ResultSetColumns columns = ResultSetColumns.of(rs);
+
+		idCurso = columns.required("IdCurso");
+		titulo = columns.required("Titulo");
+		isCancelable = columns.optional("Is_Cancelable");
+		porcentajeDevolucion = columns.optional("Porcentaje_devolucion");
+		fechaApertura = columns.required("FechaApertura");
+		fechaCierre = columns.required("FechaCierre");
+		fechaImpartir = columns.required("FechaImpartir");
+		plazas = columns.required("Plazas");
+		cantidadPagarColectivo = columns.optional("CantidadPagarColectivo");
+		numeroInscritos = columns.optional("NumeroInscritos");
+		cursoAbierto = columns.optional("CursoAbierto");
+		precioColegiado = columns.optional("PrecioColegiado");
+	}
+
+	@Override
+	public CursoDto map(final ResultSet rs) throws SQLException {
+		CursoDto c = new CursoDto();
+
+		c.codigoCurso = getInt(rs, idCurso);
+		c.titulo = getString(rs, titulo);
+		c.isCancelable = getBoolean(rs, isCancelable);
+		c.porcentaje_devolucion = getDouble(rs, porcentajeDevolucion);
+		c.fechaApertura = getLocalDate(rs, fechaApertura);
+		c.fechaCierre = getLocalDate(rs, fechaCierre);
+		c.fechaInicio = getLocalDate(rs, fechaImpartir);
+		c.plazasDisponibles = getInt(rs, plazas);
+		c.numeroInscritos = getInt(rs, numeroInscritos);
+		if (cursoAbierto != 0) {
+			c.estado = getBoolean(rs, cursoAbierto) ? CursoDto.CURSO_ABIERTO : CursoDto.CURSO_PLANIFICADO;
+		}
+
+		c.CantidadPagarColectivo = getString(rs, cantidadPagarColectivo);
+		c.precio = getDouble(rs, precioColegiado);
+
+		return c;
+	}
+
+}
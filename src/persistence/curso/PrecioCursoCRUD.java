@@ -0,0 +1,208 @@
+package persistence.curso;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import persistence.jdbc.Jdbc;
+import persistence.jdbc.PersistenceException;
+import persistence.jdbc.UnitOfWork;
+import persistence.util.Conf;
+
+/**
+ * Precios de los cursos por colectivo (tabla <code>Precio_Curso</code>).
+ * <p>
+ * Los precios se cachean por curso como {@link PreciosCurso} inmutables: la
+ * primera consulta carga la tabla completa en una sola sentencia y las
+ * siguientes se resuelven en memoria. La caché de un curso se invalida al
+ * guardar sus precios, y de nuevo al terminar la {@link UnitOfWork} en curso
+ * para descartar lo que otro hilo haya leído antes de la confirmación. Dentro
+ * de una unidad de trabajo los precios se leen de la base de datos, de modo que
+ * se ven los cambios de la propia transacción, y no se guardan en la caché.
+ *
+ * @version v1.0.0
+ *
+ */
+public class PrecioCursoCRUD {
+
+	private static final String SQL_FIND_ALL = Conf.getInstance().getProperty("TPRECIO_CURSO_FIND_ALL");
+	private static final String SQL_FIND_BY_CURSO = Conf.getInstance().getProperty("TPRECIO_CURSO_FIND_BY_CURSO");
+	private static final String SQL_DELETE_BY_CURSO = Conf.getInstance()
+			.getProperty("TPRECIO_CURSO_DELETE_BY_CURSO");
+	private static final String SQL_INSERT = Conf.getInstance().getProperty("TPRECIO_CURSO_INSERT");
+
+	private static final Map<Integer, PreciosCurso> CACHE = new ConcurrentHashMap<>();
+	private static volatile boolean cacheLoaded;
+	// Se incrementa en cada invalidación: una carga iniciada antes no se guarda
+	private static long generation;
+
+	/**
+	 * Precios del curso indicado. Si el curso no tiene precios se devuelve
+	 * {@link PreciosCurso#EMPTY}.
+	 *
+	 * @param idCurso
+	 * @return
+	 */
+	public static PreciosCurso findPrecios(int idCurso) {
+		if (UnitOfWork.isActive()) {
+			return load(idCurso);
+		}
+		if (!cacheLoaded) {
+			loadAll();
+		}
+		PreciosCurso precios = CACHE.get(idCurso);
+		if (precios != null) {
+			return precios;
+		}
+
+		long gen = getGeneration();
+		precios = load(idCurso);
+		put(idCurso, precios, gen);
+		return precios;
+	}
+
+	/**
+	 * Sustituye los precios del curso indicado.
+	 *
+	 * @param idCurso
+	 * @param precios
+	 */
+	public static void savePrecios(int idCurso, PreciosCurso precios) {
+		UnitOfWork.run(() -> {
+			Connection c = null;
+			PreparedStatement pst = null;
+
+			try {
+				c = Jdbc.getConnection();
+
+				pst = c.prepareStatement(SQL_DELETE_BY_CURSO);
+				pst.setInt(1, idCurso);
+				pst.executeUpdate();
+				Jdbc.close(pst);
+
+				pst = c.prepareStatement(SQL_INSERT);
+				int orden = 0;
+				for (Map.Entry<String, Double> precio : precios.asMap().entrySet()) {
+					pst.setInt(1, idCurso);
+					pst.setString(2, precio.getKey());
+					pst.setDouble(3, precio.getValue());
+					pst.setInt(4, orden++);
+					pst.addBatch();
+				}
+				pst.executeBatch();
+
+			} catch (SQLException e) {
+				throw new PersistenceException(e);
+			} finally {
+				Jdbc.close(pst);
+				Jdbc.close(c);
+			}
+			invalidate(idCurso);
+			CatalogoCursos.invalidate();
+		});
+	}
+
+	/**
+	 * Descarta de la caché los precios del curso indicado.
+	 *
+	 * @param idCurso
+	 */
+	public static void invalidate(int idCurso) {
+		invalidateNow(idCurso);
+		UnitOfWork.afterCompletion(committed -> invalidateNow(idCurso));
+	}
+
+	/**
+	 * Descarta la caché completa; la siguiente consulta vuelve a cargar la tabla.
+	 */
+	public static void invalidateAll() {
+		invalidateAllNow();
+		UnitOfWork.afterCompletion(committed -> invalidateAllNow());
+	}
+
+	private static synchronized void invalidateNow(int idCurso) {
+		generation++;
+		CACHE.remove(idCurso);
+	}
+
+	private static synchronized void invalidateAllNow() {
+		generation++;
+		cacheLoaded = false;
+		CACHE.clear();
+	}
+
+	private static synchronized long getGeneration() {
+		return generation;
+	}
+
+	private static synchronized void put(int idCurso, PreciosCurso precios, long gen) {
+		if (gen == generation) {
+			CACHE.putIfAbsent(idCurso, precios);
+		}
+	}
+
+	private static void loadAll() {
+		long gen = getGeneration();
+		Connection c = null;
+		PreparedStatement pst = null;
+		ResultSet rs = null;
+		Map<Integer, Map<String, Double>> precios = new HashMap<>();
+
+		try {
+			c = Jdbc.getConnection();
+			pst = c.prepareStatement(SQL_FIND_ALL);
+			rs = pst.executeQuery();
+
+			while (rs.next()) {
+				precios.computeIfAbsent(rs.getInt(1), id -> new LinkedHashMap<>()).put(rs.getString(2),
+						rs.getDouble(3));
+			}
+
+		} catch (SQLException e) {
+			throw new PersistenceException(e);
+		} finally {
+			Jdbc.close(rs, pst, c);
+		}
+
+		synchronized (PrecioCursoCRUD.class) {
+			if (gen != generation) {
+				return;
+			}
+			for (Map.Entry<Integer, Map<String, Double>> curso : precios.entrySet()) {
+				CACHE.putIfAbsent(curso.getKey(), new PreciosCurso(curso.getValue()));
+			}
+			cacheLoaded = true;
+		}
+	}
+
+	private static PreciosCurso load(int idCurso) {
+		Connection c = null;
+		PreparedStatement pst = null;
+		ResultSet rs = null;
+		Map<String, Double> precios = new LinkedHashMap<>();
+
+		try {
+			c = Jdbc.getConnection();
+			pst = c.prepareStatement(SQL_FIND_BY_CURSO);
+			pst.setInt(1, idCurso);
+			rs = pst.executeQuery();
+
+			while (rs.next()) {
+				precios.put(rs.getString(1), rs.getDouble(2));
+			}
+
+		} catch (SQLException e) {
+			throw new PersistenceException(e);
+		} finally {
+			Jdbc.close(rs, pst, c);
+		}
+
+		return precios.isEmpty() ? PreciosCurso.EMPTY : new PreciosCurso(precios);
+	}
+
+}
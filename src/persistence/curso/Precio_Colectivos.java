@@ -3,6 +3,11 @@ package persistence.curso;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
 
+/**
+ * Lista editable de precios por colectivo con la que se construye un curso
+ * nuevo. Para consultar los precios de un curso existente se usa
+ * {@link PrecioCursoCRUD#findPrecios(int)}.
+ */
 public class Precio_Colectivos {
 	ArrayList<String> colectivos_precios;
 	public Precio_Colectivos(){
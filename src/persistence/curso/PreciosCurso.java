@@ -0,0 +1,121 @@
+package persistence.curso;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Precios de un curso por tipo de colectivo. Inmutable.
+ * <p>
+ * Conserva el orden en que se definieron los colectivos: si se solicita el
+ * precio de un colectivo sin precio propio se aplica el del primero, igual que
+ * hacía {@link Precio_Colectivos#getPrecio(String)}.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class PreciosCurso {
+
+	public static final PreciosCurso EMPTY = new PreciosCurso(new LinkedHashMap<>());
+
+	private static final String SEPARADOR_COLECTIVOS = ";";
+	private static final String SEPARADOR_PRECIO = ":";
+
+	private final Map<String, Double> precios;
+	private final double precioPorDefecto;
+
+	/**
+	 *
+	 * @param precios Precio de cada colectivo, en orden de definición.
+	 */
+	public PreciosCurso(final Map<String, Double> precios) {
+		this.precios = Collections.unmodifiableMap(new LinkedHashMap<>(precios));
+		this.precioPorDefecto = precios.isEmpty() ? 0 : precios.values().iterator().next();
+	}
+
+	/**
+	 * Interpreta la representación textual "Colectivo:precio;Colectivo:precio"
+	 * de la columna <code>Curso.CantidadPagarColectivo</code>. Se ignoran las
+	 * entradas mal formadas y, si un colectivo se repite, prevalece el primero.
+	 *
+	 * @param s Texto a interpretar; null o vacío equivale a un curso sin precios.
+	 * @return
+	 */
+	public static PreciosCurso parse(final String s) {
+		if (s == null || s.isBlank()) {
+			return EMPTY;
+		}
+
+		Map<String, Double> precios = new LinkedHashMap<>();
+		for (String entrada : s.split(SEPARADOR_COLECTIVOS)) {
+			String[] par = entrada.split(SEPARADOR_PRECIO);
+			if (par.length != 2) {
+				continue;
+			}
+			try {
+				precios.putIfAbsent(par[0], Double.valueOf(par[1]));
+			} catch (NumberFormatException e) {
+				// Entrada mal formada: se ignora
+			}
+		}
+		return new PreciosCurso(precios);
+	}
+
+	/**
+	 * Precio para el colectivo indicado o, si no tiene precio propio, el del
+	 * primer colectivo del curso.
+	 *
+	 * @param colectivo
+	 * @return
+	 * @throws IllegalStateException Si el curso no tiene precios.
+	 */
+	public double getPrecio(final String colectivo) {
+		if (precios.isEmpty()) {
+			throw new IllegalStateException("El curso no tiene precios definidos");
+		}
+		Double precio = precios.get(colectivo);
+		return precio != null ? precio : precioPorDefecto;
+	}
+
+	public boolean containsColectivo(final String colectivo) {
+		return precios.containsKey(colectivo);
+	}
+
+	public boolean containsAlgunColectivo(final String... colectivos) {
+		for (String colectivo : colectivos) {
+			if (containsColectivo(colectivo)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean isEmpty() {
+		return precios.isEmpty();
+	}
+
+	/**
+	 * Precio de cada colectivo, en orden de definición.
+	 *
+	 * @return
+	 */
+	public Map<String, Double> asMap() {
+		return precios;
+	}
+
+	/**
+	 * Representación textual "Colectivo:precio;Colectivo:precio".
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, Double> e : precios.entrySet()) {
+			if (sb.length() > 0) {
+				sb.append(SEPARADOR_COLECTIVOS);
+			}
+			sb.append(e.getKey()).append(SEPARADOR_PRECIO).append(e.getValue());
+		}
+		return sb.toString();
+	}
+
+}
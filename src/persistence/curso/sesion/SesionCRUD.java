@@ -3,7 +3,10 @@ package persistence.curso.sesion;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
 
+import persistence.jdbc.BatchResult;
+import persistence.jdbc.BatchUpdate;
 import persistence.jdbc.Jdbc;
 import persistence.jdbc.PersistenceException;
 import persistence.util.Conf;
@@ -35,4 +38,19 @@ public class SesionCRUD {
 			Jdbc.close(c);
 		}
 	}
+
+	/**
+	 * Añade las sesiones indicadas en una única transacción, mediante escritura
+	 * por lotes.
+	 * 
+	 * @param sesiones Sesiones con el curso al que pertenecen.
+	 * @return Sesiones añadidas y sesiones rechazadas.
+	 */
+	public static BatchResult<SesionDto> addSesiones(List<SesionDto> sesiones) {
+		return BatchUpdate.execute(SQL_ADD_SESION, sesiones, (pst, s) -> {
+			pst.setInt(1, s.idCurso);
+			pst.setString(2, s.horaInicio.toString());
+			pst.setString(3, s.horaFin.toString());
+		});
+	}
 }
\ No newline at end of file
@@ -4,10 +4,9 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.util.ArrayList;
 import java.util.List;
 
-import persistence.DtoAssembler;
+import persistence.curso.CatalogoCursos;
 import persistence.curso.CursoDto;
 import persistence.jdbc.Jdbc;
 import persistence.jdbc.PersistenceException;
@@ -23,8 +22,6 @@ public class InscripcionCursoFormacionCRUD {
 
 	private static final String SQL_INSERT_INSCRIPCION_CURSO_FORMATIVO = Conf.getInstance()
 			.getProperty("TINSCRIPCION_CURSO_ADD");
-	private static final String SQL_LISTA_INSCRIPCIONES = Conf.getInstance()
-			.getProperty("LISTA_INSCRIPCIONES_ABIERTAS");
 	private static final String SQL_PLAZAS_LIBRES = Conf.getInstance().getProperty("PLAZAS_LIBRES");
 
 	/**
@@ -46,12 +43,14 @@ public class InscripcionCursoFormacionCRUD {
 			pst.setInt(i++, inscripcion.curso.codigoCurso);
 
 			pst.executeUpdate();
+			CatalogoCursos.invalidate();
 
 		} catch (SQLException e) {
 			throw new PersistenceException(e);
 
 		} finally {
 			Jdbc.close(pst);
+			Jdbc.close(con);
 		}
 	}
 
@@ -62,34 +61,21 @@ public class InscripcionCursoFormacionCRUD {
 				&& (fAhora.isBefore(FechaFinal) || fAhora.isEqual(FechaFinal));
 	}
 
+	/**
+	 * Cursos abiertos cuyo periodo de inscripción incluye la fecha actual.
+	 *
+	 * @return
+	 */
 	public static List<CursoDto> listaCursosAbiertos() throws PersistenceException {
-		PreparedStatement stmt = null;
-		List<CursoDto> cursos = new ArrayList<>();
-		try {
-			Connection cn = Jdbc.getConnection();
-
-			stmt = cn.prepareStatement(SQL_LISTA_INSCRIPCIONES);
-			List<CursoDto> respuesta = DtoAssembler.toInscripcionList(stmt.executeQuery());
-
-			for (CursoDto curso : respuesta) {
-
-				if (isFechaDentro(curso.fechaApertura, curso.fechaCierre)) {
-					cursos.add(curso);
-				}
-			}
-
-		} catch (SQLException e) {
-			throw new PersistenceException(e);
-		} finally {
-			Jdbc.close(stmt);
-		}
-		return cursos;
+		return CatalogoCursos
+				.listar(c -> c.isEstado(CursoDto.CURSO_ABIERTO) && c.isEnPlazoInscripcion());
 	}
 
 	public static boolean hayPlazasLibres(CursoDto curso) throws PersistenceException {
 		PreparedStatement stmt = null;
+		Connection cn = null;
 		try {
-			Connection cn = Jdbc.getConnection();
+			cn = Jdbc.getConnection();
 			stmt = cn.prepareStatement(SQL_PLAZAS_LIBRES);
 			stmt.setInt(1, curso.codigoCurso);
 			int respuesta = stmt.executeQuery().getInt("TOTAL");
@@ -99,6 +85,7 @@ public class InscripcionCursoFormacionCRUD {
 			throw new PersistenceException(e);
 		} finally {
 			Jdbc.close(stmt);
+			Jdbc.close(cn);
 		}
 	}
 }
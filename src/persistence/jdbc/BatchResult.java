@@ -0,0 +1,111 @@
+package persistence.jdbc;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resultado de una escritura por lotes ({@link BatchUpdate}): número de filas
+ * escritas y filas que el motor ha rechazado.
+ *
+ * @param <T> Tipo de los elementos del lote.
+ * @version v1.0.0
+ *
+ */
+public class BatchResult<T> {
+
+	/**
+	 * Fila rechazada del lote.
+	 */
+	public static class Failure<T> {
+		private final int index;
+		private final T item;
+		private final SQLException cause;
+
+		Failure(final int index, final T item, final SQLException cause) {
+			this.index = index;
+			this.item = item;
+			this.cause = cause;
+		}
+
+		/**
+		 * Posición del elemento en la lista recibida.
+		 *
+		 * @return
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		public T getItem() {
+			return item;
+		}
+
+		public SQLException getCause() {
+			return cause;
+		}
+
+		@Override
+		public String toString() {
+			return "Fila " + index + ": " + cause.getMessage();
+		}
+	}
+
+	private final int total;
+	private final List<Failure<T>> failures = new ArrayList<>();
+
+	BatchResult(final int total) {
+		this.total = total;
+	}
+
+	void addFailure(final int index, final T item, final SQLException cause) {
+		failures.add(new Failure<>(index, item, cause));
+	}
+
+	public int getTotal() {
+		return total;
+	}
+
+	/**
+	 * Número de filas escritas correctamente.
+	 *
+	 * @return
+	 */
+	public int getSucceeded() {
+		return total - failures.size();
+	}
+
+	public List<Failure<T>> getFailures() {
+		return Collections.unmodifiableList(failures);
+	}
+
+	public boolean hasFailures() {
+		return !failures.isEmpty();
+	}
+
+	/**
+	 * Indica si el elemento indicado se ha escrito correctamente.
+	 *
+	 * @param index Posición del elemento en la lista recibida.
+	 * @return
+	 */
+	public boolean isSucceeded(final int index) {
+		for (Failure<T> f : failures) {
+			if (f.index == index) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(getSucceeded() + " de " + total + " filas escritas");
+		for (Failure<T> f : failures) {
+			sb.append("\n  ").append(f);
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,143 @@
+package persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.List;
+
+import persistence.util.Conf;
+
+/**
+ * Escritura por lotes: ejecuta la misma sentencia para cada elemento de una
+ * lista con <code>addBatch</code>/<code>executeBatch</code>, en bloques de
+ * <code>JDBC_BATCH_SIZE</code> filas y dentro de una única
+ * {@link UnitOfWork}.
+ * <p>
+ * Cada bloque se protege con un punto de guardado. Si el motor rechaza alguna
+ * fila, se deshace el bloque y se repite fila a fila, de modo que las filas
+ * válidas se escriben y las rechazadas se informan en el {@link BatchResult}
+ * sin abortar el resto del lote.
+ *
+ * <pre>
+ * BatchResult&lt;ReciboDto&gt; res = BatchUpdate.execute(SQL_INSERT_RECIBO, recibos, (pst, r) -&gt; {
+ * 	pst.setInt(1, r.numeroRecibo);
+ * 	...
+ * });
+ * </pre>
+ *
+ * @version v1.0.0
+ *
+ */
+public final class BatchUpdate {
+
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	/**
+	 * Asigna los parámetros de la sentencia para un elemento del lote.
+	 *
+	 * @param <T> Tipo de los elementos del lote.
+	 */
+	@FunctionalInterface
+	public interface Binder<T> {
+		void bind(PreparedStatement pst, T item) throws SQLException;
+	}
+
+	private BatchUpdate() {
+	}
+
+	/**
+	 * Número de filas por bloque, configurado en <code>JDBC_BATCH_SIZE</code>.
+	 *
+	 * @return
+	 */
+	public static int getBatchSize() {
+		return Math.max(1, Conf.getInstance().getIntProperty("JDBC_BATCH_SIZE", DEFAULT_BATCH_SIZE));
+	}
+
+	/**
+	 * Ejecuta la sentencia para cada elemento de la lista.
+	 *
+	 * @param sql    Sentencia de inserción o actualización.
+	 * @param items  Elementos del lote.
+	 * @param binder Asignación de los parámetros de cada elemento.
+	 * @return Filas escritas y filas rechazadas.
+	 * @throws PersistenceException Si falla la conexión o la transacción.
+	 */
+	public static <T> BatchResult<T> execute(final String sql, final List<T> items, final Binder<T> binder) {
+		return execute(sql, items, binder, getBatchSize());
+	}
+
+	/**
+	 * Ejecuta la sentencia para cada elemento de la lista, en bloques del tamaño
+	 * indicado.
+	 *
+	 * @param sql       Sentencia de inserción o actualización.
+	 * @param items     Elementos del lote.
+	 * @param binder    Asignación de los parámetros de cada elemento.
+	 * @param batchSize Número de filas por bloque.
+	 * @return Filas escritas y filas rechazadas.
+	 * @throws PersistenceException Si falla la conexión o la transacción.
+	 */
+	public static <T> BatchResult<T> execute(final String sql, final List<T> items, final Binder<T> binder,
+			final int batchSize) {
+		BatchResult<T> result = new BatchResult<>(items.size());
+		if (items.isEmpty()) {
+			return result;
+		}
+
+		UnitOfWork.run(() -> {
+			Connection c = null;
+			PreparedStatement pst = null;
+
+			try {
+				c = Jdbc.getConnection();
+				pst = c.prepareStatement(sql);
+
+				for (int from = 0; from < items.size(); from += batchSize) {
+					int to = Math.min(from + batchSize, items.size());
+					executeChunk(c, pst, items, from, to, binder, result);
+				}
+
+			} catch (SQLException e) {
+				throw new PersistenceException(e);
+			} finally {
+				Jdbc.close(pst);
+				Jdbc.close(c);
+			}
+		});
+		return result;
+	}
+
+	private static <T> void executeChunk(final Connection c, final PreparedStatement pst, final List<T> items,
+			final int from, final int to, final Binder<T> binder, final BatchResult<T> result) throws SQLException {
+		Savepoint savepoint = c.setSavepoint();
+
+		try {
+			for (int i = from; i < to; i++) {
+				binder.bind(pst, items.get(i));
+				pst.addBatch();
+			}
+			pst.executeBatch();
+			c.releaseSavepoint(savepoint);
+			return;
+
+		} catch (SQLException e) {
+			// El driver no indica de forma fiable qué filas del bloque se han aplicado:
+			// se deshace el bloque y se repite fila a fila
+			pst.clearBatch();
+			c.rollback(savepoint);
+		}
+
+		for (int i = from; i < to; i++) {
+			try {
+				binder.bind(pst, items.get(i));
+				pst.executeUpdate();
+			} catch (SQLException e) {
+				result.addFailure(i, items.get(i), e);
+			}
+		}
+		c.releaseSavepoint(savepoint);
+	}
+
+}
@@ -0,0 +1,270 @@
+package persistence.jdbc;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
+
+/**
+ * Pool acotado de conexiones a la base de datos.
+ * <p>
+ * Las conexiones se prestan con {@link #borrow()} y vuelven al pool al invocar
+ * <code>close()</code> sobre la conexión prestada. Si todas las conexiones
+ * están en uso, el préstamo espera hasta el tiempo máximo configurado.
+ * <p>
+ * Si se indica un umbral de fugas, se informa por la salida de error de toda
+ * conexión retenida más tiempo del indicado, junto con el punto del código que
+ * la solicitó.
+ *
+ * @version v1.0.0
+ *
+ */
+public class ConnectionPool {
+
+	private static final long MIN_LEAK_CHECK_PERIOD = 1000;
+
+	private final String url;
+	private final int maxSize;
+	private final long borrowTimeout;
+	private final long leakThreshold;
+	private final int statementCacheSize;
+
+	private final Deque<PooledConnection> idle = new ArrayDeque<>();
+	private final Set<PooledConnection> borrowed = new LinkedHashSet<>();
+	private int totalConnections;
+	private boolean closed;
+
+	// Aciertos, fallos y descartes de las cachés de conexiones ya cerradas
+	private long retiredHits;
+	private long retiredMisses;
+	private long retiredEvictions;
+
+	private Timer leakDetector;
+	private volatile QueryMonitor queryMonitor;
+
+	/**
+	 *
+	 * @param url                URL JDBC de la base de datos.
+	 * @param maxSize            Número máximo de conexiones físicas abiertas.
+	 * @param borrowTimeout      Tiempo máximo de espera (ms) por una conexión libre.
+	 * @param leakThreshold      Tiempo (ms) a partir del cual una conexión prestada
+	 *                           se considera fugada. 0 desactiva el detector.
+	 * @param statementCacheSize Número de sentencias preparadas cacheadas por
+	 *                           conexión. 0 desactiva la caché.
+	 */
+	public ConnectionPool(final String url, final int maxSize, final long borrowTimeout,
+			final long leakThreshold, final int statementCacheSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("El tamaño del pool ha de ser positivo");
+		}
+		this.url = url;
+		this.maxSize = maxSize;
+		this.borrowTimeout = borrowTimeout;
+		this.leakThreshold = leakThreshold;
+		this.statementCacheSize = statementCacheSize;
+
+		if (leakThreshold > 0) {
+			leakDetector = new Timer("jdbc-leak-detector", true);
+			long period = Math.max(MIN_LEAK_CHECK_PERIOD, leakThreshold / 2);
+			leakDetector.schedule(new TimerTask() {
+				@Override
+				public void run() {
+					detectLeaks();
+				}
+			}, period, period);
+		}
+	}
+
+	/**
+	 * Presta una conexión del pool. La conexión ha de cerrarse para devolverla.
+	 *
+	 * @return
+	 * @throws SQLException Si no se puede abrir la conexión o se agota el tiempo de
+	 *                      espera.
+	 */
+	public Connection borrow() throws SQLException {
+		return acquire().newHandle();
+	}
+
+	synchronized PooledConnection acquire() throws SQLException {
+		long deadline = System.currentTimeMillis() + borrowTimeout;
+		PooledConnection pc = null;
+
+		while (pc == null) {
+			if (closed) {
+				throw new SQLException("El pool de conexiones está cerrado");
+			}
+
+			if (!idle.isEmpty()) {
+				pc = idle.pop();
+
+			} else if (totalConnections < maxSize) {
+				pc = new PooledConnection(this, openPhysical(), statementCacheSize);
+				totalConnections++;
+
+			} else {
+				long remaining = deadline - System.currentTimeMillis();
+				if (remaining <= 0) {
+					throw new SQLException("No hay conexiones disponibles tras " + borrowTimeout + " ms ("
+							+ borrowed.size() + " conexiones prestadas)");
+				}
+				try {
+					wait(remaining);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new SQLException("Espera de conexión interrumpida", e);
+				}
+			}
+		}
+
+		pc.markBorrowed(leakThreshold > 0);
+		borrowed.add(pc);
+		return pc;
+	}
+
+	/**
+	 * Abre una nueva conexión física.
+	 *
+	 * @return
+	 * @throws SQLException
+	 */
+	protected Connection openPhysical() throws SQLException {
+		return DriverManager.getConnection(url);
+	}
+
+	/**
+	 * Devuelve la conexión al pool. Si no es reutilizable se descarta.
+	 *
+	 * @param pc
+	 */
+	synchronized void release(final PooledConnection pc) {
+		if (!borrowed.remove(pc)) {
+			return;
+		}
+
+		if (!closed && pc.reset()) {
+			idle.push(pc);
+		} else {
+			retire(pc);
+		}
+		notifyAll();
+	}
+
+	private void retire(final PooledConnection pc) {
+		StatementCache cache = pc.getStatementCache();
+		if (cache != null) {
+			retiredHits += cache.getHits();
+			retiredMisses += cache.getMisses();
+			retiredEvictions += cache.getEvictions();
+		}
+		pc.closePhysical();
+		totalConnections--;
+	}
+
+	/**
+	 * Informa de las conexiones retenidas más tiempo del umbral configurado.
+	 */
+	void detectLeaks() {
+		List<PooledConnection> leaked = new ArrayList<>();
+		long now = System.currentTimeMillis();
+
+		synchronized (this) {
+			for (PooledConnection pc : borrowed) {
+				if (!pc.isLeakReported() && now - pc.getBorrowedAt() > leakThreshold) {
+					pc.setLeakReported(true);
+					leaked.add(pc);
+				}
+			}
+		}
+
+		for (PooledConnection pc : leaked) {
+			System.err.println(describeLeak(pc, now));
+		}
+	}
+
+	private String describeLeak(final PooledConnection pc, final long now) {
+		StringWriter sw = new StringWriter();
+		PrintWriter pw = new PrintWriter(sw);
+
+		pw.println("Posible fuga de conexión: retenida " + (now - pc.getBorrowedAt()) + " ms por el hilo "
+				+ pc.getBorrowThread());
+		if (pc.getBorrowSite() != null) {
+			pc.getBorrowSite().printStackTrace(pw);
+		}
+		pw.flush();
+		return sw.toString();
+	}
+
+	/**
+	 * Cierra las conexiones libres. Las prestadas se cierran al devolverse.
+	 */
+	public synchronized void close() {
+		closed = true;
+		if (leakDetector != null) {
+			leakDetector.cancel();
+		}
+		while (!idle.isEmpty()) {
+			retire(idle.pop());
+		}
+		notifyAll();
+	}
+
+	public synchronized int getBorrowedCount() {
+		return borrowed.size();
+	}
+
+	public synchronized int getIdleCount() {
+		return idle.size();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public QueryMonitor getQueryMonitor() {
+		return queryMonitor;
+	}
+
+	/**
+	 * Instrumenta las sentencias creadas a partir de este momento con el monitor
+	 * indicado. null desactiva la instrumentación.
+	 *
+	 * @param queryMonitor
+	 */
+	public void setQueryMonitor(final QueryMonitor queryMonitor) {
+		this.queryMonitor = queryMonitor;
+	}
+
+	/**
+	 * Estadísticas agregadas de las cachés de sentencias de todas las conexiones.
+	 *
+	 * @return
+	 */
+	public synchronized StatementCacheStats getStatementCacheStats() {
+		long hits = retiredHits;
+		long misses = retiredMisses;
+		long evictions = retiredEvictions;
+
+		List<PooledConnection> all = new ArrayList<>(idle);
+		all.addAll(borrowed);
+		for (PooledConnection pc : all) {
+			StatementCache cache = pc.getStatementCache();
+			if (cache != null) {
+				hits += cache.getHits();
+				misses += cache.getMisses();
+				evictions += cache.getEvictions();
+			}
+		}
+		return new StatementCacheStats(hits, misses, evictions);
+	}
+
+}
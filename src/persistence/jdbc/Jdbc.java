@@ -1,17 +1,26 @@
 package persistence.jdbc;
 
+import java.io.File;
+import java.io.IOException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
+import persistence.util.Conf;
+
 public class Jdbc {
 
 	private static String URL = "jdbc:sqlite:database/Database";
+	private static final String URL_PROPERTY = "JDBC_URL";
 	private static String DRIVER = "org.sqlite.JDBC";
 
+	private static ConnectionPool pool;
+	private static SqlitePerformanceProfile profile;
+	private static SqlitePerformanceProfile bulkProfile;
+	private static QueryMonitor queryMonitor;
+
 	public static void main(String[] args) throws ClassNotFoundException {
 		Connection c = null;
 		PreparedStatement ps = null;
@@ -19,7 +28,7 @@ public class Jdbc {
 
 		try {
 			Class.forName(DRIVER);
-			c = DriverManager.getConnection(URL);
+			c = getConnection();
 			String sql = "SELECT * FROM Colegiado";
 			ps = c.prepareStatement(sql);
 			rs = ps.executeQuery();
@@ -35,8 +44,162 @@ public class Jdbc {
 		}
 	}
 
+	/**
+	 * Presta una conexión del pool. Ha de cerrarse (directamente o mediante
+	 * {@link #close(ResultSet, Statement, Connection)}) para devolverla al pool.
+	 * <p>
+	 * Dentro de una {@link UnitOfWork} devuelve la conexión de la unidad de
+	 * trabajo en curso.
+	 * 
+	 * @return
+	 * @throws SQLException
+	 */
 	public static Connection getConnection() throws SQLException {
-		return DriverManager.getConnection(URL);
+		Connection c = UnitOfWork.participantConnection();
+		return c != null ? c : getPool().borrow();
+	}
+
+	/**
+	 * URL de la base de datos: la propiedad del sistema <code>JDBC_URL</code> o,
+	 * si no está definida, la clave <code>JDBC_URL</code> del fichero de
+	 * configuración. Ha de fijarse antes de crear el pool; las pruebas la usan
+	 * para trabajar sobre una copia de la base de datos.
+	 * 
+	 * @return
+	 */
+	public static String getUrl() {
+		return System.getProperty(URL_PROPERTY, Conf.getInstance().getProperty(URL_PROPERTY, URL));
+	}
+
+	/**
+	 * Pool de conexiones de la aplicación, creado en el primer uso con los valores
+	 * JDBC_POOL_* del fichero de configuración. A cada conexión física nueva se le
+	 * aplica el perfil de rendimiento de SQLite configurado.
+	 * 
+	 * @see SqlitePerformanceProfile
+	 * @return
+	 */
+	public static synchronized ConnectionPool getPool() {
+		if (pool == null) {
+			Conf conf = Conf.getInstance();
+			profile = SqlitePerformanceProfile.fromConf();
+
+			pool = new ConnectionPool(getUrl(), conf.getIntProperty("JDBC_POOL_SIZE", 4),
+					conf.getIntProperty("JDBC_POOL_TIMEOUT_MS", 10000),
+					conf.getIntProperty("JDBC_POOL_LEAK_THRESHOLD_MS", 30000),
+					conf.getIntProperty("JDBC_STATEMENT_CACHE_SIZE", 32)) {
+
+				private boolean reported;
+
+				@Override
+				protected Connection openPhysical() throws SQLException {
+					Connection c = super.openPhysical();
+					try {
+						profile.apply(c);
+					} catch (SQLException e) {
+						Jdbc.close(c);
+						throw e;
+					}
+
+					// Se avisa una única vez si el motor rechaza algún PRAGMA del perfil
+					if (!reported) {
+						reported = true;
+						if (!profile.getRequestedPragmas().keySet().stream().allMatch(profile::isApplied)) {
+							System.err.println(profile.report());
+						}
+					}
+					return c;
+				}
+			};
+
+			if (Boolean.parseBoolean(conf.getProperty("JDBC_QUERY_STATS_ENABLED", "true"))) {
+				queryMonitor = QueryMonitor.fromConf();
+				pool.setQueryMonitor(queryMonitor);
+			}
+			Runtime.getRuntime().addShutdownHook(new Thread(Jdbc::shutdown, "jdbc-pool-shutdown"));
+		}
+		return pool;
+	}
+
+	/**
+	 * Perfil de rendimiento de SQLite aplicado a las conexiones del pool.
+	 * 
+	 * @return
+	 */
+	public static synchronized SqlitePerformanceProfile getPerformanceProfile() {
+		getPool();
+		return profile;
+	}
+
+	/**
+	 * Perfil de rendimiento de SQLite de los procesos por lotes
+	 * (<code>JDBC_SQLITE_BULK_PROFILE</code>), que se aplica a la conexión de una
+	 * {@link UnitOfWork#executeBulk(UnitOfWork.Work)} mientras dura.
+	 * 
+	 * @return
+	 */
+	public static synchronized SqlitePerformanceProfile getBulkPerformanceProfile() {
+		if (bulkProfile == null) {
+			bulkProfile = SqlitePerformanceProfile
+					.fromConf(Conf.getInstance().getProperty("JDBC_SQLITE_BULK_PROFILE", "bulk-batch"));
+		}
+		return bulkProfile;
+	}
+
+	/**
+	 * Estadísticas de ejecución de las sentencias, o null si la instrumentación
+	 * está desactivada (<code>JDBC_QUERY_STATS_ENABLED</code>).
+	 * 
+	 * @return
+	 */
+	public static synchronized QueryMonitor getQueryMonitor() {
+		getPool();
+		return queryMonitor;
+	}
+
+	/**
+	 * Escribe el informe de estadísticas de las sentencias en el fichero
+	 * configurado en <code>JDBC_QUERY_STATS_FILE</code>.
+	 * 
+	 * @return El fichero escrito, o null si la instrumentación está desactivada.
+	 * @throws IOException
+	 */
+	public static File dumpQueryStats() throws IOException {
+		QueryMonitor monitor = getQueryMonitor();
+		if (monitor == null) {
+			return null;
+		}
+		File file = new File(Conf.getInstance().getProperty("JDBC_QUERY_STATS_FILE", "estadisticas_consultas.txt"));
+		monitor.dump(file);
+		return file;
+	}
+
+	/**
+	 * Escribe el informe del catálogo de sentencias en el fichero configurado en
+	 * <code>SQL_CATALOG_REPORT_FILE</code>.
+	 * 
+	 * @see SqlCatalog
+	 * @return El fichero escrito, o null si el catálogo no se ha validado.
+	 * @throws IOException
+	 */
+	public static File dumpSqlCatalog() throws IOException {
+		SqlCatalog catalog = SqlCatalog.getInstance();
+		if (catalog == null) {
+			return null;
+		}
+		File file = new File(Conf.getInstance().getProperty("SQL_CATALOG_REPORT_FILE", "catalogo_sentencias.txt"));
+		catalog.dump(file);
+		return file;
+	}
+
+	/**
+	 * Cierra el pool de conexiones.
+	 */
+	public static synchronized void shutdown() {
+		if (pool != null) {
+			pool.close();
+			pool = null;
+		}
 	}
 
 	public static void close(ResultSet rs, Statement st, Connection c) {
@@ -0,0 +1,85 @@
+package persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import persistence.util.Page;
+import persistence.util.PageToken;
+import persistence.util.RowMapper;
+
+/**
+ * Ejecución de consultas paginadas por clave (keyset).
+ * <p>
+ * La consulta ha de estar ordenada por la clave de paginación y terminar en
+ * <code>LIMIT ?</code>. Se piden <code>pageSize + 1</code> filas para saber si
+ * hay página siguiente sin necesidad de otra consulta.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class PageQuery {
+
+	private PageQuery() {
+	}
+
+	/**
+	 * Ejecuta la consulta y construye la página.
+	 *
+	 * @param sql      Consulta ordenada por la clave, terminada en LIMIT ?.
+	 * @param factory  Creador del mapper de las filas.
+	 * @param keyOf    Valores de la clave de una fila, en el orden de la
+	 *                 consulta.
+	 * @param pageSize Número de filas por página.
+	 * @param params   Parámetros de la consulta, salvo el LIMIT.
+	 * @return
+	 * @throws PersistenceException
+	 */
+	public static <T> Page<T> fetch(final String sql, final ResultSetCursor.MapperFactory<T> factory,
+			final Function<T, String[]> keyOf, final int pageSize, final Object... params) {
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("El tamaño de página ha de ser positivo");
+		}
+
+		Connection c = null;
+		PreparedStatement pst = null;
+		ResultSet rs = null;
+
+		try {
+			c = Jdbc.getConnection();
+			pst = c.prepareStatement(sql);
+
+			int i = 1;
+			for (Object param : params) {
+				pst.setObject(i++, param);
+			}
+			pst.setInt(i, pageSize + 1);
+
+			rs = pst.executeQuery();
+			RowMapper<T> mapper = factory.create(rs);
+
+			List<T> items = new ArrayList<>(pageSize);
+			boolean more = false;
+			while (rs.next()) {
+				if (items.size() == pageSize) {
+					more = true;
+					break;
+				}
+				items.add(mapper.map(rs));
+			}
+
+			String token = more ? PageToken.encode(keyOf.apply(items.get(items.size() - 1))) : null;
+			return new Page<>(items, token);
+
+		} catch (SQLException e) {
+			throw new PersistenceException(e);
+		} finally {
+			Jdbc.close(rs, pst, c);
+		}
+	}
+
+}
@@ -0,0 +1,241 @@
+package persistence.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import persistence.util.Conf;
+
+/**
+ * Conexión física gestionada por el {@link ConnectionPool}.
+ * <p>
+ * Cada préstamo entrega un nuevo manejador ({@link #newHandle()}) que delega en
+ * la conexión física. Al cerrar el manejador se cierran las sentencias abiertas
+ * a través de él y la conexión vuelve al pool, en lugar de cerrarse.
+ * <p>
+ * Las sentencias preparadas cuyo SQL procede del fichero de configuración se
+ * obtienen de la {@link StatementCache} de la conexión. Si el pool tiene un
+ * {@link QueryMonitor}, todas las sentencias se instrumentan con él.
+ *
+ * @version v1.0.0
+ *
+ */
+class PooledConnection {
+
+	private final ConnectionPool pool;
+	private final Connection physical;
+	private final StatementCache statementCache;
+
+	private long borrowedAt;
+	private Throwable borrowSite;
+	private String borrowThread;
+	private boolean leakReported;
+	private boolean discardOnRelease;
+
+	PooledConnection(final ConnectionPool pool, final Connection physical, final int statementCacheSize) {
+		this.pool = pool;
+		this.physical = physical;
+		this.statementCache = statementCacheSize > 0 ? new StatementCache(physical, statementCacheSize) : null;
+	}
+
+	Connection getPhysical() {
+		return physical;
+	}
+
+	StatementCache getStatementCache() {
+		return statementCache;
+	}
+
+	/**
+	 * Crea un nuevo manejador de la conexión para el préstamo en curso.
+	 *
+	 * @return
+	 */
+	Connection newHandle() {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, new Handle(null));
+	}
+
+	/**
+	 * Crea un manejador para el código que participa en una {@link UnitOfWork} ya
+	 * abierta sobre esta conexión. Al cerrarlo no se devuelve la conexión al pool y
+	 * se ignoran <code>commit</code> y <code>setAutoCommit</code>, ya que la
+	 * transacción la gestiona la unidad de trabajo.
+	 *
+	 * @param onRollback Acción a ejecutar si el participante solicita deshacer la
+	 *                   transacción.
+	 * @return
+	 */
+	Connection newParticipantHandle(final Runnable onRollback) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, new Handle(onRollback));
+	}
+
+	/**
+	 * Registra el momento del préstamo y, si se indica, el punto del código que lo
+	 * ha realizado (para el detector de fugas).
+	 *
+	 * @param traceBorrowSite
+	 */
+	void markBorrowed(final boolean traceBorrowSite) {
+		this.borrowedAt = System.currentTimeMillis();
+		this.borrowSite = traceBorrowSite ? new Throwable("Préstamo de la conexión") : null;
+		this.borrowThread = Thread.currentThread().getName();
+		this.leakReported = false;
+	}
+
+	long getBorrowedAt() {
+		return borrowedAt;
+	}
+
+	Throwable getBorrowSite() {
+		return borrowSite;
+	}
+
+	String getBorrowThread() {
+		return borrowThread;
+	}
+
+	boolean isLeakReported() {
+		return leakReported;
+	}
+
+	void setLeakReported(final boolean leakReported) {
+		this.leakReported = leakReported;
+	}
+
+	/**
+	 * Hace que la conexión se descarte en lugar de volver al pool, por ejemplo
+	 * porque se le ha aplicado un perfil de SQLite distinto del del pool.
+	 */
+	void discardOnRelease() {
+		this.discardOnRelease = true;
+	}
+
+	/**
+	 * Deja la conexión física en su estado inicial antes de devolverla al pool.
+	 *
+	 * @return false si la conexión no es reutilizable y debe descartarse.
+	 */
+	boolean reset() {
+		try {
+			if (discardOnRelease || physical.isClosed()) {
+				return false;
+			}
+			if (!physical.getAutoCommit()) {
+				physical.rollback();
+				physical.setAutoCommit(true);
+			}
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	void closePhysical() {
+		if (statementCache != null) {
+			statementCache.clear();
+		}
+		Jdbc.close(physical);
+	}
+
+	/**
+	 * Manejador entregado al código cliente en cada préstamo.
+	 */
+	private class Handle implements InvocationHandler {
+
+		private final Runnable onParticipantRollback;
+		private boolean closed;
+		private final List<Statement> statements = new ArrayList<>();
+
+		Handle(final Runnable onParticipantRollback) {
+			this.onParticipantRollback = onParticipantRollback;
+		}
+
+		private boolean isParticipant() {
+			return onParticipantRollback != null;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "close":
+				if (!closed) {
+					closed = true;
+					for (Statement st : statements) {
+						Jdbc.close(st);
+					}
+					statements.clear();
+					if (!isParticipant()) {
+						pool.release(PooledConnection.this);
+					}
+				}
+				return null;
+
+			case "commit":
+			case "setAutoCommit":
+				if (isParticipant() && !closed) {
+					return null;
+				}
+				break;
+
+			case "rollback":
+				if (isParticipant() && !closed && (args == null || args.length == 0)) {
+					onParticipantRollback.run();
+					return null;
+				}
+				break;
+
+			case "isClosed":
+				return closed;
+
+			case "equals":
+				return proxy == args[0];
+
+			case "hashCode":
+				return System.identityHashCode(proxy);
+
+			case "toString":
+				return "PooledConnection@" + Integer.toHexString(System.identityHashCode(proxy))
+						+ (closed ? " (cerrada)" : "");
+
+			default:
+				break;
+			}
+
+			if (closed) {
+				throw new SQLException("La conexión ya ha sido devuelta al pool");
+			}
+
+			Object result;
+			try {
+				result = isCacheable(method, args)
+						? statementCache.prepare(Conf.getInstance().getKey((String) args[0]), (String) args[0])
+						: method.invoke(physical, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+
+			if (result instanceof Statement) {
+				QueryMonitor monitor = pool.getQueryMonitor();
+				if (monitor != null) {
+					String sql = method.getName().equals("prepareStatement") ? (String) args[0] : null;
+					result = monitor.instrument((Statement) result, sql);
+				}
+				statements.add((Statement) result);
+			}
+			return result;
+		}
+
+		private boolean isCacheable(final Method method, final Object[] args) {
+			return statementCache != null && method.getName().equals("prepareStatement") && args.length == 1
+					&& Conf.getInstance().getKey((String) args[0]) != null;
+		}
+	}
+}
@@ -0,0 +1,244 @@
+package persistence.jdbc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import persistence.util.Conf;
+
+/**
+ * Instrumentación de las sentencias ejecutadas a través del pool.
+ * <p>
+ * Por cada clave del fichero de configuración se registra el número de
+ * ejecuciones, las filas devueltas o modificadas, los errores y la latencia
+ * (p50/p95/p99). Las sentencias cuyo SQL no procede del fichero de
+ * configuración se agrupan por su texto.
+ * <p>
+ * Las ejecuciones que superan el umbral <code>JDBC_SLOW_QUERY_MS</code> se
+ * notifican por la salida de error.
+ *
+ * @version v1.0.0
+ *
+ */
+public class QueryMonitor {
+
+	private static final int MAX_SQL_LABEL = 47;
+
+	private final long slowQueryNanos;
+	private final Map<String, QueryStats> stats = new ConcurrentHashMap<>();
+
+	/**
+	 *
+	 * @param slowQueryMillis Umbral (ms) a partir del cual se notifica una
+	 *                        ejecución lenta. 0 desactiva el aviso.
+	 */
+	public QueryMonitor(final long slowQueryMillis) {
+		this.slowQueryNanos = slowQueryMillis * 1_000_000;
+	}
+
+	/**
+	 * Crea el monitor con el umbral del fichero de configuración.
+	 *
+	 * @return
+	 */
+	public static QueryMonitor fromConf() {
+		return new QueryMonitor(Conf.getInstance().getIntProperty("JDBC_SLOW_QUERY_MS", 200));
+	}
+
+	/**
+	 * Envuelve la sentencia para registrar sus ejecuciones.
+	 *
+	 * @param st  Sentencia devuelta por la conexión.
+	 * @param sql SQL de la sentencia preparada, o null para un Statement.
+	 * @return
+	 */
+	Statement instrument(final Statement st, final String sql) {
+		Class<?> type = st instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+		return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[] { type },
+				new StatementHandler(st, sql));
+	}
+
+	/**
+	 * Clave con la que se agrupan las ejecuciones del SQL indicado.
+	 */
+	private static String keyOf(final String sql) {
+		String key = Conf.getInstance().getKey(sql);
+		if (key != null) {
+			return key;
+		}
+		String label = sql.replaceAll("\\s+", " ").trim();
+		return label.length() > MAX_SQL_LABEL ? label.substring(0, MAX_SQL_LABEL) + "..." : label;
+	}
+
+	private QueryStats statsFor(final String sql) {
+		return stats.computeIfAbsent(keyOf(sql), QueryStats::new);
+	}
+
+	private void record(final QueryStats qs, final String sql, final long nanos, final boolean error) {
+		if (error) {
+			qs.recordError(nanos);
+		} else {
+			qs.recordExecution(nanos);
+		}
+
+		if (slowQueryNanos > 0 && nanos >= slowQueryNanos) {
+			System.err.printf("Consulta lenta (%s): %.1f ms%n  %s%n", qs.getKey(), nanos / 1e6,
+					sql.replaceAll("\\s+", " ").trim());
+		}
+	}
+
+	/**
+	 * Estadísticas de todas las sentencias, de mayor a menor tiempo total.
+	 *
+	 * @return
+	 */
+	public List<QueryStats> getStats() {
+		List<QueryStats> res = new ArrayList<>(stats.values());
+		res.sort(Comparator.comparingDouble(QueryStats::getTotalMillis).reversed());
+		return res;
+	}
+
+	/**
+	 * Estadísticas de la sentencia con la clave indicada, o null si no se ha
+	 * ejecutado.
+	 *
+	 * @param key
+	 * @return
+	 */
+	public QueryStats getStats(final String key) {
+		return stats.get(key);
+	}
+
+	/**
+	 * Descarta las estadísticas acumuladas.
+	 */
+	public void reset() {
+		stats.clear();
+	}
+
+	/**
+	 * Informe tabulado de las estadísticas.
+	 *
+	 * @return
+	 */
+	public String report() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-50s %8s %9s %7s %10s %9s %9s %9s %9s%n", "Clave", "Llamadas", "Filas",
+				"Errores", "Total ms", "p50 ms", "p95 ms", "p99 ms", "Máx ms"));
+
+		for (QueryStats qs : getStats()) {
+			sb.append(String.format("%-50s %8d %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", qs.getKey(),
+					qs.getCount(), qs.getRows(), qs.getErrors(), qs.getTotalMillis(), qs.getPercentileMillis(50),
+					qs.getPercentileMillis(95), qs.getPercentileMillis(99), qs.getMaxMillis()));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Escribe el informe en el fichero indicado.
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void dump(final File file) throws IOException {
+		try (PrintWriter pw = new PrintWriter(file, StandardCharsets.UTF_8)) {
+			pw.println("Estadísticas de consultas - " + LocalDateTime.now());
+			pw.println();
+			pw.print(report());
+		}
+	}
+
+	/**
+	 * Manejador de las sentencias instrumentadas.
+	 */
+	private class StatementHandler implements InvocationHandler {
+
+		private final Statement target;
+		private final String preparedSql;
+		private QueryStats last;
+
+		StatementHandler(final Statement target, final String preparedSql) {
+			this.target = target;
+			this.preparedSql = preparedSql;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			String name = method.getName();
+
+			if (name.equals("equals")) {
+				return proxy == args[0];
+			}
+			if (name.equals("hashCode")) {
+				return System.identityHashCode(proxy);
+			}
+
+			boolean execution = name.startsWith("execute");
+			String sql = null;
+			if (execution) {
+				sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+				execution = sql != null;
+			}
+
+			long start = System.nanoTime();
+			Object result;
+			try {
+				result = method.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				if (execution) {
+					record(statsFor(sql), sql, System.nanoTime() - start, true);
+				}
+				throw e.getCause();
+			}
+
+			if (execution) {
+				last = statsFor(sql);
+				record(last, sql, System.nanoTime() - start, false);
+
+				if (result instanceof Integer || result instanceof Long) {
+					last.addRows(((Number) result).longValue());
+				} else if (result instanceof int[]) {
+					for (int n : (int[]) result) {
+						last.addRows(Math.max(n, 0));
+					}
+				}
+			}
+
+			if (result instanceof ResultSet && last != null) {
+				return countingResultSet((ResultSet) result, last);
+			}
+			return result;
+		}
+	}
+
+	private static ResultSet countingResultSet(final ResultSet rs, final QueryStats qs) {
+		return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[] { ResultSet.class },
+				(proxy, method, args) -> {
+					Object result;
+					try {
+						result = method.invoke(rs, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+					if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+						qs.addRows(1);
+					}
+					return result;
+				});
+	}
+
+}
@@ -0,0 +1,103 @@
+package persistence.jdbc;
+
+import java.util.Arrays;
+
+/**
+ * Estadísticas de ejecución de una sentencia SQL, identificada por su clave en
+ * el fichero de configuración.
+ * <p>
+ * Los percentiles se calculan sobre las últimas {@link #SAMPLES} ejecuciones.
+ * La latencia medida es la de la ejecución de la sentencia, sin incluir el
+ * recorrido posterior del ResultSet.
+ *
+ * @version v1.0.0
+ *
+ */
+public class QueryStats {
+
+	public static final int SAMPLES = 1024;
+
+	private final String key;
+
+	private long count;
+	private long rows;
+	private long errors;
+	private long totalNanos;
+	private long maxNanos;
+
+	private final long[] samples = new long[SAMPLES];
+	private int next;
+	private int size;
+
+	QueryStats(final String key) {
+		this.key = key;
+	}
+
+	synchronized void recordExecution(final long nanos) {
+		count++;
+		totalNanos += nanos;
+		maxNanos = Math.max(maxNanos, nanos);
+
+		samples[next] = nanos;
+		next = (next + 1) % SAMPLES;
+		size = Math.min(size + 1, SAMPLES);
+	}
+
+	synchronized void recordError(final long nanos) {
+		errors++;
+		recordExecution(nanos);
+	}
+
+	synchronized void addRows(final long n) {
+		rows += n;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public synchronized long getCount() {
+		return count;
+	}
+
+	public synchronized long getRows() {
+		return rows;
+	}
+
+	public synchronized long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Tiempo total de ejecución en milisegundos.
+	 *
+	 * @return
+	 */
+	public synchronized double getTotalMillis() {
+		return totalNanos / 1e6;
+	}
+
+	public synchronized double getMaxMillis() {
+		return maxNanos / 1e6;
+	}
+
+	/**
+	 * Percentil de la latencia en milisegundos sobre las últimas ejecuciones.
+	 *
+	 * @param p Percentil entre 0 y 100.
+	 * @return
+	 */
+	public double getPercentileMillis(final double p) {
+		long[] sorted;
+		synchronized (this) {
+			if (size == 0) {
+				return 0;
+			}
+			sorted = Arrays.copyOf(samples, size);
+		}
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+	}
+
+}
@@ -0,0 +1,186 @@
+package persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import persistence.util.Conf;
+import persistence.util.RowMapper;
+
+/**
+ * Recorrido de consultas sobre el ResultSet abierto, sin cargar todas las filas
+ * en memoria.
+ * <p>
+ * Se ofrecen dos formas de uso:
+ * <ul>
+ * <li>{@link #forEach(String, MapperFactory, RowCallback, Object...)}: invoca
+ * el callback por cada fila y libera la conexión al terminar.</li>
+ * <li>{@link #stream(String, MapperFactory, Object...)}: devuelve un Stream que
+ * retiene la conexión hasta que se cierra, por lo que ha de usarse con
+ * try-with-resources.</li>
+ * </ul>
+ * Las filas se piden al driver en bloques de <code>JDBC_FETCH_SIZE</code>.
+ * Dentro de una {@link UnitOfWork} se usa la conexión de la unidad de trabajo.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class ResultSetCursor {
+
+	public static final int DEFAULT_FETCH_SIZE = 256;
+
+	/**
+	 * Crea el {@link RowMapper} para el ResultSet de la consulta, por ejemplo
+	 * <code>ColegiadoRowMapper::new</code>.
+	 */
+	@FunctionalInterface
+	public interface MapperFactory<T> {
+		RowMapper<T> create(ResultSet rs) throws SQLException;
+	}
+
+	/**
+	 * Acción a realizar con cada fila.
+	 *
+	 * @param <X> Excepción comprobada que puede lanzar el callback.
+	 */
+	@FunctionalInterface
+	public interface RowCallback<T, X extends Exception> {
+		void accept(T row) throws X;
+	}
+
+	private ResultSetCursor() {
+	}
+
+	/**
+	 * Número de filas que se piden al driver en cada bloque.
+	 *
+	 * @return
+	 */
+	public static int getFetchSize() {
+		return Conf.getInstance().getIntProperty("JDBC_FETCH_SIZE", DEFAULT_FETCH_SIZE);
+	}
+
+	/**
+	 * Ejecuta la consulta e invoca el callback con cada fila.
+	 *
+	 * @param sql      Consulta, normalmente obtenida del fichero de
+	 *                 configuración.
+	 * @param factory  Creador del mapper de las filas.
+	 * @param callback Acción a realizar con cada fila.
+	 * @param params   Parámetros de la consulta.
+	 * @return Número de filas recorridas.
+	 * @throws X                    La excepción lanzada por el callback.
+	 * @throws PersistenceException Si falla la consulta.
+	 */
+	public static <T, X extends Exception> int forEach(final String sql, final MapperFactory<T> factory,
+			final RowCallback<T, X> callback, final Object... params) throws X {
+		Connection c = null;
+		PreparedStatement pst = null;
+		ResultSet rs = null;
+		int rows = 0;
+
+		try {
+			c = Jdbc.getConnection();
+			pst = prepare(c, sql, params);
+			rs = pst.executeQuery();
+
+			RowMapper<T> mapper = factory.create(rs);
+			while (rs.next()) {
+				callback.accept(mapper.map(rs));
+				rows++;
+			}
+			return rows;
+
+		} catch (SQLException e) {
+			throw new PersistenceException(e);
+		} finally {
+			Jdbc.close(rs, pst, c);
+		}
+	}
+
+	/**
+	 * Ejecuta la consulta y devuelve sus filas como un Stream perezoso. El Stream
+	 * retiene la conexión y ha de cerrarse:
+	 * 
+	 * <pre>
+	 * try (Stream&lt;ColegiadoDto&gt; colegiados = ColegiadoCrud.streamAllColegiados()) {
+	 * 	...
+	 * }
+	 * </pre>
+	 *
+	 * @param sql     Consulta, normalmente obtenida del fichero de configuración.
+	 * @param factory Creador del mapper de las filas.
+	 * @param params  Parámetros de la consulta.
+	 * @return
+	 * @throws PersistenceException Si falla la consulta o la lectura de una fila.
+	 */
+	public static <T> Stream<T> stream(final String sql, final MapperFactory<T> factory, final Object... params) {
+		Connection c = null;
+		PreparedStatement pst = null;
+		ResultSet rs = null;
+
+		try {
+			c = Jdbc.getConnection();
+			pst = prepare(c, sql, params);
+			rs = pst.executeQuery();
+
+			final Connection con = c;
+			final PreparedStatement st = pst;
+			final ResultSet res = rs;
+			return StreamSupport.stream(new RowSpliterator<>(rs, factory.create(rs)), false)
+					.onClose(() -> Jdbc.close(res, st, con));
+
+		} catch (SQLException e) {
+			Jdbc.close(rs, pst, c);
+			throw new PersistenceException(e);
+		} catch (RuntimeException e) {
+			Jdbc.close(rs, pst, c);
+			throw e;
+		}
+	}
+
+	private static PreparedStatement prepare(final Connection c, final String sql, final Object... params)
+			throws SQLException {
+		PreparedStatement pst = c.prepareStatement(sql);
+		pst.setFetchSize(getFetchSize());
+		for (int i = 0; i < params.length; i++) {
+			pst.setObject(i + 1, params[i]);
+		}
+		return pst;
+	}
+
+	/**
+	 * Avanza sobre el ResultSet fila a fila.
+	 */
+	private static class RowSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+		private final ResultSet rs;
+		private final RowMapper<T> mapper;
+
+		RowSpliterator(final ResultSet rs, final RowMapper<T> mapper) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.rs = rs;
+			this.mapper = mapper;
+		}
+
+		@Override
+		public boolean tryAdvance(final Consumer<? super T> action) {
+			try {
+				if (!rs.next()) {
+					return false;
+				}
+				action.accept(mapper.map(rs));
+				return true;
+			} catch (SQLException e) {
+				throw new PersistenceException(e);
+			}
+		}
+	}
+
+}
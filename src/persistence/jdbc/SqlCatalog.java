@@ -0,0 +1,338 @@
+package persistence.jdbc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import persistence.util.Conf;
+
+/**
+ * Catálogo de las sentencias SQL del fichero de configuración.
+ * <p>
+ * Al arrancar la aplicación, un hilo en segundo plano prepara cada sentencia
+ * contra el esquema real, de modo que las sentencias que hacen referencia a
+ * tablas o columnas inexistentes se detectan sin esperar a que el usuario pulse
+ * el botón correspondiente. De cada sentencia se registra el tiempo de
+ * preparación y el plan de ejecución (<code>EXPLAIN QUERY PLAN</code>).
+ * <p>
+ * La validación se hace sobre una conexión del pool, cuya caché de sentencias
+ * queda con las sentencias preparadas; como el pool reutiliza primero la última
+ * conexión devuelta, es la que recibe la siguiente petición de la interfaz.
+ * Además se recorren las tablas de <code>SQL_CATALOG_WARM_TABLES</code> para
+ * cargar sus páginas en la caché de SQLite.
+ *
+ * @version v1.0.0
+ *
+ */
+public class SqlCatalog {
+
+	private static final Pattern SQL_STATEMENT = Pattern.compile("^\\s*(SELECT|INSERT|UPDATE|DELETE|REPLACE|WITH)\\b",
+			Pattern.CASE_INSENSITIVE);
+
+	private static SqlCatalog instance;
+
+	/**
+	 * Resultado de la validación de una sentencia.
+	 */
+	public static class Entry {
+		private final String key;
+		private final String sql;
+		private long prepareNanos;
+		private final List<String> plan = new ArrayList<>();
+		private String error;
+
+		Entry(final String key, final String sql) {
+			this.key = key;
+			this.sql = sql;
+		}
+
+		public String getKey() {
+			return key;
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		public double getPrepareMillis() {
+			return prepareNanos / 1e6;
+		}
+
+		/**
+		 * Líneas del plan de ejecución, sangradas según su nivel.
+		 *
+		 * @return
+		 */
+		public List<String> getPlan() {
+			return Collections.unmodifiableList(plan);
+		}
+
+		public boolean isValid() {
+			return error == null;
+		}
+
+		/**
+		 * Mensaje del motor si la sentencia no se ha podido preparar.
+		 *
+		 * @return
+		 */
+		public String getError() {
+			return error;
+		}
+	}
+
+	private final List<Entry> entries = Collections.synchronizedList(new ArrayList<>());
+	private final CountDownLatch finished = new CountDownLatch(1);
+	private volatile long warmedTables;
+	private volatile long elapsedNanos;
+
+	/**
+	 * Valida y precarga el catálogo en un hilo en segundo plano, si no se ha hecho
+	 * ya. Se desactiva con <code>SQL_CATALOG_WARMUP_ENABLED=false</code>.
+	 * <p>
+	 * Ha de llamarse tras aplicar las migraciones del esquema.
+	 *
+	 * @return El catálogo, que se completa en segundo plano, o null si está
+	 *         desactivado.
+	 */
+	public static synchronized SqlCatalog startWarmUp() {
+		if (instance == null
+				&& Boolean.parseBoolean(Conf.getInstance().getProperty("SQL_CATALOG_WARMUP_ENABLED", "true"))) {
+			instance = new SqlCatalog();
+			Thread t = new Thread(instance::warmUp, "sql-catalog-warmup");
+			t.setDaemon(true);
+			t.setPriority(Thread.MIN_PRIORITY);
+			t.start();
+		}
+		return instance;
+	}
+
+	/**
+	 * Catálogo iniciado con {@link #startWarmUp()}, o null.
+	 *
+	 * @return
+	 */
+	public static synchronized SqlCatalog getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Valida el catálogo en el hilo actual.
+	 *
+	 * @return
+	 */
+	public static SqlCatalog validate() {
+		SqlCatalog catalog = new SqlCatalog();
+		catalog.warmUp();
+		return catalog;
+	}
+
+	/**
+	 * Indica si la validación ha terminado.
+	 *
+	 * @return
+	 */
+	public boolean isFinished() {
+		return finished.getCount() == 0;
+	}
+
+	/**
+	 * Espera a que termine la validación.
+	 *
+	 * @param timeoutMillis
+	 * @return true si ha terminado.
+	 * @throws InterruptedException
+	 */
+	public boolean await(final long timeoutMillis) throws InterruptedException {
+		return finished.await(timeoutMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Sentencias validadas hasta el momento, en orden alfabético de clave.
+	 *
+	 * @return
+	 */
+	public List<Entry> getEntries() {
+		synchronized (entries) {
+			return new ArrayList<>(entries);
+		}
+	}
+
+	/**
+	 * Sentencias que el motor no ha podido preparar.
+	 *
+	 * @return
+	 */
+	public List<Entry> getInvalid() {
+		List<Entry> res = new ArrayList<>();
+		for (Entry e : getEntries()) {
+			if (!e.isValid()) {
+				res.add(e);
+			}
+		}
+		return res;
+	}
+
+	private void warmUp() {
+		long start = System.nanoTime();
+		try {
+			ConnectionPool pool = Jdbc.getPool();
+			PooledConnection pc = pool.acquire();
+			try {
+				Conf conf = Conf.getInstance();
+				for (String key : conf.getKeys()) {
+					String sql = conf.getProperty(key);
+					if (SQL_STATEMENT.matcher(sql).find()) {
+						entries.add(check(pc, key, sql));
+					}
+				}
+				warmTables(pc.getPhysical());
+			} finally {
+				pool.release(pc);
+			}
+		} catch (SQLException | RuntimeException e) {
+			System.err.println("No se ha podido validar el catálogo de sentencias: " + e.getMessage());
+		} finally {
+			elapsedNanos = System.nanoTime() - start;
+			finished.countDown();
+		}
+
+		List<Entry> invalid = getInvalid();
+		if (!invalid.isEmpty()) {
+			System.err.print(reportInvalid(invalid));
+		}
+	}
+
+	private static Entry check(final PooledConnection pc, final String key, final String sql) {
+		Entry entry = new Entry(key, sql);
+		StatementCache cache = pc.getStatementCache();
+		PreparedStatement pst = null;
+		ResultSet rs = null;
+
+		try {
+			long start = System.nanoTime();
+			pst = cache != null ? cache.prepare(key, sql) : pc.getPhysical().prepareStatement(sql);
+			entry.prepareNanos = System.nanoTime() - start;
+			Jdbc.close(pst);
+
+			pst = pc.getPhysical().prepareStatement("EXPLAIN QUERY PLAN " + sql);
+			int params = pst.getParameterMetaData().getParameterCount();
+			for (int i = 1; i <= params; i++) {
+				pst.setNull(i, Types.NULL);
+			}
+			rs = pst.executeQuery();
+
+			// Columnas: id, parent, notused, detail
+			List<int[]> levels = new ArrayList<>();
+			while (rs.next()) {
+				int id = rs.getInt(1);
+				int parent = rs.getInt(2);
+				int level = 0;
+				for (int[] l : levels) {
+					if (l[0] == parent) {
+						level = l[1] + 1;
+					}
+				}
+				levels.add(new int[] { id, level });
+				entry.plan.add("  ".repeat(level) + rs.getString(4));
+			}
+
+		} catch (SQLException e) {
+			entry.error = e.getMessage();
+		} finally {
+			Jdbc.close(rs, pst);
+		}
+		return entry;
+	}
+
+	private void warmTables(final Connection c) {
+		String tables = Conf.getInstance().getProperty("SQL_CATALOG_WARM_TABLES", "");
+
+		for (String table : tables.split(",")) {
+			if (table.isBlank()) {
+				continue;
+			}
+			PreparedStatement pst = null;
+			ResultSet rs = null;
+			try {
+				pst = c.prepareStatement("SELECT * FROM " + table.trim());
+				rs = pst.executeQuery();
+				while (rs.next()) {
+					// Recorrer las filas basta para traer sus páginas a la caché
+				}
+				warmedTables++;
+			} catch (SQLException e) {
+				System.err.println("No se ha podido precargar la tabla " + table.trim() + ": " + e.getMessage());
+			} finally {
+				Jdbc.close(rs, pst);
+			}
+		}
+	}
+
+	private static String reportInvalid(final List<Entry> invalid) {
+		StringBuilder sb = new StringBuilder("Sentencias SQL no válidas en el fichero de configuración:\n");
+		for (Entry e : invalid) {
+			sb.append("  ").append(e.getKey()).append(": ").append(e.getError()).append('\n');
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Informe de la validación: resumen, sentencias no válidas y, para el resto,
+	 * tiempo de preparación y plan de ejecución.
+	 *
+	 * @return
+	 */
+	public String report() {
+		List<Entry> all = getEntries();
+		List<Entry> invalid = getInvalid();
+		StringBuilder sb = new StringBuilder();
+
+		sb.append(String.format("%d sentencias, %d no válidas, %d tablas precargadas%s%n", all.size(),
+				invalid.size(), warmedTables,
+				isFinished() ? String.format(" en %.1f ms", elapsedNanos / 1e6) : " (en curso)"));
+		if (!invalid.isEmpty()) {
+			sb.append('\n').append(reportInvalid(invalid));
+		}
+
+		sb.append(String.format("%n%-50s %12s%n", "Clave", "Preparar ms"));
+		for (Entry e : all) {
+			if (!e.isValid()) {
+				continue;
+			}
+			sb.append(String.format("%-50s %12.2f%n", e.getKey(), e.getPrepareMillis()));
+			for (String line : e.getPlan()) {
+				sb.append("    ").append(line).append('\n');
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Escribe el informe en el fichero indicado.
+	 *
+	 * @param file
+	 * @throws IOException
+	 */
+	public void dump(final File file) throws IOException {
+		try (PrintWriter pw = new PrintWriter(file, StandardCharsets.UTF_8)) {
+			pw.println("Catálogo de sentencias SQL - " + LocalDateTime.now());
+			pw.println();
+			pw.print(report());
+		}
+	}
+
+}
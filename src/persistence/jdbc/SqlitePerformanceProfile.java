@@ -0,0 +1,236 @@
+package persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import persistence.util.Conf;
+
+/**
+ * Perfil de rendimiento de SQLite: conjunto de PRAGMAs que se aplican a cada
+ * conexión física que abre el pool.
+ * <p>
+ * Los perfiles se definen en el fichero de configuración con la clave
+ * <code>SQLITE_PROFILE_&lt;nombre&gt;</code> y el formato
+ * <code>pragma=valor;pragma=valor...</code>. El perfil activo se indica con
+ * <code>JDBC_SQLITE_PROFILE</code>, el de los procesos por lotes con
+ * <code>JDBC_SQLITE_BULK_PROFILE</code>, y cada PRAGMA puede sobrescribirse con
+ * <code>SQLITE_PRAGMA_&lt;pragma&gt;</code>.
+ * <p>
+ * Tras aplicar cada PRAGMA se consulta su valor real, de forma que
+ * {@link #report()} indica cuáles ha aceptado el motor y cuáles no (por ejemplo,
+ * <code>mmap_size</code> en versiones de SQLite compiladas sin soporte).
+ *
+ * @version v1.0.0
+ *
+ */
+public class SqlitePerformanceProfile {
+
+	public static final String DEFAULT_PROFILE = "interactive";
+
+	private static final String[] SUPPORTED_PRAGMAS = { "journal_mode", "synchronous", "cache_size", "mmap_size",
+			"temp_store", "busy_timeout" };
+
+	private final String name;
+	private final Map<String, String> requested;
+	private final Map<String, String> actual = new LinkedHashMap<>();
+
+	public SqlitePerformanceProfile(final String name, final Map<String, String> requested) {
+		this.name = name;
+		this.requested = Collections.unmodifiableMap(new LinkedHashMap<>(requested));
+	}
+
+	/**
+	 * Carga el perfil activo del fichero de configuración.
+	 *
+	 * @return
+	 */
+	public static SqlitePerformanceProfile fromConf() {
+		return fromConf(Conf.getInstance().getProperty("JDBC_SQLITE_PROFILE", DEFAULT_PROFILE));
+	}
+
+	/**
+	 * Carga el perfil con el nombre indicado del fichero de configuración.
+	 *
+	 * @param name Nombre del perfil, por ejemplo "interactive" o "bulk-batch".
+	 * @return
+	 * @throws IllegalArgumentException Si el perfil no existe o está mal formado.
+	 */
+	public static SqlitePerformanceProfile fromConf(final String name) {
+		Conf conf = Conf.getInstance();
+		String definition = conf.getProperty("SQLITE_PROFILE_" + name, null);
+		if (definition == null) {
+			throw new IllegalArgumentException("No existe el perfil de SQLite " + name);
+		}
+
+		Map<String, String> pragmas = parse(definition);
+		for (String pragma : SUPPORTED_PRAGMAS) {
+			String override = conf.getProperty("SQLITE_PRAGMA_" + pragma, null);
+			if (override != null && !override.isEmpty()) {
+				pragmas.put(pragma, override);
+			}
+		}
+		return new SqlitePerformanceProfile(name, pragmas);
+	}
+
+	/**
+	 * Interpreta una definición con el formato <code>pragma=valor;...</code>.
+	 *
+	 * @param definition
+	 * @return
+	 */
+	static Map<String, String> parse(final String definition) {
+		Map<String, String> pragmas = new LinkedHashMap<>();
+
+		for (String item : definition.split(";")) {
+			if (item.isBlank()) {
+				continue;
+			}
+			String[] pair = item.split("=");
+			if (pair.length != 2 || !isSupported(pair[0].trim()) || !pair[1].trim().matches("[A-Za-z0-9-]+")) {
+				throw new IllegalArgumentException("PRAGMA de SQLite no válido: " + item);
+			}
+			pragmas.put(pair[0].trim().toLowerCase(), pair[1].trim());
+		}
+		return pragmas;
+	}
+
+	private static boolean isSupported(final String pragma) {
+		for (String p : SUPPORTED_PRAGMAS) {
+			if (p.equalsIgnoreCase(pragma)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Aplica los PRAGMAs del perfil a la conexión indicada y registra el valor
+	 * efectivo de cada uno.
+	 *
+	 * @param c Conexión física recién abierta.
+	 * @throws SQLException
+	 */
+	public void apply(final Connection c) throws SQLException {
+		Statement st = null;
+
+		try {
+			st = c.createStatement();
+
+			for (Map.Entry<String, String> pragma : requested.entrySet()) {
+				st.execute("PRAGMA " + pragma.getKey() + " = " + pragma.getValue());
+				String value = readPragma(st, pragma.getKey());
+
+				synchronized (actual) {
+					actual.put(pragma.getKey(), value);
+				}
+			}
+		} finally {
+			Jdbc.close(st);
+		}
+	}
+
+	private String readPragma(final Statement st, final String pragma) throws SQLException {
+		ResultSet rs = null;
+		try {
+			rs = st.executeQuery("PRAGMA " + pragma);
+			return rs.next() ? rs.getString(1) : null;
+		} finally {
+			Jdbc.close(rs);
+		}
+	}
+
+	/**
+	 * Comprueba si el motor ha aceptado el valor solicitado para el PRAGMA.
+	 *
+	 * @param pragma
+	 * @return
+	 */
+	public boolean isApplied(final String pragma) {
+		String value;
+		synchronized (actual) {
+			value = actual.get(pragma);
+		}
+		String expected = requested.get(pragma);
+		if (value == null || expected == null) {
+			return false;
+		}
+		return normalize(pragma, expected).equalsIgnoreCase(value.trim());
+	}
+
+	/**
+	 * Traduce los valores simbólicos al valor numérico que devuelve la consulta
+	 * del PRAGMA.
+	 */
+	private static String normalize(final String pragma, final String value) {
+		String v = value.trim().toUpperCase();
+		if (pragma.equals("synchronous")) {
+			switch (v) {
+			case "OFF":
+				return "0";
+			case "NORMAL":
+				return "1";
+			case "FULL":
+				return "2";
+			case "EXTRA":
+				return "3";
+			default:
+				return v;
+			}
+		}
+		if (pragma.equals("temp_store")) {
+			switch (v) {
+			case "DEFAULT":
+				return "0";
+			case "FILE":
+				return "1";
+			case "MEMORY":
+				return "2";
+			default:
+				return v;
+			}
+		}
+		return v;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public Map<String, String> getRequestedPragmas() {
+		return requested;
+	}
+
+	/**
+	 * Valor efectivo de cada PRAGMA en la última conexión configurada.
+	 *
+	 * @return
+	 */
+	public Map<String, String> getActualPragmas() {
+		synchronized (actual) {
+			return new LinkedHashMap<>(actual);
+		}
+	}
+
+	/**
+	 * Informe de los PRAGMAs solicitados y su valor efectivo.
+	 *
+	 * @return
+	 */
+	public String report() {
+		StringBuilder sb = new StringBuilder("Perfil de SQLite '" + name + "':\n");
+		Map<String, String> values = getActualPragmas();
+
+		for (Map.Entry<String, String> pragma : requested.entrySet()) {
+			sb.append(String.format("  %-13s solicitado=%-10s efectivo=%-10s %s%n", pragma.getKey(),
+					pragma.getValue(), values.get(pragma.getKey()),
+					isApplied(pragma.getKey()) ? "APLICADO" : "NO APLICADO"));
+		}
+		return sb.toString();
+	}
+
+}
@@ -0,0 +1,204 @@
+package persistence.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caché de sentencias preparadas de una conexión física, indexada por la clave
+ * de la sentencia en el fichero de configuración.
+ * <p>
+ * Al cerrar una sentencia obtenida de la caché se cierra su ResultSet, se
+ * limpian sus parámetros y su lote y queda disponible para el siguiente
+ * <code>prepareStatement</code> con la misma clave. Si se supera la capacidad se
+ * descarta la sentencia usada hace más tiempo (LRU).
+ *
+ * @version v1.0.0
+ *
+ */
+class StatementCache {
+
+	private final Connection physical;
+	private final int capacity;
+	private final Map<String, Entry> entries;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	StatementCache(final Connection physical, final int capacity) {
+		this.physical = physical;
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * Obtiene la sentencia preparada para la clave indicada, preparándola si no
+	 * está en la caché.
+	 *
+	 * @param key Clave de la sentencia en el fichero de configuración.
+	 * @param sql Texto de la sentencia.
+	 * @return
+	 * @throws SQLException
+	 */
+	PreparedStatement prepare(final String key, final String sql) throws SQLException {
+		Entry entry = entries.get(key);
+
+		if (entry != null && entry.inUse) {
+			// Misma sentencia abierta dos veces sobre la conexión: la segunda no se cachea
+			misses.incrementAndGet();
+			return physical.prepareStatement(sql);
+		}
+
+		if (entry == null) {
+			misses.incrementAndGet();
+			entry = new Entry(physical.prepareStatement(sql));
+			entries.put(key, entry);
+			evictIfNeeded();
+		} else {
+			hits.incrementAndGet();
+		}
+
+		entry.inUse = true;
+		return entry.newHandle();
+	}
+
+	private void evictIfNeeded() {
+		Iterator<Entry> it = entries.values().iterator();
+		while (entries.size() > capacity && it.hasNext()) {
+			Entry eldest = it.next();
+			it.remove();
+			evictions.incrementAndGet();
+			eldest.evicted = true;
+			if (!eldest.inUse) {
+				Jdbc.close(eldest.statement);
+			}
+		}
+	}
+
+	/**
+	 * Cierra todas las sentencias de la caché.
+	 */
+	void clear() {
+		for (Entry e : entries.values()) {
+			Jdbc.close(e.statement);
+		}
+		entries.clear();
+	}
+
+	long getHits() {
+		return hits.get();
+	}
+
+	long getMisses() {
+		return misses.get();
+	}
+
+	long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * Sentencia física cacheada.
+	 */
+	private static class Entry {
+		private final PreparedStatement statement;
+		private boolean inUse;
+		private boolean evicted;
+
+		Entry(final PreparedStatement statement) {
+			this.statement = statement;
+		}
+
+		PreparedStatement newHandle() {
+			return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+					new Class<?>[] { PreparedStatement.class }, new Handle(this));
+		}
+
+		/**
+		 * Devuelve la sentencia a la caché tras su uso.
+		 */
+		void release(final ResultSet lastResultSet) {
+			Jdbc.close(lastResultSet);
+			inUse = false;
+
+			if (evicted) {
+				Jdbc.close(statement);
+				return;
+			}
+			try {
+				statement.clearParameters();
+				statement.clearBatch();
+			} catch (SQLException e) {
+				evicted = true;
+				Jdbc.close(statement);
+			}
+		}
+	}
+
+	/**
+	 * Manejador entregado al código cliente en cada <code>prepareStatement</code>.
+	 */
+	private static class Handle implements InvocationHandler {
+
+		private final Entry entry;
+		private boolean closed;
+		private ResultSet lastResultSet;
+
+		Handle(final Entry entry) {
+			this.entry = entry;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "close":
+				if (!closed) {
+					closed = true;
+					entry.release(lastResultSet);
+				}
+				return null;
+
+			case "isClosed":
+				return closed;
+
+			case "equals":
+				return proxy == args[0];
+
+			case "hashCode":
+				return System.identityHashCode(proxy);
+
+			case "toString":
+				return entry.statement.toString();
+
+			default:
+				break;
+			}
+
+			if (closed) {
+				throw new SQLException("La sentencia ya ha sido cerrada");
+			}
+
+			Object result;
+			try {
+				result = method.invoke(entry.statement, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+
+			if (result instanceof ResultSet) {
+				lastResultSet = (ResultSet) result;
+			}
+			return result;
+		}
+	}
+}
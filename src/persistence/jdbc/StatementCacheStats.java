@@ -0,0 +1,36 @@
+package persistence.jdbc;
+
+/**
+ * Estadísticas de uso de las cachés de sentencias preparadas.
+ *
+ * @version v1.0.0
+ *
+ */
+public class StatementCacheStats {
+
+	public final long hits;
+	public final long misses;
+	public final long evictions;
+
+	public StatementCacheStats(final long hits, final long misses, final long evictions) {
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+	}
+
+	/**
+	 * Proporción de <code>prepareStatement</code> servidos desde la caché.
+	 *
+	 * @return Valor entre 0 y 1.
+	 */
+	public double getHitRatio() {
+		long total = hits + misses;
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	@Override
+	public String toString() {
+		return "aciertos=" + hits + ", fallos=" + misses + ", descartes=" + evictions + ", ratio="
+				+ String.format("%.2f", getHitRatio());
+	}
+}
@@ -0,0 +1,267 @@
+package persistence.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Unidad de trabajo: ejecuta un bloque de llamadas a los CRUD sobre una única
+ * conexión y dentro de una única transacción.
+ * <p>
+ * Mientras el bloque se ejecuta, {@link Jdbc#getConnection()} devuelve en ese
+ * hilo la conexión de la unidad de trabajo, por lo que los CRUD no necesitan
+ * cambios. Si el bloque termina con normalidad se confirma la transacción; si
+ * lanza cualquier excepción (en particular {@link PersistenceException}) se
+ * deshace.
+ * <p>
+ * Las unidades de trabajo anidadas se unen a la que está en curso. Si una de
+ * ellas falla, la transacción completa queda marcada para deshacerse aunque el
+ * llamante capture la excepción.
+ * <p>
+ * Los procesos por lotes usan {@link #executeBulk(Work)}, que aplica a la
+ * conexión el perfil de SQLite para lotes mientras dura la transacción y la
+ * descarta al terminar, de modo que el resto de la aplicación sigue usando el
+ * perfil interactivo.
+ * 
+ * <pre>
+ * List&lt;ColegiadoDto&gt; admitidos = UnitOfWork.execute(() -&gt; {
+ * 	...
+ * 	return res;
+ * });
+ * </pre>
+ *
+ * @version v1.0.0
+ *
+ */
+public final class UnitOfWork {
+
+	private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+	private final PooledConnection connection;
+	private boolean rollbackOnly;
+	private final List<Consumer<Boolean>> completionCallbacks = new ArrayList<>();
+
+	/**
+	 * Bloque de trabajo que devuelve un resultado.
+	 *
+	 * @param <T> Tipo del resultado.
+	 * @param <X> Excepción comprobada que puede lanzar el bloque.
+	 */
+	@FunctionalInterface
+	public interface Work<T, X extends Exception> {
+		T execute() throws X;
+	}
+
+	/**
+	 * Bloque de trabajo sin resultado.
+	 *
+	 * @param <X> Excepción comprobada que puede lanzar el bloque.
+	 */
+	@FunctionalInterface
+	public interface VoidWork<X extends Exception> {
+		void execute() throws X;
+	}
+
+	private UnitOfWork(final PooledConnection connection) {
+		this.connection = connection;
+	}
+
+	/**
+	 * Ejecuta el bloque dentro de una transacción. Si ya hay una unidad de trabajo
+	 * en curso en el hilo, el bloque se une a ella.
+	 *
+	 * @param work Bloque a ejecutar.
+	 * @return El resultado del bloque.
+	 * @throws X                    La excepción lanzada por el bloque, tras
+	 *                              deshacer la transacción.
+	 * @throws PersistenceException Si no se puede abrir o confirmar la
+	 *                              transacción.
+	 */
+	public static <T, X extends Exception> T execute(final Work<T, X> work) throws X {
+		UnitOfWork current = CURRENT.get();
+
+		if (current != null) {
+			try {
+				return work.execute();
+			} catch (Exception | Error e) {
+				current.rollbackOnly = true;
+				throw e;
+			}
+		}
+
+		return executeNew(work, null);
+	}
+
+	/**
+	 * Ejecuta un proceso por lotes dentro de una transacción, con el perfil de
+	 * SQLite {@link Jdbc#getBulkPerformanceProfile()}. Si ya hay una unidad de
+	 * trabajo en curso en el hilo, el bloque se une a ella con el perfil que tenga
+	 * su conexión.
+	 *
+	 * @see #execute(Work)
+	 * @param work Bloque a ejecutar.
+	 * @return El resultado del bloque.
+	 * @throws X
+	 */
+	public static <T, X extends Exception> T executeBulk(final Work<T, X> work) throws X {
+		if (isActive()) {
+			return execute(work);
+		}
+		return executeNew(work, Jdbc.getBulkPerformanceProfile());
+	}
+
+	/**
+	 * Ejecuta un proceso por lotes sin resultado dentro de una transacción.
+	 *
+	 * @see #executeBulk(Work)
+	 * @param work Bloque a ejecutar.
+	 * @throws X
+	 */
+	public static <X extends Exception> void runBulk(final VoidWork<X> work) throws X {
+		executeBulk(() -> {
+			work.execute();
+			return null;
+		});
+	}
+
+	/**
+	 * Ejecuta el bloque dentro de una transacción.
+	 *
+	 * @see #execute(Work)
+	 * @param work Bloque a ejecutar.
+	 * @throws X
+	 */
+	public static <X extends Exception> void run(final VoidWork<X> work) throws X {
+		execute(() -> {
+			work.execute();
+			return null;
+		});
+	}
+
+	private static <T, X extends Exception> T executeNew(final Work<T, X> work,
+			final SqlitePerformanceProfile profile) throws X {
+		PooledConnection pc;
+		Connection c = null;
+
+		try {
+			pc = Jdbc.getPool().acquire();
+		} catch (SQLException e) {
+			throw new PersistenceException(e);
+		}
+
+		try {
+			c = pc.newHandle();
+			if (profile != null) {
+				// Los PRAGMAs no se restauran: la conexión no vuelve al pool
+				pc.discardOnRelease();
+				profile.apply(pc.getPhysical());
+			}
+			c.setAutoCommit(false);
+		} catch (SQLException e) {
+			release(pc, c);
+			throw new PersistenceException(e);
+		} catch (RuntimeException | Error e) {
+			release(pc, c);
+			throw e;
+		}
+
+		UnitOfWork uow = new UnitOfWork(pc);
+		CURRENT.set(uow);
+		boolean committed = false;
+
+		try {
+			T result;
+			try {
+				result = work.execute();
+			} catch (Exception | Error e) {
+				rollback(c);
+				throw e;
+			}
+
+			if (uow.rollbackOnly) {
+				rollback(c);
+				throw new PersistenceException(
+						"La transacción se ha deshecho porque una de las operaciones que la componen ha fallado");
+			}
+
+			try {
+				c.commit();
+			} catch (SQLException e) {
+				rollback(c);
+				throw new PersistenceException(e);
+			}
+			committed = true;
+			return result;
+
+		} finally {
+			CURRENT.remove();
+			Jdbc.close(c);
+			for (Consumer<Boolean> callback : uow.completionCallbacks) {
+				callback.accept(committed);
+			}
+		}
+	}
+
+	/**
+	 * Devuelve al pool una conexión prestada cuya transacción no se ha llegado a
+	 * abrir.
+	 */
+	private static void release(final PooledConnection pc, final Connection c) {
+		if (c != null) {
+			Jdbc.close(c);
+		} else {
+			Jdbc.getPool().release(pc);
+		}
+	}
+
+	private static void rollback(final Connection c) {
+		try {
+			c.rollback();
+		} catch (SQLException e) {
+			/* la conexión se descarta al devolverla al pool */
+		}
+	}
+
+	/**
+	 * Indica si hay una unidad de trabajo en curso en el hilo actual.
+	 *
+	 * @return
+	 */
+	public static boolean isActive() {
+		return CURRENT.get() != null;
+	}
+
+	/**
+	 * Registra una acción a ejecutar cuando termine la unidad de trabajo en curso
+	 * en el hilo, con <code>true</code> si la transacción se ha confirmado y
+	 * <code>false</code> si se ha deshecho. Si no hay ninguna en curso, la acción
+	 * se ejecuta inmediatamente con <code>true</code>.
+	 *
+	 * @param callback
+	 */
+	public static void afterCompletion(final Consumer<Boolean> callback) {
+		UnitOfWork current = CURRENT.get();
+		if (current == null) {
+			callback.accept(true);
+		} else {
+			current.completionCallbacks.add(callback);
+		}
+	}
+
+	/**
+	 * Conexión de la unidad de trabajo en curso para un participante, o null si no
+	 * hay ninguna.
+	 *
+	 * @return
+	 */
+	static Connection participantConnection() {
+		UnitOfWork current = CURRENT.get();
+		if (current == null) {
+			return null;
+		}
+		return current.connection.newParticipantHandle(() -> current.rollbackOnly = true);
+	}
+
+}
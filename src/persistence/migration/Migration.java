@@ -0,0 +1,34 @@
+package persistence.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Cambio versionado del esquema de la base de datos.
+ *
+ * @see SchemaMigrator
+ * @version v1.0.0
+ *
+ */
+public interface Migration {
+
+	/**
+	 * Versión del esquema que resulta de aplicar la migración. Las migraciones se
+	 * aplican en orden creciente de versión.
+	 *
+	 * @return
+	 */
+	int getVersion();
+
+	String getDescription();
+
+	/**
+	 * Aplica la migración. Se ejecuta dentro de la transacción abierta por el
+	 * {@link SchemaMigrator}, por lo que no ha de confirmar ni deshacer cambios.
+	 *
+	 * @param c Conexión sobre la que aplicar la migración.
+	 * @throws SQLException
+	 */
+	void apply(Connection c) throws SQLException;
+
+}
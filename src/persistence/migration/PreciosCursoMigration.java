@@ -0,0 +1,66 @@
+package persistence.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+import persistence.curso.PreciosCurso;
+import persistence.jdbc.Jdbc;
+
+/**
+ * Crea la tabla <code>Precio_Curso</code> (definida en
+ * <code>MIGRATION_006</code>) y la rellena interpretando la columna de texto
+ * <code>Curso.CantidadPagarColectivo</code> ("Colectivo:precio;...").
+ * <p>
+ * La columna <code>Orden</code> conserva la posición de cada colectivo, ya que
+ * el primero es el precio que se aplica a los colectivos sin precio propio.
+ *
+ * @version v1.0.0
+ *
+ */
+public class PreciosCursoMigration extends SqlMigration {
+
+	private static final String SQL_SELECT_CURSOS = "SELECT IdCurso, CantidadPagarColectivo FROM Curso";
+	private static final String SQL_INSERT_PRECIO = "INSERT INTO Precio_Curso (IdCurso, TipoColectivo, Precio, Orden) VALUES (?, ?, ?, ?)";
+
+	public PreciosCursoMigration(final int version) {
+		super(version, "Tabla de precios de los cursos por colectivo", "MIGRATION_006");
+	}
+
+	@Override
+	public void apply(final Connection c) throws SQLException {
+		super.apply(c);
+
+		Statement st = null;
+		ResultSet rs = null;
+		PreparedStatement pst = null;
+
+		try {
+			st = c.createStatement();
+			rs = st.executeQuery(SQL_SELECT_CURSOS);
+			pst = c.prepareStatement(SQL_INSERT_PRECIO);
+
+			while (rs.next()) {
+				int idCurso = rs.getInt(1);
+				int orden = 0;
+
+				for (Map.Entry<String, Double> precio : PreciosCurso.parse(rs.getString(2)).asMap().entrySet()) {
+					pst.setInt(1, idCurso);
+					pst.setString(2, precio.getKey());
+					pst.setDouble(3, precio.getValue());
+					pst.setInt(4, orden++);
+					pst.addBatch();
+				}
+			}
+			pst.executeBatch();
+
+		} finally {
+			Jdbc.close(pst);
+			Jdbc.close(rs, st);
+		}
+	}
+
+}
@@ -0,0 +1,152 @@
+package persistence.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import persistence.jdbc.Jdbc;
+import persistence.jdbc.PersistenceException;
+import persistence.util.Conf;
+
+/**
+ * Aplica al arrancar las migraciones pendientes del esquema de la base de
+ * datos.
+ * <p>
+ * La versión del esquema se registra en la tabla <code>Schema_version</code>
+ * (una fila por migración aplicada). Cada migración se aplica en su propia
+ * transacción: si falla, se deshace y no se aplica ninguna de las siguientes.
+ *
+ * @version v1.0.0
+ *
+ */
+public class SchemaMigrator {
+
+	private static final String SQL_CREATE_VERSION_TABLE = Conf.getInstance()
+			.getProperty("SCHEMA_VERSION_CREATE");
+	private static final String SQL_CURRENT_VERSION = Conf.getInstance().getProperty("SCHEMA_VERSION_CURRENT");
+	private static final String SQL_INSERT_VERSION = Conf.getInstance().getProperty("SCHEMA_VERSION_INSERT");
+
+	/**
+	 * Migraciones del esquema, en orden de versión.
+	 *
+	 * @return
+	 */
+	public static List<Migration> getMigrations() {
+		List<Migration> migrations = new ArrayList<>();
+
+		migrations.add(new SqlMigration(1, "Clave primaria de Recibo", "MIGRATION_001"));
+		migrations.add(new SqlMigration(2, "Clave primaria de Inscripcion", "MIGRATION_002"));
+		migrations.add(new SqlMigration(3, "Indices de las consultas frecuentes", "MIGRATION_003"));
+		migrations.add(new SqlMigration(4, "Indices de los listados paginados", "MIGRATION_004"));
+		migrations.add(new SqlMigration(5, "Vista de cursos con inscritos y estado", "MIGRATION_005"));
+		migrations.add(new PreciosCursoMigration(6));
+		migrations.add(new SqlMigration(7, "Secuencias de numeracion", "MIGRATION_007"));
+		migrations.add(new SqlMigration(8, "Precio de colegiado en la vista de cursos", "MIGRATION_008"));
+
+		migrations.sort(Comparator.comparingInt(Migration::getVersion));
+		return migrations;
+	}
+
+	/**
+	 * Aplica las migraciones cuya versión es superior a la versión actual del
+	 * esquema.
+	 *
+	 * @return Número de migraciones aplicadas.
+	 * @throws PersistenceException Si alguna migración falla.
+	 */
+	public static int migrate() {
+		Connection c = null;
+		Statement st = null;
+		int applied = 0;
+
+		try {
+			c = Jdbc.getConnection();
+
+			st = c.createStatement();
+			st.executeUpdate(SQL_CREATE_VERSION_TABLE);
+
+			for (Migration m : getMigrations()) {
+				if (applyIfPending(c, m)) {
+					applied++;
+				}
+			}
+
+		} catch (SQLException e) {
+			throw new PersistenceException(e);
+
+		} finally {
+			Jdbc.close(st);
+			Jdbc.close(c);
+		}
+
+		return applied;
+	}
+
+	private static boolean applyIfPending(final Connection c, final Migration m) throws SQLException {
+		c.setAutoCommit(false);
+
+		try {
+			// La versión se vuelve a leer dentro de la transacción
+			if (getCurrentVersion(c) >= m.getVersion()) {
+				c.rollback();
+				return false;
+			}
+
+			m.apply(c);
+			registerVersion(c, m);
+			c.commit();
+
+			System.out.println("Migración del esquema aplicada: " + m.getVersion() + " - " + m.getDescription());
+			return true;
+
+		} catch (SQLException | RuntimeException e) {
+			c.rollback();
+			throw new PersistenceException(
+					"No se ha podido aplicar la migración " + m.getVersion() + " (" + m.getDescription() + ")", e);
+
+		} finally {
+			c.setAutoCommit(true);
+		}
+	}
+
+	/**
+	 * Versión actual del esquema, 0 si no se ha aplicado ninguna migración.
+	 *
+	 * @param c
+	 * @return
+	 * @throws SQLException
+	 */
+	public static int getCurrentVersion(final Connection c) throws SQLException {
+		PreparedStatement pst = null;
+		ResultSet rs = null;
+
+		try {
+			pst = c.prepareStatement(SQL_CURRENT_VERSION);
+			rs = pst.executeQuery();
+			return rs.next() ? rs.getInt(1) : 0;
+		} finally {
+			Jdbc.close(rs, pst);
+		}
+	}
+
+	private static void registerVersion(final Connection c, final Migration m) throws SQLException {
+		PreparedStatement pst = null;
+
+		try {
+			pst = c.prepareStatement(SQL_INSERT_VERSION);
+			pst.setInt(1, m.getVersion());
+			pst.setString(2, m.getDescription());
+			pst.setString(3, LocalDateTime.now().toString());
+			pst.executeUpdate();
+		} finally {
+			Jdbc.close(pst);
+		}
+	}
+
+}
@@ -0,0 +1,63 @@
+package persistence.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import persistence.jdbc.Jdbc;
+import persistence.util.Conf;
+
+/**
+ * Migración definida en el fichero de configuración como una lista de
+ * sentencias SQL separadas por punto y coma.
+ *
+ * @version v1.0.0
+ *
+ */
+public class SqlMigration implements Migration {
+
+	private static final String SEPARADOR_SENTENCIAS = ";";
+
+	private final int version;
+	private final String description;
+	private final String confKey;
+
+	/**
+	 *
+	 * @param version     Versión del esquema resultante.
+	 * @param description Descripción de la migración.
+	 * @param confKey     Clave del fichero de configuración con las sentencias.
+	 */
+	public SqlMigration(final int version, final String description, final String confKey) {
+		this.version = version;
+		this.description = description;
+		this.confKey = confKey;
+	}
+
+	@Override
+	public int getVersion() {
+		return version;
+	}
+
+	@Override
+	public String getDescription() {
+		return description;
+	}
+
+	@Override
+	public void apply(final Connection c) throws SQLException {
+		Statement st = null;
+
+		try {
+			st = c.createStatement();
+			for (String sql : Conf.getInstance().getProperty(confKey).split(SEPARADOR_SENTENCIAS)) {
+				if (!sql.isBlank()) {
+					st.executeUpdate(sql.trim());
+				}
+			}
+		} finally {
+			Jdbc.close(st);
+		}
+	}
+
+}
@@ -6,11 +6,15 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.stream.Stream;
 
 import persistence.DtoAssembler;
+import persistence.colegiado.ColegiadoCache;
 import persistence.colegiado.ColegiadoDto;
+import persistence.colegiado.ColegiadoRowMapper;
 import persistence.jdbc.Jdbc;
 import persistence.jdbc.PersistenceException;
+import persistence.jdbc.ResultSetCursor;
 import persistence.util.Conf;
 
 public class PeritoCRUD {
@@ -46,6 +50,7 @@ public class PeritoCRUD {
 			pst.setString(i++, dni);
 			
 			pst.execute();
+			ColegiadoCache.invalidate(dni);
 			
 		} catch(SQLException e) {
 			throw new PersistenceException(e);
@@ -67,6 +72,7 @@ public class PeritoCRUD {
 			pst.setString(1, dni);
 			
 			pst.execute();
+			ColegiadoCache.invalidate(dni);
 			
 		} catch(SQLException e) {
 			throw new PersistenceException(e);
@@ -117,6 +123,16 @@ public class PeritoCRUD {
 		}
 	}
 	
+	/**
+	 * Recorre los peritos por orden de posición sin cargarlos en memoria. El
+	 * Stream ha de cerrarse para liberar la conexión.
+	 * 
+	 * @return
+	 */
+	public static Stream<ColegiadoDto> streamAllPeritosPosicion() {
+		return ResultSetCursor.stream(SQL_LIST_ALL_PERITOS, ColegiadoRowMapper::new);
+	}
+	
 	public static List<ColegiadoDto> findPeritoByDNI(String dni) {
 		Connection c = null;
 		PreparedStatement pst = null;
@@ -1,7 +1,11 @@
 package persistence.recibo;
 
+import persistence.migration.SchemaMigrator;
+
 public class MainCuotas {
 	public static void main(String []args) {
+		SchemaMigrator.migrate();
+
 		if(ReciboCRUD.emitirCuotas()) {
 			System.out.println("Cuotas emitidas correctamente");
 		} else {
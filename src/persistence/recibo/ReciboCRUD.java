@@ -1,125 +1,101 @@
 package persistence.recibo;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 
 import business.recibo.EmisionCuotas;
 import persistence.colegiado.ColegiadoCrud;
 import persistence.colegiado.ColegiadoDto;
+import persistence.jdbc.BatchResult;
+import persistence.jdbc.BatchUpdate;
 import persistence.jdbc.Jdbc;
 import persistence.jdbc.PersistenceException;
+import persistence.jdbc.UnitOfWork;
+import persistence.secuencia.Secuencia;
 import persistence.util.Conf;
 
 public class ReciboCRUD {
 
 	private static final String SQL_INSERT_RECIBO = Conf.getInstance().getProperty("TRECIBO_INSERT");
 
-	private static final String SQL_FIND_RECIBO_COLEGIADO_YEAR = Conf.getInstance()
-			.getProperty("TRECIBO_FIND_BY_YEAR_COLEGIADO");
-
-	private static final String SQL_FIND_MAX_NUMERO_RECIBO = Conf.getInstance().getProperty("TRECIBO_MAX_NUMBER");
-
-	private static boolean findReciboColegiadoByYear(String dni, int year) {
-		Connection c = null;
-		PreparedStatement pst = null;
-		ResultSet rs = null;
-
-		try {
-			c = Jdbc.getConnection();
-
-			pst = c.prepareStatement(SQL_FIND_RECIBO_COLEGIADO_YEAR);
-			int i = 1;
-			pst.setString(i++, dni);
-			pst.setInt(i++, year);
-
-			rs = pst.executeQuery();
-
-			return rs.next();
-
-		} catch (SQLException e) {
-			throw new PersistenceException(e);
-		} finally {
-			Jdbc.close(rs, pst, c);
-		}
-	}
-
 	public static boolean emitirCuotas() {
-		Connection c = null;
-		PreparedStatement pst = null;
-		List<ColegiadoDto> colegiados = ColegiadoCrud.findAllColegiados();
-		List<ColegiadoDto> emitidos = new ArrayList<>();
-		List<Integer> numerosRecibo = new ArrayList<>();
-		List<Double> cantidades = new ArrayList<>();
-		try {
-			c = Jdbc.getConnection();
-
-			if (colegiados.size() == 0) {
-				return false;
-			}
-			for (ColegiadoDto col : colegiados) {
-				if (!findReciboColegiadoByYear(col.DNI, LocalDate.now().getYear())) {
+		int year = LocalDate.now().getYear();
+
+		// Los colegiados se recorren sin cargarlos en memoria y cada recibo se escribe
+		// en el fichero a medida que se registra. Todos los recibos se registran en
+		// una única transacción y el fichero solo se publica tras confirmarla.
+		try (EmisionCuotas.FicheroRecibos fichero = new EmisionCuotas.FicheroRecibos()) {
+			UnitOfWork.runBulk(() -> {
+				// Los recibos se registran por lotes y se numeran con la secuencia de
+				// recibos, que reserva los números por bloques
+				Secuencia numeros = Secuencia.of(Secuencia.RECIBO);
+				int tamanoLote = BatchUpdate.getBatchSize();
+				List<ReciboDto> recibos = new ArrayList<>();
+				List<ColegiadoDto> colegiados = new ArrayList<>();
+
+				// Solo se recorren los colegiados que aún no tienen recibo del año
+				ColegiadoCrud.forEachColegiadoSinRecibo(year, col -> {
+					// Si se cancela la emisión se deshace la transacción y no se publica el fichero
+					if (Thread.currentThread().isInterrupted()) {
+						throw new CancellationException("Emisión de cuotas cancelada");
+					}
 					ReciboDto recibo = new ReciboDto();
 
 					recibo.dniColegiado = col.DNI;
-					recibo.year = LocalDate.now().getYear();
-					recibo.numeroRecibo = generateNumeroRecibo();
-					emitidos.add(col);
-					numerosRecibo.add(recibo.numeroRecibo);
-					if (col.numeroColegiado != null) {
-						if (col.numeroColegiado.isEmpty()) {
-							recibo.cantidad = 30.0;
-							cantidades.add(recibo.cantidad);
-						} else {
-							recibo.cantidad = 50.0;
-							cantidades.add(recibo.cantidad);
-						}
+					recibo.year = year;
+					recibo.numeroRecibo = numeros.next();
+					if (col.numeroColegiado != null && !col.numeroColegiado.isEmpty()) {
+						recibo.cantidad = 50.0;
 					} else {
 						recibo.cantidad = 30.0;
-						cantidades.add(recibo.cantidad);
 					}
-					addRecibo(recibo);
-				}
-			}
-			if (emitidos.size() == 0) {
+					recibos.add(recibo);
+					colegiados.add(col);
+
+					if (recibos.size() >= tamanoLote) {
+						registrarRecibos(recibos, colegiados, fichero);
+					}
+				});
+				registrarRecibos(recibos, colegiados, fichero);
+			});
+
+			if (fichero.getRecibos() == 0) {
 				return false;
 			}
-			EmisionCuotas.emitirCuotas(emitidos, numerosRecibo, cantidades);
+			fichero.publicar();
 			return true;
 
-		} catch (SQLException e) {
-			throw new PersistenceException(e);
-		} finally {
-			Jdbc.close(pst);
-			Jdbc.close(c);
+		} catch (IOException e) {
+			throw new PersistenceException("No se ha podido escribir el fichero de recibos", e);
 		}
 	}
 
-	private static int generateNumeroRecibo() {
-		Connection c = null;
-		Statement st = null;
-		ResultSet rs = null;
-
-		try {
-			c = Jdbc.getConnection();
-			st = c.createStatement();
-			rs = st.executeQuery(SQL_FIND_MAX_NUMERO_RECIBO);
-
-			if (rs.next()) {
-				return rs.getInt(1) + 1;
-			} else {
-				return 1;
+	/**
+	 * Registra el lote de recibos y escribe en el fichero los que se han
+	 * registrado correctamente. Los rechazados se informan por la salida de
+	 * error. Vacía ambas listas.
+	 */
+	private static void registrarRecibos(List<ReciboDto> recibos, List<ColegiadoDto> colegiados,
+			EmisionCuotas.FicheroRecibos fichero) throws IOException {
+		BatchResult<ReciboDto> res = addRecibos(recibos);
+
+		for (int i = 0; i < recibos.size(); i++) {
+			if (res.isSucceeded(i)) {
+				fichero.write(recibos.get(i).numeroRecibo, colegiados.get(i), recibos.get(i).cantidad);
 			}
-		} catch (SQLException e) {
-			throw new PersistenceException(e);
-		} finally {
-			Jdbc.close(rs, st, c);
 		}
+		if (res.hasFailures()) {
+			System.err.println("Recibos no emitidos: " + res);
+		}
+
+		recibos.clear();
+		colegiados.clear();
 	}
 
 	public static void addRecibo(ReciboDto recibo) {
@@ -145,4 +121,21 @@ public class ReciboCRUD {
 			Jdbc.close(pst);
 		}
 	}
+
+	/**
+	 * Añade los recibos indicados en una única transacción, mediante escritura
+	 * por lotes.
+	 * 
+	 * @param recibos
+	 * @return Recibos añadidos y recibos rechazados.
+	 */
+	public static BatchResult<ReciboDto> addRecibos(List<ReciboDto> recibos) {
+		return BatchUpdate.execute(SQL_INSERT_RECIBO, recibos, (pst, recibo) -> {
+			int i = 1;
+			pst.setInt(i++, recibo.numeroRecibo);
+			pst.setString(i++, recibo.dniColegiado);
+			pst.setInt(i++, recibo.year);
+			pst.setDouble(i++, recibo.cantidad);
+		});
+	}
 }
\ No newline at end of file
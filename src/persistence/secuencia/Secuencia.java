@@ -0,0 +1,165 @@
+package persistence.secuencia;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import persistence.jdbc.UnitOfWork;
+import persistence.util.Conf;
+
+/**
+ * Generador de números consecutivos respaldado por la tabla
+ * <code>Secuencia</code>.
+ * <p>
+ * Los números se reservan por bloques de <code>SEQUENCE_BLOCK_SIZE</code> (o
+ * <code>SEQUENCE_BLOCK_SIZE_&lt;nombre&gt;</code>) con una sola escritura, y se
+ * reparten desde memoria hasta agotar el bloque, por lo que generar muchos
+ * números seguidos (emisión de cuotas, admisión de un lote de colegiados) no
+ * consulta el máximo de la tabla en cada fila. Los números de un bloque que no
+ * llegan a usarse antes de cerrar la aplicación se pierden: la numeración es
+ * única y creciente, pero puede tener huecos.
+ * <p>
+ * Un bloque reservado dentro de una {@link UnitOfWork} solo lo usa el hilo que
+ * la ejecuta hasta que termina: si se confirma, los números sobrantes pasan al
+ * resto de hilos; si se deshace, la reserva se deshace con ella y esos números
+ * se descartan.
+ * <p>
+ * La secuencia de números de colegiado ({@link #colegiado()}) se crea al pedir
+ * su primer bloque, a continuación del mayor número de colegiado existente,
+ * sea cual sea su año.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class Secuencia {
+
+	public static final String RECIBO = "RECIBO";
+	public static final String CURSO = "CURSO";
+	public static final String COLEGIADO = "COLEGIADO";
+
+	public static final int DEFAULT_BLOCK_SIZE = 20;
+
+	private static final Map<String, Secuencia> SECUENCIAS = new ConcurrentHashMap<>();
+
+	/**
+	 * Números reservados pendientes de repartir: [siguiente, límite).
+	 */
+	private static final class Bloque {
+		private int siguiente;
+		private final int limite;
+
+		private Bloque(final int inicio, final int cantidad) {
+			this.siguiente = inicio;
+			this.limite = inicio + cantidad;
+		}
+
+		private boolean isAgotado() {
+			return siguiente >= limite;
+		}
+	}
+
+	private final String nombre;
+	private final int blockSize;
+	// Crea la fila de la secuencia si no existe, o null si la crea una migración
+	private final Runnable crear;
+
+	private Bloque compartido;
+	private final ThreadLocal<Bloque> pendiente = new ThreadLocal<>();
+
+	private Secuencia(final String nombre, final String confName, final Runnable crear) {
+		this.nombre = nombre;
+		this.blockSize = Math.max(1, Conf.getInstance().getIntProperty("SEQUENCE_BLOCK_SIZE_" + confName,
+				Conf.getInstance().getIntProperty("SEQUENCE_BLOCK_SIZE", DEFAULT_BLOCK_SIZE)));
+		this.crear = crear;
+	}
+
+	/**
+	 * Secuencia con el nombre indicado.
+	 *
+	 * @param nombre Nombre de la secuencia en la tabla <code>Secuencia</code>.
+	 * @return
+	 */
+	public static Secuencia of(final String nombre) {
+		return SECUENCIAS.computeIfAbsent(nombre, n -> new Secuencia(n, n, null));
+	}
+
+	/**
+	 * Secuencia de los números de colegiado. El tamaño del bloque se configura
+	 * con <code>SEQUENCE_BLOCK_SIZE_COLEGIADO</code>.
+	 *
+	 * @return
+	 */
+	public static Secuencia colegiado() {
+		return SECUENCIAS.computeIfAbsent(COLEGIADO,
+				n -> new Secuencia(n, n, () -> SecuenciaCRUD.crearColegiado(n)));
+	}
+
+	public String getNombre() {
+		return nombre;
+	}
+
+	/**
+	 * Siguiente número de la secuencia.
+	 *
+	 * @return
+	 * @throws persistence.jdbc.PersistenceException Si no se puede reservar un
+	 *                                               nuevo bloque.
+	 */
+	public int next() {
+		if (!UnitOfWork.isActive()) {
+			synchronized (this) {
+				if (compartido == null || compartido.isAgotado()) {
+					compartido = new Bloque(reservar(), blockSize);
+				}
+				return compartido.siguiente++;
+			}
+		}
+
+		Bloque bloque = pendiente.get();
+		if (bloque != null && !bloque.isAgotado()) {
+			return bloque.siguiente++;
+		}
+		synchronized (this) {
+			if (compartido != null && !compartido.isAgotado()) {
+				return compartido.siguiente++;
+			}
+		}
+
+		// La reserva forma parte de la transacción en curso: el bloque no se comparte
+		// hasta saber si se confirma
+		boolean registrado = bloque != null;
+		bloque = new Bloque(reservar(), blockSize);
+		pendiente.set(bloque);
+		if (!registrado) {
+			UnitOfWork.afterCompletion(this::terminarTransaccion);
+		}
+		return bloque.siguiente++;
+	}
+
+	/**
+	 * Reserva un bloque, creando antes la secuencia si es necesario en la misma
+	 * transacción.
+	 */
+	private int reservar() {
+		if (crear == null) {
+			return SecuenciaCRUD.reservar(nombre, blockSize);
+		}
+		return UnitOfWork.execute(() -> {
+			crear.run();
+			return SecuenciaCRUD.reservar(nombre, blockSize);
+		});
+	}
+
+	private void terminarTransaccion(final boolean confirmada) {
+		Bloque bloque = pendiente.get();
+		pendiente.remove();
+		if (!confirmada || bloque == null || bloque.isAgotado()) {
+			return;
+		}
+		synchronized (this) {
+			if (compartido == null || compartido.isAgotado()) {
+				compartido = bloque;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,90 @@
+package persistence.secuencia;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import persistence.jdbc.Jdbc;
+import persistence.jdbc.PersistenceException;
+import persistence.jdbc.UnitOfWork;
+import persistence.util.Conf;
+
+/**
+ * Acceso a la tabla <code>Secuencia</code>, que guarda para cada secuencia el
+ * siguiente número libre.
+ *
+ * @version v1.0.0
+ *
+ */
+public class SecuenciaCRUD {
+
+	private static final String SQL_RESERVAR = Conf.getInstance().getProperty("TSECUENCIA_RESERVAR");
+	private static final String SQL_SIGUIENTE = Conf.getInstance().getProperty("TSECUENCIA_SIGUIENTE");
+	private static final String SQL_CREAR_COLEGIADO = Conf.getInstance().getProperty("TSECUENCIA_CREAR_COLEGIADO");
+
+	/**
+	 * Reserva un bloque de números consecutivos de la secuencia indicada. El
+	 * incremento y la lectura se hacen en la misma transacción, de modo que dos
+	 * reservas nunca obtienen números solapados.
+	 *
+	 * @param nombre   Nombre de la secuencia.
+	 * @param cantidad Números a reservar.
+	 * @return Primer número del bloque reservado.
+	 * @throws PersistenceException Si la secuencia no existe.
+	 */
+	public static int reservar(final String nombre, final int cantidad) {
+		return UnitOfWork.execute(() -> {
+			Connection c = null;
+			PreparedStatement pst = null;
+			ResultSet rs = null;
+
+			try {
+				c = Jdbc.getConnection();
+
+				pst = c.prepareStatement(SQL_RESERVAR);
+				pst.setInt(1, cantidad);
+				pst.setString(2, nombre);
+				if (pst.executeUpdate() == 0) {
+					throw new PersistenceException("No existe la secuencia " + nombre);
+				}
+				Jdbc.close(pst);
+
+				pst = c.prepareStatement(SQL_SIGUIENTE);
+				pst.setString(1, nombre);
+				rs = pst.executeQuery();
+				rs.next();
+				return rs.getInt(1) - cantidad;
+
+			} catch (SQLException e) {
+				throw new PersistenceException(e);
+			} finally {
+				Jdbc.close(rs, pst, c);
+			}
+		});
+	}
+
+	/**
+	 * Crea, si no existe, la secuencia de números de colegiado, iniciada tras el
+	 * mayor número de colegiado de cualquier año (o en 0).
+	 *
+	 * @param nombre Nombre de la secuencia.
+	 */
+	public static void crearColegiado(final String nombre) {
+		Connection c = null;
+		PreparedStatement pst = null;
+
+		try {
+			c = Jdbc.getConnection();
+			pst = c.prepareStatement(SQL_CREAR_COLEGIADO);
+			pst.setString(1, nombre);
+			pst.executeUpdate();
+		} catch (SQLException e) {
+			throw new PersistenceException(e);
+		} finally {
+			Jdbc.close(pst);
+			Jdbc.close(c);
+		}
+	}
+
+}
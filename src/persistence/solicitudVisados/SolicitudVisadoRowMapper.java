@@ -0,0 +1,46 @@
+package persistence.solicitudVisados;
+
+import static persistence.util.ResultSetColumns.getString;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import persistence.util.ResultSetColumns;
+import persistence.util.RowMapper;
+
+/**
+ * Conversión de las filas de la tabla SolicitudVisados en
+ * {@link SolicitudVisadoDto}.
+ *
+ * @version v1.0.0
+ *
+ */
+public class SolicitudVisadoRowMapper implements RowMapper<SolicitudVisadoDto> {
+
+	private final int dniPerito;
+	private final int descripcion;
+	private final int estado;
+	private final int dniVisado;
+
+	public SolicitudVisadoRowMapper(final ResultSet rs) throws SQLException {
+		ResultSetColumns columns = ResultSetColumns.of(rs);
+
+		dniPerito = columns.required("dniPerito");
+		descripcion = columns.required("descripcion");
+		estado = columns.required("estado");
+		dniVisado = columns.required("dniVisado");
+	}
+
+	@Override
+	public SolicitudVisadoDto map(final ResultSet rs) throws SQLException {
+		SolicitudVisadoDto s = new SolicitudVisadoDto();
+
+		s.dniPerito = getString(rs, dniPerito);
+		s.descripcion = getString(rs, descripcion);
+		s.estado = getString(rs, estado);
+		s.dniVisado = getString(rs, dniVisado);
+
+		return s;
+	}
+
+}
@@ -6,11 +6,14 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
+import java.util.stream.Stream;
 
 import persistence.DtoAssembler;
 import persistence.jdbc.Jdbc;
 import persistence.jdbc.PersistenceException;
+import persistence.jdbc.ResultSetCursor;
 import persistence.util.Conf;
+import persistence.colegiado.ColegiadoCache;
 import persistence.colegiado.ColegiadoDto;
 
 public class SolicitudVisadosCRUD {
@@ -68,6 +71,16 @@ public class SolicitudVisadosCRUD {
 		}
 	}
 	
+	/**
+	 * Recorre todas las solicitudes de visado sin cargarlas en memoria. El Stream
+	 * ha de cerrarse para liberar la conexión.
+	 * 
+	 * @return
+	 */
+	public static Stream<SolicitudVisadoDto> streamAllSolicitudesVisado() {
+		return ResultSetCursor.stream(SQL_FIND_ALL_SOLICITUDES_VISADO, SolicitudVisadoRowMapper::new);
+	}
+	
 	public static void asignarVisadoAPerito(SolicitudVisadoDto s, ColegiadoDto c) {
 		Connection con = null;
 		PreparedStatement pst = null;
@@ -96,6 +109,7 @@ public class SolicitudVisadosCRUD {
 			pst.setString(1, c.DNI);
 			
 			pst.execute();
+			ColegiadoCache.invalidate(c.DNI);
 			
 		} catch(SQLException e) {
 			throw new PersistenceException(e);
@@ -0,0 +1,53 @@
+package persistence.util;
+
+/**
+ * Estadísticas de uso de una caché de entidades.
+ *
+ * @version v1.0.0
+ *
+ */
+public class CacheStats {
+
+	public final long hits;
+	public final long misses;
+	public final long evictions;
+	public final long invalidations;
+	public final int entries;
+	public final long weight;
+
+	/**
+	 *
+	 * @param hits          Consultas servidas desde la caché.
+	 * @param misses        Consultas que han ido a la base de datos.
+	 * @param evictions     Entradas descartadas por falta de espacio.
+	 * @param invalidations Entradas descartadas por modificaciones.
+	 * @param entries       Entradas actuales.
+	 * @param weight        Tamaño estimado (bytes) de las entradas actuales.
+	 */
+	public CacheStats(final long hits, final long misses, final long evictions, final long invalidations,
+			final int entries, final long weight) {
+		this.hits = hits;
+		this.misses = misses;
+		this.evictions = evictions;
+		this.invalidations = invalidations;
+		this.entries = entries;
+		this.weight = weight;
+	}
+
+	/**
+	 * Proporción de consultas servidas desde la caché.
+	 *
+	 * @return Valor entre 0 y 1.
+	 */
+	public double getHitRatio() {
+		long total = hits + misses;
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	@Override
+	public String toString() {
+		return "aciertos=" + hits + ", fallos=" + misses + ", descartes=" + evictions + ", invalidaciones="
+				+ invalidations + ", entradas=" + entries + ", bytes=" + weight + ", ratio="
+				+ String.format("%.2f", getHitRatio());
+	}
+}
@@ -1,10 +1,16 @@
 package persistence.util;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class Conf {
 	private Properties props;
+	private Map<String, String> keysByValue;
 	private static Conf instance = null;
 	private static final String FILE_CONF = "configuration.properties";
 
@@ -33,4 +39,64 @@ public class Conf {
 		return value;
 	}
 
+	/**
+	 * Obtiene el valor de la propiedad indicada o el valor por defecto si no está
+	 * definida en el fichero de configuración.
+	 *
+	 * @param key          Clave de la propiedad.
+	 * @param defaultValue Valor devuelto si la clave no existe.
+	 * @return
+	 */
+	public String getProperty(String key, String defaultValue) {
+		String value = props.getProperty(key);
+		return value == null ? defaultValue : value.trim();
+	}
+
+	/**
+	 * Obtiene el valor numérico de la propiedad indicada.
+	 *
+	 * @param key          Clave de la propiedad.
+	 * @param defaultValue Valor devuelto si la clave no existe.
+	 * @return
+	 * @throws RuntimeException Si el valor no es un número entero.
+	 */
+	public int getIntProperty(String key, int defaultValue) {
+		String value = props.getProperty(key);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Integer.parseInt(value.trim());
+		} catch (NumberFormatException e) {
+			throw new RuntimeException("Property " + key + " is not a number", e);
+		}
+	}
+
+	/**
+	 * Claves definidas en el fichero de configuración, en orden alfabético.
+	 *
+	 * @return
+	 */
+	public Set<String> getKeys() {
+		return Collections.unmodifiableSet(new TreeSet<>(props.stringPropertyNames()));
+	}
+
+	/**
+	 * Obtiene la clave del fichero de configuración cuyo valor es la sentencia SQL
+	 * indicada.
+	 *
+	 * @param sql Sentencia SQL tal y como se obtuvo con {@link #getProperty}.
+	 * @return La clave o null si la sentencia no procede del fichero de
+	 *         configuración.
+	 */
+	public synchronized String getKey(String sql) {
+		if (keysByValue == null) {
+			keysByValue = new HashMap<>();
+			for (String key : new TreeSet<>(props.stringPropertyNames())) {
+				keysByValue.putIfAbsent(props.getProperty(key), key);
+			}
+		}
+		return keysByValue.get(sql);
+	}
+
 }
@@ -0,0 +1,54 @@
+package persistence.util;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Página de resultados de un listado paginado por clave (keyset).
+ * <p>
+ * La página siguiente se solicita con el token de continuación, que codifica la
+ * clave de la última fila de esta página. Si no hay más filas el token es null.
+ *
+ * @param <T> Tipo de las filas.
+ * @version v1.0.0
+ *
+ */
+public class Page<T> {
+
+	public static final int DEFAULT_SIZE = 100;
+
+	private final List<T> items;
+	private final String continuationToken;
+
+	public Page(final List<T> items, final String continuationToken) {
+		this.items = Collections.unmodifiableList(items);
+		this.continuationToken = continuationToken;
+	}
+
+	/**
+	 * Tamaño de página de los listados, configurado en <code>PAGE_SIZE</code>.
+	 *
+	 * @return
+	 */
+	public static int getDefaultSize() {
+		return Conf.getInstance().getIntProperty("PAGE_SIZE", DEFAULT_SIZE);
+	}
+
+	public List<T> getItems() {
+		return items;
+	}
+
+	/**
+	 * Token para solicitar la página siguiente, o null si esta es la última.
+	 *
+	 * @return
+	 */
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	public boolean hasNext() {
+		return continuationToken != null;
+	}
+
+}
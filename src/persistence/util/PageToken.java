@@ -0,0 +1,52 @@
+package persistence.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codificación de la clave de la última fila de una página en un token de
+ * continuación opaco.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class PageToken {
+
+	private static final String SEPARATOR = "\n";
+
+	private PageToken() {
+	}
+
+	/**
+	 * Codifica los valores de la clave.
+	 *
+	 * @param values
+	 * @return
+	 */
+	public static String encode(final String... values) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(String.join(SEPARATOR, values).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodifica un token generado con {@link #encode(String...)}.
+	 *
+	 * @param token
+	 * @param parts Número de valores que ha de contener.
+	 * @return
+	 * @throws IllegalArgumentException Si el token no es válido.
+	 */
+	public static String[] decode(final String token, final int parts) {
+		String[] values;
+		try {
+			values = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Token de paginación no válido", e);
+		}
+		if (values.length != parts) {
+			throw new IllegalArgumentException("Token de paginación no válido");
+		}
+		return values;
+	}
+
+}
@@ -0,0 +1,117 @@
+package persistence.util;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Posiciones de las columnas de un ResultSet, resueltas una única vez a partir
+ * de sus metadatos. Los nombres no distinguen mayúsculas y minúsculas y, si una
+ * columna aparece varias veces (por ejemplo en un <code>SELECT *</code> sobre
+ * varias tablas), se toma la primera, igual que <code>ResultSet#findColumn</code>.
+ * <p>
+ * Incluye además los métodos de lectura por posición que usan los
+ * {@link RowMapper}, que tratan la posición 0 como columna ausente.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class ResultSetColumns {
+
+	private final Map<String, Integer> indexes = new HashMap<>();
+
+	private ResultSetColumns(final ResultSetMetaData metaData) throws SQLException {
+		for (int i = 1; i <= metaData.getColumnCount(); i++) {
+			indexes.putIfAbsent(metaData.getColumnLabel(i).toUpperCase(Locale.ROOT), i);
+		}
+	}
+
+	public static ResultSetColumns of(final ResultSet rs) throws SQLException {
+		return new ResultSetColumns(rs.getMetaData());
+	}
+
+	/**
+	 * Posición de la columna indicada.
+	 *
+	 * @param label
+	 * @return
+	 * @throws SQLException Si el ResultSet no contiene la columna.
+	 */
+	public int required(final String label) throws SQLException {
+		int index = optional(label);
+		if (index == 0) {
+			throw new SQLException("No existe la columna " + label + " en el resultado de la consulta");
+		}
+		return index;
+	}
+
+	/**
+	 * Posición de la columna indicada, o 0 si el ResultSet no la contiene.
+	 *
+	 * @param label
+	 * @return
+	 */
+	public int optional(final String label) {
+		Integer index = indexes.get(label.toUpperCase(Locale.ROOT));
+		return index == null ? 0 : index;
+	}
+
+	public static String getString(final ResultSet rs, final int index) throws SQLException {
+		return index == 0 ? null : rs.getString(index);
+	}
+
+	public static int getInt(final ResultSet rs, final int index) throws SQLException {
+		return index == 0 ? 0 : rs.getInt(index);
+	}
+
+	public static double getDouble(final ResultSet rs, final int index) throws SQLException {
+		return index == 0 ? 0 : rs.getDouble(index);
+	}
+
+	public static boolean getBoolean(final ResultSet rs, final int index) throws SQLException {
+		return index != 0 && rs.getBoolean(index);
+	}
+
+	/**
+	 * Lee una fecha almacenada como texto. Las cadenas nulas o vacías se devuelven
+	 * como null.
+	 *
+	 * @param rs
+	 * @param index
+	 * @return
+	 * @throws SQLException
+	 */
+	public static LocalDate getLocalDate(final ResultSet rs, final int index) throws SQLException {
+		return parseDate(getString(rs, index));
+	}
+
+	/**
+	 * Interpreta una fecha con formato <code>aaaa-mm-dd</code> sin pasar por el
+	 * formateador de {@link LocalDate#parse(CharSequence)}, que solo se usa para
+	 * cualquier otro formato.
+	 *
+	 * @param value
+	 * @return La fecha o null si la cadena es nula o vacía.
+	 */
+	public static LocalDate parseDate(final String value) {
+		if (value == null || value.isEmpty()) {
+			return null;
+		}
+
+		if (value.length() == 10 && value.charAt(4) == '-' && value.charAt(7) == '-') {
+			try {
+				return LocalDate.of(Integer.parseInt(value, 0, 4, 10), Integer.parseInt(value, 5, 7, 10),
+						Integer.parseInt(value, 8, 10, 10));
+			} catch (NumberFormatException | DateTimeException e) {
+				// Se deja que LocalDate.parse informe del error
+			}
+		}
+		return LocalDate.parse(value);
+	}
+
+}
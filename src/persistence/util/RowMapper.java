@@ -0,0 +1,46 @@
+package persistence.util;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Convierte la fila actual de un ResultSet en un objeto.
+ * <p>
+ * Las implementaciones resuelven las posiciones de las columnas una única vez,
+ * al crearse para un ResultSet concreto, y leen cada columna una sola vez por
+ * fila.
+ *
+ * @param <T> Tipo del objeto resultante.
+ * @version v1.0.0
+ *
+ */
+@FunctionalInterface
+public interface RowMapper<T> {
+
+	/**
+	 * Convierte la fila actual del ResultSet.
+	 *
+	 * @param rs
+	 * @return
+	 * @throws SQLException
+	 */
+	T map(ResultSet rs) throws SQLException;
+
+	/**
+	 * Recorre el ResultSet desde la posición actual y convierte todas las filas.
+	 *
+	 * @param rs
+	 * @return
+	 * @throws SQLException
+	 */
+	default List<T> toList(ResultSet rs) throws SQLException {
+		List<T> res = new ArrayList<>();
+		while (rs.next()) {
+			res.add(map(rs));
+		}
+		return res;
+	}
+
+}
@@ -0,0 +1,205 @@
+package ui.components.sugerencias;
+
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.List;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JList;
+import javax.swing.JPopupMenu;
+import javax.swing.JScrollPane;
+import javax.swing.JTextField;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingUtilities;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+
+import persistence.colegiado.IndiceColegiados;
+import persistence.colegiado.IndiceColegiados.Sugerencia;
+
+/**
+ * Sugerencias de colegiados para los campos de texto en los que se introduce un
+ * DNI.
+ * <p>
+ * A medida que se escribe se muestran los colegiados cuyo DNI, número de
+ * colegiado o nombre empiezan por el texto tecleado, consultando
+ * {@link IndiceColegiados}. Con las flechas se recorre la lista y con Intro o
+ * un clic se escribe el DNI del colegiado elegido en el campo, igual que si se
+ * hubiera tecleado y confirmado con Intro.
+ *
+ * @version v1.0.0
+ *
+ */
+public class SugerenciasColegiado {
+
+	private static final int LONGITUD_MINIMA = 2;
+	private static final int MAXIMO_SUGERENCIAS = 8;
+
+	private final JTextField textField;
+	private final JPopupMenu popup = new JPopupMenu();
+	private final DefaultListModel<Sugerencia> model = new DefaultListModel<>();
+	private final JList<Sugerencia> list = new JList<>(model);
+	private boolean seleccionando;
+
+	private SugerenciasColegiado(final JTextField textField) {
+		this.textField = textField;
+
+		list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+		list.setFocusable(false);
+		list.setFont(textField.getFont().deriveFont(12f));
+		list.addMouseListener(new MouseAdapter() {
+			@Override
+			public void mouseClicked(MouseEvent e) {
+				int index = list.locationToIndex(e.getPoint());
+				if (index >= 0) {
+					seleccionar(model.get(index));
+				}
+			}
+		});
+
+		JScrollPane scroll = new JScrollPane(list);
+		scroll.setBorder(null);
+		popup.add(scroll);
+		popup.setFocusable(false);
+	}
+
+	/**
+	 * Añade las sugerencias de colegiados al campo de texto indicado.
+	 *
+	 * @param textField
+	 */
+	public static void install(final JTextField textField) {
+		SugerenciasColegiado s = new SugerenciasColegiado(textField);
+
+		textField.getDocument().addDocumentListener(new DocumentListener() {
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+				SwingUtilities.invokeLater(s::actualizar);
+			}
+
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+				SwingUtilities.invokeLater(s::actualizar);
+			}
+
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+			}
+		});
+
+		textField.addKeyListener(new KeyAdapter() {
+			@Override
+			public void keyPressed(KeyEvent e) {
+				s.teclaPulsada(e);
+			}
+		});
+
+		textField.addFocusListener(new FocusAdapter() {
+			@Override
+			public void focusLost(FocusEvent e) {
+				s.popup.setVisible(false);
+			}
+		});
+	}
+
+	/**
+	 * Programa la actualización de las sugerencias, salvo si el cambio lo ha hecho
+	 * {@link #seleccionar(Sugerencia)}. El documento notifica el cambio mientras se
+	 * ejecuta setText, así que el indicador se comprueba aquí y no en
+	 * {@link #actualizar()}, que se ejecuta después.
+	 */
+	private void textoCambiado() {
+		if (!seleccionando) {
+			SwingUtilities.invokeLater(this::actualizar);
+		}
+	}
+
+	private void actualizar() {
+		if (!textField.isShowing() || !textField.hasFocus()) {
+			return;
+		}
+
+		String texto = textField.getText().trim();
+		List<Sugerencia> sugerencias = texto.length() < LONGITUD_MINIMA ? List.of()
+				: IndiceColegiados.buscar(texto, MAXIMO_SUGERENCIAS);
+
+		// Si lo tecleado ya es el DNI de la única sugerencia no hay nada que sugerir
+		if (sugerencias.isEmpty()
+				|| (sugerencias.size() == 1 && sugerencias.get(0).getDni().equalsIgnoreCase(texto))) {
+			popup.setVisible(false);
+			return;
+		}
+
+		model.clear();
+		for (Sugerencia s : sugerencias) {
+			model.addElement(s);
+		}
+		list.setVisibleRowCount(sugerencias.size());
+		list.clearSelection();
+
+		popup.setPopupSize(Math.max(textField.getWidth(), list.getPreferredScrollableViewportSize().width + 8),
+				list.getPreferredScrollableViewportSize().height + 4);
+		if (!popup.isVisible()) {
+			popup.show(textField, 0, textField.getHeight());
+		} else {
+			popup.pack();
+		}
+		textField.requestFocusInWindow();
+	}
+
+	private void teclaPulsada(final KeyEvent e) {
+		if (!popup.isVisible()) {
+			return;
+		}
+
+		switch (e.getKeyCode()) {
+		case KeyEvent.VK_DOWN:
+			mover(1);
+			e.consume();
+			break;
+		case KeyEvent.VK_UP:
+			mover(-1);
+			e.consume();
+			break;
+		case KeyEvent.VK_ENTER:
+			if (list.getSelectedValue() != null) {
+				seleccionar(list.getSelectedValue());
+				e.consume();
+			}
+			break;
+		case KeyEvent.VK_ESCAPE:
+			popup.setVisible(false);
+			e.consume();
+			break;
+		default:
+			break;
+		}
+	}
+
+	private void mover(final int delta) {
+		int index = Math.floorMod(list.getSelectedIndex() + delta, model.size() + 1);
+		if (index == model.size()) {
+			list.clearSelection();
+		} else {
+			list.setSelectedIndex(index);
+			list.ensureIndexIsVisible(index);
+		}
+	}
+
+	private void seleccionar(final Sugerencia s) {
+		popup.setVisible(false);
+		seleccionando = true;
+		try {
+			textField.setText(s.getDni());
+		} finally {
+			seleccionando = false;
+		}
+		textField.requestFocusInWindow();
+		textField.postActionEvent();
+	}
+
+}
@@ -0,0 +1,409 @@
+package ui.components.table;
+
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.swing.JComponent;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+import javax.swing.border.EmptyBorder;
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.TableColumnModelEvent;
+import javax.swing.event.TableColumnModelListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableColumnModel;
+import javax.swing.table.TableModel;
+
+/**
+ * Renderizador de celdas que muestra texto plano en varias líneas, partido por
+ * palabras al ancho de la columna, sin pasar por el motor HTML de Swing.
+ * <p>
+ * Las líneas de cada texto se calculan una sola vez para cada ancho de columna
+ * y se guardan en caché, de modo que pintar la tabla al desplazarse solo dibuja
+ * las líneas ya calculadas. Los saltos de línea del texto se respetan. La
+ * caché admite al menos tantos textos como celdas muestra el renderizador, para
+ * que el cálculo de las alturas de todas las filas no la vacíe.
+ * <p>
+ * {@link #install(JTable)} lo usa para todas las columnas de la tabla y ajusta
+ * la altura de cada fila a su celda más alta, con la altura de fila que tuviera
+ * la tabla como mínimo.
+ *
+ * @version v1.0.0
+ *
+ */
+public class WrappingCellRenderer extends JComponent implements TableCellRenderer {
+
+	private static final long serialVersionUID = 5120438236402613375L;
+
+	private static final int MIN_CACHED_TEXTS = 2000;
+
+	/**
+	 * Texto y ancho para el que se han calculado las líneas.
+	 */
+	private static final class Key {
+		private final String text;
+		private final int width;
+
+		private Key(final String text, final int width) {
+			this.text = text;
+			this.width = width;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key k = (Key) o;
+			return width == k.width && text.equals(k.text);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(text, width);
+		}
+	}
+
+	private final Map<Key, String[]> cache = new LinkedHashMap<Key, String[]>(256, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, String[]> eldest) {
+			return size() > maxCachedTexts;
+		}
+	};
+	private int maxCachedTexts = MIN_CACHED_TEXTS;
+	private Font cacheFont;
+
+	private String[] lines = new String[0];
+
+	public WrappingCellRenderer() {
+		setOpaque(true);
+		setBorder(new EmptyBorder(2, 4, 2, 4));
+	}
+
+	/**
+	 * Usa el renderizador en todas las columnas de la tabla y ajusta la altura de
+	 * las filas a su contenido.
+	 *
+	 * @param table
+	 * @return
+	 */
+	public static WrappingCellRenderer install(final JTable table) {
+		WrappingCellRenderer renderer = new WrappingCellRenderer();
+		table.setDefaultRenderer(Object.class, renderer);
+		new RowHeights(table, renderer).bind();
+		return renderer;
+	}
+
+	@Override
+	public java.awt.Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected,
+			boolean hasFocus, int row, int column) {
+		setFont(table.getFont());
+		setForeground(isSelected ? table.getSelectionForeground() : table.getForeground());
+		setBackground(isSelected ? table.getSelectionBackground() : table.getBackground());
+		lines = getLines(value, table.getColumnModel().getColumn(column).getWidth());
+		return this;
+	}
+
+	/**
+	 * Líneas en las que se muestra el valor en una columna del ancho indicado.
+	 *
+	 * @param value
+	 * @param columnWidth
+	 * @return
+	 */
+	public String[] getLines(final Object value, final int columnWidth) {
+		String text = value == null ? "" : value.toString();
+		Insets insets = getInsets();
+		int width = columnWidth - insets.left - insets.right;
+
+		Font font = getFont();
+		if (font != cacheFont) {
+			cache.clear();
+			cacheFont = font;
+		}
+
+		Key key = new Key(text, width);
+		String[] res = cache.get(key);
+		if (res == null) {
+			res = wrap(text, getFontMetrics(font), width);
+			cache.put(key, res);
+		}
+		return res;
+	}
+
+	/**
+	 * Ajusta el tamaño de la caché al número de celdas que muestra el
+	 * renderizador, con {@link #MIN_CACHED_TEXTS} como mínimo.
+	 *
+	 * @param cells
+	 */
+	public void setCachedCells(final int cells) {
+		maxCachedTexts = Math.max(MIN_CACHED_TEXTS, cells);
+	}
+
+	/**
+	 * Altura necesaria para mostrar el número de líneas indicado.
+	 *
+	 * @param lineCount
+	 * @return
+	 */
+	public int getHeight(final int lineCount) {
+		Insets insets = getInsets();
+		return lineCount * getFontMetrics(getFont()).getHeight() + insets.top + insets.bottom;
+	}
+
+	/**
+	 * Parte el texto en líneas que no superen el ancho indicado, por los espacios
+	 * y saltos de línea. Las palabras más anchas que la columna se cortan.
+	 */
+	private static String[] wrap(final String text, final FontMetrics fm, final int width) {
+		List<String> res = new ArrayList<>();
+		int space = fm.charWidth(' ');
+
+		for (String paragraph : text.split("\n", -1)) {
+			StringBuilder line = new StringBuilder();
+			int lineWidth = 0;
+
+			for (String word : paragraph.split(" ")) {
+				if (word.isEmpty()) {
+					continue;
+				}
+				int wordWidth = fm.stringWidth(word);
+
+				if (line.length() > 0 && width > 0 && lineWidth + space + wordWidth > width) {
+					res.add(line.toString());
+					line.setLength(0);
+					lineWidth = 0;
+				}
+				while (line.length() == 0 && width > 0 && wordWidth > width && word.length() > 1) {
+					int n = fit(word, fm, width);
+					res.add(word.substring(0, n));
+					word = word.substring(n);
+					wordWidth = fm.stringWidth(word);
+				}
+
+				if (line.length() > 0) {
+					line.append(' ');
+					lineWidth += space;
+				}
+				line.append(word);
+				lineWidth += wordWidth;
+			}
+			res.add(line.toString());
+		}
+		return res.toArray(new String[0]);
+	}
+
+	/**
+	 * Número de caracteres del principio de la palabra que caben en el ancho
+	 * indicado (al menos uno).
+	 */
+	private static int fit(final String word, final FontMetrics fm, final int width) {
+		int w = 0;
+		for (int i = 0; i < word.length(); i++) {
+			w += fm.charWidth(word.charAt(i));
+			if (w > width) {
+				return Math.max(1, i);
+			}
+		}
+		return word.length();
+	}
+
+	@Override
+	public Dimension getPreferredSize() {
+		FontMetrics fm = getFontMetrics(getFont());
+		int width = 0;
+		for (String line : lines) {
+			width = Math.max(width, fm.stringWidth(line));
+		}
+		Insets insets = getInsets();
+		return new Dimension(width + insets.left + insets.right, getHeight(lines.length));
+	}
+
+	@Override
+	protected void paintComponent(Graphics g) {
+		if (isOpaque()) {
+			g.setColor(getBackground());
+			g.fillRect(0, 0, getWidth(), getHeight());
+		}
+
+		Graphics2D g2 = (Graphics2D) g;
+		Map<?, ?> hints = (Map<?, ?>) Toolkit.getDefaultToolkit().getDesktopProperty("awt.font.desktophints");
+		if (hints != null) {
+			g2.addRenderingHints(hints);
+		} else {
+			g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		}
+
+		g2.setFont(getFont());
+		g2.setColor(getForeground());
+		FontMetrics fm = g2.getFontMetrics();
+		Insets insets = getInsets();
+		Rectangle clip = g2.getClipBounds();
+
+		// Como una etiqueta, el bloque de texto se centra verticalmente
+		int textHeight = lines.length * fm.getHeight();
+		int y = insets.top + Math.max(0, (getHeight() - insets.top - insets.bottom - textHeight) / 2);
+		for (String line : lines) {
+			if (clip == null || (y + fm.getHeight() >= clip.y && y <= clip.y + clip.height)) {
+				g2.drawString(line, insets.left, y + fm.getAscent());
+			}
+			y += fm.getHeight();
+		}
+	}
+
+	// Como en DefaultTableCellRenderer, se omiten por rendimiento
+
+	@Override
+	public void invalidate() {
+	}
+
+	@Override
+	public void validate() {
+	}
+
+	@Override
+	public void revalidate() {
+	}
+
+	@Override
+	public void repaint(long tm, int x, int y, int width, int height) {
+	}
+
+	@Override
+	public void repaint(Rectangle r) {
+	}
+
+	@Override
+	public void repaint() {
+	}
+
+	@Override
+	protected void firePropertyChange(String propertyName, Object oldValue, Object newValue) {
+	}
+
+	@Override
+	public void firePropertyChange(String propertyName, boolean oldValue, boolean newValue) {
+	}
+
+	/**
+	 * Ajusta la altura de las filas de la tabla a su contenido cuando cambian sus
+	 * datos o el ancho de sus columnas.
+	 */
+	private static final class RowHeights
+			implements PropertyChangeListener, TableModelListener, TableColumnModelListener {
+		private final JTable table;
+		private final WrappingCellRenderer renderer;
+		private final int minHeight;
+		private boolean pending;
+
+		private RowHeights(final JTable table, final WrappingCellRenderer renderer) {
+			this.table = table;
+			this.renderer = renderer;
+			this.minHeight = table.getRowHeight();
+		}
+
+		private void bind() {
+			table.addPropertyChangeListener(this);
+			table.getModel().addTableModelListener(this);
+			table.getColumnModel().addColumnModelListener(this);
+			schedule();
+		}
+
+		/**
+		 * Recalcula las alturas una vez atendidos los eventos en curso, de modo que
+		 * varios cambios seguidos solo provocan un cálculo.
+		 */
+		private void schedule() {
+			if (!pending) {
+				pending = true;
+				SwingUtilities.invokeLater(this::update);
+			}
+		}
+
+		private void update() {
+			pending = false;
+			renderer.setFont(table.getFont());
+			TableColumnModel columns = table.getColumnModel();
+			renderer.setCachedCells(table.getRowCount() * columns.getColumnCount());
+
+			for (int row = 0; row < table.getRowCount(); row++) {
+				int height = minHeight;
+				for (int column = 0; column < columns.getColumnCount(); column++) {
+					if (table.getCellRenderer(row, column) != renderer) {
+						continue;
+					}
+					String[] lines = renderer.getLines(table.getValueAt(row, column),
+							columns.getColumn(column).getWidth());
+					height = Math.max(height, renderer.getHeight(lines.length));
+				}
+				if (table.getRowHeight(row) != height) {
+					table.setRowHeight(row, height);
+				}
+			}
+		}
+
+		@Override
+		public void propertyChange(PropertyChangeEvent e) {
+			if ("model".equals(e.getPropertyName())) {
+				((TableModel) e.getOldValue()).removeTableModelListener(this);
+				((TableModel) e.getNewValue()).addTableModelListener(this);
+				schedule();
+			} else if ("columnModel".equals(e.getPropertyName())) {
+				((TableColumnModel) e.getOldValue()).removeColumnModelListener(this);
+				((TableColumnModel) e.getNewValue()).addColumnModelListener(this);
+				schedule();
+			} else if ("font".equals(e.getPropertyName())) {
+				schedule();
+			}
+		}
+
+		@Override
+		public void tableChanged(TableModelEvent e) {
+			schedule();
+		}
+
+		@Override
+		public void columnMarginChanged(ChangeEvent e) {
+			schedule();
+		}
+
+		@Override
+		public void columnAdded(TableColumnModelEvent e) {
+			schedule();
+		}
+
+		@Override
+		public void columnRemoved(TableColumnModelEvent e) {
+			schedule();
+		}
+
+		@Override
+		public void columnMoved(TableColumnModelEvent e) {
+		}
+
+		@Override
+		public void columnSelectionChanged(ListSelectionEvent e) {
+		}
+	}
+
+}
@@ -2,6 +2,12 @@ package ui.main;
 
 import java.awt.EventQueue;
 
+import persistence.colegiado.IndiceColegiados;
+import persistence.jdbc.SqlCatalog;
+import persistence.migration.SchemaMigrator;
+import ui.util.EdtMonitor;
+import ui.util.StartupTimeline;
+
 public class Main {
 
 	
@@ -9,12 +15,20 @@ public class Main {
 	 * Launch the application.
 	 */
 	public static void main(String[] args) {
+		StartupTimeline.mark(StartupTimeline.MAIN);
+		SchemaMigrator.migrate();
+		SqlCatalog.startWarmUp();
+		IndiceColegiados.iniciarConstruccion();
+		EdtMonitor.install();
+
 		EventQueue.invokeLater(new Runnable() {
 			public void run() {
 				try {
 					MainWindow frame = new MainWindow();
+					StartupTimeline.mark(StartupTimeline.WINDOW_CREATED);
 					frame.setVisible(true);
 					frame.setLocationRelativeTo(null);
+					StartupTimeline.mark(StartupTimeline.WINDOW_VISIBLE);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -9,6 +9,7 @@ import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
+import java.awt.Graphics;
 import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.GridLayout;
@@ -20,8 +21,10 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.FocusAdapter;
 import java.awt.event.FocusEvent;
+import java.awt.event.InputEvent;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
+import java.io.File;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.time.LocalDate;
@@ -32,15 +35,21 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.swing.AbstractAction;
 import javax.swing.BoxLayout;
 import javax.swing.ButtonGroup;
 import javax.swing.DefaultComboBoxModel;
 import javax.swing.DefaultListModel;
 import javax.swing.JButton;
+import javax.swing.JComponent;
 import javax.swing.JComboBox;
 import javax.swing.JFormattedTextField;
 import javax.swing.JFrame;
@@ -54,6 +63,7 @@ import javax.swing.JSpinner;
 import javax.swing.JTable;
 import javax.swing.JTextArea;
 import javax.swing.JTextField;
+import javax.swing.KeyStroke;
 import javax.swing.ListSelectionModel;
 import javax.swing.SpinnerNumberModel;
 import javax.swing.SwingConstants;
@@ -83,8 +93,10 @@ import business.SolicitudServicios.SolicitudServicios;
 import business.colegiado.Colegiado;
 import business.colegiado.Perito;
 import business.curso.Curso;
+import business.curso.CursoAsync;
 import business.curso.listaEspera.ListaEsperaCurso;
 import business.inscripcion.InscripcionCursoFormativo;
+import business.util.AsyncExecutor;
 import business.util.CSVLoteSolicitudesColegiacion;
 import business.util.DateUtils;
 import persistence.DtoAssembler;
@@ -96,16 +108,21 @@ import persistence.colegiado.ColegiadoCrud;
 import persistence.colegiado.ColegiadoDto;
 import persistence.curso.CursoCRUD;
 import persistence.curso.CursoDto;
+import persistence.curso.PrecioCursoCRUD;
 import persistence.curso.Precio_Colectivos;
 import persistence.curso.profesorado.ProfesorCRUD;
 import persistence.curso.profesorado.ProfesorDto;
 import persistence.curso.sesion.SesionCRUD;
 import persistence.curso.sesion.SesionDto;
+import persistence.jdbc.BatchResult;
+import persistence.jdbc.Jdbc;
 import persistence.jdbc.PersistenceException;
 import persistence.perito.PeritoCRUD;
 import persistence.recibo.ReciboCRUD;
 import persistence.solicitudVisados.SolicitudVisadoDto;
 import persistence.solicitudVisados.SolicitudVisadosCRUD;
+import persistence.util.Conf;
+import persistence.util.Page;
 import ui.model.ModeloInformesPericiales;
 import ui.components.LookAndFeel;
 import ui.components.buttons.ButtonColor;
@@ -113,8 +130,11 @@ import ui.components.buttons.DefaultButton;
 import ui.components.messages.DefaultMessage;
 import ui.components.messages.MessageType;
 import ui.components.placeholder.TextPlaceHolderCustom;
+import ui.components.sugerencias.SugerenciasColegiado;
+import ui.components.table.WrappingCellRenderer;
 import ui.model.ColegiadoModel;
 import ui.model.CursoModel;
+import ui.model.DtoTableModel;
 import ui.model.InscripcionColegiadoModel;
 import ui.model.ListaEsperaCursoModel;
 import ui.model.ModeloBajaColegiado;
@@ -125,6 +145,10 @@ import ui.model.ModeloPeritosDisponiblesParaVisado;
 import ui.model.ModeloSolicitudServicios;
 import ui.model.ModeloSolicitudesVisados;
 import ui.model.combo.ColectivoComboModel;
+import ui.util.BackgroundTask;
+import ui.util.EdtMonitor;
+import ui.util.PaginatedTableLoader;
+import ui.util.StartupTimeline;
 import ui.util.TimeFormatter;
 
 public class MainWindow extends JFrame {
@@ -160,7 +184,19 @@ public class MainWindow extends JFrame {
 
 	private static final int ALL_MINUS_ID = 1;
 
+	// Con UI_LAZY_PANELS cada panel se construye la primera vez que se muestra
+	private static final boolean PANELES_BAJO_DEMANDA = Boolean
+			.parseBoolean(Conf.getInstance().getProperty("UI_LAZY_PANELS", "true"));
+	private static final String CARGANDO = "Cargando...";
+
 	private JPanel mainPanel;
+	// Paneles aún no añadidos a mainPanel y cargas de datos pendientes de la
+	// primera vez que se muestra cada panel
+	private final Map<String, Supplier<JPanel>> panelesPendientes = new LinkedHashMap<>();
+	private final Map<String, Runnable> cargasPendientes = new HashMap<>();
+	// Última carga de la primera página solicitada en cada listado paginado
+	private int peticionSolicitudesColegiado;
+	private int peticionInformesPericiales;
 
 	private JPanel pnHome;
 	private JPanel pnAbrirInscripcionesCurso;
@@ -734,33 +770,46 @@ public class MainWindow extends JFrame {
 
 		/*
 		 * Card Panel - Paneles con las funcionalidades de la aplicacion. Evitar abrir
-		 * JFrames nuevos si no es estrictamente necesario.
+		 * JFrames nuevos si no es estrictamente necesario. Cada panel se añade a
+		 * mainPanel la primera vez que se muestra (mostrarPanel) y sus datos se cargan
+		 * después en segundo plano.
 		 */
 
-		mainPanel.add(getPnHome(), HOME_PANEL_NAME);
-		mainPanel.add(getPnSolicitudColegiado(), SOLICITUD_COLEGIADO_PANEL_NAME);
-		mainPanel.add(getPnAbrirInscripcionesCurso(), APERTURA_INSCRIPCIONES_PANEL_NAME);
-		mainPanel.add(getPnInscripcion_old(), "inscripcion_cursos_OLD");
-		mainPanel.add(getPnPagarInscripcionColegiado(), PAGAR_INSCRIPCION_CURSO_PANEL_NAME);
-		mainPanel.add(getPnListadoInscripciones(), LISTADO_INSCRIPCIONES_PANEL_NAME);
-		mainPanel.add(getPnConsultarTitulacionSolicitante(), CONSULTAR_TITULACION_SOLICITANTE_PANEL_NAME);
-		mainPanel.add(getPnCrearCurso(), ADD_CURSO_PANEL_NAME);
-		mainPanel.add(getPnTransferencias(), INSCRIPCION_CURSO_TRANSFERENCIAS);
-		mainPanel.add(getPnTransferenciasProcesadas(), INSCRIPCION_CURSO_TRANSFERENCIAS_PROCESADAS);
-		mainPanel.add(getPnRecepcionLoteResultado(), RECEPCION_LOTES_COLEGIACION_PANEL);
-		mainPanel.add(getPnSolicitudServicios(), SOLICITUD_SERVICIOS);
-		mainPanel.add(getPnAsignacionSolicitudesServicios(), ASIGNACION_SOLICITUD_SERVICIOS);
-		mainPanel.add(getPnListaProfesionalesPeritos(), LISTAS_PROFESIONALES);
-		mainPanel.add(getPnCancelarCursoCOIIPA(), CANCELAR_CURSO);
-		mainPanel.add(getPnCancelarInscripcionCurso(), CANCELAR_INSCRIPCION);
-		mainPanel.add(getPnInscripcionCurso(), INSCRIPCION_CURSO_PANEL_NAME);
-		mainPanel.add(getPnSolicitudVisados(), CREAR_SOLICITUD_VISADOS);
-		mainPanel.add(getPnAsignarVisados(), ASIGNACION_VISADOS);
-
-		mainPanel.add(getPnInformesPericiales(), INFORMES_PERICIALES);
-		mainPanel.add(getPnCancelarPericial(), CANCELAR_PERICIAL);
-		mainPanel.add(getPnBajaColegiado(), BAJA_COLEGIADOS);
-		
+		panelesPendientes.put(HOME_PANEL_NAME, this::getPnHome);
+		panelesPendientes.put(SOLICITUD_COLEGIADO_PANEL_NAME, this::getPnSolicitudColegiado);
+		panelesPendientes.put(APERTURA_INSCRIPCIONES_PANEL_NAME, this::getPnAbrirInscripcionesCurso);
+		panelesPendientes.put("inscripcion_cursos_OLD", this::getPnInscripcion_old);
+		panelesPendientes.put(PAGAR_INSCRIPCION_CURSO_PANEL_NAME, this::getPnPagarInscripcionColegiado);
+		panelesPendientes.put(LISTADO_INSCRIPCIONES_PANEL_NAME, this::getPnListadoInscripciones);
+		panelesPendientes.put(CONSULTAR_TITULACION_SOLICITANTE_PANEL_NAME, this::getPnConsultarTitulacionSolicitante);
+		panelesPendientes.put(ADD_CURSO_PANEL_NAME, this::getPnCrearCurso);
+		panelesPendientes.put(INSCRIPCION_CURSO_TRANSFERENCIAS, this::getPnTransferencias);
+		panelesPendientes.put(INSCRIPCION_CURSO_TRANSFERENCIAS_PROCESADAS, this::getPnTransferenciasProcesadas);
+		panelesPendientes.put(RECEPCION_LOTES_COLEGIACION_PANEL, this::getPnRecepcionLoteResultado);
+		panelesPendientes.put(SOLICITUD_SERVICIOS, this::getPnSolicitudServicios);
+		panelesPendientes.put(ASIGNACION_SOLICITUD_SERVICIOS, this::getPnAsignacionSolicitudesServicios);
+		panelesPendientes.put(LISTAS_PROFESIONALES, this::getPnListaProfesionalesPeritos);
+		panelesPendientes.put(CANCELAR_CURSO, this::getPnCancelarCursoCOIIPA);
+		panelesPendientes.put(CANCELAR_INSCRIPCION, this::getPnCancelarInscripcionCurso);
+		panelesPendientes.put(INSCRIPCION_CURSO_PANEL_NAME, this::getPnInscripcionCurso);
+		panelesPendientes.put(CREAR_SOLICITUD_VISADOS, this::getPnSolicitudVisados);
+		panelesPendientes.put(ASIGNACION_VISADOS, this::getPnAsignarVisados);
+		panelesPendientes.put(INFORMES_PERICIALES, this::getPnInformesPericiales);
+		panelesPendientes.put(CANCELAR_PERICIAL, this::getPnCancelarPericial);
+		panelesPendientes.put(BAJA_COLEGIADOS, this::getPnBajaColegiado);
+
+		cargasPendientes.put(PAGAR_INSCRIPCION_CURSO_PANEL_NAME, this::cargarCursosAbiertosPago);
+		cargasPendientes.put(ADD_CURSO_PANEL_NAME, this::cargarProfesoresLibres);
+		cargasPendientes.put(LISTAS_PROFESIONALES, this::cargarListadoPeritos);
+		cargasPendientes.put(ASIGNACION_VISADOS, this::cargarVisados);
+
+		if (PANELES_BAJO_DEMANDA) {
+			construirPanel(HOME_PANEL_NAME);
+		} else {
+			for (String nombre : new ArrayList<>(panelesPendientes.keySet())) {
+				construirPanel(nombre);
+			}
+		}
 
 		frame = new RegisterWindow(this);
 		frame.setVisible(false);
@@ -856,8 +905,82 @@ public class MainWindow extends JFrame {
 	}
 
 	private void inicializarCampos() {
-		textFieldNombre.grabFocus();
+		if (textFieldNombre != null) {
+			textFieldNombre.grabFocus();
+		}
 		this.setDefaultCloseOperation(javax.swing.WindowConstants.EXIT_ON_CLOSE);
+		registrarAtajoEstadisticasConsultas();
+	}
+
+	/**
+	 * Añade a mainPanel el panel indicado si aún no se ha construido.
+	 * 
+	 * @param nombre Nombre del panel en mainCardLayout.
+	 */
+	private void construirPanel(String nombre) {
+		Supplier<JPanel> panel = panelesPendientes.remove(nombre);
+		if (panel != null) {
+			mainPanel.add(panel.get(), nombre);
+		}
+	}
+
+	/**
+	 * Muestra el panel indicado, construyéndolo la primera vez. Si es la primera
+	 * vez que se muestra, lanza también la carga en segundo plano de sus datos.
+	 * 
+	 * @param nombre Nombre del panel en mainCardLayout.
+	 */
+	private void mostrarPanel(String nombre) {
+		construirPanel(nombre);
+		mainCardLayout.show(mainPanel, nombre);
+		Runnable carga = cargasPendientes.remove(nombre);
+		if (carga != null) {
+			carga.run();
+		}
+	}
+
+	@Override
+	public void paint(Graphics g) {
+		super.paint(g);
+		StartupTimeline.firstPaint();
+	}
+
+	/**
+	 * Ctrl+Shift+E vuelca las estadísticas de las consultas a la base de datos al
+	 * fichero configurado en <code>JDBC_QUERY_STATS_FILE</code> y el informe del
+	 * catálogo de sentencias al configurado en <code>SQL_CATALOG_REPORT_FILE</code>.
+	 * También vuelca el resumen de los bloqueos de la interfaz al fichero
+	 * configurado en <code>EDT_STALL_REPORT_FILE</code>.
+	 */
+	private void registrarAtajoEstadisticasConsultas() {
+		getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(
+				KeyStroke.getKeyStroke(KeyEvent.VK_E, InputEvent.CTRL_DOWN_MASK | InputEvent.SHIFT_DOWN_MASK),
+				"volcarEstadisticasConsultas");
+		getRootPane().getActionMap().put("volcarEstadisticasConsultas", new AbstractAction() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void actionPerformed(ActionEvent e) {
+				try {
+					File file = Jdbc.dumpQueryStats();
+					File catalogo = Jdbc.dumpSqlCatalog();
+					File bloqueos = EdtMonitor.dump();
+					String mensaje = file == null ? "Las estadísticas de consultas están desactivadas"
+							: "Estadísticas de consultas guardadas en " + file.getAbsolutePath();
+					if (catalogo != null) {
+						mensaje += "\nCatálogo de sentencias guardado en " + catalogo.getAbsolutePath();
+					}
+					if (bloqueos != null) {
+						mensaje += "\nBloqueos de la interfaz guardados en " + bloqueos.getAbsolutePath();
+					}
+					JOptionPane.showMessageDialog(MainWindow.this, mensaje);
+				} catch (IOException ex) {
+					JOptionPane.showMessageDialog(MainWindow.this,
+							"No se han podido guardar las estadísticas de consultas: " + ex.getMessage(), "Error",
+							JOptionPane.ERROR_MESSAGE);
+				}
+			}
+		});
 	}
 
 	private JPanel getPnHome() {
@@ -911,14 +1034,8 @@ public class MainWindow extends JFrame {
 
 			tbCoursesList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 
-			try {
-				TableModel tableModel = new CursoModel(Curso.listarCursosPlanificados()).getCursosPlanificadosModel();
-
-				tbCoursesList.setModel(tableModel);
-			} catch (BusinessException e) {
-				showMessage(e, MessageType.ERROR);
-				e.printStackTrace();
-			}
+			// Los cursos se cargan al mostrar el panel (refreshScheduledCoursesList)
+			tbCoursesList.setModel(new CursoModel(List.of()).getCursosPlanificadosModel());
 
 			// Evento de selecciÃ³n de curso para abrir inscripciones
 			tbCoursesList.getSelectionModel().addListSelectionListener(new ListSelectionListener() {
@@ -1220,7 +1337,7 @@ public class MainWindow extends JFrame {
 			btCancelarAperturaCurso = new DefaultButton("Cancelar", "ventana", "Cancelar", 'c', ButtonColor.CANCEL);
 			btCancelarAperturaCurso.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 				}
 			});
 			btCancelarAperturaCurso.setToolTipText("Cancelar apertura de curso");
@@ -1436,7 +1553,7 @@ public class MainWindow extends JFrame {
 					if (anadirColegiado()) {
 						mostrarEstadoPendiente();
 						reiniciarSolicitudRegistro();
-						mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+						mostrarPanel(HOME_PANEL_NAME);
 					}
 				}
 			});
@@ -1546,7 +1663,7 @@ public class MainWindow extends JFrame {
 				public void actionPerformed(ActionEvent e) {
 					if (confirmarVolverPrincipio()) {
 						reiniciarSolicitudRegistro();
-						mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+						mostrarPanel(HOME_PANEL_NAME);
 					}
 				}
 			});
@@ -2019,6 +2136,7 @@ public class MainWindow extends JFrame {
 			pnInscripcion_old.add(lbLoginUsername_1);
 
 			txCursoDNI = new JTextField();
+			SugerenciasColegiado.install(txCursoDNI);
 			txCursoDNI.setToolTipText("Intro");
 			txCursoDNI.setColumns(10);
 			txCursoDNI.setBounds(356, 44, 324, 35);
@@ -2274,8 +2392,7 @@ public class MainWindow extends JFrame {
 
 							cursosAbiertosPnInscripcion = InscripcionCursoFormativo.getCursosAbiertos();
 							cursosAbiertosPnInscripcion = cursosAbiertosPnInscripcion.stream()
-									.filter(curso -> Precio_Colectivos
-											.StringToPrecio_Colectivos(curso.CantidadPagarColectivo)
+									.filter(curso -> PrecioCursoCRUD.findPrecios(curso.codigoCurso)
 											.containsAlgunColectivo(c.TipoColectivo, "Todos"))
 									.collect(Collectors.toList());
 
@@ -2313,7 +2430,7 @@ public class MainWindow extends JFrame {
 					ButtonColor.NORMAL);
 			btnInscripcionToInicio.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 
 					btnInscribete.setEnabled(false);
 				}
@@ -2457,7 +2574,7 @@ public class MainWindow extends JFrame {
 			btnCrearCursoCancelar.setToolTipText("Haz click aquí para volver a inicio");
 			btnCrearCursoCancelar.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 				}
 			});
 		}
@@ -2538,9 +2655,15 @@ public class MainWindow extends JFrame {
 
 					Curso.add(curso);
 
-					for (int i = 0; i < fechasCurso.size(); i++) {
-						SesionDto fecha = fechasCurso.get(i);
-						SesionCRUD.addSesion(curso.codigoCurso, fecha.horaInicio.toString(), fecha.horaFin.toString());
+					for (SesionDto fecha : fechasCurso) {
+						fecha.idCurso = curso.codigoCurso;
+					}
+					BatchResult<SesionDto> sesionesAnadidas = SesionCRUD.addSesiones(fechasCurso);
+					if (sesionesAnadidas.hasFailures()) {
+						JOptionPane.showMessageDialog(pnCrearCurso,
+								"No se han podido añadir " + sesionesAnadidas.getFailures().size()
+										+ " sesiones del curso:\n" + sesionesAnadidas,
+								"Crear un nuevo curso: Error", JOptionPane.ERROR_MESSAGE);
 					}
 
 					ProfesorCRUD.asignarProfesorCurso(curso.codigoCurso, (String) cbProfesores.getSelectedItem());
@@ -2620,7 +2743,7 @@ public class MainWindow extends JFrame {
 
 				} else {
 					dniColegiado = dni;
-					mainCardLayout.show(mainPanel, CANCELAR_INSCRIPCION);
+					mostrarPanel(CANCELAR_INSCRIPCION);
 					pnCancelarInscripcionCursoInscripciones.setVisible(false);
 
 					try {
@@ -2697,7 +2820,7 @@ public class MainWindow extends JFrame {
 									"No puede CANCELAR ningún curso debido a que no hay ninguno disponible para cancelarlo",
 									"No puede cancelar ningún curso", JOptionPane.WARNING_MESSAGE);
 						} else {
-							mainCardLayout.show(mainPanel, CANCELAR_CURSO);
+							mostrarPanel(CANCELAR_CURSO);
 							spInscripcionesCanceladas.setVisible(false);
 							if (tbListadoCursos != null) {
 								try {
@@ -2729,7 +2852,7 @@ public class MainWindow extends JFrame {
 			btHomeAltaColegiado.setMnemonic('A');
 			btHomeAltaColegiado.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, SOLICITUD_COLEGIADO_PANEL_NAME);
+					mostrarPanel(SOLICITUD_COLEGIADO_PANEL_NAME);
 				}
 			});
 		}
@@ -2742,7 +2865,7 @@ public class MainWindow extends JFrame {
 					'n', ButtonColor.NORMAL);
 			btHomeInscripcionCurso.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, INSCRIPCION_CURSO_PANEL_NAME);
+					mostrarPanel(INSCRIPCION_CURSO_PANEL_NAME);
 				}
 			});
 		}
@@ -2761,7 +2884,7 @@ public class MainWindow extends JFrame {
 									"No puede pagar la inscripción de un curso debido a que no hay ninguno abierto o no hay suficientes plazas",
 									"No puede hacerse cargo de ninguna inscripción", JOptionPane.WARNING_MESSAGE);
 						} else {
-							mainCardLayout.show(mainPanel, PAGAR_INSCRIPCION_CURSO_PANEL_NAME);
+							mostrarPanel(PAGAR_INSCRIPCION_CURSO_PANEL_NAME);
 							textFieldDNIColegiado.grabFocus();
 						}
 					} catch (BusinessException e1) {
@@ -2779,12 +2902,12 @@ public class MainWindow extends JFrame {
 					"AbrirInscrionesCurso", 'b', ButtonColor.NORMAL);
 			btHomeSecretariaAbrirInscripciones.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
+					mostrarPanel(APERTURA_INSCRIPCIONES_PANEL_NAME);
 					try {
 						refreshScheduledCoursesList();
 					} catch (BusinessException e1) {
 						e1.printStackTrace();
 					}
-					mainCardLayout.show(mainPanel, APERTURA_INSCRIPCIONES_PANEL_NAME);
 				}
 			});
 		}
@@ -2797,12 +2920,8 @@ public class MainWindow extends JFrame {
 					"ventana", "ConsultarTitulacionSolicitante", 'c', ButtonColor.NORMAL);
 			btHomeSecretariaConsultarTitulacionSolicitante.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					try {
-						refrescarListaSolicitudesColegiado();
-					} catch (BusinessException e1) {
-						e1.printStackTrace();
-					}
-					mainCardLayout.show(mainPanel, CONSULTAR_TITULACION_SOLICITANTE_PANEL_NAME);
+					mostrarPanel(CONSULTAR_TITULACION_SOLICITANTE_PANEL_NAME);
+					refrescarListaSolicitudesColegiado();
 				}
 			});
 		}
@@ -2815,12 +2934,28 @@ public class MainWindow extends JFrame {
 					"EmitirCuotasColegiados", 't', ButtonColor.NORMAL);
 			btHomeSecretariaEmitirCuotas.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					if (ReciboCRUD.emitirCuotas()) {
-						JOptionPane.showMessageDialog(null, "Cuotas emitidads correctamente");
-						;
-					} else {
-						JOptionPane.showMessageDialog(null, "No hay cuotas pendientes");
-					}
+					new BackgroundTask<Boolean>(btHomeSecretariaEmitirCuotas, "Emitiendo cuotas...",
+							btHomeSecretariaEmitirCuotas) {
+						// La emisión comprueba la interrupción entre colegiados y deshace los recibos
+						@Override
+						protected boolean isCancellable() {
+							return true;
+						}
+
+						@Override
+						protected Boolean work() {
+							return ReciboCRUD.emitirCuotas();
+						}
+
+						@Override
+						protected void succeeded(Boolean emitidas) {
+							if (emitidas) {
+								JOptionPane.showMessageDialog(null, "Cuotas emitidads correctamente");
+							} else {
+								JOptionPane.showMessageDialog(null, "No hay cuotas pendientes");
+							}
+						}
+					}.start();
 				}
 			});
 		}
@@ -2833,7 +2968,7 @@ public class MainWindow extends JFrame {
 					ButtonColor.NORMAL);
 			btHomeSecretariaAddCurso.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, ADD_CURSO_PANEL_NAME);
+					mostrarPanel(ADD_CURSO_PANEL_NAME);
 				}
 			});
 		}
@@ -2846,7 +2981,7 @@ public class MainWindow extends JFrame {
 					"ListadoInscripciones", 'l', ButtonColor.NORMAL);
 			btHomeSecretariaListadoInscripciones.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, LISTADO_INSCRIPCIONES_PANEL_NAME);
+					mostrarPanel(LISTADO_INSCRIPCIONES_PANEL_NAME);
 					ActualizaModeloListaCursos();
 				}
 			});
@@ -2921,7 +3056,7 @@ public class MainWindow extends JFrame {
 					"VolverAInicio", 'v', ButtonColor.NORMAL);
 			btnListadoInscripcionesToInicio.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 					tbCursosInscripciones = null;
 				}
 			});
@@ -3084,39 +3219,55 @@ public class MainWindow extends JFrame {
 					"Haz click aquí para enviar el lote con todas las solicitudes de colegiación pendientes");
 			btActualizarListaSolicitudesColegiado.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					try {
-						/*
-						 * Al hacer click en el botón "Enviar Lote, se procederá al envío de todas las
-						 * solicitudes de alta de colegiado hasta la fecha"
-						 */
-						String nombreLote = Colegiado.enviarLoteSolicitudesColegiacion();
+					/*
+					 * Al hacer click en el botón "Enviar Lote, se procederá al envío de todas las
+					 * solicitudes de alta de colegiado hasta la fecha"
+					 */
+					new BackgroundTask<String>(btActualizarListaSolicitudesColegiado,
+							"Enviando lote de solicitudes de colegiación...", btActualizarListaSolicitudesColegiado) {
+						private TableModel allSolicitudesColegiado;
+
+						@Override
+						protected String work() throws BusinessException {
+							String nombreLote = Colegiado.enviarLoteSolicitudesColegiacion();
+							List<ColegiadoDto> colegiados = Colegiado.findAllSolicitudesAltaColegiados();
+							allSolicitudesColegiado = new ColegiadoModel(colegiados).getColegiadoModel(false);
+							return nombreLote;
+						}
 
-						// Si se envió el lote de forma satisfactoria, mostrar mensaje informativo
-						String mensajeInformativoLote = "Se ha enviado el lote " + nombreLote
-								+ " \ndentro del directorio: lotes_colegiacion";
+						@Override
+						protected void succeeded(String nombreLote) {
+							// Si se envió el lote de forma satisfactoria, mostrar mensaje informativo
+							String mensajeInformativoLote = "Se ha enviado el lote " + nombreLote
+									+ " \ndentro del directorio: lotes_colegiacion";
 
-						pnConsultarColegiadoDatosColegiadoSeleccionado.setVisible(true);
-						lbColegiadoSeleccionadoSolicitudRespuesta.setText(mensajeInformativoLote);
+							pnConsultarColegiadoDatosColegiadoSeleccionado.setVisible(true);
+							lbColegiadoSeleccionadoSolicitudRespuesta.setText(mensajeInformativoLote);
 
-						JOptionPane.showMessageDialog(null, mensajeInformativoLote,
-								"Información | Envío lote solicitudes colegiación", JOptionPane.INFORMATION_MESSAGE);
+							JOptionPane.showMessageDialog(null, mensajeInformativoLote,
+									"Información | Envío lote solicitudes colegiación", JOptionPane.INFORMATION_MESSAGE);
 
-						tbListadoSolicitudesColegiado.setModel(new DefaultTableModel());
-						List<ColegiadoDto> colegiados = Colegiado.findAllSolicitudesAltaColegiados();
+							tbListadoSolicitudesColegiado.setModel(new DefaultTableModel());
 
-						lbColegiadoSeleccionadoSolicitudRespuesta.setText(
-								"Lote enviado correctamente. En la tabla se reflejan las solicitudes enviadas.");
-						TableModel allSolicitudesColegiado = new ColegiadoModel(colegiados).getColegiadoModel(false);
-						refreshPanelRecepcionSolicitudes(allSolicitudesColegiado,
-								"Envío solicitudes · Listado solicitudes colegiación enviadas");
+							lbColegiadoSeleccionadoSolicitudRespuesta.setText(
+									"Lote enviado correctamente. En la tabla se reflejan las solicitudes enviadas.");
+							refreshPanelRecepcionSolicitudes(allSolicitudesColegiado,
+									"Envío solicitudes · Listado solicitudes colegiación enviadas");
 
-						// Habilitar el boton para permitir la recepcion del lote
-						btRecepcionarLoteSolicitudesPendientesColegiado.setEnabled(true);
+							// Habilitar el boton para permitir la recepcion del lote
+							btRecepcionarLoteSolicitudesPendientesColegiado.setEnabled(true);
+						}
 
-					} catch (BusinessException e1) {
-						pnConsultarColegiadoDatosColegiadoSeleccionado.setVisible(true);
-						lbColegiadoSeleccionadoSolicitudRespuesta.setText(e1.getMessage());
-					}
+						@Override
+						protected void failed(Throwable error) {
+							if (!(error instanceof BusinessException)) {
+								super.failed(error);
+								return;
+							}
+							pnConsultarColegiadoDatosColegiadoSeleccionado.setVisible(true);
+							lbColegiadoSeleccionadoSolicitudRespuesta.setText(error.getMessage());
+						}
+					}.start();
 				}
 			});
 		}
@@ -3187,15 +3338,7 @@ public class MainWindow extends JFrame {
 			tbListadoSolicitudesColegiado.setRowHeight(LookAndFeel.ROW_HEIGHT);
 			tbListadoSolicitudesColegiado.setGridColor(new Color(255, 255, 255));
 
-			try {
-				TableModel allSolicitudesColegiado = new ColegiadoModel(Colegiado.findAllSolicitudesAltaColegiados())
-						.getColegiadoModel(false);
-
-				tbListadoSolicitudesColegiado.setModel(allSolicitudesColegiado);
-
-			} catch (BusinessException e) {
-				e.printStackTrace();
-			}
+			cargarListaSolicitudesColegiado();
 
 		}
 		return tbListadoSolicitudesColegiado;
@@ -3219,7 +3362,7 @@ public class MainWindow extends JFrame {
 
 			btConsultarSolicitudColegiadoVolver.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 					resetearAjustesVentanaSolicitudesColegidado();
 				}
 			});
@@ -3354,7 +3497,7 @@ public class MainWindow extends JFrame {
 											+ "En otro caso, su solicitud quedará cancelada (tiene 48 horas desde este momento para pagar)",
 									"Pago pendiente", JOptionPane.INFORMATION_MESSAGE);
 							reiniciarInscripcionColegiadoPagar();
-							mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+							mostrarPanel(HOME_PANEL_NAME);
 						} catch (BusinessException e1) {
 							JOptionPane.showMessageDialog(null,
 									"Lo sentimos, no puede hacerse cargo de pagar un curso en el que se ha preinscrito hace más de dos días, "
@@ -3362,7 +3505,7 @@ public class MainWindow extends JFrame {
 											+ "Inténtelo de nuevo la próxima vez",
 									"Inscripción no válida", JOptionPane.WARNING_MESSAGE);
 							reiniciarInscripcionColegiadoPagar();
-							mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+							mostrarPanel(HOME_PANEL_NAME);
 						}
 					}
 				}
@@ -3388,7 +3531,7 @@ public class MainWindow extends JFrame {
 								+ "Inténtelo de nuevo la próxima vez",
 						"Dni inválido", JOptionPane.WARNING_MESSAGE);
 				reiniciarInscripcionColegiadoPagar();
-				mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+				mostrarPanel(HOME_PANEL_NAME);
 				return false;
 			}
 		} catch (BusinessException e) {
@@ -3404,7 +3547,7 @@ public class MainWindow extends JFrame {
 							+ "Consulte sus pagos a las inscripciones del curso",
 					"Preinscripción no realizada", JOptionPane.WARNING_MESSAGE);
 			reiniciarInscripcionColegiadoPagar();
-			mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+			mostrarPanel(HOME_PANEL_NAME);
 			return false;
 		}
 	}
@@ -3458,7 +3601,7 @@ public class MainWindow extends JFrame {
 											+ "El pago se ha inscrito con éxito",
 									"Pago verificado", JOptionPane.INFORMATION_MESSAGE);
 							reiniciarInscripcionColegiadoPagar();
-							mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+							mostrarPanel(HOME_PANEL_NAME);
 
 						} catch (BusinessException e1) {
 							JOptionPane.showMessageDialog(null,
@@ -3466,7 +3609,7 @@ public class MainWindow extends JFrame {
 											+ "Inténtelo de nuevo la próxima vez",
 									"Inscripción no válida", JOptionPane.WARNING_MESSAGE);
 							reiniciarInscripcionColegiadoPagar();
-							mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+							mostrarPanel(HOME_PANEL_NAME);
 						}
 					}
 				}
@@ -3642,6 +3785,7 @@ public class MainWindow extends JFrame {
 	private JTextField getTextFieldDNIColegiado() {
 		if (textFieldDNIColegiado == null) {
 			textFieldDNIColegiado = new JTextField();
+			SugerenciasColegiado.install(textFieldDNIColegiado);
 			textFieldDNIColegiado.addFocusListener(new FocusAdapter() {
 				@Override
 				public void focusLost(FocusEvent e) {
@@ -3723,23 +3867,29 @@ public class MainWindow extends JFrame {
 		if (comboBoxIdentificadorCursosAbiertos == null) {
 			comboBoxIdentificadorCursosAbiertos = new JComboBox<String>();
 			comboBoxIdentificadorCursosAbiertos.setToolTipText("Selecciona el curso que desea pagar");
-			String[] elementsComboBox;
-			List<CursoDto> lista;
-			try {
-				lista = Curso.listarCursosAbiertos();
-				elementsComboBox = new String[lista.size()];
-				for (int i = 0; i < lista.size(); i++) {
-					elementsComboBox[i] = lista.get(i).codigoCurso + " (titulo = " + lista.get(i).titulo + ")";
-				}
-				comboBoxIdentificadorCursosAbiertos = new JComboBox<String>(
-						new DefaultComboBoxModel<String>(elementsComboBox));
-			} catch (BusinessException e) {
-				e.printStackTrace();
-			}
+			// Los cursos se cargan al mostrar el panel (cargarCursosAbiertosPago)
 		}
 		return comboBoxIdentificadorCursosAbiertos;
 	}
 
+	/**
+	 * Carga en segundo plano los cursos abiertos en el desplegable del panel de
+	 * pago de inscripciones.
+	 */
+	private void cargarCursosAbiertosPago() {
+		AsyncExecutor.onEdt(CursoAsync.listarCursosAbiertos(), (lista, error) -> {
+			if (error != null) {
+				error.printStackTrace();
+				return;
+			}
+			String[] elementsComboBox = new String[lista.size()];
+			for (int i = 0; i < lista.size(); i++) {
+				elementsComboBox[i] = lista.get(i).codigoCurso + " (titulo = " + lista.get(i).titulo + ")";
+			}
+			getComboBoxIdentificadorCursosAbiertos().setModel(new DefaultComboBoxModel<String>(elementsComboBox));
+		});
+	}
+
 	private JPanel getPnPagarInscripcionColegiadoSur() {
 		if (pnPagarInscripcionColegiadoSur == null) {
 			pnPagarInscripcionColegiadoSur = new JPanel();
@@ -3758,7 +3908,7 @@ public class MainWindow extends JFrame {
 				public void actionPerformed(ActionEvent e) {
 					if (confirmarVolverPrincipio()) {
 						reiniciarInscripcionColegiadoPagar();
-						mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+						mostrarPanel(HOME_PANEL_NAME);
 					}
 				}
 			});
@@ -3772,20 +3922,56 @@ public class MainWindow extends JFrame {
 	 * Refresca el modelo de la tabla de la lista de solicitudes de alta para
 	 * Colegiados.
 	 * 
-	 * @throws BusinessException
 	 */
-	private void refrescarListaSolicitudesColegiado() throws BusinessException {
-		List<ColegiadoDto> colegiados = Colegiado.findAllSolicitudesAltaColegiados();
-		TableModel allSolicitudesColegiado = new ColegiadoModel(colegiados).getColegiadoModel(false);
-
+	private void refrescarListaSolicitudesColegiado() {
 		pnConsultarColegiadoDatosColegiadoSeleccionado.setVisible(false);
-		lbNumeroSolicitudesColegiado.setText("Mostrando " + colegiados.size() + " Solicitudes");
-		tbListadoSolicitudesColegiado.setModel(allSolicitudesColegiado);
+		cargarListaSolicitudesColegiado();
 
 //		lbColegiadoSeleccionadoSolicitudRespuesta.setText(
 //				"Seleccione un colegiado de la lista y, si tiene titulación, se procederá a darle de alta en el COIIPA");
 	}
 
+	/**
+	 * Carga en segundo plano la primera página de solicitudes de alta en la
+	 * tabla. Las siguientes se cargan al desplazarse hasta el final de la tabla.
+	 * Si se solicita de nuevo antes de recibirla, solo se muestra la última.
+	 */
+	private void cargarListaSolicitudesColegiado() {
+		int peticion = ++peticionSolicitudesColegiado;
+		AsyncExecutor.onEdt(AsyncExecutor.read(() -> Colegiado.findSolicitudesAltaColegiadosPage(null)),
+				(primeraPagina, error) -> {
+					if (peticion != peticionSolicitudesColegiado) {
+						return;
+					}
+					if (error != null) {
+						error.printStackTrace();
+						return;
+					}
+
+					if (primeraPagina.getItems().isEmpty()) {
+						try {
+							tbListadoSolicitudesColegiado
+									.setModel(new ColegiadoModel(primeraPagina.getItems()).getColegiadoModel(false));
+						} catch (BusinessException e) {
+							e.printStackTrace();
+						}
+						setTextoNumeroSolicitudesColegiado(0, false);
+						return;
+					}
+
+					PaginatedTableLoader.attach(tbListadoSolicitudesColegiado,
+							ColegiadoModel.createSolicitudesModel(List.of()), primeraPagina,
+							Colegiado::findSolicitudesAltaColegiadosPage,
+							loader -> setTextoNumeroSolicitudesColegiado(loader.getLoadedRows(), loader.hasMore()));
+				});
+	}
+
+	private void setTextoNumeroSolicitudesColegiado(int cargadas, boolean hayMas) {
+		if (lbNumeroSolicitudesColegiado != null) {
+			lbNumeroSolicitudesColegiado.setText("Mostrando " + cargadas + (hayMas ? "+" : "") + " Solicitudes");
+		}
+	}
+
 	private JPanel getPnNumeroTarjetaDatosColegiadoText() {
 		if (pnNumeroTarjetaDatosColegiadoText == null) {
 			pnNumeroTarjetaDatosColegiadoText = new JPanel();
@@ -3996,27 +4182,42 @@ public class MainWindow extends JFrame {
 					.setToolTipText("Haz click aquí para recepcionar el lote de solicitudes de colegiación");
 			btRecepcionarLoteSolicitudesPendientesColegiado.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
+					new BackgroundTask<List<ColegiadoDto>>(btRecepcionarLoteSolicitudesPendientesColegiado,
+							"Recepcionando lote de solicitudes de colegiación...",
+							btRecepcionarLoteSolicitudesPendientesColegiado) {
+						private TableModel solicitudesColegiadoAdmitidasModel;
+
+						@Override
+						protected List<ColegiadoDto> work() throws BusinessException {
+							List<ColegiadoDto> colegiadosAdmitidos = Colegiado.recepcionarLoteSolicitudesColegiacion()
+									.stream().sorted((c1, c2) -> c1.numeroColegiado.compareTo(c2.numeroColegiado))
+									.collect(Collectors.toList());
+							solicitudesColegiadoAdmitidasModel = new ColegiadoModel(colegiadosAdmitidos)
+									.getNuevoColegiadoModel();
+							return colegiadosAdmitidos;
+						}
 
-					try {
-						List<ColegiadoDto> colegiadosAdmitidos = Colegiado.recepcionarLoteSolicitudesColegiacion()
-								.stream().sorted((c1, c2) -> c1.numeroColegiado.compareTo(c2.numeroColegiado))
-								.collect(Collectors.toList());
-
-						TableModel solicitudesColegiadoAdmitidasModel = new ColegiadoModel(colegiadosAdmitidos)
-								.getNuevoColegiadoModel();
-
-						String msgAux = colegiadosAdmitidos.size() == 0
-								? "No hay ninguna solicitud admitida para colegiación"
-								: "Hay " + colegiadosAdmitidos.size()
-										+ " solicitudes aptas. La tabla muestra los nuevos colegiados del COIIPA.";
-						lbColegiadoSeleccionadoSolicitudRespuesta.setText("Lote recepcionado correctamente. " + msgAux);
-						refreshPanelRecepcionSolicitudes(solicitudesColegiadoAdmitidasModel,
-								"Recepción solicitudes · Listado de nuevos colegiados del COIIPA");
-
-					} catch (BusinessException be) {
+						@Override
+						protected void succeeded(List<ColegiadoDto> colegiadosAdmitidos) {
+							String msgAux = colegiadosAdmitidos.size() == 0
+									? "No hay ninguna solicitud admitida para colegiación"
+									: "Hay " + colegiadosAdmitidos.size()
+											+ " solicitudes aptas. La tabla muestra los nuevos colegiados del COIIPA.";
+							lbColegiadoSeleccionadoSolicitudRespuesta
+									.setText("Lote recepcionado correctamente. " + msgAux);
+							refreshPanelRecepcionSolicitudes(solicitudesColegiadoAdmitidasModel,
+									"Recepción solicitudes · Listado de nuevos colegiados del COIIPA");
+						}
 
-						lbColegiadoSeleccionadoSolicitudRespuesta.setText(be.getMessage());
-					}
+						@Override
+						protected void failed(Throwable error) {
+							if (!(error instanceof BusinessException)) {
+								super.failed(error);
+								return;
+							}
+							lbColegiadoSeleccionadoSolicitudRespuesta.setText(error.getMessage());
+						}
+					}.start();
 				}
 
 			});
@@ -4270,10 +4471,10 @@ public class MainWindow extends JFrame {
 							JOptionPane.showMessageDialog(null, "Lo sentimos, no hay ningún curso disponible",
 									"No existen cursos", JOptionPane.WARNING_MESSAGE);
 						} else {
+							mostrarPanel(INSCRIPCION_CURSO_TRANSFERENCIAS);
 							panelMuestraTransferencias.setVisible(false);
 							btnMovimientosBancarios.setEnabled(true);
 							btnProcesarPagos.setEnabled(false);
-							mainCardLayout.show(mainPanel, INSCRIPCION_CURSO_TRANSFERENCIAS);
 							tbCourses.setEnabled(true);
 							tbCourses.clearSelection();
 							tbCourses.removeAll();
@@ -4379,38 +4580,44 @@ public class MainWindow extends JFrame {
 								"Por favor, revise que haya seleccionado un curso para ver el estado de la cuenta bancaria",
 								"Seleccione el curso", JOptionPane.WARNING_MESSAGE);
 					} else {
-						try {
-							InscripcionColegiado.pagarBancoTransferencia(cursoSeleccionado.codigoCurso);
-							InscripcionColegiado.emitirFicheroTransferenciaPorCurso(cursoSeleccionado.codigoCurso);
-						} catch (BusinessException e1) {
-							e1.printStackTrace();
-						}
-						btnMovimientosBancarios.setEnabled(false);
-						panelMuestraTransferencias.setVisible(true);
-						panelMuestraTransferencias.setVisible(true);
-						btnProcesarPagos.setEnabled(true);
-						tbCourses.setEnabled(false);
-						panelMuestraTransferenciasCentro.add(getScrollPaneTransferencias());
-
-						if (tbTransferencias != null) {
-							try {
-								tableModel = new InscripcionColegiadoModel(
-										InscripcionColegiado.obtenerTransferencias(cursoSeleccionado.codigoCurso))
-												.getCursoModel(InscripcionColegiadoModel.TRANSFERENCIAS_RECIBIDAS);
-							} catch (BusinessException e1) {
-								e1.printStackTrace();
+						final int codigoCurso = cursoSeleccionado.codigoCurso;
+						new BackgroundTask<List<InscripcionColegiadoDto>>(btnMovimientosBancarios,
+								"Registrando la actividad bancaria del curso...", btnMovimientosBancarios) {
+							@Override
+							protected List<InscripcionColegiadoDto> work() throws BusinessException {
+								InscripcionColegiado.pagarBancoTransferencia(codigoCurso);
+								InscripcionColegiado.emitirFicheroTransferenciaPorCurso(codigoCurso);
+								return InscripcionColegiado.obtenerTransferencias(codigoCurso);
 							}
-							tbTransferencias.setModel(tableModel);
-							tbTransferencias.repaint();
-						}
 
-						JOptionPane.showMessageDialog(null,
-								"Se acaba de generar un fichero con los datos bancarios de cada inscripción del curso seleccionado\n"
-										+ "Se mostrarán en la siguiente tabla, aunque también puede visualizarlo en la carpeta transferencias, cuyo nombre es "
-										+ cursoSeleccionado.codigoCurso + "_banco.csv\n"
-										+ "Contiene los datos más recientes sobre las transferencias de los clientes en la cuenta bancaria del COIIPA",
-								"Consulta los datos bancarios", JOptionPane.INFORMATION_MESSAGE);
+							@Override
+							protected void succeeded(List<InscripcionColegiadoDto> transferencias) {
+								btnMovimientosBancarios.setEnabled(false);
+								panelMuestraTransferencias.setVisible(true);
+								panelMuestraTransferencias.setVisible(true);
+								btnProcesarPagos.setEnabled(true);
+								tbCourses.setEnabled(false);
+								panelMuestraTransferenciasCentro.add(getScrollPaneTransferencias());
+
+								if (tbTransferencias != null) {
+									try {
+										tableModel = new InscripcionColegiadoModel(transferencias)
+												.getCursoModel(InscripcionColegiadoModel.TRANSFERENCIAS_RECIBIDAS);
+									} catch (BusinessException e1) {
+										e1.printStackTrace();
+									}
+									tbTransferencias.setModel(tableModel);
+									tbTransferencias.repaint();
+								}
 
+								JOptionPane.showMessageDialog(null,
+										"Se acaba de generar un fichero con los datos bancarios de cada inscripción del curso seleccionado\n"
+												+ "Se mostrarán en la siguiente tabla, aunque también puede visualizarlo en la carpeta transferencias, cuyo nombre es "
+												+ codigoCurso + "_banco.csv\n"
+												+ "Contiene los datos más recientes sobre las transferencias de los clientes en la cuenta bancaria del COIIPA",
+										"Consulta los datos bancarios", JOptionPane.INFORMATION_MESSAGE);
+							}
+						}.start();
 					}
 				}
 			});
@@ -4461,21 +4668,54 @@ public class MainWindow extends JFrame {
 			btnProcesarPagos.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
 					tbTransferencias.setEnabled(false);
-					btnProcesarPagos.setEnabled(false);
-					InscripcionColegiado.procesarTransferencias(cursoSeleccionado.codigoCurso);
-					pnTransferenciasProcesadasCentro.add(getScrollPaneProcesar());
-					pnTransferencias.setVisible(false);
-					pnTransferenciasProcesadas.setVisible(true);
-					try {
-						tableModelP = new InscripcionColegiadoModel(
-								InscripcionColegiado.obtenerTransferenciasProcesadas(cursoSeleccionado.codigoCurso))
+					final int codigoCurso = cursoSeleccionado.codigoCurso;
+					new BackgroundTask<BatchResult<InscripcionColegiadoDto>>(btnProcesarPagos,
+							"Procesando los pagos por transferencia...", btnProcesarPagos) {
+						private List<InscripcionColegiadoDto> procesadas;
+
+						@Override
+						protected BatchResult<InscripcionColegiadoDto> work() {
+							BatchResult<InscripcionColegiadoDto> resultado = InscripcionColegiado
+									.procesarTransferencias(codigoCurso);
+							procesadas = InscripcionColegiado.obtenerTransferenciasProcesadas(codigoCurso);
+							return resultado;
+						}
+
+						@Override
+						protected void succeeded(BatchResult<InscripcionColegiadoDto> resultado) {
+							btnProcesarPagos.setEnabled(false);
+							if (resultado.hasFailures()) {
+								JOptionPane.showMessageDialog(null,
+										"No se han podido procesar " + resultado.getFailures().size()
+												+ " transferencias:\n" + resultado,
+										"Procesar transferencias", JOptionPane.WARNING_MESSAGE);
+							}
+							construirPanel(INSCRIPCION_CURSO_TRANSFERENCIAS_PROCESADAS);
+							pnTransferenciasProcesadasCentro.add(getScrollPaneProcesar());
+							pnTransferencias.setVisible(false);
+							pnTransferenciasProcesadas.setVisible(true);
+							try {
+								tableModelP = new InscripcionColegiadoModel(procesadas)
 										.getCursoModel(InscripcionColegiadoModel.TRANSFERENCIAS_PROCESADAS);
-					} catch (BusinessException e1) {
-						e1.printStackTrace();
-					}
-					tbProcesarTransferencias.setModel(tableModelP);
-					tbProcesarTransferencias.repaint();
+							} catch (BusinessException e1) {
+								e1.printStackTrace();
+							}
+							tbProcesarTransferencias.setModel(tableModelP);
+							tbProcesarTransferencias.repaint();
+						}
+
+						@Override
+						protected void failed(Throwable error) {
+							tbTransferencias.setEnabled(true);
+							super.failed(error);
+						}
 
+						@Override
+						protected void cancelled() {
+							tbTransferencias.setEnabled(true);
+							super.cancelled();
+						}
+					}.start();
 				}
 			});
 			btnProcesarPagos.setMnemonic('P');
@@ -4510,7 +4750,8 @@ public class MainWindow extends JFrame {
 			tbCourses.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 
 			try {
-				tableModelC = new CursoModel(Curso.listarCursosAbiertos()).getCursoModel(ALL_MINUS_ID);
+				// Los cursos se cargan al mostrar el panel de transferencias
+				tableModelC = new CursoModel(List.of()).getCursoModel(ALL_MINUS_ID);
 
 				tbCourses.setModel(tableModelC);
 			} catch (BusinessException e) {
@@ -4593,9 +4834,9 @@ public class MainWindow extends JFrame {
 			tbTransferencias.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 
 			try {
-				tableModel = new InscripcionColegiadoModel(
-						InscripcionColegiado.obtenerTransferencias(cursoSeleccionado.codigoCurso))
-								.getCursoModel(InscripcionColegiadoModel.TRANSFERENCIAS_RECIBIDAS);
+				// Las transferencias se cargan al seleccionar un curso
+				tableModel = new InscripcionColegiadoModel(List.of())
+						.getCursoModel(InscripcionColegiadoModel.TRANSFERENCIAS_RECIBIDAS);
 
 				tbTransferencias.setModel(tableModel);
 			} catch (BusinessException e) {
@@ -4701,7 +4942,7 @@ public class MainWindow extends JFrame {
 			btnProcesarTransferencias.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
 					if (confirmarVolverPrincipio()) {
-						mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+						mostrarPanel(HOME_PANEL_NAME);
 					}
 				}
 			});
@@ -4741,9 +4982,9 @@ public class MainWindow extends JFrame {
 			tbProcesarTransferencias.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 
 			try {
-				tableModelP = new InscripcionColegiadoModel(
-						InscripcionColegiado.obtenerTransferenciasProcesadas(cursoSeleccionado.codigoCurso))
-								.getCursoModel(InscripcionColegiadoModel.TRANSFERENCIAS_PROCESADAS);
+				// Las transferencias procesadas se cargan al procesar los pagos
+				tableModelP = new InscripcionColegiadoModel(List.of())
+						.getCursoModel(InscripcionColegiadoModel.TRANSFERENCIAS_PROCESADAS);
 
 				tbProcesarTransferencias.setModel(tableModelP);
 			} catch (BusinessException e) {
@@ -4861,7 +5102,7 @@ public class MainWindow extends JFrame {
 							"¿Está seguro que quiere volver a la página de inicio?");
 
 					if (opt == JOptionPane.OK_OPTION) {
-						mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+						mostrarPanel(HOME_PANEL_NAME);
 					}
 				}
 			});
@@ -5173,7 +5414,7 @@ public class MainWindow extends JFrame {
 					ButtonColor.NORMAL);
 			btnInscripcionToInicio_1_1.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 				}
 			});
 			btnInscripcionToInicio_1_1.setPreferredSize(new Dimension(250, 59));
@@ -5263,6 +5504,7 @@ public class MainWindow extends JFrame {
 			tbAsignacionSolicitudes.setOpaque(false);
 
 			tbAsignacionSolicitudes.setRowHeight(80);
+			WrappingCellRenderer.install(tbAsignacionSolicitudes);
 			tbAsignacionSolicitudes.setGridColor(new Color(255, 255, 255));
 
 			tbAsignacionSolicitudes.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -5356,7 +5598,7 @@ public class MainWindow extends JFrame {
 					ButtonColor.NORMAL);
 			btnInscripcionToInicio_1.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 				}
 			});
 			btnInscripcionToInicio_1.setPreferredSize(new Dimension(250, 59));
@@ -5392,7 +5634,7 @@ public class MainWindow extends JFrame {
 					ButtonColor.NORMAL);
 			btHomeSolicitudServicios.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, SOLICITUD_SERVICIOS);
+					mostrarPanel(SOLICITUD_SERVICIOS);
 				}
 			});
 			btHomeSolicitudServicios.setText("Solicitud de Servicios");
@@ -5406,7 +5648,7 @@ public class MainWindow extends JFrame {
 					ButtonColor.NORMAL);
 			btHomeAsignacionSolicitudServicios.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, ASIGNACION_SOLICITUD_SERVICIOS);
+					mostrarPanel(ASIGNACION_SOLICITUD_SERVICIOS);
 					ActualizaTablasSolicitudesServicios();
 				}
 			});
@@ -5470,15 +5712,28 @@ public class MainWindow extends JFrame {
 	private JComboBox<String> getCbProfesores() {
 		if (cbProfesores == null) {
 			cbProfesores = new JComboBox<String>();
-			List<ProfesorDto> profesores = ProfesorCRUD.listProfesoresLibres();
+			// Los profesores se cargan al mostrar el panel (cargarProfesoresLibres)
+		}
+		return cbProfesores;
+	}
+
+	/**
+	 * Carga en segundo plano los profesores libres en el desplegable del panel de
+	 * creación de cursos.
+	 */
+	private void cargarProfesoresLibres() {
+		AsyncExecutor.onEdt(AsyncExecutor.read(ProfesorCRUD::listProfesoresLibres), (profesores, error) -> {
+			if (error != null) {
+				error.printStackTrace();
+				return;
+			}
 			List<String> nombreProfesores = new ArrayList<>();
 			for (ProfesorDto p : profesores) {
 				nombreProfesores.add(p.nombre);
 			}
 
-			cbProfesores.setModel(new DefaultComboBoxModel(nombreProfesores.toArray()));
-		}
-		return cbProfesores;
+			getCbProfesores().setModel(new DefaultComboBoxModel(nombreProfesores.toArray()));
+		});
 	}
 
 	private JPanel getPnSesionesCurso() {
@@ -5886,20 +6141,33 @@ public class MainWindow extends JFrame {
 			tbListadoPeritosProfesionales.setRowHeight(LookAndFeel.ROW_HEIGHT);
 			tbListadoPeritosProfesionales.setGridColor(new Color(255, 255, 255));
 
-			TableModel peritosModel = new ColegiadoModel(PeritoCRUD.findAllPeritosPosicion()).getPeritoModel();
-			tbListadoPeritosProfesionales.setModel(peritosModel);
+			// Los peritos se cargan al mostrar el panel (cargarListadoPeritos)
+			tbListadoPeritosProfesionales.setModel(DtoTableModel.message(CARGANDO));
 
 		}
 		return tbListadoPeritosProfesionales;
 	}
 
+	/**
+	 * Carga en segundo plano el listado de peritos por orden de turno.
+	 */
+	private void cargarListadoPeritos() {
+		AsyncExecutor.onEdt(AsyncExecutor.read(PeritoCRUD::findAllPeritosPosicion), (peritos, error) -> {
+			if (error != null) {
+				error.printStackTrace();
+				return;
+			}
+			getTbListadoPeritos().setModel(new ColegiadoModel(peritos).getPeritoModel());
+		});
+	}
+
 	private DefaultButton getBtListasProfesionales() {
 		if (btListasProfesionales == null) {
 			btListasProfesionales = new DefaultButton("Darse de alta", "ventana", "AltaColegiado", 'l',
 					ButtonColor.NORMAL);
 			btListasProfesionales.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, LISTAS_PROFESIONALES);
+					mostrarPanel(LISTAS_PROFESIONALES);
 				}
 			});
 			btListasProfesionales.setText("Listas Profesionales");
@@ -5967,8 +6235,8 @@ public class MainWindow extends JFrame {
 			panelCancelarCursoCOIIPATabla.setToolTipText("Selecciona un curso para cancelarlo");
 			panelCancelarCursoCOIIPATabla.setLayout(new GridLayout(0, 1, 0, 0));
 			panelCancelarCursoCOIIPATabla.add(getSpListadoCursos());
-			paneMuestraCursosCentro.setLayout(new GridLayout(0, 1, 0, 0));
-			paneMuestraCursosCentro.add(getScrollPaneCursos());
+			getPaneMuestraCursosCentro().setLayout(new GridLayout(0, 1, 0, 0));
+			getPaneMuestraCursosCentro().add(getScrollPaneCursos());
 		}
 		return panelCancelarCursoCOIIPATabla;
 	}
@@ -6017,8 +6285,8 @@ public class MainWindow extends JFrame {
 			tbListadoCursos.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 
 			try {
-				tableModelL = new CursoModel(Curso.listarCursosAbiertosPlanificados())
-						.getCursoModel(CursoModel.LISTA_CURSOS);
+				// Los cursos se cargan al mostrar el panel de cancelación de cursos
+				tableModelL = new CursoModel(List.of()).getCursoModel(CursoModel.LISTA_CURSOS);
 
 				tbListadoCursos.setModel(tableModelL);
 			} catch (BusinessException e) {
@@ -6112,6 +6380,7 @@ public class MainWindow extends JFrame {
 			tbListadoTransferenciasCanceladas.setEnabled(false);
 
 			tbListadoTransferenciasCanceladas.setRowHeight(115);
+			WrappingCellRenderer.install(tbListadoTransferenciasCanceladas);
 			tbListadoTransferenciasCanceladas.setGridColor(new Color(255, 255, 255));
 
 			tbListadoTransferenciasCanceladas.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -6210,7 +6479,7 @@ public class MainWindow extends JFrame {
 			btnCancelarCursoCOIIPAVolver.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
 					if (confirmarVolverPrincipio()) {
-						mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+						mostrarPanel(HOME_PANEL_NAME);
 					}
 				}
 			});
@@ -6266,7 +6535,7 @@ public class MainWindow extends JFrame {
 			btnCancelarInscripcionCursoVolver.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
 					if (confirmarVolverPrincipio()) {
-						mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+						mostrarPanel(HOME_PANEL_NAME);
 					}
 				}
 			});
@@ -6441,8 +6710,8 @@ public class MainWindow extends JFrame {
 			tbListadoCursosInscrito.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 
 			try {
-				tableModelF = new CursoModel(Curso.listarCursosIsInscrito(getColegiadoDni()))
-						.getCursoModel(CursoModel.LISTA_CURSOS);
+				// Los cursos se cargan al comprobar el DNI del colegiado (checkearDni)
+				tableModelF = new CursoModel(List.of()).getCursoModel(CursoModel.LISTA_CURSOS);
 
 				tbListadoCursosInscrito.setModel(tableModelF);
 			} catch (BusinessException e) {
@@ -6523,6 +6792,7 @@ public class MainWindow extends JFrame {
 			tbInscripcionCanceladaCurso.setEnabled(false);
 
 			tbInscripcionCanceladaCurso.setRowHeight(115);
+			WrappingCellRenderer.install(tbInscripcionCanceladaCurso);
 			tbInscripcionCanceladaCurso.setGridColor(new Color(255, 255, 255));
 
 			tbInscripcionCanceladaCurso.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -6647,7 +6917,7 @@ public class MainWindow extends JFrame {
 			btVolverInicioInscripcionCurso.setToolTipText("Haz click aquí para volver a inicio");
 			btVolverInicioInscripcionCurso.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 					toogleListaEsperaCursoSeleccionadoInscripcionCurso(false);
 				}
 			});
@@ -6664,8 +6934,8 @@ public class MainWindow extends JFrame {
 			btInscrirseInscripcionCurso.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
 
-					lbConfirmacionInscripcion.setVisible(false);
-					lbAlerta.setVisible(false);
+					getLbConfirmacionInscripcion().setVisible(false);
+					getLbAlerta().setVisible(false);
 					int IndexCursoSeleccionado = getTbCursosAbiertosInscripcionCurso().getSelectedRow();
 					CursoDto cursoSeleccionado = IndexCursoSeleccionado == -1 ? null
 							: cursosAbiertosPnInscripcion.get(IndexCursoSeleccionado);
@@ -6964,8 +7234,7 @@ public class MainWindow extends JFrame {
 								cursosAbiertosPnInscripcion = InscripcionCursoFormativo.getCursosAbiertos();
 
 								cursosAbiertosPnInscripcion = cursosAbiertosPnInscripcion.stream()
-										.filter(curso -> Precio_Colectivos
-												.StringToPrecio_Colectivos(curso.CantidadPagarColectivo)
+										.filter(curso -> PrecioCursoCRUD.findPrecios(curso.codigoCurso)
 												.containsAlgunColectivo(c.TipoColectivo, "Todos"))
 										.collect(Collectors.toList());
 
@@ -7061,7 +7330,7 @@ public class MainWindow extends JFrame {
 					ButtonColor.NORMAL);
 			btSolicitudVisados.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, CREAR_SOLICITUD_VISADOS);
+					mostrarPanel(CREAR_SOLICITUD_VISADOS);
 				}
 			});
 			btSolicitudVisados.setText("Solicitud Visados");
@@ -7371,7 +7640,7 @@ public class MainWindow extends JFrame {
 			btnVisadosVolverAlInicio = new JButton("Volver al inicio");
 			btnVisadosVolverAlInicio.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 				}
 			});
 			btnVisadosVolverAlInicio.setBackground(Color.RED);
@@ -7385,7 +7654,7 @@ public class MainWindow extends JFrame {
 			btHomeAsignarVisados = new DefaultButton("Cancelar un curso", "ventana", "CancelaCurso", 'l', ButtonColor.NORMAL);
 			btHomeAsignarVisados.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, ASIGNACION_VISADOS);
+					mostrarPanel(ASIGNACION_VISADOS);
 				}
 			});
 			btHomeAsignarVisados.setText("Asignar Visados");
@@ -7430,7 +7699,7 @@ public class MainWindow extends JFrame {
 			btnVolverAlInicio = new JButton("Volver al inicio");
 			btnVolverAlInicio.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 				}
 			});
 			btnVolverAlInicio.setBackground(Color.RED);
@@ -7491,8 +7760,8 @@ public class MainWindow extends JFrame {
 		if (tbVisados == null) {
 			tbVisados = new JTable();
 			tbVisados.setFont(new Font("Tahoma", Font.PLAIN, 17));
-			TableModel visadosModel = new ModeloSolicitudesVisados(SolicitudVisadosCRUD.findAllSolicitudesVisado()).getSolicitudModel();
-			tbVisados.setModel(visadosModel);
+			// Las solicitudes se cargan al mostrar el panel (cargarVisados)
+			tbVisados.setModel(DtoTableModel.message(CARGANDO));
 			tbVisados.setIntercellSpacing(new Dimension(0, 0));
 			tbVisados.setShowGrid(false);
 			tbVisados.setRowMargin(0);
@@ -7506,6 +7775,7 @@ public class MainWindow extends JFrame {
 			tbVisados.setOpaque(false);
 
 			tbVisados.setRowHeight(80);
+			WrappingCellRenderer.install(tbVisados);
 			tbVisados.setGridColor(new Color(255, 255, 255));
 		}
 		return tbVisados;
@@ -7573,8 +7843,8 @@ public class MainWindow extends JFrame {
 		if (tbPeritosDisponibles == null) {
 			tbPeritosDisponibles = new JTable();
 			tbPeritosDisponibles.setFont(new Font("Tahoma", Font.PLAIN, 17));
-			TableModel peritosModel = new ModeloPeritosDisponiblesParaVisado(PeritoCRUD.findPeritosDisponiblesParaVisado()).getSolicitudModel();
-			tbPeritosDisponibles.setModel(peritosModel);
+			// Los peritos se cargan al mostrar el panel (cargarVisados)
+			tbPeritosDisponibles.setModel(DtoTableModel.message(CARGANDO));
 			tbPeritosDisponibles.setIntercellSpacing(new Dimension(0, 0));
 			tbPeritosDisponibles.setShowGrid(false);
 			tbPeritosDisponibles.setRowMargin(0);
@@ -7593,6 +7863,27 @@ public class MainWindow extends JFrame {
 		}
 		return tbPeritosDisponibles;
 	}
+
+	/**
+	 * Carga en segundo plano las solicitudes de visado y los peritos disponibles
+	 * del panel de asignación de visados.
+	 */
+	private void cargarVisados() {
+		AsyncExecutor.onEdt(AsyncExecutor.read(SolicitudVisadosCRUD::findAllSolicitudesVisado), (visados, error) -> {
+			if (error != null) {
+				error.printStackTrace();
+				return;
+			}
+			getTbVisados().setModel(new ModeloSolicitudesVisados(visados).getSolicitudModel());
+		});
+		AsyncExecutor.onEdt(AsyncExecutor.read(PeritoCRUD::findPeritosDisponiblesParaVisado), (peritos, error) -> {
+			if (error != null) {
+				error.printStackTrace();
+				return;
+			}
+			getTbPeritosDisponibles().setModel(new ModeloPeritosDisponiblesParaVisado(peritos).getSolicitudModel());
+		});
+	}
 	private JButton getBtnActualizarVisados() {
 		if (btnActualizarVisados == null) {
 			btnActualizarVisados = new JButton("Actualizar lista");
@@ -7680,7 +7971,7 @@ public class MainWindow extends JFrame {
 			btHomeInformesPericiales = new DefaultButton("Cancelar un curso", "ventana", "CancelaCurso", 'l', ButtonColor.NORMAL);
 			btHomeInformesPericiales.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-						mainCardLayout.show(mainPanel, INFORMES_PERICIALES);
+						mostrarPanel(INFORMES_PERICIALES);
 						actualizaTbInformesPericiales();
 				}
 			});
@@ -7832,6 +8123,7 @@ public class MainWindow extends JFrame {
 			tableInformesPericiales.setOpaque(false);
 
 			tableInformesPericiales.setRowHeight(80);
+			WrappingCellRenderer.install(tableInformesPericiales);
 			tableInformesPericiales.setGridColor(new Color(255, 255, 255));
 
 			tableInformesPericiales.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -7843,17 +8135,39 @@ public class MainWindow extends JFrame {
 		
 		String ageStr = (String) cbFiltrosAge.getSelectedItem();
 		int age = ageStr.equals("Todos") ? -1:Integer.valueOf(ageStr);
-		ArrayList<SolicitudServiciosDto> solicitudes = SolicitudServicios.listarSolicitudesServiciosConFiltros((String) cbFiltroEstado.getSelectedItem(), age, txFiltrosPerito.getText());
+		String estado = (String) cbFiltroEstado.getSelectedItem();
+		String dniPerito = txFiltrosPerito.getText();
 		
-		TableModel tableModelSolicitudes = new ModeloInformesPericiales(solicitudes).getSolicitudModel(true, false);
-		getTableInformesPericiales().setModel(tableModelSolicitudes);
+		// Solo se muestra el resultado del último filtro solicitado
+		int peticion = ++peticionInformesPericiales;
+		AsyncExecutor.onEdt(AsyncExecutor.read(
+				() -> SolicitudServicios.listarSolicitudesServiciosConFiltrosPage(estado, age, dniPerito, null)),
+				(primeraPagina, error) -> {
+					if (peticion != peticionInformesPericiales) {
+						return;
+					}
+					if (error != null) {
+						JOptionPane.showMessageDialog(null, error.getMessage(), "Informes periciales",
+								JOptionPane.ERROR_MESSAGE);
+						return;
+					}
+
+					if (primeraPagina.getItems().isEmpty()) {
+						getTableInformesPericiales().setModel(new ModeloInformesPericiales(primeraPagina.getItems()).getSolicitudModel(true, false));
+						return;
+					}
+					PaginatedTableLoader.attach(getTableInformesPericiales(), ModeloInformesPericiales.createModel(List.of(), true),
+							primeraPagina,
+							token -> SolicitudServicios.listarSolicitudesServiciosConFiltrosPage(estado, age, dniPerito, token),
+							null);
+				});
 	}
 	private DefaultButton getBtCancelacionPericial() {
 		if (btCancelacionPericial == null) {
 			btCancelacionPericial = new DefaultButton("Cancelar inscripci\u00C3\u00B3n", "ventana", "CancelarInscripci\u00C3\u00B3n", 'l', ButtonColor.NORMAL);
 			btCancelacionPericial.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, CANCELAR_PERICIAL);
+					mostrarPanel(CANCELAR_PERICIAL);
 				}
 			});
 			btCancelacionPericial.setText("Cancelar Pericial");
@@ -7955,6 +8269,7 @@ public class MainWindow extends JFrame {
 	private JTextField getTxDniCancelarPericial() {
 		if (txDniCancelarPericial == null) {
 			txDniCancelarPericial = new JTextField();
+			SugerenciasColegiado.install(txDniCancelarPericial);
 			txDniCancelarPericial.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
 					actualizaTbCancelarPericial();
@@ -7981,6 +8296,7 @@ public class MainWindow extends JFrame {
 			tbPericiales.setOpaque(false);
 
 			tbPericiales.setRowHeight(80);
+			WrappingCellRenderer.install(tbPericiales);
 			tbPericiales.setGridColor(new Color(255, 255, 255));
 
 			tbPericiales.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -8103,7 +8419,7 @@ public class MainWindow extends JFrame {
 			btDarseDeBaja = new DefaultButton("Cancelar inscripción", "ventana", "CancelarInscripción", 'l', ButtonColor.NORMAL);
 			btDarseDeBaja.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, BAJA_COLEGIADOS);
+					mostrarPanel(BAJA_COLEGIADOS);
 				}
 			});
 			btDarseDeBaja.setText("Darse de baja");
@@ -8163,6 +8479,7 @@ public class MainWindow extends JFrame {
 	private JTextField getTxtDniBajaColegiado() {
 		if (txtDniBajaColegiado == null) {
 			txtDniBajaColegiado = new JTextField();
+			SugerenciasColegiado.install(txtDniBajaColegiado);
 			txtDniBajaColegiado.addFocusListener(new FocusAdapter() {
 				@Override
 				public void focusLost(FocusEvent e) {
@@ -8237,7 +8554,8 @@ public class MainWindow extends JFrame {
 		if (tbColegiadoADarDeBaja == null) {
 			tbColegiadoADarDeBaja = new JTable();
 			tbColegiadoADarDeBaja.setFont(new Font("Tahoma", Font.PLAIN, 17));
-			TableModel bajaColegiadoModel = new ModeloBajaColegiado(ColegiadoCrud.findColegiadoDni(txtDniBajaColegiado.getText())).getSolicitudModel();
+			// El colegiado se busca al comprobar su DNI
+			TableModel bajaColegiadoModel = new ModeloBajaColegiado(null).getSolicitudModel();
 			tbColegiadoADarDeBaja.setModel(bajaColegiadoModel);
 			tbColegiadoADarDeBaja.repaint();
 			tbColegiadoADarDeBaja.setIntercellSpacing(new Dimension(0, 0));
@@ -8319,7 +8637,7 @@ public class MainWindow extends JFrame {
 			btnVolverInicioBajaColegiado = new JButton("Volver al inicio");
 			btnVolverInicioBajaColegiado.addActionListener(new ActionListener() {
 				public void actionPerformed(ActionEvent e) {
-					mainCardLayout.show(mainPanel, HOME_PANEL_NAME);
+					mostrarPanel(HOME_PANEL_NAME);
 				}
 			});
 			btnVolverInicioBajaColegiado.setBackground(Color.RED);
@@ -1,20 +1,15 @@
 package ui.model;
 
-import java.awt.Component;
 import java.util.List;
 
-import javax.swing.JLabel;
-import javax.swing.SwingConstants;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
 import business.BusinessException;
 import persistence.DtoAssembler;
 import persistence.colegiado.ColegiadoDto;
+import ui.model.DtoTableModel.Column;
 
-public class ColegiadoModel extends DefaultTableModel {
-
-	private static final long serialVersionUID = -8972242062999724063L;
+public class ColegiadoModel {
 
 	public static final String HEADER_COLUMN1 = "DNI";
 	public static final String HEADER_COLUMN2 = "NOMBRE";
@@ -24,6 +19,16 @@ public class ColegiadoModel extends DefaultTableModel {
 	public static final String HEADER_COLUMN6 = "TITULACIÓN";
 	public static final String HEADER_COLUMN7 = "NUMERO COLEGIADO";
 
+	private static final Column<ColegiadoDto> DNI = Column.of(HEADER_COLUMN1, c -> c.DNI);
+	private static final Column<ColegiadoDto> NOMBRE = Column.of(HEADER_COLUMN2, c -> c.nombre);
+	private static final Column<ColegiadoDto> APELLIDOS = Column.of(HEADER_COLUMN3, c -> c.apellidos);
+	private static final Column<ColegiadoDto> TELEFONO = Column.of(HEADER_COLUMN4, c -> c.telefono);
+	private static final Column<ColegiadoDto> FECHA_SOLICITUD = Column.of(HEADER_COLUMN5, c -> c.fechaSolicitud);
+	private static final Column<ColegiadoDto> TITULACION = Column.of(HEADER_COLUMN6,
+			c -> c.titulacion.isEmpty() ? "Sin titulación"
+					: DtoAssembler.listaTitulacionesColegiadoToString(c.titulacion));
+	private static final Column<ColegiadoDto> NUMERO_COLEGIADO = Column.of(HEADER_COLUMN7, c -> c.numeroColegiado);
+
 	private List<ColegiadoDto> colegiados;
 
 	public ColegiadoModel(List<ColegiadoDto> colegiados) {
@@ -31,69 +36,30 @@ public class ColegiadoModel extends DefaultTableModel {
 	}
 
 	public TableModel getColegiadoModel(final boolean showAllFields) throws BusinessException {
-		DefaultTableModel model = new DefaultTableModel() {
-
-			private static final long serialVersionUID = 360537344960895264L;
-
-			@Override
-			public boolean isCellEditable(int i, int i1) {
-				return false;
-			}
-
-		};
-
 		if (colegiados.size() == 0) {
-			model.addColumn("");
-			model.addRow(new Object[] { "NO HAY SOLICITUDES DE ALTA DE COLEGIADOS" });
-
-		} else {
-
-			model.setColumnIdentifiers(new Object[] { HEADER_COLUMN1, HEADER_COLUMN2, HEADER_COLUMN3, HEADER_COLUMN4,
-					HEADER_COLUMN5, HEADER_COLUMN6 });
-
-			for (ColegiadoDto c : colegiados) {
-				model.addRow(new Object[] { c.DNI, c.nombre, c.apellidos, c.telefono, c.fechaSolicitud,
-						c.titulacion.isEmpty() ? "Sin titulación"
-								: DtoAssembler.listaTitulacionesColegiadoToString(c.titulacion) });
-			}
-
+			return DtoTableModel.message("NO HAY SOLICITUDES DE ALTA DE COLEGIADOS");
 		}
+		return createSolicitudesModel(colegiados);
+	}
 
-		return model;
-
+	/**
+	 * Modelo del listado de solicitudes de alta con los colegiados indicados. Con
+	 * una lista vacía sirve para cargarlo por páginas.
+	 * 
+	 * @param colegiados
+	 * @return
+	 */
+	public static DtoTableModel<ColegiadoDto> createSolicitudesModel(List<ColegiadoDto> colegiados) {
+		return new DtoTableModel<>(colegiados, DNI, NOMBRE, APELLIDOS, TELEFONO, FECHA_SOLICITUD, TITULACION);
 	}
 
 	public TableModel getPeritoModel() {
-		DefaultTableModel model = new DefaultTableModel() {
-			/**
-			 * 
-			 */
-			private static final long serialVersionUID = 1L;
-
-			@Override
-			public boolean isCellEditable(int row, int column) {
-				return false;
-			}
-		};
-
 		if (colegiados.size() == 0) {
-			model.addColumn("");
-			model.addRow(new Object[] { "NO HAY PERITOS EN LA LISTA DE PROFESIONALES" });
-
-		} else {
-
-			model.setColumnIdentifiers(
-					new Object[] { HEADER_COLUMN1, HEADER_COLUMN2, HEADER_COLUMN3, "Renovacion", "PosicionPerito" });
-
-			for (ColegiadoDto c : colegiados) {
-				model.addRow(new Object[] { createCustomCell(c.DNI), createCustomCell(c.nombre),
-						createCustomCell(c.apellidos), createCustomCell(c.perito),
-						createCustomCell(c.posicionPerito) });
-			}
-
+			return DtoTableModel.message("NO HAY PERITOS EN LA LISTA DE PROFESIONALES");
 		}
-
-		return model;
+		return new DtoTableModel<>(colegiados, createCustomCell(DNI), createCustomCell(NOMBRE),
+				createCustomCell(APELLIDOS), Column.of("Renovacion", c -> String.valueOf(c.perito)),
+				Column.of("PosicionPerito", c -> String.valueOf(c.posicionPerito)));
 	}
 	
 	/**
@@ -103,72 +69,21 @@ public class ColegiadoModel extends DefaultTableModel {
 	 * @throws BusinessException
 	 */
 	public TableModel getNuevoColegiadoModel() throws BusinessException {
-		DefaultTableModel model = new DefaultTableModel() {
-			private static final long serialVersionUID = 360537344960895264L;
-
-			@Override
-			public boolean isCellEditable(int i, int i1) {
-				return false;
-			}
-		};
-
 		if (colegiados.size() == 0) {
-			model.addColumn("");
-			model.addRow(new Object[] { "YA SE HA RECEPCIONADO EL LOTE DE SOLICITUDES DE COLEGIACION" });
-
-		} else {
-
-			model.setColumnIdentifiers(new Object[] { HEADER_COLUMN7, HEADER_COLUMN1, HEADER_COLUMN2, HEADER_COLUMN3,
-					HEADER_COLUMN4, HEADER_COLUMN5, HEADER_COLUMN6 });
-
-			for (ColegiadoDto c : colegiados) {
-				model.addRow(new Object[] { c.numeroColegiado, c.DNI, c.nombre, c.apellidos, c.telefono,
-						c.fechaSolicitud, c.titulacion.isEmpty() ? "Sin titulación"
-								: DtoAssembler.listaTitulacionesColegiadoToString(c.titulacion) });
-			}
-
+			return DtoTableModel.message("YA SE HA RECEPCIONADO EL LOTE DE SOLICITUDES DE COLEGIACION");
 		}
-
-		return model;
-
+		return new DtoTableModel<>(colegiados, NUMERO_COLEGIADO, DNI, NOMBRE, APELLIDOS, TELEFONO, FECHA_SOLICITUD,
+				TITULACION);
 	}
 
 	/**
+	 * Columna que muestra como texto el contenido de la columna indicada.
 	 * 
-	 * 
-	 * Su finalidad es centrar el texto de una celda. Permitiendo personalizarla aún
-	 * 
-	 * 
-	 * más.
-	 *
-	 * 
-	 * 
-	 * 
-	 * 
-	 * @param content Heterogéneo String | Integer | Date
-	 * 
-	 * 
-	 * @return Contenido centrado
-	 * 
-	 * 
+	 * @param column Columna de contenido heterogéneo String | Integer | Date
+	 * @return
 	 */
-
-	private String createCustomCell(Object content) {
-
-		JLabel cell = new JLabel(String.valueOf(content));
-
-		cell.setHorizontalAlignment(SwingConstants.CENTER);
-
-		cell.setAlignmentX(Component.CENTER_ALIGNMENT);
-
-		return cell.getText();
-
-	}
-
-	@Override
-
-	public boolean isCellEditable(int i, int i1) {
-		return false;
+	private static Column<ColegiadoDto> createCustomCell(Column<ColegiadoDto> column) {
+		return Column.of(column.getHeader(), String.class, c -> String.valueOf(column.getValue(c)));
 	}
 
-}
\ No newline at end of file
+}
@@ -2,11 +2,11 @@ package ui.model;
 
 import java.util.List;
 
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
 import business.BusinessException;
 import persistence.curso.CursoDto;
+import ui.model.DtoTableModel.Column;
 
 /**
  * Modelo de datos de cursos para poblar una tabla JTable de Swing.
@@ -34,7 +34,14 @@ public class CursoModel {
 	
 	public static final int LISTA_CURSOS = 3;
 
-
+	private static final Column<CursoDto> CODIGO = Column.of(HEADER_COLUMN6, c -> c.codigoCurso);
+	private static final Column<CursoDto> TITULO = Column.of(HEADER_COLUMN1, c -> c.titulo);
+	private static final Column<CursoDto> FECHA_IMPARTICION = Column.of(HEADER_COLUMN2, c -> c.fechaInicio);
+	private static final Column<CursoDto> PLAZAS = Column.of(HEADER_COLUMN3, c -> c.plazasDisponibles);
+	private static final Column<CursoDto> PRECIO = Column.of(HEADER_COLUMN4, c -> c.precio);
+	private static final Column<CursoDto> FECHA_APERTURA = Column.of(HEADER_COLUMN7, c -> c.fechaApertura);
+	private static final Column<CursoDto> FECHA_CIERRE = Column.of(HEADER_COLUMN8, c -> c.fechaCierre);
+	private static final Column<CursoDto> ESTADO = Column.of(HEADER_COLUMN9, c -> c.estado);
 
 	private List<CursoDto> cursos;
 
@@ -49,26 +56,10 @@ public class CursoModel {
 	 * @return
 	 */
 	public TableModel getCursosPlanificadosModel() {
-		DefaultTableModel model = new DefaultTableModel();
-
 		if (cursos.size() == 0) {
-			model.addColumn("");
-			model.addRow(new Object[] { "NO HAY CURSOS PLANIFICADOS ACTUALMENTE" });
-
-		} else {
-
-			model.addColumn(HEADER_COLUMN6);
-			model.addColumn(HEADER_COLUMN1);
-			model.addColumn(HEADER_COLUMN2);
-			model.addColumn(HEADER_COLUMN3);
-
-			for (CursoDto c : cursos) {
-				model.addRow(new Object[] { c.codigoCurso, c.titulo, c.fechaInicio, c.plazasDisponibles });
-			}
-
+			return DtoTableModel.message("NO HAY CURSOS PLANIFICADOS ACTUALMENTE");
 		}
-
-		return model;
+		return new DtoTableModel<>(cursos, CODIGO, TITULO, FECHA_IMPARTICION, PLAZAS);
 	}
 
 	/**
@@ -89,123 +80,31 @@ public class CursoModel {
 		// 0 -> todos
 		// 1 -> todos menos id
 		// Listado de cursos actualmente planificados
-		DefaultTableModel model = new DefaultTableModel() {
-
-			private static final long serialVersionUID = 4438277548587975019L;
-
-			@Override
-			public boolean isCellEditable(int row, int column) {
-				return false;
-			}
-		};
-
 		if (cursos.size() == 0) {
-			model.addColumn("");
-			model.addRow(new Object[] { "NO HAY CURSOS PLANIFICADOS ACTUALMENTE" });
-
-		} else {
-			if (showAllFields == 1) {
-				model.addColumn(HEADER_COLUMN1);
-				model.addColumn(HEADER_COLUMN2);
-				model.addColumn(HEADER_COLUMN3);
-
-				model.addColumn(HEADER_COLUMN7);
-				model.addColumn(HEADER_COLUMN8);
-				model.addColumn(HEADER_COLUMN9);
-
-				model.addColumn(HEADER_COLUMN6);
-
-				for (CursoDto c : cursos) {
-					model.addRow(new Object[] { c.titulo, c.fechaInicio, c.plazasDisponibles, c.fechaApertura,
-							c.fechaCierre, c.estado, c.codigoCurso });
-				}
-			} else if (showAllFields == LISTA_CURSOS) {
-				model.addColumn(HEADER_COLUMN1);
-				model.addColumn(HEADER_COLUMN10);
-				model.addColumn(HEADER_COLUMN11);
-
-				model.addColumn(HEADER_COLUMN4);
-				model.addColumn(HEADER_COLUMN9);
-				model.addColumn(HEADER_COLUMN12);
-				model.addColumn(HEADER_COLUMN13);
-				
-				model.addColumn(HEADER_COLUMN6);
-
-				for (CursoDto c : cursos) {
-					model.addRow(new Object[] { c.titulo, c.plazasDisponibles, c.numeroInscritos, c.precio,
-							c.estado, c.isCancelable == true ? "CANCELABLE" : "NO CANCELABLE", c.fechaInicio, c.codigoCurso });
-
-				}
-
-			} else {
-				model.addColumn(HEADER_COLUMN6);
-				model.addColumn(HEADER_COLUMN1);
-				model.addColumn(HEADER_COLUMN2);
-				model.addColumn(HEADER_COLUMN3);
-				model.addColumn(HEADER_COLUMN4);
-
-				model.addColumn(HEADER_COLUMN7);
-				model.addColumn(HEADER_COLUMN8);
-				model.addColumn(HEADER_COLUMN9);
-
-				for (CursoDto c : cursos) {
-					if (c.estado == CursoDto.CURSO_PLANIFICADO) {
-						model.addRow(new Object[] { c.codigoCurso, c.titulo, c.fechaInicio, c.plazasDisponibles,
-								c.precio, " - ", " - ", c.estado });
-					} else {
-						model.addRow(new Object[] { c.codigoCurso, c.titulo, c.fechaInicio, c.plazasDisponibles,
-								c.precio, c.fechaApertura, c.fechaCierre, c.estado });
-					}
-
-				}
-
-				for (CursoDto c : cursos) {
-					model.addRow(
-							new Object[] { c.codigoCurso, c.titulo, c.fechaInicio, c.plazasDisponibles, c.precio });
-				}
-			}
+			return DtoTableModel.message("NO HAY CURSOS PLANIFICADOS ACTUALMENTE");
 		}
 
-		return model;
+		if (showAllFields == 1) {
+			return new DtoTableModel<>(cursos, TITULO, FECHA_IMPARTICION, PLAZAS, FECHA_APERTURA, FECHA_CIERRE, ESTADO,
+					CODIGO);
+		} else if (showAllFields == LISTA_CURSOS) {
+			return new DtoTableModel<>(cursos, TITULO, Column.of(HEADER_COLUMN10, c -> c.plazasDisponibles),
+					Column.of(HEADER_COLUMN11, c -> c.numeroInscritos), PRECIO, ESTADO,
+					Column.of(HEADER_COLUMN12, c -> c.isCancelable == true ? "CANCELABLE" : "NO CANCELABLE"),
+					Column.of(HEADER_COLUMN13, c -> c.fechaInicio), CODIGO);
+		}
 
+		// Los cursos planificados aún no tienen periodo de inscripción
+		return new DtoTableModel<>(cursos, CODIGO, TITULO, FECHA_IMPARTICION, PLAZAS, PRECIO,
+				Column.of(HEADER_COLUMN7, c -> c.estado == CursoDto.CURSO_PLANIFICADO ? " - " : c.fechaApertura),
+				Column.of(HEADER_COLUMN8, c -> c.estado == CursoDto.CURSO_PLANIFICADO ? " - " : c.fechaCierre), ESTADO);
 	}
 
 	public TableModel getCursosAbiertosInscripcionCurso() {
-		DefaultTableModel model = new DefaultTableModel() {
-
-			private static final long serialVersionUID = -3053373842241847716L;
-
-			@Override
-			public boolean isCellEditable(int row, int column) {
-				return false;
-			}
-		};
-
 		if (cursos.size() == 0) {
-			model.addColumn("");
-			model.addRow(new Object[] { "NO HAY CURSOS ABIERTOS" });
-
-		} else {
-			model.addColumn(HEADER_COLUMN1);
-			model.addColumn(HEADER_COLUMN2);
-			model.addColumn(HEADER_COLUMN3);
-
-			model.addColumn(HEADER_COLUMN7);
-			model.addColumn(HEADER_COLUMN8);
-
-			model.addColumn(HEADER_COLUMN6);
-
-			for (CursoDto c : cursos) {
-				model.addRow(new Object[] { c.titulo, c.fechaInicio, c.plazasDisponibles, c.fechaApertura,
-						c.fechaCierre, c.codigoCurso });
-			}
-
+			return DtoTableModel.message("NO HAY CURSOS ABIERTOS");
 		}
-
-		return model;
+		return new DtoTableModel<>(cursos, TITULO, FECHA_IMPARTICION, PLAZAS, FECHA_APERTURA, FECHA_CIERRE, CODIGO);
 	}
 
-	public boolean isCellEditable(int i, int i1) {
-		return false; // To change body of generated methods, choose Tools | Templates.
-	}
-}
\ No newline at end of file
+}
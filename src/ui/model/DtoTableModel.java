@@ -0,0 +1,206 @@
+package ui.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Modelo de tabla de solo lectura sobre una lista de DTOs.
+ * <p>
+ * A diferencia de un <code>DefaultTableModel</code>, no copia los datos en
+ * filas de <code>Object[]</code>: cada celda se obtiene del DTO al pintarla,
+ * con la función de su {@link Column}. La lista recibida no se copia; las filas
+ * añadidas después con {@link #addRows(List)} (listados paginados) se añaden a
+ * una lista propia.
+ * <p>
+ * El modelo mantiene un índice del valor de la primera columna a su fila, que
+ * se construye la primera vez que se busca una fila por clave
+ * ({@link #indexOf(Object)}) y se actualiza al añadir filas.
+ *
+ * @param <T> Tipo de los DTOs de las filas.
+ * @version v1.0.0
+ *
+ */
+public class DtoTableModel<T> extends AbstractTableModel {
+
+	private static final long serialVersionUID = -4581236410772964011L;
+
+	/**
+	 * Columna del modelo: cabecera, tipo de los valores y función que obtiene el
+	 * valor de la celda a partir del DTO de la fila.
+	 *
+	 * @param <T> Tipo de los DTOs de las filas.
+	 */
+	public static final class Column<T> {
+		private final String header;
+		private final Class<?> type;
+		private final Function<? super T, ?> value;
+
+		private Column(final String header, final Class<?> type, final Function<? super T, ?> value) {
+			this.header = header;
+			this.type = type;
+			this.value = value;
+		}
+
+		public static <T> Column<T> of(final String header, final Function<? super T, ?> value) {
+			return new Column<>(header, Object.class, value);
+		}
+
+		public static <T> Column<T> of(final String header, final Class<?> type, final Function<? super T, ?> value) {
+			return new Column<>(header, type, value);
+		}
+
+		public String getHeader() {
+			return header;
+		}
+
+		public Class<?> getType() {
+			return type;
+		}
+
+		public Object getValue(final T row) {
+			return value.apply(row);
+		}
+	}
+
+	private final List<Column<T>> columns;
+	private List<T> rows;
+	private boolean ownRows;
+	private transient Map<Object, Integer> index;
+
+	public DtoTableModel(final List<Column<T>> columns, final List<T> rows) {
+		this.columns = Collections.unmodifiableList(new ArrayList<>(columns));
+		this.rows = rows;
+	}
+
+	@SafeVarargs
+	public DtoTableModel(final List<T> rows, final Column<T>... columns) {
+		// El array no se pasa a otros métodos, para que @SafeVarargs sea cierto
+		List<Column<T>> list = new ArrayList<>(columns.length);
+		for (Column<T> column : columns) {
+			list.add(column);
+		}
+		this.columns = Collections.unmodifiableList(list);
+		this.rows = rows;
+	}
+
+	/**
+	 * Modelo de una columna sin cabecera y una única fila con el mensaje indicado,
+	 * para los listados vacíos.
+	 *
+	 * @param message
+	 * @return
+	 */
+	public static DtoTableModel<String> message(final String message) {
+		return new DtoTableModel<>(List.of(message), Column.of("", String.class, s -> s));
+	}
+
+	@Override
+	public int getRowCount() {
+		return rows.size();
+	}
+
+	@Override
+	public int getColumnCount() {
+		return columns.size();
+	}
+
+	@Override
+	public String getColumnName(final int column) {
+		return columns.get(column).getHeader();
+	}
+
+	@Override
+	public Class<?> getColumnClass(final int column) {
+		return columns.get(column).getType();
+	}
+
+	@Override
+	public Object getValueAt(final int row, final int column) {
+		return columns.get(column).getValue(rows.get(row));
+	}
+
+	/**
+	 * DTO de la fila indicada (índice del modelo).
+	 *
+	 * @param row
+	 * @return
+	 */
+	public T getRow(final int row) {
+		return rows.get(row);
+	}
+
+	/**
+	 * DTOs de las filas, en orden.
+	 *
+	 * @return
+	 */
+	public List<T> getRows() {
+		return Collections.unmodifiableList(rows);
+	}
+
+	/**
+	 * Primera fila (índice del modelo) cuyo valor en la primera columna es la
+	 * clave indicada, o -1 si no hay ninguna.
+	 *
+	 * @param key
+	 * @return
+	 */
+	public int indexOf(final Object key) {
+		if (columns.isEmpty()) {
+			return -1;
+		}
+		if (index == null) {
+			index = new HashMap<>();
+			indexRows(0);
+		}
+		Integer row = index.get(key);
+		return row == null ? -1 : row;
+	}
+
+	private void indexRows(final int from) {
+		Column<T> keyColumn = columns.get(0);
+		for (int i = from; i < rows.size(); i++) {
+			index.putIfAbsent(keyColumn.getValue(rows.get(i)), i);
+		}
+	}
+
+	/**
+	 * Sustituye las filas del modelo.
+	 *
+	 * @param rows
+	 */
+	public void setRows(final List<T> rows) {
+		this.rows = rows;
+		this.ownRows = false;
+		this.index = null;
+		fireTableDataChanged();
+	}
+
+	/**
+	 * Añade filas al final del modelo.
+	 *
+	 * @param more
+	 */
+	public void addRows(final List<? extends T> more) {
+		if (more.isEmpty()) {
+			return;
+		}
+		if (!ownRows) {
+			rows = new ArrayList<>(rows);
+			ownRows = true;
+		}
+		int first = rows.size();
+		rows.addAll(more);
+		if (index != null) {
+			indexRows(first);
+		}
+		fireTableRowsInserted(first, rows.size() - 1);
+	}
+
+}
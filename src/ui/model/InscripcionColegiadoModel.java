@@ -1,12 +1,13 @@
 package ui.model;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
 import business.BusinessException;
 import persistence.InscripcionColegiado.InscripcionColegiadoDto;
+import ui.model.DtoTableModel.Column;
 
 public class InscripcionColegiadoModel {
 		
@@ -28,6 +29,27 @@ public class InscripcionColegiadoModel {
 	private static final String HEADER_COLUMN12 = "FECHA DE CANCELACION";
 	private static final String HEADER_COLUMN13 = "POLITICA DE DEVOLUCION";
 
+	private static final Column<InscripcionColegiadoDto> DNI = Column.of(HEADER_COLUMN1, c -> c.colegiado.DNI);
+	private static final Column<InscripcionColegiadoDto> NOMBRE = Column.of(HEADER_COLUMN2, c -> c.colegiado.nombre);
+	private static final Column<InscripcionColegiadoDto> APELLIDOS = Column.of(HEADER_COLUMN3,
+			c -> c.colegiado.apellidos);
+	private static final Column<InscripcionColegiadoDto> CANTIDAD_ABONADA = Column.of(HEADER_COLUMN4,
+			c -> c.cantidadPagada);
+	private static final Column<InscripcionColegiadoDto> FECHA_TRANSFERENCIA = Column.of(HEADER_COLUMN5,
+			c -> c.fechaTransferencia == null ? "NO RELIZADA" : c.fechaTransferencia.toString());
+	private static final Column<InscripcionColegiadoDto> CODIGO_TRANSFERENCIA = Column.of(HEADER_COLUMN6,
+			c -> c.fechaTransferencia == null ? "NO REALIZADA" : c.codigoTransferencia);
+	private static final Column<InscripcionColegiadoDto> ESTADO = Column.of(HEADER_COLUMN7, c -> c.estado);
+	private static final Column<InscripcionColegiadoDto> CUOTA_CURSO = Column.of(HEADER_COLUMN8, c -> c.precio);
+	private static final Column<InscripcionColegiadoDto> INCIDENCIAS = Column.of(HEADER_COLUMN9, c -> c.incidencias);
+	private static final Column<InscripcionColegiadoDto> DEVOLVER = Column.of(HEADER_COLUMN10, c -> c.devolver);
+	private static final Column<InscripcionColegiadoDto> TITULO_CURSO = Column.of(HEADER_COLUMN11,
+			c -> c.curso.titulo);
+	private static final Column<InscripcionColegiadoDto> FECHA_CANCELACION = Column.of(HEADER_COLUMN12,
+			c -> c.fechaCancelacion);
+	private static final Column<InscripcionColegiadoDto> POLITICA_DEVOLUCION = Column.of(HEADER_COLUMN13,
+			c -> c.curso.porcentaje_devolucion);
+
 
 	private List<InscripcionColegiadoDto> inscripciones;
 
@@ -37,121 +59,39 @@ public class InscripcionColegiadoModel {
 
 	public TableModel getCursoModel(final int estado) throws BusinessException {
 		// Listado de las incripciones
-		DefaultTableModel model = new DefaultTableModel() { 
-			private static final long serialVersionUID = 1L;
-
-			@Override public boolean isCellEditable(int row, int column) { 
-				return false; 
-			} 
-		};
-		
 		if (estado==TRANSFERENCIAS_RECIBIDAS) {
 			if (inscripciones.size() == 0) {
-				model.addColumn("");
-				model.addRow(new Object[] { "NO HAY INSCRIPCIONES REALIZADAS POR TRANSFERENCIA PENDIENTES POR REVISAR" });
-
-			} else {
-				model.addColumn(HEADER_COLUMN1);
-				model.addColumn(HEADER_COLUMN2);
-				model.addColumn(HEADER_COLUMN3);
-				model.addColumn(HEADER_COLUMN4);
-				model.addColumn(HEADER_COLUMN5);
-				model.addColumn(HEADER_COLUMN6);
-
-
-				for (InscripcionColegiadoDto c : inscripciones) {
-					if (c.fechaTransferencia == null) {
-						model.addRow(new Object[] { c.colegiado.DNI, c.colegiado.nombre, c.colegiado.apellidos, c.cantidadPagada, "NO RELIZADA", "NO REALIZADA" });
-					} else {
-						model.addRow(new Object[] { c.colegiado.DNI, c.colegiado.nombre, c.colegiado.apellidos, c.cantidadPagada, c.fechaTransferencia.toString(), c.codigoTransferencia });
-					}
-				}	
-
+				return DtoTableModel.message("NO HAY INSCRIPCIONES REALIZADAS POR TRANSFERENCIA PENDIENTES POR REVISAR");
 			}
+			return new DtoTableModel<>(inscripciones, DNI, NOMBRE, APELLIDOS, CANTIDAD_ABONADA, FECHA_TRANSFERENCIA,
+					CODIGO_TRANSFERENCIA);
 		} else if (estado==INSCRIPCIONES_CANCELADAS) {
 			if (inscripciones.size() == 0) {
-				model.addColumn("");
-				model.addRow(new Object[] { "NO HAY INSCRIPCIONES CANCELADAS EN ESTE CURSO" });
-
-			} else {
-				model.addColumn(HEADER_COLUMN1);
-				model.addColumn(HEADER_COLUMN2);
-				model.addColumn(HEADER_COLUMN3);
-				
-				model.addColumn(HEADER_COLUMN11);
-				model.addColumn(HEADER_COLUMN4);
-				model.addColumn(HEADER_COLUMN8);
-				model.addColumn(HEADER_COLUMN12);
-				
-				model.addColumn(HEADER_COLUMN7);
-				model.addColumn(HEADER_COLUMN9);
-				model.addColumn(HEADER_COLUMN10);
-
-
-				for (InscripcionColegiadoDto c : inscripciones) {
-					if (c.fechaTransferencia == null) {
-						model.addRow(new Object[] { c.colegiado.DNI, c.colegiado.nombre, c.colegiado.apellidos, c.curso.titulo, 
-								c.cantidadPagada, c.precio, c.fechaCancelacion, c.estado, "<html><p style = 'overflow-wrap: break-word;'>" + c.incidencias + "</p></html>", c.devolver });
-					}
-				}
-			}	
+				return DtoTableModel.message("NO HAY INSCRIPCIONES CANCELADAS EN ESTE CURSO");
+			}
+			return new DtoTableModel<>(sinTransferencia(), DNI, NOMBRE, APELLIDOS, TITULO_CURSO, CANTIDAD_ABONADA,
+					CUOTA_CURSO, FECHA_CANCELACION, ESTADO, INCIDENCIAS, DEVOLVER);
 		} else if (estado==INSCRIPCION_CANCELADA) {
 			if (inscripciones.size() == 0) {
-				model.addColumn("");
-				model.addRow(new Object[] { "NO HAY NINGUNA INSCRIPCION CANCELADA EN ESTE CURSO" });
-
-			} else {
-				model.addColumn(HEADER_COLUMN1);
-				model.addColumn(HEADER_COLUMN2);
-				model.addColumn(HEADER_COLUMN3);
-				
-				model.addColumn(HEADER_COLUMN11);
-				model.addColumn(HEADER_COLUMN4);
-				model.addColumn(HEADER_COLUMN8);
-				model.addColumn(HEADER_COLUMN12);
-				
-				model.addColumn(HEADER_COLUMN7);
-				model.addColumn(HEADER_COLUMN9);
-				model.addColumn(HEADER_COLUMN10);
-				model.addColumn(HEADER_COLUMN13);
-
-
-				for (InscripcionColegiadoDto c : inscripciones) {
-					if (c.fechaTransferencia == null) {
-						model.addRow(new Object[] { c.colegiado.DNI, c.colegiado.nombre, c.colegiado.apellidos, c.curso.titulo, 
-								c.cantidadPagada, c.precio, c.fechaCancelacion, c.estado, "<html><p style = 'overflow-wrap: break-word;'>" + c.incidencias + "</p></html>", c.devolver,
-								c.curso.porcentaje_devolucion});
-					}
-				}
-			}	
-			
-		} else {
-			if (inscripciones.size() == 0) {
-				model.addColumn("");
-				model.addRow(new Object[] { "NO HAY INSCRIPCIONES PROCESADAS EN ESTE CURSO" });
-
-			} else {
-				
-				model.addColumn(HEADER_COLUMN1);
-				model.addColumn(HEADER_COLUMN2);
-				model.addColumn(HEADER_COLUMN3);
-				model.addColumn(HEADER_COLUMN7);
-				model.addColumn(HEADER_COLUMN4);
-				model.addColumn(HEADER_COLUMN8);
-				model.addColumn(HEADER_COLUMN9);
-				model.addColumn(HEADER_COLUMN10);
-
-
-				for (InscripcionColegiadoDto c : inscripciones) {
-					model.addRow(new Object[] { c.colegiado.DNI, c.colegiado.nombre, c.colegiado.apellidos, c.estado , c.cantidadPagada, c.precio, c.incidencias, c.devolver });
-				}		
-				
-
+				return DtoTableModel.message("NO HAY NINGUNA INSCRIPCION CANCELADA EN ESTE CURSO");
 			}
+			return new DtoTableModel<>(sinTransferencia(), DNI, NOMBRE, APELLIDOS, TITULO_CURSO, CANTIDAD_ABONADA,
+					CUOTA_CURSO, FECHA_CANCELACION, ESTADO, INCIDENCIAS, DEVOLVER, POLITICA_DEVOLUCION);
 		}
-		
 
-		return model;
+		if (inscripciones.size() == 0) {
+			return DtoTableModel.message("NO HAY INSCRIPCIONES PROCESADAS EN ESTE CURSO");
+		}
+		return new DtoTableModel<>(inscripciones, DNI, NOMBRE, APELLIDOS, ESTADO, CANTIDAD_ABONADA, CUOTA_CURSO,
+				INCIDENCIAS, DEVOLVER);
+	}
+
+	/**
+	 * Inscripciones canceladas que se muestran: las que no se pagaron por
+	 * transferencia.
+	 */
+	private List<InscripcionColegiadoDto> sinTransferencia() {
+		return inscripciones.stream().filter(c -> c.fechaTransferencia == null).collect(Collectors.toList());
 	}
 
 }
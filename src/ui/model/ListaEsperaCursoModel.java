@@ -3,10 +3,10 @@ package ui.model;
 import java.util.ArrayList;
 import java.util.List;
 
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
 import persistence.InscripcionColegiado.listaEsperaInscripcionCurso.ListaEsperaInscripcionCursoDto;
+import ui.model.DtoTableModel.Column;
 
 /**
  * Modelo para las tablas que muestren la lista de espera de un curso.
@@ -29,31 +29,12 @@ public class ListaEsperaCursoModel {
 	}
 
 	public TableModel getListaEsperaSummaryModel() {
-		DefaultTableModel model = new DefaultTableModel() {
-			private static final long serialVersionUID = 1L;
-
-			@Override
-			public boolean isCellEditable(int row, int column) {
-				return false;
-			}
-		};
-
 		if (listaEspera.isEmpty()) {
-			model.addColumn("");
-			model.addRow(new Object[] { "EL CURSO SELECCIONADO TIENE PLAZAS DISPONIBLES" });
-		
-		}else {
-			
-			model.addColumn(HEADER_COLUMN1);
-			model.addColumn(HEADER_COLUMN2);
-			model.addColumn(HEADER_COLUMN3);
-			
-			for(ListaEsperaInscripcionCursoDto item : listaEspera) {
-				model.addRow(new Object[] { item.dniUsuario, item.nombreUsuario, item.posicionUsuarioLista });
-			}
+			return DtoTableModel.message("EL CURSO SELECCIONADO TIENE PLAZAS DISPONIBLES");
 		}
-
-		return model;
+		return new DtoTableModel<>(listaEspera, Column.of(HEADER_COLUMN1, item -> item.dniUsuario),
+				Column.of(HEADER_COLUMN2, item -> item.nombreUsuario),
+				Column.of(HEADER_COLUMN3, item -> item.posicionUsuarioLista));
 	}
 
 }
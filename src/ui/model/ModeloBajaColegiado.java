@@ -1,11 +1,13 @@
 package ui.model;
 
 
-import javax.swing.table.DefaultTableModel;
+import java.util.List;
+
 import javax.swing.table.TableModel;
 
 import persistence.colegiado.ColegiadoCrud;
 import persistence.colegiado.ColegiadoDto;
+import ui.model.DtoTableModel.Column;
 
 public class ModeloBajaColegiado {
 	public static final String HEADER_COLUMN1 = "NOMBRE";
@@ -23,23 +25,13 @@ public class ModeloBajaColegiado {
 
 		// Listado de cursos actualmente planificados
 
-		DefaultTableModel model = new DefaultTableModel();
-
 		if (colegiado == null) {
-			model.addColumn("");
-			model.addRow(new Object[] { "NO HAY COLEGIADOS" });
-
-		} else {
-			model.addColumn(HEADER_COLUMN1);
-			model.addColumn(HEADER_COLUMN2);
-			model.addColumn(HEADER_COLUMN3);
-			
-			model.addRow(
-					new Object[] {colegiado.nombre,
-							colegiado.apellidos,
-							ColegiadoCrud.getCantidadDeudada(colegiado.DNI)});
+			return DtoTableModel.message("NO HAY COLEGIADOS");
 		}
 
-		return model;
+		// La deuda se consulta una vez, no cada vez que se pinta la celda
+		double cantidadDeudada = ColegiadoCrud.getCantidadDeudada(colegiado.DNI);
+		return new DtoTableModel<>(List.of(colegiado), Column.of(HEADER_COLUMN1, c -> c.nombre),
+				Column.of(HEADER_COLUMN2, c -> c.apellidos), Column.of(HEADER_COLUMN3, c -> cantidadDeudada));
 	}
 }
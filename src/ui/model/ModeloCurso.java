@@ -1,18 +1,24 @@
 package ui.model;
 
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
 import persistence.curso.CursoDto;
-import persistence.curso.Precio_Colectivos;
+import persistence.curso.PrecioCursoCRUD;
+import ui.model.DtoTableModel.Column;
 
 public class ModeloCurso {
 	public static final String HEADER_COLUMN1 = "TITULO";
 	public static final String HEADER_COLUMN2 = "FECHA INICIO";
 	public static final String HEADER_COLUMN3 = "PLAZAS";
 	public static final String HEADER_COLUMN4 = "PRECIO";
+
+	private static final Column<CursoDto> TITULO = Column.of(HEADER_COLUMN1, c -> c.titulo);
+	private static final Column<CursoDto> FECHA_INICIO = Column.of(HEADER_COLUMN2, c -> c.fechaInicio);
+	private static final Column<CursoDto> PLAZAS = Column.of(HEADER_COLUMN3, c -> c.plazasDisponibles);
 	
 	
 	private List<CursoDto> cursos;
@@ -26,36 +32,19 @@ public class ModeloCurso {
 
 		// Listado de cursos actualmente planificados
 
-		DefaultTableModel model = new DefaultTableModel();
-
 		if (cursos.size() == 0) {
-			model.addColumn("");
-			model.addRow(new Object[] { "NO HAY CURSOS Abiertos ACTUALMENTE" });
-
-		} else {
-
-			model.addColumn(HEADER_COLUMN1);
-			model.addColumn(HEADER_COLUMN2);
-			model.addColumn(HEADER_COLUMN3);
-			
-			if(b) {
-				model.addColumn(HEADER_COLUMN4);
-				for (CursoDto c : cursos) {
-					model.addRow(
-							new Object[] {c.titulo, c.fechaInicio, c.plazasDisponibles, Precio_Colectivos.StringToPrecio_Colectivos(c.CantidadPagarColectivo).getPrecio(TipoColectivo) });
-				}
-			}
-			else {
-				for (CursoDto c : cursos) {
-					model.addRow(
-							new Object[] {c.titulo, c.fechaInicio, c.plazasDisponibles});
-				}
-			}
-			
-
-
+			return DtoTableModel.message("NO HAY CURSOS Abiertos ACTUALMENTE");
 		}
 
-		return model;
+		if(b) {
+			// Los precios se consultan una vez, no cada vez que se pinta la celda
+			Map<CursoDto, Double> precios = new IdentityHashMap<>();
+			for (CursoDto c : cursos) {
+				precios.put(c, PrecioCursoCRUD.findPrecios(c.codigoCurso).getPrecio(TipoColectivo));
+			}
+			return new DtoTableModel<>(cursos, TITULO, FECHA_INICIO, PLAZAS,
+					Column.of(HEADER_COLUMN4, c -> precios.get(c)));
+		}
+		return new DtoTableModel<>(cursos, TITULO, FECHA_INICIO, PLAZAS);
 	}
 }
@@ -2,10 +2,10 @@ package ui.model;
 
 import java.util.List;
 
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
 import persistence.SolicitudServicios.SolicitudServiciosDto;
+import ui.model.DtoTableModel.Column;
 
 public class ModeloInformesPericiales {
 
@@ -16,6 +16,15 @@ public class ModeloInformesPericiales {
 	public static final String HEADER_COLUMN5 = "FECHA CANCELACION";
 	
 	
+	private static final Column<SolicitudServiciosDto> DESCRIPCION = Column.of(HEADER_COLUMN1,
+			s -> s.Descripcion);
+	private static final Column<SolicitudServiciosDto> DNI_PERITO = Column.of(HEADER_COLUMN2,
+			s -> s.peritoDNI != null ? s.peritoDNI : "");
+	private static final Column<SolicitudServiciosDto> AGE_SOLICITUD = Column.of(HEADER_COLUMN3, s -> s.AgeSolicitud);
+	private static final Column<SolicitudServiciosDto> ESTADO = Column.of(HEADER_COLUMN4, s -> s.estado);
+	private static final Column<SolicitudServiciosDto> FECHA_CANCELACION = Column.of(HEADER_COLUMN5,
+			s -> s.fechaCancelacion != null ? s.fechaCancelacion : "");
+	
 	private List<SolicitudServiciosDto> solicitudServicios;
 
 	public ModeloInformesPericiales(List<SolicitudServiciosDto> solicitudServicios) {
@@ -27,62 +36,32 @@ public class ModeloInformesPericiales {
 
 		// Listado de cursos actualmente planificados
 
-		DefaultTableModel model = new DefaultTableModel();
-
 		if (solicitudServicios.size() == 0) {
-			model.addColumn("");
 			if(texto) {
-				model.addRow(new Object[] { "El perito indicado no tiene periciales asociadas" });
+				return DtoTableModel.message("El perito indicado no tiene periciales asociadas");
 			}
 			else {
-				model.addRow(new Object[] { "NO HAY SOLICITUDES PARA LA CONFIGURACION DE FILTROS ACTUAL" });
-			}
-			
-
-		} else {
-
-			model.addColumn(HEADER_COLUMN1);
-			model.addColumn(HEADER_COLUMN2);
-			model.addColumn(HEADER_COLUMN3);
-			model.addColumn(HEADER_COLUMN4);
-			if(cancelacion) {
-				model.addColumn(HEADER_COLUMN5);
-				
-	
-				for (SolicitudServiciosDto s : solicitudServicios) {
-					model.addRow(
-							new Object[] {stringSaltoLinea(s.Descripcion), s.peritoDNI == null ? "" : s.peritoDNI, s.AgeSolicitud, s.estado,
-									s.fechaCancelacion != null ? s.fechaCancelacion : ""});
-				}
-				
-			}
-			else {
-				for (SolicitudServiciosDto s : solicitudServicios) {
-					
-					model.addRow(
-							new Object[] {stringSaltoLinea(s.Descripcion), s.peritoDNI != null ? s.peritoDNI : "", s.AgeSolicitud, s.estado});
-				}
+				return DtoTableModel.message("NO HAY SOLICITUDES PARA LA CONFIGURACION DE FILTROS ACTUAL");
 			}
 		}
 
-		return model;
+		return createModel(solicitudServicios, cancelacion);
 	}
 	
-	private String stringSaltoLinea(String s) {
-		String[] other = s.split(" ");
-		String nuevoString = "";
-		int sizeLinea = 0;
-		for(String o : other) {
-			if(sizeLinea + o.length() >= 90) {
-				nuevoString += "\n" + o;
-				sizeLinea = o.length();
-			}
-			else {
-				nuevoString += " " + o;
-				sizeLinea += o.length() +1;
-			}
+	/**
+	 * Modelo del listado con las solicitudes indicadas. Con una lista vacía sirve
+	 * para cargarlo por páginas.
+	 * 
+	 * @param solicitudServicios
+	 * @param cancelacion Si se incluye la fecha de cancelación.
+	 * @return
+	 */
+	public static DtoTableModel<SolicitudServiciosDto> createModel(List<SolicitudServiciosDto> solicitudServicios,
+			boolean cancelacion) {
+		if(cancelacion) {
+			return new DtoTableModel<>(solicitudServicios, DESCRIPCION, DNI_PERITO, AGE_SOLICITUD, ESTADO,
+					FECHA_CANCELACION);
 		}
-		String sinSaltos = nuevoString.replaceAll("\n", "<br> ");
-		return "<HTML> " + sinSaltos + " </HTML>";
+		return new DtoTableModel<>(solicitudServicios, DESCRIPCION, DNI_PERITO, AGE_SOLICITUD, ESTADO);
 	}
 }
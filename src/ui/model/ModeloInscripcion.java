@@ -1,12 +1,11 @@
-
 package ui.model;
 
 import java.util.List;
 
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
 import persistence.Colegiado_Inscripcion.Colegiado_Inscripcion;
+import ui.model.DtoTableModel.Column;
 
 public class ModeloInscripcion {
 	public static final String HEADER_COLUMN1 = "APELLIDOS";
@@ -27,27 +26,13 @@ public class ModeloInscripcion {
 
 		// Listado de cursos actualmente planificados
 
-		DefaultTableModel model = new DefaultTableModel();
-
 		if (inscripciones.size() == 0) {
-			model.addColumn("");
-			model.addRow(new Object[] { "No hay Inscripciones para el curso seleccionado" });
-
-		} else {
-
-			model.addColumn(HEADER_COLUMN1);
-			model.addColumn(HEADER_COLUMN2);
-			model.addColumn(HEADER_COLUMN3);
-			model.addColumn(HEADER_COLUMN4);
-			model.addColumn(HEADER_COLUMN5);
-			
-			for (Colegiado_Inscripcion i : inscripciones) {
-				model.addRow(
-						new Object[] {i.getC().apellidos, i.getC().nombre, i.getI().fechaSolicitud, i.getI().estado, i.cantidadPagada() });
-			}
-
+			return DtoTableModel.message("No hay Inscripciones para el curso seleccionado");
 		}
 
-		return model;
+		return new DtoTableModel<>(inscripciones, Column.of(HEADER_COLUMN1, i -> i.getC().apellidos),
+				Column.of(HEADER_COLUMN2, i -> i.getC().nombre),
+				Column.of(HEADER_COLUMN3, i -> i.getI().fechaSolicitud),
+				Column.of(HEADER_COLUMN4, i -> i.getI().estado), Column.of(HEADER_COLUMN5, i -> i.cantidadPagada()));
 	}
 }
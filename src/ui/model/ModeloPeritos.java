@@ -2,9 +2,9 @@ package ui.model;
 
 import java.util.List;
 
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 import persistence.colegiado.ColegiadoDto;
+import ui.model.DtoTableModel.Column;
 
 public class ModeloPeritos {
 	public static final String HEADER_COLUMN1 = "NOMBRE";
@@ -25,27 +25,12 @@ public class ModeloPeritos {
 
 		// Listado de cursos actualmente planificados
 
-		DefaultTableModel model = new DefaultTableModel();
-
 		if (peritos.size() == 0) {
-			model.addColumn("");
-			model.addRow(new Object[] { "NO HAY PERITOS DISPONIBLES ACTUALMENTE" });
-
-		} else {
-
-			model.addColumn(HEADER_COLUMN1);
-			model.addColumn(HEADER_COLUMN2);
-			model.addColumn(HEADER_COLUMN3);
-			model.addColumn(HEADER_COLUMN4);
-			model.addColumn(HEADER_COLUMN5);
-
-			
-			for (ColegiadoDto p : peritos) {
-				model.addRow(
-						new Object[] {p.nombre, p.apellidos, p.DNI, p.telefono, p.posicionPerito});
-			}
+			return DtoTableModel.message("NO HAY PERITOS DISPONIBLES ACTUALMENTE");
 		}
 
-		return model;
+		return new DtoTableModel<>(peritos, Column.of(HEADER_COLUMN1, p -> p.nombre),
+				Column.of(HEADER_COLUMN2, p -> p.apellidos), Column.of(HEADER_COLUMN3, p -> p.DNI),
+				Column.of(HEADER_COLUMN4, p -> p.telefono), Column.of(HEADER_COLUMN5, p -> p.posicionPerito));
 	}
 }
@@ -2,10 +2,10 @@ package ui.model;
 
 import java.util.List;
 
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
 import persistence.colegiado.ColegiadoDto;
+import ui.model.DtoTableModel.Column;
 
 public class ModeloPeritosDisponiblesParaVisado {
 	public static final String HEADER_COLUMN1 = "Nombre";
@@ -19,22 +19,12 @@ public class ModeloPeritosDisponiblesParaVisado {
 	}
 	
 	public TableModel getSolicitudModel() {
-		DefaultTableModel model = new DefaultTableModel();
-		
 		if (peritos.isEmpty()) {
-			model.addColumn("");
-			model.addRow(new Object[] { "NO HAY PERITOS DISPONIBLES PARA VISADOS" });
-		} else {
-			model.addColumn(HEADER_COLUMN1);
-			model.addColumn(HEADER_COLUMN2);
-			model.addColumn(HEADER_COLUMN3);
-			
-			for(ColegiadoDto c : peritos) {
-				model.addRow(new Object[] {c.nombre, c.apellidos, c.DNI});
-			}
+			return DtoTableModel.message("NO HAY PERITOS DISPONIBLES PARA VISADOS");
 		}
 		
-		return model;
+		return new DtoTableModel<>(peritos, Column.of(HEADER_COLUMN1, c -> c.nombre),
+				Column.of(HEADER_COLUMN2, c -> c.apellidos), Column.of(HEADER_COLUMN3, c -> c.DNI));
 	}
 
 }
@@ -2,10 +2,10 @@ package ui.model;
 
 import java.util.List;
 
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
 import persistence.solicitudVisados.SolicitudVisadoDto;
+import ui.model.DtoTableModel.Column;
 
 public class ModeloSolicitudesVisados {
 	public static final String HEADER_COLUMN1 = "DniPerito";
@@ -19,39 +19,12 @@ public class ModeloSolicitudesVisados {
 	}
 	
 	public TableModel getSolicitudModel() {
-		DefaultTableModel model = new DefaultTableModel();
-		
 		if (solicitudVisados.isEmpty()) {
-			model.addColumn("");
-			model.addRow(new Object[] { "NO HAY SOLICITUDES ACTUALMENTE" });
-		} else {
-			model.addColumn(HEADER_COLUMN1);
-			model.addColumn(HEADER_COLUMN2);
-			model.addColumn(HEADER_COLUMN3);
-			
-			for(SolicitudVisadoDto s : solicitudVisados) {
-				model.addRow(new Object[] {s.dniPerito, stringSaltoLinea(s.descripcion), s.estado});
-			}
+			return DtoTableModel.message("NO HAY SOLICITUDES ACTUALMENTE");
 		}
 		
-		return model;
-	}
-	
-	private String stringSaltoLinea(String s) {
-		String[] other = s.split(" ");
-		String nuevoString = "";
-		int sizeLinea = 0;
-		for(String o : other) {
-			if(sizeLinea + o.length() >= 90) {
-				nuevoString += "\n" + o;
-				sizeLinea = o.length();
-			}
-			else {
-				nuevoString += " " + o;
-				sizeLinea += o.length() +1;
-			}
-		}
-		String sinSaltos = nuevoString.replaceAll("\n", "<br> ");
-		return "<HTML> " + sinSaltos + " </HTML>";
+		return new DtoTableModel<>(solicitudVisados, Column.of(HEADER_COLUMN1, s -> s.dniPerito),
+				Column.of(HEADER_COLUMN2, s -> s.descripcion),
+				Column.of(HEADER_COLUMN3, s -> s.estado));
 	}
 }
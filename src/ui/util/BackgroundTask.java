@@ -0,0 +1,327 @@
+package ui.util;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.Cursor;
+import java.awt.Dimension;
+import java.awt.Window;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+
+import javax.swing.AbstractButton;
+import javax.swing.JButton;
+import javax.swing.JDialog;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+import javax.swing.Timer;
+import javax.swing.border.EmptyBorder;
+
+import business.BusinessException;
+import ui.ApplicationException;
+import ui.components.messages.DefaultMessage;
+import ui.components.messages.MessageType;
+
+/**
+ * Operación larga de la interfaz ejecutada en segundo plano, para que la
+ * ventana siga respondiendo mientras se accede a la base de datos o a ficheros.
+ * <p>
+ * Mientras dura la operación se deshabilitan los botones que la lanzan y, si
+ * tarda más de {@link #DIALOG_DELAY_MS} ms, se muestra un diálogo con una barra
+ * de progreso. Si la operación puede cancelarse ({@link #isCancellable()}), el
+ * diálogo tiene además un botón que interrumpe su hilo. La operación decide si
+ * atiende la interrupción: solo se considera cancelada si {@link #work()} lanza
+ * una {@link CancellationException}; si termina de todos modos, su resultado o
+ * su error se notifican como si no se hubiera pedido la cancelación. Los
+ * botones no se vuelven a habilitar hasta que el hilo termina.
+ * <p>
+ * Al terminar se llama, en el hilo de eventos de Swing, a
+ * {@link #succeeded(Object)}, {@link #failed(Throwable)} o
+ * {@link #cancelled()}. Por defecto, los errores se muestran con un
+ * {@link DefaultMessage}.
+ *
+ * <pre>
+ * new BackgroundTask&lt;Boolean&gt;(boton, "Emitiendo cuotas...", boton) {
+ * 	protected boolean isCancellable() {
+ * 		return true;
+ * 	}
+ *
+ * 	protected Boolean work() {
+ * 		return ReciboCRUD.emitirCuotas();
+ * 	}
+ *
+ * 	protected void succeeded(Boolean emitidas) {
+ * 		...
+ * 	}
+ * }.start();
+ * </pre>
+ *
+ * @param <T> Resultado de la operación.
+ * @version v1.0.0
+ *
+ */
+public abstract class BackgroundTask<T> extends SwingWorker<T, String> {
+
+	/**
+	 * Tiempo que ha de durar la operación para mostrar el diálogo de progreso.
+	 */
+	public static final int DIALOG_DELAY_MS = 300;
+
+	private final Component parent;
+	private final String title;
+	private final Map<AbstractButton, Boolean> triggers = new LinkedHashMap<>();
+
+	// Hilo que ejecuta work(), mientras dura; se interrumpe al cancelar
+	private final Object workerLock = new Object();
+	private Thread worker;
+	private boolean cancelRequested;
+	private boolean finished;
+
+	private Timer dialogTimer;
+	private JDialog dialog;
+	private DefaultMessage message;
+	private JProgressBar progressBar;
+	private JButton cancelButton;
+	private Cursor previousCursor;
+
+	/**
+	 * @param parent   Componente sobre el que se muestran el diálogo y los
+	 *                 mensajes.
+	 * @param title    Descripción de la operación.
+	 * @param triggers Botones que lanzan la operación, que se deshabilitan
+	 *                 mientras dura.
+	 */
+	protected BackgroundTask(final Component parent, final String title, final AbstractButton... triggers) {
+		this.parent = parent;
+		this.title = title;
+		for (AbstractButton b : triggers) {
+			if (b != null) {
+				this.triggers.put(b, b.isEnabled());
+			}
+		}
+	}
+
+	/**
+	 * Operación a ejecutar en segundo plano. No debe acceder a los componentes de
+	 * la interfaz.
+	 *
+	 * @return
+	 * @throws Exception
+	 */
+	protected abstract T work() throws Exception;
+
+	/**
+	 * Indica si la operación atiende la interrupción de su hilo lanzando una
+	 * {@link CancellationException}, y por tanto se ofrece cancelarla. Por
+	 * defecto, no.
+	 *
+	 * @return
+	 */
+	protected boolean isCancellable() {
+		return false;
+	}
+
+	/**
+	 * Se llama en el hilo de eventos de Swing si la operación termina
+	 * correctamente.
+	 *
+	 * @param result
+	 */
+	protected void succeeded(final T result) {
+	}
+
+	/**
+	 * Se llama en el hilo de eventos de Swing si la operación lanza una excepción.
+	 * Muestra el mensaje de error.
+	 *
+	 * @param error
+	 */
+	protected void failed(final Throwable error) {
+		String msg;
+		if (error instanceof BusinessException || error instanceof ApplicationException) {
+			msg = error.getMessage();
+		} else {
+			error.printStackTrace();
+			msg = "Se ha producido un error inesperado: " + error.getMessage();
+		}
+		JOptionPane.showMessageDialog(parent, new DefaultMessage(msg, MessageType.ERROR), title,
+				JOptionPane.ERROR_MESSAGE);
+	}
+
+	/**
+	 * Se llama en el hilo de eventos de Swing cuando {@link #work()} ha lanzado
+	 * una {@link CancellationException}.
+	 */
+	protected void cancelled() {
+		JOptionPane.showMessageDialog(parent, new DefaultMessage("Operación cancelada", MessageType.INFO), title,
+				JOptionPane.INFORMATION_MESSAGE);
+	}
+
+	/**
+	 * Informa del avance de la operación. Puede llamarse desde
+	 * {@link #work()}.
+	 *
+	 * @param done
+	 * @param total
+	 */
+	protected final void progress(final int done, final int total) {
+		if (total > 0) {
+			setProgress(Math.max(0, Math.min(100, done * 100 / total)));
+		}
+	}
+
+	/**
+	 * Cambia el texto del diálogo de progreso. Puede llamarse desde
+	 * {@link #work()}.
+	 *
+	 * @param note
+	 */
+	protected final void note(final String note) {
+		publish(note);
+	}
+
+	/**
+	 * Bloquea los botones que lanzan la operación y la ejecuta en segundo plano.
+	 * Ha de llamarse desde el hilo de eventos de Swing.
+	 */
+	public final void start() {
+		for (AbstractButton b : triggers.keySet()) {
+			b.setEnabled(false);
+		}
+		Window window = getWindow();
+		if (window != null) {
+			previousCursor = window.getCursor();
+			window.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+		}
+
+		dialogTimer = new Timer(DIALOG_DELAY_MS, e -> showDialog());
+		dialogTimer.setRepeats(false);
+		dialogTimer.start();
+
+		addPropertyChangeListener(e -> {
+			if ("progress".equals(e.getPropertyName()) && progressBar != null) {
+				progressBar.setIndeterminate(false);
+				progressBar.setValue((Integer) e.getNewValue());
+			}
+		});
+		execute();
+	}
+
+	@Override
+	protected final T doInBackground() throws Exception {
+		synchronized (workerLock) {
+			if (cancelRequested) {
+				throw new CancellationException();
+			}
+			worker = Thread.currentThread();
+		}
+		try {
+			return work();
+		} finally {
+			synchronized (workerLock) {
+				worker = null;
+				// El hilo vuelve al ejecutor de SwingWorker sin la interrupción pendiente
+				Thread.interrupted();
+			}
+		}
+	}
+
+	/**
+	 * Pide la cancelación interrumpiendo el hilo de la operación.
+	 */
+	private void requestCancel() {
+		synchronized (workerLock) {
+			cancelRequested = true;
+			if (worker != null) {
+				worker.interrupt();
+			}
+		}
+		message.setMessage("Cancelando...");
+		cancelButton.setEnabled(false);
+	}
+
+	@Override
+	protected final void process(final List<String> notes) {
+		if (message != null && !notes.isEmpty()) {
+			message.setMessage(notes.get(notes.size() - 1));
+		}
+	}
+
+	@Override
+	protected final void done() {
+		finished = true;
+
+		dialogTimer.stop();
+		if (dialog != null) {
+			dialog.dispose();
+		}
+		for (Map.Entry<AbstractButton, Boolean> e : triggers.entrySet()) {
+			e.getKey().setEnabled(e.getValue());
+		}
+		Window window = getWindow();
+		if (window != null) {
+			window.setCursor(previousCursor);
+		}
+
+		// done() se llama cuando work() ya ha terminado, así que get() no espera
+		T result;
+		try {
+			result = get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof CancellationException) {
+				cancelled();
+			} else {
+				failed(cause);
+			}
+			return;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		succeeded(result);
+	}
+
+	private void showDialog() {
+		if (dialog != null || finished) {
+			return;
+		}
+		message = new DefaultMessage(title, MessageType.INFO);
+
+		progressBar = new JProgressBar(0, 100);
+		progressBar.setIndeterminate(getProgress() == 0);
+		progressBar.setValue(getProgress());
+		progressBar.setStringPainted(false);
+
+		JPanel south = new JPanel(new BorderLayout(10, 0));
+		south.add(progressBar, BorderLayout.CENTER);
+		if (isCancellable()) {
+			cancelButton = new JButton("Cancelar");
+			cancelButton.addActionListener(e -> requestCancel());
+			south.add(cancelButton, BorderLayout.EAST);
+		}
+
+		JPanel content = new JPanel(new BorderLayout(0, 10));
+		content.setBorder(new EmptyBorder(15, 15, 15, 15));
+		content.add(message, BorderLayout.CENTER);
+		content.add(south, BorderLayout.SOUTH);
+
+		dialog = new JDialog(getWindow(), title);
+		dialog.setDefaultCloseOperation(JDialog.DO_NOTHING_ON_CLOSE);
+		dialog.setContentPane(content);
+		dialog.setMinimumSize(new Dimension(420, 150));
+		dialog.pack();
+		dialog.setLocationRelativeTo(parent);
+		dialog.setVisible(true);
+	}
+
+	private Window getWindow() {
+		return parent == null ? null : SwingUtilities.getWindowAncestor(parent);
+	}
+
+}
@@ -0,0 +1,344 @@
+package ui.util;
+
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.event.InvocationEvent;
+import java.awt.event.KeyEvent;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.AbstractButton;
+
+import persistence.util.Conf;
+
+/**
+ * Detección de bloqueos del hilo de eventos de Swing.
+ * <p>
+ * Sustituye la cola de eventos del sistema por una que mide cuánto tarda en
+ * atenderse cada evento. Mientras un evento tarda más de
+ * <code>EDT_SAMPLE_INTERVAL_MS</code>, un hilo aparte toma muestras de la pila
+ * del hilo de eventos cada ese intervalo; el muestreo solo se programa mientras
+ * se atiende un evento, de modo que con la interfaz inactiva el monitor no
+ * consume nada. Los eventos que superan
+ * <code>EDT_STALL_THRESHOLD_MS</code> se consideran bloqueos: se notifican por
+ * la salida de error y se añaden a <code>EDT_STALL_LOG_FILE</code> con la
+ * acción que los produjo (componente y tipo de evento), su duración y los
+ * métodos de la aplicación más presentes en las muestras. El registro se
+ * escribe en un hilo propio, para no retrasar las muestras de otro bloqueo.
+ * <p>
+ * {@link #dump()} escribe en <code>EDT_STALL_REPORT_FILE</code> el resumen por
+ * acción y el histograma de métodos de todos los bloqueos.
+ * <p>
+ * El tiempo que un evento pasa con un diálogo modal abierto no cuenta: al
+ * atenderse el primer evento del diálogo se deja de medir el evento que lo ha
+ * abierto.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class EdtMonitor {
+
+	private static final String[] APP_PACKAGES = { "ui.", "business.", "persistence." };
+	private static final int LOG_FRAMES = 10;
+	private static final int REPORT_FRAMES = 30;
+
+	private static EdtMonitor instance;
+
+	/**
+	 * Evento en curso en el hilo de eventos.
+	 */
+	private static final class Dispatch {
+		private final AWTEvent event;
+		private final long start = System.nanoTime();
+		// Instante en que se abrió un diálogo modal (0 mientras se mide)
+		private volatile long pausedAt;
+		private final List<StackTraceElement[]> samples = new ArrayList<>();
+
+		private Dispatch(final AWTEvent event) {
+			this.event = event;
+		}
+
+		private synchronized void addSample(final StackTraceElement[] stack) {
+			samples.add(stack);
+		}
+
+		private synchronized List<StackTraceElement[]> getSamples() {
+			return new ArrayList<>(samples);
+		}
+	}
+
+	/**
+	 * Bloqueos de una acción.
+	 */
+	private static final class ActionStats {
+		private int count;
+		private long totalNanos;
+		private long maxNanos;
+	}
+
+	private final class MonitoredQueue extends EventQueue {
+		@Override
+		protected void dispatchEvent(AWTEvent event) {
+			Dispatch parent = current;
+			if (parent != null && parent.pausedAt == 0) {
+				parent.pausedAt = System.nanoTime();
+			}
+			Dispatch d = new Dispatch(event);
+			edt = Thread.currentThread();
+			current = d;
+			ScheduledFuture<?> sampler = watchdog.scheduleAtFixedRate(() -> sample(d), sampleMillis, sampleMillis,
+					TimeUnit.MILLISECONDS);
+			try {
+				super.dispatchEvent(event);
+			} finally {
+				sampler.cancel(false);
+				current = parent;
+				long nanos = (d.pausedAt != 0 ? d.pausedAt : System.nanoTime()) - d.start;
+				if (nanos >= thresholdNanos) {
+					stalled(d, nanos);
+				}
+			}
+		}
+	}
+
+	private final long thresholdNanos;
+	private final long sampleMillis;
+	private final File logFile;
+	private final ScheduledThreadPoolExecutor watchdog;
+	private final ExecutorService logWriter;
+
+	private volatile Dispatch current;
+	private volatile Thread edt;
+
+	private final Map<String, ActionStats> actions = new HashMap<>();
+	private final Map<String, Integer> appFrames = new HashMap<>();
+	private final Map<String, Integer> topFrames = new HashMap<>();
+	private int samples;
+
+	private EdtMonitor(final long thresholdMillis, final long sampleMillis, final File logFile) {
+		this.thresholdNanos = thresholdMillis * 1_000_000;
+		this.sampleMillis = sampleMillis;
+		this.logFile = logFile;
+		this.watchdog = new ScheduledThreadPoolExecutor(1, r -> daemon(r, "monitor-edt"));
+		// Los muestreos de los eventos que terminan antes del intervalo se cancelan:
+		// se quitan de la cola en lugar de esperar a su vencimiento
+		watchdog.setRemoveOnCancelPolicy(true);
+		this.logWriter = Executors.newSingleThreadExecutor(r -> daemon(r, "monitor-edt-registro"));
+	}
+
+	private static Thread daemon(final Runnable r, final String name) {
+		Thread t = new Thread(r, name);
+		t.setDaemon(true);
+		return t;
+	}
+
+	/**
+	 * Instala el monitor en la cola de eventos del sistema, salvo que esté
+	 * desactivado (<code>EDT_MONITOR_ENABLED</code>). Solo tiene efecto la primera
+	 * vez.
+	 */
+	public static synchronized void install() {
+		Conf conf = Conf.getInstance();
+		if (instance != null || !Boolean.parseBoolean(conf.getProperty("EDT_MONITOR_ENABLED", "true"))) {
+			return;
+		}
+		instance = new EdtMonitor(Math.max(1, conf.getIntProperty("EDT_STALL_THRESHOLD_MS", 200)),
+				Math.max(1, conf.getIntProperty("EDT_SAMPLE_INTERVAL_MS", 20)),
+				new File(conf.getProperty("EDT_STALL_LOG_FILE", "bloqueos_interfaz.txt")));
+		Toolkit.getDefaultToolkit().getSystemEventQueue().push(instance.new MonitoredQueue());
+	}
+
+	/**
+	 * Monitor instalado, o null si no se ha instalado.
+	 *
+	 * @return
+	 */
+	public static synchronized EdtMonitor getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Escribe el resumen de los bloqueos en el fichero configurado en
+	 * <code>EDT_STALL_REPORT_FILE</code>.
+	 *
+	 * @return El fichero escrito, o null si el monitor no está instalado.
+	 * @throws IOException
+	 */
+	public static File dump() throws IOException {
+		EdtMonitor monitor = getInstance();
+		if (monitor == null) {
+			return null;
+		}
+		File file = new File(
+				Conf.getInstance().getProperty("EDT_STALL_REPORT_FILE", "bloqueos_interfaz_resumen.txt"));
+		try (PrintWriter pw = new PrintWriter(file, StandardCharsets.UTF_8)) {
+			pw.println("Bloqueos de la interfaz - " + LocalDateTime.now());
+			pw.println();
+			pw.print(monitor.report());
+		}
+		return file;
+	}
+
+	/**
+	 * Toma una muestra de la pila si el evento indicado sigue en curso.
+	 */
+	private void sample(final Dispatch d) {
+		Thread t = edt;
+		if (current != d || t == null || d.pausedAt != 0) {
+			return;
+		}
+		StackTraceElement[] stack = t.getStackTrace();
+		// El evento puede haber terminado mientras se tomaba la muestra
+		if (current == d && d.pausedAt == 0) {
+			d.addSample(stack);
+		}
+	}
+
+	private void stalled(final Dispatch d, final long nanos) {
+		String action = describe(d.event);
+		System.err.printf("Interfaz bloqueada %.0f ms: %s%n", nanos / 1e6, action);
+		// El registro se escribe fuera del hilo de eventos y del de muestreo
+		logWriter.execute(() -> record(action, nanos, d.getSamples()));
+	}
+
+	private void record(final String action, final long nanos, final List<StackTraceElement[]> stacks) {
+		Map<String, Integer> frames = new HashMap<>();
+		synchronized (this) {
+			ActionStats stats = actions.computeIfAbsent(action, k -> new ActionStats());
+			stats.count++;
+			stats.totalNanos += nanos;
+			stats.maxNanos = Math.max(stats.maxNanos, nanos);
+
+			samples += stacks.size();
+			for (StackTraceElement[] stack : stacks) {
+				if (stack.length > 0) {
+					topFrames.merge(frame(stack[0]), 1, Integer::sum);
+				}
+				// Cada método cuenta una vez por muestra aunque sea recursivo
+				Set<String> seen = new HashSet<>();
+				for (StackTraceElement e : stack) {
+					if (isAppFrame(e) && seen.add(frame(e))) {
+						appFrames.merge(frame(e), 1, Integer::sum);
+						frames.merge(frame(e), 1, Integer::sum);
+					}
+				}
+			}
+		}
+
+		try (PrintWriter pw = new PrintWriter(
+				new OutputStreamWriter(new FileOutputStream(logFile, true), StandardCharsets.UTF_8))) {
+			pw.printf("%s Bloqueo de %.0f ms (%d muestras): %s%n", LocalDateTime.now(), nanos / 1e6, stacks.size(),
+					action);
+			for (Map.Entry<String, Integer> e : top(frames, LOG_FRAMES)) {
+				pw.printf("%8d  %s%n", e.getValue(), e.getKey());
+			}
+		} catch (IOException e) {
+			System.err.println("No se ha podido registrar el bloqueo de la interfaz: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Resumen tabulado: bloqueos por acción, métodos de la aplicación presentes en
+	 * más muestras y métodos en ejecución (cima de la pila) en más muestras.
+	 *
+	 * @return
+	 */
+	public synchronized String report() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-70s %9s %10s %9s%n", "Acción", "Bloqueos", "Total ms", "Máx ms"));
+		List<Map.Entry<String, ActionStats>> byTotal = new ArrayList<>(actions.entrySet());
+		byTotal.sort((a, b) -> Long.compare(b.getValue().totalNanos, a.getValue().totalNanos));
+		for (Map.Entry<String, ActionStats> e : byTotal) {
+			sb.append(String.format("%-70s %9d %10.0f %9.0f%n", e.getKey(), e.getValue().count,
+					e.getValue().totalNanos / 1e6, e.getValue().maxNanos / 1e6));
+		}
+
+		sb.append(String.format("%nMétodos de la aplicación (muestras en las que aparecen, de %d)%n", samples));
+		for (Map.Entry<String, Integer> e : top(appFrames, REPORT_FRAMES)) {
+			sb.append(String.format("%8d  %s%n", e.getValue(), e.getKey()));
+		}
+
+		sb.append(String.format("%nMétodos en ejecución (cima de la pila)%n"));
+		for (Map.Entry<String, Integer> e : top(topFrames, REPORT_FRAMES)) {
+			sb.append(String.format("%8d  %s%n", e.getValue(), e.getKey()));
+		}
+		return sb.toString();
+	}
+
+	private static List<Map.Entry<String, Integer>> top(final Map<String, Integer> histogram, final int n) {
+		List<Map.Entry<String, Integer>> res = new ArrayList<>(histogram.entrySet());
+		res.sort((a, b) -> b.getValue() - a.getValue());
+		return res.subList(0, Math.min(n, res.size()));
+	}
+
+	private static boolean isAppFrame(final StackTraceElement e) {
+		if (e.getClassName().startsWith(EdtMonitor.class.getName())) {
+			return false;
+		}
+		for (String p : APP_PACKAGES) {
+			if (e.getClassName().startsWith(p)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String frame(final StackTraceElement e) {
+		return e.getClassName() + "." + e.getMethodName() + ":" + e.getLineNumber();
+	}
+
+	/**
+	 * Descripción de la acción que ha producido el evento: el componente sobre el
+	 * que se ha producido (y su texto si es un botón o menú) y el tipo de evento,
+	 * o la tarea en el caso de las tareas lanzadas con invokeLater.
+	 */
+	private static String describe(final AWTEvent event) {
+		String type = event.paramString();
+		int comma = type.indexOf(',');
+		if (comma > 0) {
+			type = type.substring(0, comma);
+		}
+
+		if (event instanceof InvocationEvent) {
+			String params = event.paramString();
+			int i = params.indexOf("runnable=");
+			if (i >= 0) {
+				String runnable = params.substring(i + "runnable=".length()).split(",")[0];
+				// Sin el hash ni la dirección de las lambdas, para agrupar la misma tarea
+				return "Tarea " + runnable.replaceAll("(/0x[0-9a-f]+)?@[0-9a-f]+$", "");
+			}
+		}
+
+		Object source = event.getSource();
+		String res = source == null ? "?" : source.getClass().getName().replaceFirst("^javax?\\.swing\\.", "");
+		if (source instanceof AbstractButton && ((AbstractButton) source).getText() != null
+				&& !((AbstractButton) source).getText().isEmpty()) {
+			res += " \"" + ((AbstractButton) source).getText() + "\"";
+		} else if (source instanceof Component && ((Component) source).getName() != null) {
+			res += " \"" + ((Component) source).getName() + "\"";
+		}
+		if (event instanceof KeyEvent) {
+			type += " " + KeyEvent.getKeyText(((KeyEvent) event).getKeyCode());
+		}
+		return res + " (" + type + ")";
+	}
+
+}
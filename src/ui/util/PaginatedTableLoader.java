@@ -0,0 +1,213 @@
+package ui.util;
+
+import java.awt.event.AdjustmentEvent;
+import java.awt.event.AdjustmentListener;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.util.function.Consumer;
+
+import javax.swing.JOptionPane;
+import javax.swing.JScrollBar;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+
+import business.BusinessException;
+import business.util.AsyncExecutor;
+import persistence.util.Page;
+import ui.model.DtoTableModel;
+
+/**
+ * Carga incremental de un listado paginado en una tabla.
+ * <p>
+ * La tabla muestra la primera página y, cuando el usuario se acerca al final de
+ * la barra de desplazamiento vertical, se solicita la siguiente con el token de
+ * continuación y sus filas se añaden al modelo. Si las filas cargadas no llenan
+ * la vista, se siguen cargando páginas hasta llenarla o agotar el listado.
+ * <p>
+ * Las páginas siguientes se consultan en los hilos de lectura de
+ * {@link AsyncExecutor} y se añaden al modelo en el hilo de eventos. Mientras
+ * hay una consulta en curso no se lanza otra, y su resultado se descarta si el
+ * cargador se ha desactivado entretanto.
+ * <p>
+ * Cada tabla tiene como mucho un cargador: al asociar uno nuevo se desactiva el
+ * anterior, y el cargador deja de actuar si se sustituye el modelo de la tabla.
+ *
+ * @param <T> Tipo de las filas del listado.
+ * @version v1.0.0
+ *
+ */
+public class PaginatedTableLoader<T> implements AdjustmentListener, HierarchyListener {
+
+	private static final String CLIENT_PROPERTY = PaginatedTableLoader.class.getName();
+
+	/**
+	 * Origen de las páginas del listado.
+	 */
+	@FunctionalInterface
+	public interface PageSource<T> {
+		Page<T> fetch(String token) throws BusinessException;
+	}
+
+	private final JTable table;
+	private final DtoTableModel<T> model;
+	private final PageSource<T> source;
+	private final Consumer<PaginatedTableLoader<T>> onLoaded;
+
+	private JScrollBar scrollBar;
+	private String token;
+	private int loadedRows;
+	private boolean loading;
+	private boolean detached;
+
+	private PaginatedTableLoader(final JTable table, final DtoTableModel<T> model, final PageSource<T> source,
+			final Consumer<PaginatedTableLoader<T>> onLoaded) {
+		this.table = table;
+		this.model = model;
+		this.source = source;
+		this.onLoaded = onLoaded;
+	}
+
+	/**
+	 * Añade la primera página al modelo indicado, lo asigna a la tabla y carga las
+	 * siguientes páginas a medida que el usuario se desplaza.
+	 *
+	 * @param table     Tabla, contenida (o que se añadirá) en un JScrollPane.
+	 * @param model     Modelo del listado, sin filas.
+	 * @param firstPage Primera página del listado.
+	 * @param source    Origen de las páginas siguientes.
+	 * @param onLoaded  Acción a ejecutar tras cada página cargada, o null.
+	 * @return
+	 */
+	public static <T> PaginatedTableLoader<T> attach(final JTable table, final DtoTableModel<T> model,
+			final Page<T> firstPage, final PageSource<T> source, final Consumer<PaginatedTableLoader<T>> onLoaded) {
+		Object previous = table.getClientProperty(CLIENT_PROPERTY);
+		if (previous instanceof PaginatedTableLoader) {
+			((PaginatedTableLoader<?>) previous).detach();
+		}
+
+		PaginatedTableLoader<T> loader = new PaginatedTableLoader<>(table, model, source, onLoaded);
+		table.putClientProperty(CLIENT_PROPERTY, loader);
+		table.setModel(model);
+		loader.append(firstPage);
+
+		table.addHierarchyListener(loader);
+		loader.bindScrollBar();
+		return loader;
+	}
+
+	/**
+	 * Número de filas cargadas hasta el momento.
+	 *
+	 * @return
+	 */
+	public int getLoadedRows() {
+		return loadedRows;
+	}
+
+	/**
+	 * Indica si quedan páginas por cargar.
+	 *
+	 * @return
+	 */
+	public boolean hasMore() {
+		return token != null;
+	}
+
+	/**
+	 * Deja de cargar páginas en la tabla.
+	 */
+	public void detach() {
+		detached = true;
+		table.removeHierarchyListener(this);
+		if (scrollBar != null) {
+			scrollBar.removeAdjustmentListener(this);
+			scrollBar = null;
+		}
+		if (table.getClientProperty(CLIENT_PROPERTY) == this) {
+			table.putClientProperty(CLIENT_PROPERTY, null);
+		}
+	}
+
+	@Override
+	public void hierarchyChanged(HierarchyEvent e) {
+		if ((e.getChangeFlags() & HierarchyEvent.PARENT_CHANGED) != 0) {
+			bindScrollBar();
+		}
+	}
+
+	@Override
+	public void adjustmentValueChanged(AdjustmentEvent e) {
+		if (!e.getValueIsAdjusting()) {
+			loadIfNeeded();
+		}
+	}
+
+	private void bindScrollBar() {
+		JScrollPane scrollPane = (JScrollPane) SwingUtilities.getAncestorOfClass(JScrollPane.class, table);
+		JScrollBar bar = scrollPane == null ? null : scrollPane.getVerticalScrollBar();
+		if (bar == scrollBar) {
+			return;
+		}
+		if (scrollBar != null) {
+			scrollBar.removeAdjustmentListener(this);
+		}
+		scrollBar = bar;
+		if (scrollBar != null) {
+			scrollBar.addAdjustmentListener(this);
+			SwingUtilities.invokeLater(this::loadIfNeeded);
+		}
+	}
+
+	/**
+	 * Carga la página siguiente si la vista está a menos de una pantalla del final
+	 * de las filas cargadas.
+	 */
+	private void loadIfNeeded() {
+		if (detached || table.getModel() != model) {
+			detach();
+			return;
+		}
+		if (loading || token == null || scrollBar == null || !table.isShowing()) {
+			return;
+		}
+
+		int extent = scrollBar.getVisibleAmount();
+		if (scrollBar.getValue() + extent * 2 < scrollBar.getMaximum()) {
+			return;
+		}
+
+		loading = true;
+		String pageToken = token;
+		AsyncExecutor.onEdt(AsyncExecutor.read(() -> source.fetch(pageToken)), (page, error) -> {
+			loading = false;
+			if (detached || table.getModel() != model) {
+				return;
+			}
+			if (error != null) {
+				token = null;
+				if (!AsyncExecutor.isCancelled(error)) {
+					JOptionPane.showMessageDialog(table, error.getMessage(), "Error al cargar el listado",
+							JOptionPane.ERROR_MESSAGE);
+				}
+				return;
+			}
+
+			append(page);
+			// La nueva página puede no llenar la vista: se comprueba de nuevo tras el
+			// relayout de la tabla
+			SwingUtilities.invokeLater(this::loadIfNeeded);
+		});
+	}
+
+	private void append(final Page<T> page) {
+		model.addRows(page.getItems());
+		loadedRows += page.getItems().size();
+		token = page.getContinuationToken();
+
+		if (onLoaded != null) {
+			onLoaded.accept(this);
+		}
+	}
+
+}
@@ -0,0 +1,140 @@
+package ui.util;
+
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import persistence.util.Conf;
+
+/**
+ * Cronología del arranque de la aplicación.
+ * <p>
+ * Cada etapa ({@link #mark(String)}) se anota con el tiempo transcurrido desde
+ * que arrancó la máquina virtual y el número de clases cargadas hasta ese
+ * momento. La ventana principal notifica su primer pintado
+ * ({@link #firstPaint()}); a partir de ahí, la primera vez que la cola de
+ * eventos de Swing queda vacía se anota la etapa {@link #INTERACTIVE} y la
+ * cronología se escribe en la salida de error y se añade a
+ * <code>STARTUP_TIMELINE_FILE</code>.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class StartupTimeline {
+
+	public static final String MAIN = "Inicio de main";
+	public static final String WINDOW_CREATED = "Ventana principal construida";
+	public static final String WINDOW_VISIBLE = "Ventana principal visible";
+	public static final String FIRST_PAINT = "Primer pintado";
+	public static final String INTERACTIVE = "Primera vez interactiva";
+
+	// Vueltas por la cola de eventos esperando a que quede vacía
+	private static final int MAX_IDLE_CHECKS = 100;
+
+	/**
+	 * Etapa del arranque.
+	 */
+	private static final class Stage {
+		private final String name;
+		private final long uptimeMillis;
+		private final int loadedClasses;
+
+		private Stage(final String name, final long uptimeMillis, final int loadedClasses) {
+			this.name = name;
+			this.uptimeMillis = uptimeMillis;
+			this.loadedClasses = loadedClasses;
+		}
+	}
+
+	private static final List<Stage> stages = new ArrayList<>();
+	private static boolean painted;
+
+	private StartupTimeline() {
+	}
+
+	/**
+	 * Anota una etapa del arranque.
+	 *
+	 * @param name
+	 */
+	public static void mark(final String name) {
+		RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+		ClassLoadingMXBean classes = ManagementFactory.getClassLoadingMXBean();
+		Stage stage = new Stage(name, runtime.getUptime(), classes.getLoadedClassCount());
+		synchronized (stages) {
+			stages.add(stage);
+		}
+	}
+
+	/**
+	 * Notifica que la ventana principal se ha pintado. Solo tiene efecto la
+	 * primera vez. Debe llamarse desde el hilo de eventos.
+	 */
+	public static void firstPaint() {
+		if (painted) {
+			return;
+		}
+		painted = true;
+		mark(FIRST_PAINT);
+		EventQueue.invokeLater(() -> awaitIdle(0));
+	}
+
+	/**
+	 * Anota la etapa {@link #INTERACTIVE} cuando no quedan eventos pendientes,
+	 * volviendo a encolarse mientras los haya.
+	 */
+	private static void awaitIdle(final int checks) {
+		if (checks < MAX_IDLE_CHECKS && Toolkit.getDefaultToolkit().getSystemEventQueue().peekEvent() != null) {
+			EventQueue.invokeLater(() -> awaitIdle(checks + 1));
+			return;
+		}
+		mark(INTERACTIVE);
+		String report = report();
+		System.err.print(report);
+		new Thread(() -> write(report), "cronologia-arranque").start();
+	}
+
+	private static void write(final String report) {
+		File file = new File(Conf.getInstance().getProperty("STARTUP_TIMELINE_FILE", "arranque.txt"));
+		try (PrintWriter pw = new PrintWriter(
+				new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8))) {
+			pw.println("Arranque - " + LocalDateTime.now());
+			pw.print(report);
+			pw.println();
+		} catch (IOException e) {
+			System.err.println("No se ha podido guardar la cronología del arranque: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Cronología tabulada: por cada etapa, milisegundos desde el arranque de la
+	 * máquina virtual, desde la etapa anterior y clases cargadas.
+	 *
+	 * @return
+	 */
+	public static String report() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-32s %9s %9s %8s%n", "Etapa", "ms", "+ms", "Clases"));
+		long previous = 0;
+		synchronized (stages) {
+			for (Stage s : stages) {
+				sb.append(String.format("%-32s %9d %9d %8d%n", s.name, s.uptimeMillis, s.uptimeMillis - previous,
+						s.loadedClasses));
+				previous = s.uptimeMillis;
+			}
+		}
+		return sb.toString();
+	}
+
+}
@@ -15,6 +15,7 @@ import org.apache.commons.beanutils.PropertyUtils;
 
 import ui.ApplicationException;
 import ui.UnexpectedException;
+import ui.model.DtoTableModel;
 
 /**
  * Metodos de utilidad para interfaces de usuario con swing (poblar tablas a
@@ -88,6 +89,15 @@ public class SwingUtil {
 	 * existe la fila)
 	 */
 	public static String selectAndGetSelectedKey(JTable table, String key) {
+		if (table.getModel() instanceof DtoTableModel) {
+			// Busqueda por el indice de claves del modelo en lugar de recorrer las filas
+			int row = ((DtoTableModel<?>) table.getModel()).indexOf(key);
+			int viewRow = row < 0 ? -1 : table.convertRowIndexToView(row);
+			if (viewRow < 0)
+				return ""; // ya no existe esta clave
+			table.setRowSelectionInterval(viewRow, viewRow);
+			return key;
+		}
 		for (int i = 0; i < table.getModel().getRowCount(); i++)
 			if (table.getModel().getValueAt(i, 0).equals(key)) {
 				table.setRowSelectionInterval(i, i);
@@ -0,0 +1,127 @@
+package persistence.InscripcionColegiado;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static persistence.jdbc.BaseDatosPrueba.deshaciendo;
+import static persistence.jdbc.BaseDatosPrueba.ejecutar;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import persistence.jdbc.BaseDatosPrueba;
+import persistence.util.Page;
+
+/**
+ * Pruebas de los límites de página de
+ * {@link InscripcionColegiadoCRUD#findInscripcionesPage(int, String, int)}, que
+ * ordena por DNI y desempata las inscripciones repetidas de un colegiado por
+ * identificador.
+ * <p>
+ * Cada prueba crea su curso, sus colegiados y sus inscripciones en una
+ * transacción que se deshace al terminar.
+ *
+ * @version v1.0.0
+ *
+ */
+public class InscripcionColegiadoCRUDTest {
+
+	// Un token que no avanza haría que el recorrido no terminase
+	private static final int MAX_PAGINAS = 100;
+	private static final int CURSO = 99001;
+	private static final int OTRO_CURSO = 99002;
+
+	@BeforeAll
+	public static void prepararBaseDatos() throws IOException {
+		BaseDatosPrueba.preparar();
+	}
+
+	@Test
+	public void tantasInscripcionesComoElTamanoDePagina() throws SQLException {
+		deshaciendo(() -> {
+			prepararCurso();
+			inscripcion("P0000001", "PENDIENTE");
+			inscripcion("P0000002", "PENDIENTE");
+			inscripcion("P0000003", "INSCRITO");
+
+			Page<InscripcionColegiadoDto> page = InscripcionColegiadoCRUD.findInscripcionesPage(CURSO, null, 3);
+
+			assertEquals(3, page.getItems().size());
+			assertFalse(page.hasNext(), "No hay página siguiente vacía");
+		});
+	}
+
+	@Test
+	public void inscripcionesRepetidasEnElLimiteDePagina() throws SQLException {
+		deshaciendo(() -> {
+			prepararCurso();
+			inscripcion("P0000002", "PENDIENTE");
+			inscripcion("P0000001", "PENDIENTE");
+			inscripcion("P0000002", "PENDIENTE");
+			inscripcion("P0000003", "PENDIENTE");
+			inscripcion("P0000001", "CANCELADO");
+			inscripcion("P0000002", "INSCRITO");
+
+			List<String> dnis = new ArrayList<>();
+			List<Integer> ids = new ArrayList<>();
+			int pages = 0;
+			String token = null;
+			do {
+				Page<InscripcionColegiadoDto> page = InscripcionColegiadoCRUD.findInscripcionesPage(CURSO, token, 2);
+				for (InscripcionColegiadoDto d : page.getItems()) {
+					dnis.add(d.colegiado.DNI);
+					ids.add(d.idInscripcion);
+				}
+				token = page.getContinuationToken();
+				pages++;
+				assertTrue(pages <= MAX_PAGINAS, "El recorrido no termina");
+			} while (token != null);
+
+			// Las tres inscripciones de P0000002 quedan repartidas entre dos páginas
+			assertEquals(List.of("P0000001", "P0000002", "P0000002", "P0000002", "P0000003"), dnis);
+			assertEquals(3, pages);
+			assertTrue(ids.get(1) < ids.get(2) && ids.get(2) < ids.get(3), "Desempate por identificador: " + ids);
+		});
+	}
+
+	@Test
+	public void tokenDeOtroCurso() throws SQLException {
+		deshaciendo(() -> {
+			prepararCurso();
+			inscripcion("P0000001", "PENDIENTE");
+			inscripcion("P0000002", "PENDIENTE");
+
+			String token = InscripcionColegiadoCRUD.findInscripcionesPage(CURSO, null, 1).getContinuationToken();
+
+			assertThrows(IllegalArgumentException.class,
+					() -> InscripcionColegiadoCRUD.findInscripcionesPage(OTRO_CURSO, token, 1));
+		});
+	}
+
+	private static void prepararCurso() throws SQLException {
+		for (int curso : new int[] { CURSO, OTRO_CURSO }) {
+			ejecutar("INSERT INTO Curso (Titulo, FechaImpartir, IdCurso, Plazas, FechaApertura, FechaCierre, "
+					+ "EstadoCurso, CantidadPagarColectivo, Is_Cancelable, Porcentaje_devolucion) VALUES "
+					+ "('Curso de prueba', '2022-12-01', ?, 10, '2022-11-01', '2022-11-30', 'ABIERTO', "
+					+ "'Colegiado:50', 0, 0)", curso);
+		}
+		for (String dni : new String[] { "P0000001", "P0000002", "P0000003" }) {
+			ejecutar("INSERT INTO Colegiado (DNI, Nombre, Apellidos, Poblacion, Telefono, Centro, Titulacion, Ano, "
+					+ "NumeroCuenta, FechaSolicitud, Estado, Numero, TipoColectivo) VALUES (?, 'Nombre', "
+					+ "'Apellidos', 'Oviedo', 600000000, 'Universidad de Oviedo', 'Informática', 2022, "
+					+ "'ES0000000000', '2022-01-01', 'COLEGIADO', ?, 'Colegiado')", dni, "2022-9" + dni.substring(5));
+		}
+	}
+
+	private static void inscripcion(final String dni, final String estado) throws SQLException {
+		ejecutar("INSERT INTO Inscripcion (FechaPreInscripcion, Estado, ColegiadoDNI, CursoId, CantidadPagar) "
+				+ "VALUES ('2022-11-02', ?, ?, ?, 50)", estado, dni, CURSO);
+	}
+
+}
@@ -0,0 +1,123 @@
+package persistence.SolicitudServicios;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static persistence.jdbc.BaseDatosPrueba.deshaciendo;
+import static persistence.jdbc.BaseDatosPrueba.ejecutar;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import persistence.jdbc.BaseDatosPrueba;
+import persistence.util.Page;
+
+/**
+ * Pruebas de los límites de página de
+ * {@link SolicitudServiciosCrud#listarSolicitudesServiciosPage(String, int, String, String, int)}
+ * con sus filtros por estado, año y perito.
+ * <p>
+ * Las solicitudes de las pruebas son de un año sin solicitudes reales y se
+ * insertan en una transacción que se deshace al terminar.
+ *
+ * @version v1.0.0
+ *
+ */
+public class SolicitudServiciosCrudTest {
+
+	// Un token que no avanza haría que el recorrido no terminase
+	private static final int MAX_PAGINAS = 100;
+	private static final int ANO = 1999;
+	private static final String PERITO = "P0000001";
+
+	@BeforeAll
+	public static void prepararBaseDatos() throws IOException {
+		BaseDatosPrueba.preparar();
+	}
+
+	@Test
+	public void tantasSolicitudesComoElTamanoDePagina() throws SQLException {
+		deshaciendo(() -> {
+			for (int id = 900001; id <= 900004; id++) {
+				solicitud(id, "SinAsignar", ANO, "");
+			}
+
+			Page<SolicitudServiciosDto> page = SolicitudServiciosCrud.listarSolicitudesServiciosPage("Todos", ANO, "",
+					null, 4);
+
+			assertEquals(4, page.getItems().size());
+			assertFalse(page.hasNext(), "No hay página siguiente vacía");
+		});
+	}
+
+	@Test
+	public void filtroPorEstadoEnElLimiteDePagina() throws SQLException {
+		deshaciendo(() -> {
+			solicitud(900001, "Asignada", ANO, PERITO);
+			solicitud(900002, "SinAsignar", ANO, "");
+			solicitud(900003, "Asignada", ANO, PERITO);
+			solicitud(900004, "Asignada", ANO, PERITO);
+			solicitud(900005, "SinAsignar", ANO, "");
+			solicitud(900006, "Asignada", ANO, PERITO);
+			solicitud(900007, "Asignada", ANO + 1, PERITO);
+
+			List<Integer> tamanos = new ArrayList<>();
+			List<Integer> ids = recorrer("Asignada", ANO, "", 2, tamanos);
+
+			// Cuatro solicitudes en páginas de dos: la segunda es la última
+			assertEquals(List.of(900001, 900003, 900004, 900006), ids);
+			assertEquals(List.of(2, 2), tamanos);
+		});
+	}
+
+	@Test
+	public void filtroPorPeritoDeTodosLosAnos() throws SQLException {
+		deshaciendo(() -> {
+			solicitud(900001, "Asignada", ANO, PERITO);
+			solicitud(900002, "Asignada", ANO, "P0000002");
+			solicitud(900003, "Finalizada", ANO + 1, PERITO);
+			solicitud(900004, "SinAsignar", ANO, null);
+			solicitud(900005, "Cancelada", ANO + 2, PERITO);
+
+			List<Integer> tamanos = new ArrayList<>();
+			List<Integer> ids = recorrer("Todos", -1, PERITO, 1, tamanos);
+
+			assertEquals(List.of(900001, 900003, 900005), ids);
+			assertEquals(List.of(1, 1, 1), tamanos);
+		});
+	}
+
+	/**
+	 * Recorre todas las páginas y devuelve los identificadores en orden, anotando
+	 * el tamaño de cada página.
+	 */
+	private static List<Integer> recorrer(final String estado, final int ano, final String dniPerito,
+			final int pageSize, final List<Integer> tamanos) {
+		List<Integer> ids = new ArrayList<>();
+		String token = null;
+		do {
+			Page<SolicitudServiciosDto> page = SolicitudServiciosCrud.listarSolicitudesServiciosPage(estado, ano,
+					dniPerito, token, pageSize);
+			tamanos.add(page.getItems().size());
+			for (SolicitudServiciosDto s : page.getItems()) {
+				ids.add(s.id);
+			}
+			token = page.getContinuationToken();
+			assertTrue(tamanos.size() <= MAX_PAGINAS, "El recorrido no termina");
+		} while (token != null);
+		return ids;
+	}
+
+	private static void solicitud(final int id, final String estado, final int ano, final String dniPerito)
+			throws SQLException {
+		ejecutar("INSERT INTO SolicitudPeritos (id, CorreoElectronico, DNI, Descripcion, Urgente, dniPerito, Estado, "
+				+ "AgeSolicitud) VALUES (?, 'prueba@uniovi.es', '00000000T', 'Solicitud de prueba', 0, ?, ?, ?)", id,
+				dniPerito, estado, ano);
+	}
+
+}
@@ -0,0 +1,116 @@
+package persistence.colegiado;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static persistence.jdbc.BaseDatosPrueba.deshaciendo;
+import static persistence.jdbc.BaseDatosPrueba.ejecutar;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import persistence.jdbc.BaseDatosPrueba;
+import persistence.util.Page;
+
+/**
+ * Pruebas de los límites de página de
+ * {@link ColegiadoCrud#findSolicitudesAltaColegiadosPage(String, int)}, que
+ * ordena por fecha de solicitud descendente y desempata por DNI.
+ * <p>
+ * Cada prueba aparta las solicitudes pendientes existentes e inserta las suyas
+ * en una transacción que se deshace al terminar.
+ *
+ * @version v1.0.0
+ *
+ */
+public class ColegiadoCrudTest {
+
+	// Un token que no avanza haría que el recorrido no terminase
+	private static final int MAX_PAGINAS = 100;
+
+	@BeforeAll
+	public static void prepararBaseDatos() throws IOException {
+		BaseDatosPrueba.preparar();
+	}
+
+	@Test
+	public void tantasSolicitudesComoElTamanoDePagina() throws SQLException {
+		deshaciendo(() -> {
+			solicitud("P0000001", "2022-05-01");
+			solicitud("P0000002", "2022-04-01");
+			solicitud("P0000003", "2022-03-01");
+
+			Page<ColegiadoDto> page = ColegiadoCrud.findSolicitudesAltaColegiadosPage(null, 3);
+
+			assertEquals(3, page.getItems().size());
+			assertFalse(page.hasNext(), "No hay página siguiente vacía");
+		});
+	}
+
+	@Test
+	public void mismaFechaEnElLimiteDePagina() throws SQLException {
+		deshaciendo(() -> {
+			solicitud("P0000004", "2022-04-01");
+			solicitud("P0000003", "2022-05-01");
+			solicitud("P0000001", "2022-05-01");
+			solicitud("P0000005", "2022-04-01");
+			solicitud("P0000002", "2022-05-01");
+
+			List<Integer> tamanos = new ArrayList<>();
+			List<String> dnis = recorrer(2, tamanos);
+
+			// La segunda página empieza con la última solicitud del 1 de mayo
+			assertEquals(List.of("P0000001", "P0000002", "P0000003", "P0000004", "P0000005"), dnis);
+			assertEquals(List.of(2, 2, 1), tamanos);
+		});
+	}
+
+	@Test
+	public void solicitudesSinFechaAlFinal() throws SQLException {
+		deshaciendo(() -> {
+			solicitud("P0000003", null);
+			solicitud("P0000001", "2022-05-01");
+			solicitud("P0000004", "");
+			solicitud("P0000002", "2022-04-01");
+
+			assertEquals(List.of("P0000001", "P0000002", "P0000003", "P0000004"), recorrer(1, new ArrayList<>()));
+		});
+	}
+
+	/**
+	 * Recorre todas las páginas y devuelve los DNI en orden, anotando el tamaño
+	 * de cada página.
+	 */
+	private static List<String> recorrer(final int pageSize, final List<Integer> tamanos) {
+		List<String> dnis = new ArrayList<>();
+		String token = null;
+		do {
+			Page<ColegiadoDto> page = ColegiadoCrud.findSolicitudesAltaColegiadosPage(token, pageSize);
+			tamanos.add(page.getItems().size());
+			for (ColegiadoDto c : page.getItems()) {
+				dnis.add(c.DNI);
+			}
+			token = page.getContinuationToken();
+			assertTrue(tamanos.size() <= MAX_PAGINAS, "El recorrido no termina");
+		} while (token != null);
+		return dnis;
+	}
+
+	/**
+	 * Inserta una solicitud de alta pendiente. La primera de cada prueba aparta
+	 * las solicitudes pendientes que ya hubiera.
+	 */
+	private static void solicitud(final String dni, final String fechaSolicitud) throws SQLException {
+		ejecutar("UPDATE Colegiado SET Estado = 'APARTADA' WHERE Estado = 'PENDIENTE' AND DNI NOT LIKE 'P000%'");
+		ejecutar("INSERT INTO Colegiado (DNI, Nombre, Apellidos, Poblacion, Telefono, Centro, Titulacion, Ano, "
+				+ "NumeroCuenta, FechaSolicitud, Estado, Numero, TipoColectivo) VALUES (?, 'Nombre', 'Apellidos', "
+				+ "'Oviedo', 600000000, 'Universidad de Oviedo', 'Informática', 2022, 'ES0000000000', ?, "
+				+ "'PENDIENTE', '', 'Colegiado')", dni, fechaSolicitud);
+	}
+
+}
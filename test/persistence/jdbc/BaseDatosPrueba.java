@@ -0,0 +1,121 @@
+package persistence.jdbc;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import persistence.migration.SchemaMigrator;
+
+/**
+ * Base de datos de las pruebas.
+ * <p>
+ * Las pruebas no usan <code>database/Database</code>, sino una copia temporal
+ * con las migraciones aplicadas, que se indica al pool mediante la propiedad
+ * del sistema <code>JDBC_URL</code> (ver {@link Jdbc#getUrl()}). La copia se
+ * crea la primera vez y la comparten todas las pruebas de la ejecución, ya que
+ * el pool se crea una sola vez. Si <code>JDBC_URL</code> ya está definida, se
+ * usa esa base de datos.
+ * <p>
+ * Las pruebas que necesitan datos concretos en las tablas de la aplicación los
+ * insertan dentro de {@link #deshaciendo(UnitOfWork.VoidWork)}, de modo que no
+ * quedan en la copia.
+ *
+ * @version v1.0.0
+ *
+ */
+public final class BaseDatosPrueba {
+
+	private static final Path ORIGEN = Paths.get("database", "Database");
+
+	private static boolean preparada;
+
+	private BaseDatosPrueba() {
+	}
+
+	/**
+	 * Prepara la base de datos de las pruebas. Ha de llamarse antes de pedir la
+	 * primera conexión.
+	 *
+	 * @throws IOException Si no se puede copiar la base de datos.
+	 */
+	public static synchronized void preparar() throws IOException {
+		if (preparada) {
+			return;
+		}
+
+		if (System.getProperty("JDBC_URL") == null) {
+			Path dir = Files.createTempDirectory("pruebas-bd");
+			Files.copy(ORIGEN, dir.resolve("Database"));
+			// Cambios de la aplicación aún no trasladados al fichero principal
+			Path wal = ORIGEN.resolveSibling("Database-wal");
+			if (Files.exists(wal)) {
+				Files.copy(wal, dir.resolve("Database-wal"));
+			}
+			System.setProperty("JDBC_URL", "jdbc:sqlite:" + dir.resolve("Database"));
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> borrar(dir)));
+		}
+
+		SchemaMigrator.migrate();
+		preparada = true;
+	}
+
+	/**
+	 * Ejecuta el bloque en una unidad de trabajo que siempre se deshace.
+	 *
+	 * @param work
+	 * @throws X La excepción lanzada por el bloque.
+	 */
+	public static <X extends Exception> void deshaciendo(final UnitOfWork.VoidWork<X> work) throws X {
+		try {
+			UnitOfWork.run(() -> {
+				work.execute();
+				throw new Deshacer();
+			});
+		} catch (Deshacer e) {
+			// Deshecha, como se pretendía
+		}
+	}
+
+	/**
+	 * Ejecuta una sentencia de preparación de los datos de una prueba.
+	 *
+	 * @param sql
+	 * @param params
+	 * @throws SQLException
+	 */
+	public static void ejecutar(final String sql, final Object... params) throws SQLException {
+		Connection c = null;
+		PreparedStatement pst = null;
+
+		try {
+			c = Jdbc.getConnection();
+			pst = c.prepareStatement(sql);
+			for (int i = 0; i < params.length; i++) {
+				pst.setObject(i + 1, params[i]);
+			}
+			pst.execute();
+		} finally {
+			Jdbc.close(pst);
+			Jdbc.close(c);
+		}
+	}
+
+	private static void borrar(final Path dir) {
+		try (Stream<Path> files = Files.walk(dir)) {
+			files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+		} catch (IOException e) {
+			System.err.println("No se ha podido borrar la base de datos de las pruebas: " + e.getMessage());
+		}
+	}
+
+	private static final class Deshacer extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+	}
+
+}
@@ -0,0 +1,205 @@
+package persistence.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import persistence.util.Page;
+import persistence.util.PageToken;
+
+/**
+ * Pruebas de los límites de página de {@link PageQuery}: la última página no
+ * tiene token aunque el número de filas sea múltiplo del tamaño de página, y
+ * recorrer todas las páginas devuelve cada fila una sola vez y en orden.
+ * <p>
+ * Usan una tabla propia en la base de datos de las pruebas
+ * ({@link BaseDatosPrueba}), que se crea al empezar y se borra al terminar.
+ *
+ * @version v1.0.0
+ *
+ */
+public class PageQueryTest {
+
+	// Un token que no avanza haría que el recorrido no terminase
+	private static final int MAX_PAGINAS = 100;
+	private static final String TABLE = "PruebaPageQuery";
+	private static final String SQL_PAGE = "SELECT Id FROM " + TABLE + " WHERE Id > ? ORDER BY Id LIMIT ?";
+
+	@BeforeAll
+	public static void crearTabla() throws IOException, SQLException {
+		BaseDatosPrueba.preparar();
+		execute("DROP TABLE IF EXISTS " + TABLE);
+		execute("CREATE TABLE " + TABLE + " (Id INTEGER PRIMARY KEY)");
+	}
+
+	@AfterAll
+	public static void borrarTabla() throws SQLException {
+		execute("DROP TABLE IF EXISTS " + TABLE);
+	}
+
+	@BeforeEach
+	public void vaciarTabla() throws SQLException {
+		execute("DELETE FROM " + TABLE);
+	}
+
+	@Test
+	public void listadoVacio() {
+		Page<Integer> page = fetch(null, 5);
+
+		assertTrue(page.getItems().isEmpty());
+		assertNull(page.getContinuationToken());
+		assertFalse(page.hasNext());
+	}
+
+	@Test
+	public void menosFilasQueElTamanoDePagina() throws SQLException {
+		insert(3);
+
+		Page<Integer> page = fetch(null, 5);
+
+		assertEquals(List.of(1, 2, 3), page.getItems());
+		assertFalse(page.hasNext());
+	}
+
+	@Test
+	public void tantasFilasComoElTamanoDePagina() throws SQLException {
+		insert(5);
+
+		Page<Integer> page = fetch(null, 5);
+
+		assertEquals(List.of(1, 2, 3, 4, 5), page.getItems());
+		assertFalse(page.hasNext(), "No hay página siguiente vacía");
+	}
+
+	@Test
+	public void unaFilaMasQueElTamanoDePagina() throws SQLException {
+		insert(6);
+
+		Page<Integer> first = fetch(null, 5);
+		assertEquals(List.of(1, 2, 3, 4, 5), first.getItems());
+		assertTrue(first.hasNext());
+
+		Page<Integer> second = fetch(first.getContinuationToken(), 5);
+		assertEquals(List.of(6), second.getItems());
+		assertFalse(second.hasNext());
+	}
+
+	@Test
+	public void multiploDelTamanoDePagina() throws SQLException {
+		insert(10);
+
+		Page<Integer> first = fetch(null, 5);
+		Page<Integer> second = fetch(first.getContinuationToken(), 5);
+
+		assertEquals(List.of(6, 7, 8, 9, 10), second.getItems());
+		assertFalse(second.hasNext(), "La última página completa no tiene token");
+	}
+
+	@Test
+	public void elTokenContieneLaClaveDeLaUltimaFila() throws SQLException {
+		insert(7);
+
+		Page<Integer> page = fetch(null, 3);
+
+		assertNotNull(page.getContinuationToken());
+		assertEquals("3", PageToken.decode(page.getContinuationToken(), 1)[0]);
+	}
+
+	@Test
+	public void recorrerTodasLasPaginas() throws SQLException {
+		insert(23);
+
+		List<Integer> all = new ArrayList<>();
+		int pages = 0;
+		String token = null;
+		do {
+			Page<Integer> page = fetch(token, 4);
+			assertTrue(page.getItems().size() <= 4);
+			all.addAll(page.getItems());
+			token = page.getContinuationToken();
+			pages++;
+			assertTrue(pages <= MAX_PAGINAS, "El recorrido no termina");
+		} while (token != null);
+
+		assertEquals(6, pages);
+		assertEquals(23, all.size());
+		for (int i = 0; i < all.size(); i++) {
+			assertEquals(i + 1, all.get(i).intValue());
+		}
+	}
+
+	@Test
+	public void lasFilasNuevasTrasElTokenAparecenEnLaPaginaSiguiente() throws SQLException {
+		insert(6);
+		Page<Integer> first = fetch(null, 5);
+
+		// Una fila añadida entre dos peticiones no desplaza las páginas, como haría
+		// un OFFSET
+		insert(7);
+		Page<Integer> second = fetch(first.getContinuationToken(), 5);
+
+		assertEquals(List.of(6, 7), second.getItems());
+	}
+
+	@Test
+	public void tamanoDePaginaNoPositivo() {
+		assertThrows(IllegalArgumentException.class, () -> fetch(null, 0));
+	}
+
+	private static Page<Integer> fetch(final String token, final int pageSize) {
+		int after = token == null ? 0 : Integer.parseInt(PageToken.decode(token, 1)[0]);
+		return PageQuery.fetch(SQL_PAGE, rs -> r -> r.getInt(1), id -> new String[] { String.valueOf(id) },
+				pageSize, after);
+	}
+
+	/**
+	 * Añade las filas siguientes a las existentes hasta tener el número indicado.
+	 */
+	private static void insert(final int rows) throws SQLException {
+		Connection c = null;
+		PreparedStatement pst = null;
+
+		try {
+			c = Jdbc.getConnection();
+			pst = c.prepareStatement("INSERT OR IGNORE INTO " + TABLE + " (Id) VALUES (?)");
+			for (int id = 1; id <= rows; id++) {
+				pst.setInt(1, id);
+				pst.executeUpdate();
+			}
+		} finally {
+			Jdbc.close(pst);
+			Jdbc.close(c);
+		}
+	}
+
+	private static void execute(final String sql) throws SQLException {
+		Connection c = null;
+		Statement st = null;
+
+		try {
+			c = Jdbc.getConnection();
+			st = c.createStatement();
+			st.execute(sql);
+		} finally {
+			Jdbc.close(st);
+			Jdbc.close(c);
+		}
+	}
+
+}
@@ -0,0 +1,239 @@
+package persistence.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de {@link UnitOfWork}: confirmación, deshacer, unidades anidadas,
+ * acciones al terminar y devolución de la conexión al pool.
+ * <p>
+ * Usan una tabla propia en la base de datos de las pruebas
+ * ({@link BaseDatosPrueba}), que se crea al empezar y se borra al terminar.
+ *
+ * @version v1.0.0
+ *
+ */
+public class UnitOfWorkTest {
+
+	private static final String TABLE = "PruebaUnitOfWork";
+
+	@BeforeAll
+	public static void crearTabla() throws IOException, SQLException {
+		BaseDatosPrueba.preparar();
+		execute("DROP TABLE IF EXISTS " + TABLE);
+		execute("CREATE TABLE " + TABLE + " (Id INTEGER PRIMARY KEY, Valor TEXT)");
+	}
+
+	@AfterAll
+	public static void borrarTabla() throws SQLException {
+		execute("DROP TABLE IF EXISTS " + TABLE);
+	}
+
+	@BeforeEach
+	public void vaciarTabla() throws SQLException {
+		execute("DELETE FROM " + TABLE);
+	}
+
+	@Test
+	public void confirmaAlTerminarElBloque() throws SQLException {
+		UnitOfWork.run(() -> {
+			insert(1);
+			insert(2);
+		});
+
+		assertEquals(2, count());
+	}
+
+	@Test
+	public void deshaceSiElBloqueLanzaUnaExcepcion() throws SQLException {
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> UnitOfWork.run(() -> {
+			insert(1);
+			throw new IllegalStateException("fallo");
+		}));
+
+		assertEquals("fallo", e.getMessage());
+		assertEquals(0, count());
+	}
+
+	@Test
+	public void devuelveElResultadoDelBloque() throws SQLException {
+		int res = UnitOfWork.execute(() -> {
+			insert(1);
+			return count();
+		});
+
+		assertEquals(1, res);
+	}
+
+	@Test
+	public void lasEscriturasSeVenDentroDeLaTransaccion() throws SQLException {
+		assertThrows(IllegalStateException.class, () -> UnitOfWork.run(() -> {
+			insert(1);
+			assertEquals(1, count());
+			throw new IllegalStateException("fallo");
+		}));
+
+		assertEquals(0, count());
+	}
+
+	@Test
+	public void unaUnidadAnidadaSeUneALaEnCurso() throws SQLException {
+		UnitOfWork.run(() -> {
+			insert(1);
+			UnitOfWork.run(() -> insert(2));
+			// La unidad anidada no confirma por su cuenta
+			assertEquals(2, count());
+		});
+
+		assertEquals(2, count());
+	}
+
+	@Test
+	public void elFalloDeUnaUnidadAnidadaDeshaceLaTransaccionCompleta() throws SQLException {
+		assertThrows(PersistenceException.class, () -> UnitOfWork.run(() -> {
+			insert(1);
+			try {
+				UnitOfWork.run(() -> {
+					insert(2);
+					throw new IllegalStateException("fallo");
+				});
+			} catch (IllegalStateException e) {
+				/* el llamante captura la excepción de la unidad anidada */
+			}
+			insert(3);
+		}));
+
+		assertEquals(0, count());
+	}
+
+	@Test
+	public void afterCompletionRecibeTrueAlConfirmar() throws SQLException {
+		List<Boolean> res = new ArrayList<>();
+
+		UnitOfWork.run(() -> {
+			UnitOfWork.afterCompletion(res::add);
+			insert(1);
+			assertTrue(res.isEmpty(), "La acción no se ejecuta antes de terminar la transacción");
+		});
+
+		assertEquals(List.of(true), res);
+	}
+
+	@Test
+	public void afterCompletionRecibeFalseAlDeshacer() {
+		List<Boolean> res = new ArrayList<>();
+
+		assertThrows(IllegalStateException.class, () -> UnitOfWork.run(() -> {
+			UnitOfWork.afterCompletion(res::add);
+			throw new IllegalStateException("fallo");
+		}));
+
+		assertEquals(List.of(false), res);
+	}
+
+	@Test
+	public void afterCompletionSinUnidadEnCursoSeEjecutaInmediatamente() {
+		List<Boolean> res = new ArrayList<>();
+
+		UnitOfWork.afterCompletion(res::add);
+
+		assertEquals(List.of(true), res);
+	}
+
+	@Test
+	public void afterCompletionSeEjecutaSinUnidadActiva() {
+		List<Boolean> activa = new ArrayList<>();
+
+		UnitOfWork.run(() -> UnitOfWork.afterCompletion(committed -> activa.add(UnitOfWork.isActive())));
+
+		assertEquals(List.of(false), activa);
+	}
+
+	@Test
+	public void isActiveSoloDentroDelBloque() {
+		assertFalse(UnitOfWork.isActive());
+		UnitOfWork.run(() -> assertTrue(UnitOfWork.isActive()));
+		assertFalse(UnitOfWork.isActive());
+	}
+
+	@Test
+	public void laConexionVuelveAlPoolAlTerminar() throws SQLException {
+		ConnectionPool pool = Jdbc.getPool();
+		int prestadas = pool.getBorrowedCount();
+
+		// Más unidades de trabajo que conexiones tiene el pool: si alguna no se
+		// devolviera, las siguientes esperarían hasta agotar el plazo
+		for (int i = 0; i < pool.getMaxSize() + 2; i++) {
+			final int id = i;
+			UnitOfWork.run(() -> insert(id));
+			assertThrows(IllegalStateException.class, () -> UnitOfWork.run(() -> {
+				throw new IllegalStateException("fallo");
+			}));
+		}
+
+		assertEquals(prestadas, pool.getBorrowedCount());
+	}
+
+	private static void insert(final int id) throws SQLException {
+		Connection c = null;
+		PreparedStatement pst = null;
+
+		try {
+			c = Jdbc.getConnection();
+			pst = c.prepareStatement("INSERT INTO " + TABLE + " (Id, Valor) VALUES (?, ?)");
+			pst.setInt(1, id);
+			pst.setString(2, "valor " + id);
+			pst.executeUpdate();
+		} finally {
+			Jdbc.close(pst);
+			Jdbc.close(c);
+		}
+	}
+
+	private static int count() throws SQLException {
+		Connection c = null;
+		Statement st = null;
+		ResultSet rs = null;
+
+		try {
+			c = Jdbc.getConnection();
+			st = c.createStatement();
+			rs = st.executeQuery("SELECT COUNT(*) FROM " + TABLE);
+			rs.next();
+			return rs.getInt(1);
+		} finally {
+			Jdbc.close(rs, st, c);
+		}
+	}
+
+	private static void execute(final String sql) throws SQLException {
+		Connection c = null;
+		Statement st = null;
+
+		try {
+			c = Jdbc.getConnection();
+			st = c.createStatement();
+			st.execute(sql);
+		} finally {
+			Jdbc.close(st);
+			Jdbc.close(c);
+		}
+	}
+
+}
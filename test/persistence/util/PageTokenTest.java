@@ -0,0 +1,35 @@
+package persistence.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pruebas de {@link PageToken}.
+ *
+ * @version v1.0.0
+ *
+ */
+public class PageTokenTest {
+
+	@Test
+	public void decodificaLosValoresCodificados() {
+		String token = PageToken.encode("2022-0001", "Pérez García", "");
+
+		assertArrayEquals(new String[] { "2022-0001", "Pérez García", "" }, PageToken.decode(token, 3));
+	}
+
+	@Test
+	public void rechazaUnNumeroDeValoresDistinto() {
+		String token = PageToken.encode("a", "b");
+
+		assertThrows(IllegalArgumentException.class, () -> PageToken.decode(token, 1));
+	}
+
+	@Test
+	public void rechazaUnTokenQueNoEsBase64() {
+		assertThrows(IllegalArgumentException.class, () -> PageToken.decode("no es un token!", 1));
+	}
+
+}